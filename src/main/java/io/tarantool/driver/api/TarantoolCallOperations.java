@@ -1,15 +1,18 @@
 package io.tarantool.driver.api;
 
+import io.netty.buffer.ByteBuf;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.CallResultMapper;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactory;
+import io.tarantool.driver.protocol.RawMessagePack;
 import org.msgpack.value.Value;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -473,6 +476,73 @@ public interface TarantoolCallOperations {
         Supplier<CallResultMapper<R, MultiValueCallResult<T, R>>> resultMapperSupplier)
         throws TarantoolClientException;
 
+    /**
+     * Execute a function defined on Tarantool instance and pass the resulting tuples to the consumer one by one.
+     * The call result is interpreted as an array of tuples or a crud result map with metadata and rows. Unlike
+     * {@link #callForTupleResult(String, Collection, Class)}, the tuples are not collected into a result: each of them
+     * is converted from the raw response data right before passing it to the consumer.
+     * <p>
+     * The consumer is invoked after the whole response is received, in the executor specified with
+     * {@link io.tarantool.driver.api.TarantoolClientConfig.Builder#withConsumerExecutor} or, by default, in the
+     * Netty event loop thread which received the response. In the latter case the consumer must not block, since
+     * it delays the other responses handled by that thread.
+     *
+     * @param <T>          target tuple type
+     * @param functionName function name, must not be null or empty
+     * @param arguments    list of function arguments. The object mapper specified in the client configuration
+     *                     will be used for arguments conversion to MessagePack entities
+     * @param entityClass  target tuple class
+     * @param consumer     consumer of the converted tuples
+     * @return a future that will contain the number of consumed tuples once completed
+     * @throws TarantoolClientException if the client is not connected or some other error occurred
+     */
+    <T> CompletableFuture<Long> callForEach(
+        String functionName,
+        Collection<?> arguments,
+        Class<T> entityClass,
+        Consumer<? super T> consumer)
+        throws TarantoolClientException;
+
+    /**
+     * Execute a function defined on Tarantool instance, passing the pre-encoded arguments as is and returning the raw
+     * response data without decoding it. Useful for forwarding MessagePack between other clients and Tarantool.
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments    MessagePack array of function arguments
+     * @return a future that will contain the packed MessagePack array of the function results (IPROTO_DATA)
+     * @throws TarantoolClientException if the client is not connected or some other error occurred
+     */
+    CompletableFuture<byte[]> callRaw(String functionName, RawMessagePack arguments) throws TarantoolClientException;
+
+    /**
+     * Execute a function defined on Tarantool instance, passing the pre-encoded arguments as is and returning the raw
+     * response data without decoding it. The arguments are copied into the request, so they may be modified once the
+     * method returns.
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments    packed MessagePack array of function arguments
+     * @return a future that will contain the packed MessagePack array of the function results (IPROTO_DATA)
+     * @throws TarantoolClientException if the client is not connected or some other error occurred
+     * @see #callRaw(String, RawMessagePack)
+     */
+    default CompletableFuture<byte[]> callRaw(String functionName, byte[] arguments) throws TarantoolClientException {
+        return callRaw(functionName, RawMessagePack.of(arguments));
+    }
+
+    /**
+     * Execute a function defined on Tarantool instance, passing the pre-encoded arguments as is and returning the raw
+     * response data without decoding it. The readable bytes of the buffer are used, the buffer is not released.
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments    buffer with packed MessagePack array of function arguments
+     * @return a future that will contain the packed MessagePack array of the function results (IPROTO_DATA)
+     * @throws TarantoolClientException if the client is not connected or some other error occurred
+     * @see #callRaw(String, RawMessagePack)
+     */
+    default CompletableFuture<byte[]> callRaw(String functionName, ByteBuf arguments) throws TarantoolClientException {
+        return callRaw(functionName, RawMessagePack.of(arguments));
+    }
+
     /**
      * Get the default factory for result mapper factory instances
      *
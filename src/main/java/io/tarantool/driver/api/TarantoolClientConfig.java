@@ -4,12 +4,19 @@ import io.netty.handler.ssl.SslContext;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies;
 import io.tarantool.driver.api.retry.RequestRetryPolicy;
+import io.tarantool.driver.api.tuple.StringDictionary;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
 import io.tarantool.driver.auth.TarantoolCredentials;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.utils.Assert;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -28,6 +35,10 @@ public class TarantoolClientConfig {
     private static final int DEFAULT_CURSOR_BATCH_SIZE = 100;
     private static final int DEFAULT_EVENT_LOOP_THREADS_NUMBER = 0;
     private static final int DEFAULT_WRITE_BATCH_SIZE = 128;
+    private static final int DEFAULT_CURSOR_PREFETCH_DEPTH = 1;
+    private static final int DEFAULT_CURSOR_PREFETCH_MAX_TUPLES = 10_000;
+    private static final int DEFAULT_AUTO_BATCH_SIZE = 0;
+    private static final int DEFAULT_AUTO_BATCH_DELAY = 1;
 
     private TarantoolCredentials credentials;
     private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
@@ -36,6 +47,16 @@ public class TarantoolClientConfig {
     private int connections = DEFAULT_CONNECTIONS;
     private int eventLoopThreadsNumber = DEFAULT_EVENT_LOOP_THREADS_NUMBER;
     private int writeBatchSize = DEFAULT_WRITE_BATCH_SIZE;
+    private int cursorPrefetchDepth = DEFAULT_CURSOR_PREFETCH_DEPTH;
+    private int cursorPrefetchMaxTuples = DEFAULT_CURSOR_PREFETCH_MAX_TUPLES;
+    private int autoBatchSize = DEFAULT_AUTO_BATCH_SIZE;
+    private int autoBatchDelay = DEFAULT_AUTO_BATCH_DELAY;
+    private boolean bucketIdComputation;
+    private boolean directStorageRouting;
+    private int parallelDecodingThreshold = Integer.MAX_VALUE;
+    private ForkJoinPool parallelDecodingPool;
+    private Executor consumerExecutor;
+    private Map<String, Map<String, StringDictionary>> stringDictionaries = new HashMap<>();
     private MessagePackMapper messagePackMapper =
         DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
     private ConnectionSelectionStrategyFactory connectionSelectionStrategyFactory =
@@ -66,6 +87,16 @@ public class TarantoolClientConfig {
         this.sslContext = config.getSslContext();
         this.eventLoopThreadsNumber = config.getEventLoopThreadsNumber();
         this.writeBatchSize = config.getWriteBatchSize();
+        this.cursorPrefetchDepth = config.getCursorPrefetchDepth();
+        this.cursorPrefetchMaxTuples = config.getCursorPrefetchMaxTuples();
+        this.autoBatchSize = config.getAutoBatchSize();
+        this.autoBatchDelay = config.getAutoBatchDelay();
+        this.bucketIdComputation = config.isBucketIdComputation();
+        this.directStorageRouting = config.isDirectStorageRouting();
+        this.parallelDecodingThreshold = config.getParallelDecodingThreshold();
+        this.parallelDecodingPool = config.getParallelDecodingPool();
+        this.consumerExecutor = config.getConsumerExecutor();
+        this.stringDictionaries = new HashMap<>(config.stringDictionaries);
     }
 
     /**
@@ -244,6 +275,170 @@ public class TarantoolClientConfig {
         return DEFAULT_CURSOR_BATCH_SIZE;
     }
 
+    /**
+     * How many batches will be requested ahead of the current one by a prefetching cursor.
+     *
+     * @return default prefetch depth for a cursor.
+     */
+    public int getCursorPrefetchDepth() {
+        return cursorPrefetchDepth;
+    }
+
+    /**
+     * Set number of batches requested ahead of the current one by a prefetching cursor.
+     *
+     * @param cursorPrefetchDepth prefetch depth
+     */
+    public void setCursorPrefetchDepth(int cursorPrefetchDepth) {
+        this.cursorPrefetchDepth = cursorPrefetchDepth;
+    }
+
+    /**
+     * Maximum number of tuples in the current and the prefetched batches of a prefetching cursor.
+     *
+     * @return a positive integer value
+     */
+    public int getCursorPrefetchMaxTuples() {
+        return cursorPrefetchMaxTuples;
+    }
+
+    /**
+     * Set maximum number of tuples in the current and the prefetched batches of a prefetching cursor.
+     *
+     * @param cursorPrefetchMaxTuples maximum number of buffered tuples
+     */
+    public void setCursorPrefetchMaxTuples(int cursorPrefetchMaxTuples) {
+        this.cursorPrefetchMaxTuples = cursorPrefetchMaxTuples;
+    }
+
+    /**
+     * Maximum number of single inserts or replaces collected into one batch call by the proxy client.
+     * Values less than 2 mean that the single operations are not batched.
+     *
+     * @return maximum automatic batch size
+     */
+    public int getAutoBatchSize() {
+        return autoBatchSize;
+    }
+
+    /**
+     * Set maximum number of single inserts or replaces collected into one batch call by the proxy client.
+     *
+     * @param autoBatchSize maximum automatic batch size, values less than 2 disable the batching
+     */
+    public void setAutoBatchSize(int autoBatchSize) {
+        this.autoBatchSize = autoBatchSize;
+    }
+
+    /**
+     * Maximum time in milliseconds the first single operation in a batch waits for the other operations.
+     *
+     * @return automatic batch delay in milliseconds
+     */
+    public int getAutoBatchDelay() {
+        return autoBatchDelay;
+    }
+
+    /**
+     * Set maximum time in milliseconds the first single operation in a batch waits for the other operations.
+     *
+     * @param autoBatchDelay automatic batch delay in milliseconds
+     */
+    public void setAutoBatchDelay(int autoBatchDelay) {
+        this.autoBatchDelay = autoBatchDelay;
+    }
+
+    /**
+     * Whether the proxy client computes the bucket ids of the single tuple operations on the client side.
+     *
+     * @return boolean flag
+     */
+    public boolean isBucketIdComputation() {
+        return bucketIdComputation;
+    }
+
+    /**
+     * Enable or disable the client-side computation of the bucket ids for the proxy client.
+     *
+     * @param bucketIdComputation boolean flag
+     */
+    public void setBucketIdComputation(boolean bucketIdComputation) {
+        this.bucketIdComputation = bucketIdComputation;
+    }
+
+    /**
+     * Whether the proxy client sends the single tuple operations directly to the storages owning the buckets.
+     *
+     * @return boolean flag
+     */
+    public boolean isDirectStorageRouting() {
+        return directStorageRouting;
+    }
+
+    /**
+     * Enable or disable the direct routing of the proxy client operations to the storages.
+     *
+     * @param directStorageRouting boolean flag
+     */
+    public void setDirectStorageRouting(boolean directStorageRouting) {
+        this.directStorageRouting = directStorageRouting;
+    }
+
+    /**
+     * Minimal number of tuples in a response for converting it in the parallel decoding pool.
+     *
+     * @return number of tuples, {@link Integer#MAX_VALUE} if the parallel decoding is disabled
+     */
+    public int getParallelDecodingThreshold() {
+        return parallelDecodingThreshold;
+    }
+
+    /**
+     * Set minimal number of tuples in a response for converting it in the parallel decoding pool.
+     *
+     * @param parallelDecodingThreshold number of tuples
+     */
+    public void setParallelDecodingThreshold(int parallelDecodingThreshold) {
+        this.parallelDecodingThreshold = parallelDecodingThreshold;
+    }
+
+    /**
+     * Pool for converting the large responses, null if the parallel decoding is disabled.
+     *
+     * @return fork-join pool
+     */
+    public ForkJoinPool getParallelDecodingPool() {
+        return parallelDecodingPool;
+    }
+
+    /**
+     * Set pool for converting the large responses.
+     *
+     * @param parallelDecodingPool fork-join pool, null disables the parallel decoding
+     */
+    public void setParallelDecodingPool(ForkJoinPool parallelDecodingPool) {
+        this.parallelDecodingPool = parallelDecodingPool;
+    }
+
+    /**
+     * Executor invoking the consumers of the tuples passed to {@code selectForEach} and {@code callForEach}, null if
+     * the consumers are invoked in the thread which receives the response.
+     *
+     * @return executor
+     */
+    public Executor getConsumerExecutor() {
+        return consumerExecutor;
+    }
+
+    /**
+     * Set executor invoking the consumers of the tuples passed to {@code selectForEach} and {@code callForEach}.
+     *
+     * @param consumerExecutor executor, null for invoking the consumers in the thread which receives the response
+     */
+    public void setConsumerExecutor(Executor consumerExecutor) {
+        this.consumerExecutor = consumerExecutor;
+    }
+
     /**
      * Create a builder instance.
      *
@@ -289,6 +484,32 @@ public class TarantoolClientConfig {
         this.writeBatchSize = writeBatchSize;
     }
 
+    /**
+     * Get string dictionaries of the space fields.
+     *
+     * @param spaceName space name
+     * @return dictionaries by field names, empty if no dictionaries are configured for the space
+     */
+    public Map<String, StringDictionary> getStringDictionaries(String spaceName) {
+        return stringDictionaries.getOrDefault(spaceName, Collections.emptyMap());
+    }
+
+    /**
+     * Set string dictionary for the space field. The values of the field are decoded into the shared dictionary
+     * values instead of creating a new string for each tuple. Only the {@link TarantoolTuple} results decoded lazily
+     * from the response data use the dictionaries, see {@link StringDictionary}.
+     *
+     * @param spaceName  space name
+     * @param fieldName  field name in the space format
+     * @param dictionary string dictionary
+     */
+    public void setStringDictionary(String spaceName, String fieldName, StringDictionary dictionary) {
+        Map<String, StringDictionary> spaceDictionaries =
+            new HashMap<>(stringDictionaries.getOrDefault(spaceName, Collections.emptyMap()));
+        spaceDictionaries.put(fieldName, dictionary);
+        stringDictionaries.put(spaceName, spaceDictionaries);
+    }
+
     /**
      * A builder for {@link TarantoolClientConfig}
      */
@@ -454,6 +675,145 @@ public class TarantoolClientConfig {
             return this;
         }
 
+        /**
+         * Specify how prefetching cursors request the next batches. A cursor requests up to the specified number
+         * of batches ahead of the current one, but no more than fit into the maximum number of buffered tuples
+         * together with the current batch. Default is 1 batch and 10000 tuples
+         *
+         * @param prefetchDepth     number of batches requested ahead of the current one
+         * @param maxBufferedTuples maximum number of tuples in the current and the prefetched batches
+         * @return builder
+         * @see TarantoolClientConfig#setCursorPrefetchDepth(int)
+         * @see TarantoolClientConfig#setCursorPrefetchMaxTuples(int)
+         */
+        public Builder withCursorPrefetch(int prefetchDepth, int maxBufferedTuples) {
+            Assert.state(prefetchDepth >= 0, "Prefetch depth should not be negative");
+            Assert.state(maxBufferedTuples > 0, "Max buffered tuples should be greater than 0");
+            config.setCursorPrefetchDepth(prefetchDepth);
+            config.setCursorPrefetchMaxTuples(maxBufferedTuples);
+            return this;
+        }
+
+        /**
+         * Enable automatic batching of single tuple inserts and replaces for the proxy client. The operations
+         * {@code insert(tuple)} and {@code replace(tuple)} called on the same space are collected and sent as one
+         * {@code insert_many} or {@code replace_many} call when the specified number of operations is collected
+         * or when the specified delay after the first operation expires. Each operation still gets its own result
+         * or error. Disabled by default
+         *
+         * @param maxBatchSize   maximum number of operations in one batch call, should be greater than 1
+         * @param maxDelayMillis maximum time in milliseconds an operation waits for the other operations
+         * @return builder
+         * @see TarantoolClientConfig#setAutoBatchSize(int)
+         * @see TarantoolClientConfig#setAutoBatchDelay(int)
+         */
+        public Builder withAutoBatching(int maxBatchSize, int maxDelayMillis) {
+            Assert.state(maxBatchSize > 1, "Max batch size should be greater than 1");
+            Assert.state(maxDelayMillis > 0, "Max delay should be greater than 0");
+            config.setAutoBatchSize(maxBatchSize);
+            config.setAutoBatchDelay(maxDelayMillis);
+            return this;
+        }
+
+        /**
+         * Compute the bucket ids of the tuples for the proxy client operations insert, replace, upsert, update and
+         * delete on the client side and pass them in the {@code bucket_id} option, so the router does not compute
+         * the sharding hash. The sharding key and the vshard sharding function are taken from the DDL schema, the
+         * number of buckets is requested from the router once. The bucket id is not computed for the spaces with a
+         * custom sharding function, for the key values without an unambiguous representation in Tarantool, if
+         * the bucket id is already specified in the operation options and for 30 seconds after a failed request of
+         * the number of buckets. Disabled by default
+         *
+         * @param bucketIdComputation boolean flag
+         * @return builder
+         * @see TarantoolClientConfig#setBucketIdComputation(boolean)
+         */
+        public Builder withBucketIdComputation(boolean bucketIdComputation) {
+            config.setBucketIdComputation(bucketIdComputation);
+            return this;
+        }
+
+        /**
+         * Send the proxy client operations insert, replace, get and delete by the primary key directly to the master
+         * of the replicaset owning the bucket of the tuple, skipping the router. The bucket ids are computed on the
+         * client side (see {@link #withBucketIdComputation(boolean)}) and the bucket-to-replicaset map is loaded from
+         * the router and reloaded when a storage does not have the requested bucket anymore. The operations with
+         * any options (including {@code timeout}), the operations which bucket id cannot be computed and the ones
+         * rejected by the storage because of the bucket rebalancing are sent to the router as usual. The storages
+         * must be accessible with the client credentials and must define the function executing the operations,
+         * see {@link io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig#getStorageOperationFunctionName()}.
+         * The storage connections share the event loop threads of the client. Disabled by default
+         *
+         * @param directStorageRouting boolean flag
+         * @return builder
+         * @see TarantoolClientConfig#setDirectStorageRouting(boolean)
+         */
+        public Builder withDirectStorageRouting(boolean directStorageRouting) {
+            config.setDirectStorageRouting(directStorageRouting);
+            return this;
+        }
+
+        /**
+         * Convert the responses with at least the specified number of tuples asynchronously in the specified
+         * fork-join pool instead of the Netty event loop thread which receives them. The results decoding every
+         * tuple, e.g. POJO results, are also split into ranges of tuples converted in parallel in the pool. The
+         * {@link io.tarantool.driver.api.tuple.TarantoolTuple} fields are decoded lazily on access, so the tuple
+         * results mostly benefit from releasing the event loop. The pool is not shut down by the client. Disabled
+         * by default
+         *
+         * @param minTuples minimal number of tuples in a response for converting it in the pool, greater than 1
+         * @param pool      fork-join pool, e.g. {@link ForkJoinPool#commonPool()}
+         * @return builder
+         * @see TarantoolClientConfig#setParallelDecodingThreshold(int)
+         * @see TarantoolClientConfig#setParallelDecodingPool(ForkJoinPool)
+         */
+        public Builder withParallelDecoding(int minTuples, ForkJoinPool pool) {
+            Assert.state(minTuples > 1, "Parallel decoding threshold should be greater than 1");
+            Assert.notNull(pool, "Parallel decoding pool should not be null");
+            config.setParallelDecodingThreshold(minTuples);
+            config.setParallelDecodingPool(pool);
+            return this;
+        }
+
+        /**
+         * Invoke the consumers passed to {@code selectForEach} and {@code callForEach} in the specified executor.
+         * By default, the consumers are invoked in the Netty event loop thread which receives the response, so a
+         * slow or blocking consumer delays the processing of all other responses of the connections served by
+         * that thread. The tuples of one call are passed to the consumer sequentially in one task
+         *
+         * @param consumerExecutor executor for the consumers
+         * @return builder
+         * @see TarantoolClientConfig#setConsumerExecutor(Executor)
+         */
+        public Builder withConsumerExecutor(Executor consumerExecutor) {
+            Assert.notNull(consumerExecutor, "Consumer executor should not be null");
+            config.setConsumerExecutor(consumerExecutor);
+            return this;
+        }
+
+        /**
+         * Specify string fields with low cardinality, e.g. status or country codes. The identical values of each
+         * field are decoded once and shared by all tuples of the space, which reduces the memory retained by the
+         * results. Each field has its own dictionary with the specified maximum number of values; when it is full,
+         * the new values are decoded as usual. The dictionaries apply only to the {@link TarantoolTuple} results.
+         * By default, no dictionaries are used
+         *
+         * @param spaceName  space name
+         * @param maxSize    maximum number of distinct values of each field
+         * @param fieldNames field names in the space format
+         * @return builder
+         * @see TarantoolClientConfig#setStringDictionary(String, String, StringDictionary)
+         */
+        public Builder withStringDictionary(String spaceName, int maxSize, String... fieldNames) {
+            Assert.hasText(spaceName, "Space name should not be empty");
+            Assert.state(maxSize > 0, "Dictionary size should be greater than 0");
+            for (String fieldName : fieldNames) {
+                Assert.hasText(fieldName, "Field name should not be empty");
+                config.setStringDictionary(spaceName, fieldName, new StringDictionary(maxSize));
+            }
+            return this;
+        }
+
         /**
          * Build a {@link TarantoolClientConfig} instance
          *
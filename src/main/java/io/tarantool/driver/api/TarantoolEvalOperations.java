@@ -1,8 +1,10 @@
 package io.tarantool.driver.api;
 
+import io.netty.buffer.ByteBuf;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.RawMessagePack;
 
 import java.util.Collection;
 import java.util.List;
@@ -82,4 +84,44 @@ public interface TarantoolEvalOperations {
         Collection<?> arguments,
         Supplier<? extends MessagePackObjectMapper> argumentsMapperSupplier,
         Supplier<? extends MessagePackValueMapper> resultMapperSupplier) throws TarantoolClientException;
+
+    /**
+     * Execute a Lua expression in the Tarantool instance, passing the pre-encoded arguments as is and returning the
+     * raw response data without decoding it. Useful for forwarding MessagePack between other clients and Tarantool.
+     *
+     * @param expression lua expression, must not be null or empty
+     * @param arguments  MessagePack array of expression arguments
+     * @return a future that will contain the packed MessagePack array of the expression results (IPROTO_DATA)
+     * @throws TarantoolClientException if the client is not connected
+     */
+    CompletableFuture<byte[]> evalRaw(String expression, RawMessagePack arguments) throws TarantoolClientException;
+
+    /**
+     * Execute a Lua expression in the Tarantool instance, passing the pre-encoded arguments as is and returning the
+     * raw response data without decoding it. The arguments are copied into the request, so they may be modified once
+     * the method returns.
+     *
+     * @param expression lua expression, must not be null or empty
+     * @param arguments  packed MessagePack array of expression arguments
+     * @return a future that will contain the packed MessagePack array of the expression results (IPROTO_DATA)
+     * @throws TarantoolClientException if the client is not connected
+     * @see #evalRaw(String, RawMessagePack)
+     */
+    default CompletableFuture<byte[]> evalRaw(String expression, byte[] arguments) throws TarantoolClientException {
+        return evalRaw(expression, RawMessagePack.of(arguments));
+    }
+
+    /**
+     * Execute a Lua expression in the Tarantool instance, passing the pre-encoded arguments as is and returning the
+     * raw response data without decoding it. The readable bytes of the buffer are used, the buffer is not released.
+     *
+     * @param expression lua expression, must not be null or empty
+     * @param arguments  buffer with packed MessagePack array of expression arguments
+     * @return a future that will contain the packed MessagePack array of the expression results (IPROTO_DATA)
+     * @throws TarantoolClientException if the client is not connected
+     * @see #evalRaw(String, RawMessagePack)
+     */
+    default CompletableFuture<byte[]> evalRaw(String expression, ByteBuf arguments) throws TarantoolClientException {
+        return evalRaw(expression, RawMessagePack.of(arguments));
+    }
 }
@@ -0,0 +1,70 @@
+package io.tarantool.driver.api.columnar;
+
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+
+import java.util.BitSet;
+
+/**
+ * Column of boolean field values
+ */
+public final class BooleanColumn extends TarantoolColumn {
+
+    private final BitSet values;
+
+    BooleanColumn(String name, int size) {
+        super(name, size);
+        this.values = new BitSet(size);
+    }
+
+    @Override
+    public ColumnType getType() {
+        return ColumnType.BOOLEAN;
+    }
+
+    /**
+     * Get the field value in the specified row
+     *
+     * @param row row index, starting from 0
+     * @return value or false if the value is nil
+     */
+    public boolean get(int row) {
+        checkRow(row);
+        return values.get(row);
+    }
+
+    /**
+     * Get all values of the column. The returned bitmap is a copy, the bits are set for the true values.
+     *
+     * @return column values
+     */
+    public BitSet getValues() {
+        return (BitSet) values.clone();
+    }
+
+    @Override
+    public Object getObject(int row) {
+        return isNull(row) ? null : values.get(row);
+    }
+
+    @Override
+    void read(int row, ArrayValue tuple, int fieldPosition, MessagePackValueMapper mapper) {
+        if (tuple instanceof LazyArrayValue) {
+            LazyArrayValue lazyTuple = (LazyArrayValue) tuple;
+            if (lazyTuple.isNil(fieldPosition)) {
+                setNull(row);
+            } else {
+                values.set(row, lazyTuple.getBoolean(fieldPosition));
+            }
+        } else {
+            Value value = tuple.get(fieldPosition);
+            if (value.isNilValue()) {
+                setNull(row);
+            } else {
+                values.set(row, value.asBooleanValue().getBoolean());
+            }
+        }
+    }
+}
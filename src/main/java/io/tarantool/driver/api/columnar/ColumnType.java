@@ -0,0 +1,53 @@
+package io.tarantool.driver.api.columnar;
+
+/**
+ * Storage type of a {@link TarantoolColumn}, determined by the field type in the space format
+ */
+public enum ColumnType {
+    /**
+     * Fields of type {@code unsigned} and {@code integer}, stored in {@code long[]}
+     */
+    LONG,
+    /**
+     * Fields of type {@code double}, stored in {@code double[]}
+     */
+    DOUBLE,
+    /**
+     * Fields of type {@code boolean}, stored in a bitmap
+     */
+    BOOLEAN,
+    /**
+     * Fields of type {@code string}, stored as dictionary codes
+     */
+    STRING,
+    /**
+     * Fields of all other types and the fields without format, stored as objects converted by the mapper. The
+     * {@code number} fields are stored as objects too, because they may contain decimal values.
+     */
+    OBJECT;
+
+    /**
+     * Get the column type for the field type from the space format
+     *
+     * @param fieldType field type name, may be null
+     * @return column type
+     */
+    public static ColumnType fromFieldType(String fieldType) {
+        if (fieldType == null) {
+            return OBJECT;
+        }
+        switch (fieldType) {
+            case "unsigned":
+            case "integer":
+                return LONG;
+            case "double":
+                return DOUBLE;
+            case "boolean":
+                return BOOLEAN;
+            case "string":
+                return STRING;
+            default:
+                return OBJECT;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.tarantool.driver.api.columnar;
+
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueType;
+
+/**
+ * Column of floating point field values
+ */
+public final class DoubleColumn extends TarantoolColumn {
+
+    private final double[] values;
+
+    DoubleColumn(String name, int size) {
+        super(name, size);
+        this.values = new double[size];
+    }
+
+    @Override
+    public ColumnType getType() {
+        return ColumnType.DOUBLE;
+    }
+
+    /**
+     * Get the field value in the specified row
+     *
+     * @param row row index, starting from 0
+     * @return value or 0 if the value is nil
+     */
+    public double get(int row) {
+        checkRow(row);
+        return values[row];
+    }
+
+    /**
+     * Get all values of the column. The array is not copied and must not be modified, the elements for nil values
+     * are 0.
+     *
+     * @return column values
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    @Override
+    public Object getObject(int row) {
+        return isNull(row) ? null : values[row];
+    }
+
+    @Override
+    void read(int row, ArrayValue tuple, int fieldPosition, MessagePackValueMapper mapper) {
+        if (tuple instanceof LazyArrayValue) {
+            LazyArrayValue lazyTuple = (LazyArrayValue) tuple;
+            ValueType type = lazyTuple.getType(fieldPosition);
+            if (type == ValueType.NIL) {
+                setNull(row);
+            } else if (type == ValueType.FLOAT) {
+                values[row] = lazyTuple.getDouble(fieldPosition);
+            } else {
+                // integers are rare in the double fields, and may not fit into long
+                values[row] = lazyTuple.get(fieldPosition).asNumberValue().toDouble();
+            }
+        } else {
+            Value value = tuple.get(fieldPosition);
+            if (value.isNilValue()) {
+                setNull(row);
+            } else {
+                values[row] = value.asNumberValue().toDouble();
+            }
+        }
+    }
+}
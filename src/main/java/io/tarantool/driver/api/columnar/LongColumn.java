@@ -0,0 +1,117 @@
+package io.tarantool.driver.api.columnar;
+
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import org.msgpack.core.MessageIntegerOverflowException;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.IntegerValue;
+import org.msgpack.value.Value;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+
+/**
+ * Column of integer field values. The {@code unsigned} and {@code integer} fields may contain values above
+ * {@link Long#MAX_VALUE}, such values are stored as their lower 64 bits, the same way as {@link Long#parseUnsignedLong}
+ * does, and are marked as overflowed.
+ */
+public final class LongColumn extends TarantoolColumn {
+
+    private final long[] values;
+    private BitSet overflows;
+
+    LongColumn(String name, int size) {
+        super(name, size);
+        this.values = new long[size];
+    }
+
+    @Override
+    public ColumnType getType() {
+        return ColumnType.LONG;
+    }
+
+    /**
+     * Get the field value in the specified row
+     *
+     * @param row row index, starting from 0
+     * @return value or 0 if the value is nil, see {@link #isOverflow(int)} for the values above
+     * {@link Long#MAX_VALUE}
+     */
+    public long get(int row) {
+        checkRow(row);
+        return values[row];
+    }
+
+    /**
+     * Check whether the field value in the specified row is above {@link Long#MAX_VALUE}. The value returned by
+     * {@link #get(int)} for such rows is negative and should be treated as unsigned, e.g. with
+     * {@link Long#toUnsignedString(long)}.
+     *
+     * @param row row index, starting from 0
+     * @return true if the value does not fit into {@code long}
+     */
+    public boolean isOverflow(int row) {
+        checkRow(row);
+        return overflows != null && overflows.get(row);
+    }
+
+    /**
+     * Get all values of the column. The array is not copied and must not be modified, the elements for nil values
+     * are 0.
+     *
+     * @return column values
+     */
+    public long[] getValues() {
+        return values;
+    }
+
+    /**
+     * Get the field value in the specified row as an object
+     *
+     * @param row row index, starting from 0
+     * @return value or null if the value is nil, {@link BigInteger} for the values above {@link Long#MAX_VALUE}
+     */
+    @Override
+    public Object getObject(int row) {
+        if (isNull(row)) {
+            return null;
+        }
+        return isOverflow(row) ? new BigInteger(Long.toUnsignedString(values[row])) : values[row];
+    }
+
+    @Override
+    void read(int row, ArrayValue tuple, int fieldPosition, MessagePackValueMapper mapper) {
+        if (tuple instanceof LazyArrayValue) {
+            LazyArrayValue lazyTuple = (LazyArrayValue) tuple;
+            if (lazyTuple.isNil(fieldPosition)) {
+                setNull(row);
+            } else {
+                try {
+                    values[row] = lazyTuple.getLong(fieldPosition);
+                } catch (MessageIntegerOverflowException e) {
+                    setOverflow(row, e.getBigInteger());
+                }
+            }
+        } else {
+            Value value = tuple.get(fieldPosition);
+            if (value.isNilValue()) {
+                setNull(row);
+            } else {
+                IntegerValue integerValue = value.asIntegerValue();
+                if (integerValue.isInLongRange()) {
+                    values[row] = integerValue.asLong();
+                } else {
+                    setOverflow(row, integerValue.asBigInteger());
+                }
+            }
+        }
+    }
+
+    private void setOverflow(int row, BigInteger value) {
+        values[row] = value.longValue();
+        if (overflows == null) {
+            overflows = new BitSet(size());
+        }
+        overflows.set(row);
+    }
+}
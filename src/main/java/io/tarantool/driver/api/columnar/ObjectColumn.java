@@ -0,0 +1,49 @@
+package io.tarantool.driver.api.columnar;
+
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+
+/**
+ * Column of field values converted to Java objects by the mapper
+ */
+public final class ObjectColumn extends TarantoolColumn {
+
+    private final Object[] values;
+
+    ObjectColumn(String name, int size) {
+        super(name, size);
+        this.values = new Object[size];
+    }
+
+    @Override
+    public ColumnType getType() {
+        return ColumnType.OBJECT;
+    }
+
+    /**
+     * Get the field value in the specified row
+     *
+     * @param row row index, starting from 0
+     * @return value or null if the value is nil
+     */
+    public Object get(int row) {
+        checkRow(row);
+        return values[row];
+    }
+
+    @Override
+    public Object getObject(int row) {
+        return get(row);
+    }
+
+    @Override
+    void read(int row, ArrayValue tuple, int fieldPosition, MessagePackValueMapper mapper) {
+        Value value = tuple.get(fieldPosition);
+        if (value.isNilValue()) {
+            setNull(row);
+        } else {
+            values[row] = mapper.fromValue(value);
+        }
+    }
+}
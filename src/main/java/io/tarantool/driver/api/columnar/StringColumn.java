@@ -0,0 +1,130 @@
+package io.tarantool.driver.api.columnar;
+
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column of string field values. The values are dictionary-encoded: each distinct string is decoded and stored once,
+ * the rows hold the codes of the strings in the dictionary.
+ */
+public final class StringColumn extends TarantoolColumn {
+
+    /**
+     * Code of the nil values
+     */
+    public static final int NULL_CODE = -1;
+
+    private final int[] codes;
+    private String[] dictionary;
+    private Map<ByteBuffer, Integer> dictionaryIndex = new HashMap<>();
+    private List<String> dictionaryValues = new ArrayList<>();
+
+    StringColumn(String name, int size) {
+        super(name, size);
+        this.codes = new int[size];
+    }
+
+    @Override
+    public ColumnType getType() {
+        return ColumnType.STRING;
+    }
+
+    /**
+     * Get the field value in the specified row
+     *
+     * @param row row index, starting from 0
+     * @return value or null if the value is nil
+     */
+    public String get(int row) {
+        checkRow(row);
+        int code = codes[row];
+        return code == NULL_CODE ? null : dictionary[code];
+    }
+
+    /**
+     * Get the dictionary code of the field value in the specified row
+     *
+     * @param row row index, starting from 0
+     * @return code or {@link #NULL_CODE} if the value is nil
+     */
+    public int getCode(int row) {
+        checkRow(row);
+        return codes[row];
+    }
+
+    /**
+     * Get the dictionary codes of all rows. The array is not copied and must not be modified.
+     *
+     * @return dictionary codes
+     */
+    public int[] getCodes() {
+        return codes;
+    }
+
+    /**
+     * Get the distinct values of the column, indexed by the dictionary codes.
+     * The array is not copied and must not be modified.
+     *
+     * @return dictionary
+     */
+    public String[] getDictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public Object getObject(int row) {
+        return get(row);
+    }
+
+    @Override
+    void setNull(int row) {
+        super.setNull(row);
+        codes[row] = NULL_CODE;
+    }
+
+    @Override
+    void read(int row, ArrayValue tuple, int fieldPosition, MessagePackValueMapper mapper) {
+        ByteBuffer bytes;
+        if (tuple instanceof LazyArrayValue) {
+            LazyArrayValue lazyTuple = (LazyArrayValue) tuple;
+            if (lazyTuple.isNil(fieldPosition)) {
+                setNull(row);
+                return;
+            }
+            bytes = lazyTuple.getBytes(fieldPosition);
+        } else {
+            Value value = tuple.get(fieldPosition);
+            if (value.isNilValue()) {
+                setNull(row);
+                return;
+            }
+            bytes = ByteBuffer.wrap(value.asRawValue().asByteArray());
+        }
+        Integer code = dictionaryIndex.get(bytes);
+        if (code == null) {
+            // the string is decoded only when it is met for the first time
+            byte[] data = new byte[bytes.remaining()];
+            bytes.duplicate().get(data);
+            code = dictionaryValues.size();
+            dictionaryValues.add(new String(data, StandardCharsets.UTF_8));
+            dictionaryIndex.put(ByteBuffer.wrap(data), code);
+        }
+        codes[row] = code;
+    }
+
+    @Override
+    void complete() {
+        dictionary = dictionaryValues.toArray(new String[0]);
+        dictionaryIndex = null;
+        dictionaryValues = null;
+    }
+}
@@ -0,0 +1,118 @@
+package io.tarantool.driver.api.columnar;
+
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import org.msgpack.value.ArrayValue;
+
+import java.util.BitSet;
+
+/**
+ * Base class for the columns of {@link TarantoolColumnarResult}. Each column holds the values of one tuple field for
+ * all rows of the result in a primitive array of the corresponding type, and the null bitmap.
+ */
+public abstract class TarantoolColumn {
+
+    private final String name;
+    private final int size;
+    private BitSet nulls;
+
+    TarantoolColumn(String name, int size) {
+        this.name = name;
+        this.size = size;
+    }
+
+    /**
+     * Get the field name from the space format
+     *
+     * @return field name or null if the field is not present in the space format
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the column storage type
+     *
+     * @return column type
+     */
+    public abstract ColumnType getType();
+
+    /**
+     * Get the number of rows
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check whether the field value in the specified row is nil or absent
+     *
+     * @param row row index, starting from 0
+     * @return true if the value is nil
+     */
+    public boolean isNull(int row) {
+        checkRow(row);
+        return nulls != null && nulls.get(row);
+    }
+
+    /**
+     * Get the number of rows with nil values
+     *
+     * @return number of nil values
+     */
+    public int getNullCount() {
+        return nulls != null ? nulls.cardinality() : 0;
+    }
+
+    /**
+     * Get the null bitmap. The returned bitmap is a copy, the bits are set for the rows with nil values.
+     *
+     * @return null bitmap
+     */
+    public BitSet getNulls() {
+        return nulls != null ? (BitSet) nulls.clone() : new BitSet();
+    }
+
+    /**
+     * Get the field value in the specified row as an object
+     *
+     * @param row row index, starting from 0
+     * @return value or null if the value is nil
+     */
+    public abstract Object getObject(int row);
+
+    /**
+     * Read the field value of the specified row from the tuple
+     *
+     * @param row           row index
+     * @param tuple         tuple value
+     * @param fieldPosition field position in the tuple
+     * @param mapper        mapper for the object values
+     */
+    abstract void read(int row, ArrayValue tuple, int fieldPosition, MessagePackValueMapper mapper);
+
+    /**
+     * Called when all rows are read
+     */
+    void complete() {
+    }
+
+    void setNull(int row) {
+        if (nulls == null) {
+            nulls = new BitSet(size);
+        }
+        nulls.set(row);
+    }
+
+    void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{name=" + name + ", size=" + size + "}";
+    }
+}
@@ -0,0 +1,186 @@
+package io.tarantool.driver.api.columnar;
+
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.value.ArrayValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Select result decoded into columns instead of rows. Each tuple field is stored in a separate column backed by
+ * a primitive array of the type determined by the space format: {@code long[]} for integer fields, {@code double[]}
+ * for double fields, dictionary codes for strings and the converted objects for the other types. The nil values are
+ * tracked in a null bitmap of each column.
+ * <p>
+ * The columns are built directly from the tuple data without creating the tuple objects. If the result has space
+ * metadata, the number of columns is equal to the number of fields in the space format, and the tuple fields beyond
+ * the format are not included. Otherwise, the number of columns is determined by the first tuple and all columns have
+ * the {@link ColumnType#OBJECT} type.
+ */
+public final class TarantoolColumnarResult {
+
+    private final TarantoolSpaceMetadata spaceMetadata;
+    private final int size;
+    private final List<TarantoolColumn> columns;
+
+    private TarantoolColumnarResult(TarantoolSpaceMetadata spaceMetadata, int size, List<TarantoolColumn> columns) {
+        this.spaceMetadata = spaceMetadata;
+        this.size = size;
+        this.columns = Collections.unmodifiableList(columns);
+    }
+
+    /**
+     * Decode an array of tuples into columns
+     *
+     * @param rows          MessagePack array of tuples
+     * @param spaceMetadata space metadata with the format, may be null
+     * @param mapper        mapper for converting the values of {@link ColumnType#OBJECT} columns
+     * @return columnar result
+     */
+    public static TarantoolColumnarResult fromRows(
+        ArrayValue rows, TarantoolSpaceMetadata spaceMetadata, MessagePackValueMapper mapper) {
+        Assert.notNull(rows, "Result rows should not be null");
+        Assert.notNull(mapper, "MessagePack mapper should not be null");
+
+        int size = rows.size();
+        boolean hasFormat = spaceMetadata != null && spaceMetadata.getSpaceFormatMetadata() != null &&
+            !spaceMetadata.getSpaceFormatMetadata().isEmpty();
+        int columnCount;
+        if (hasFormat) {
+            columnCount = spaceMetadata.getSpaceFormatMetadata().size();
+        } else {
+            columnCount = size > 0 ? rows.get(0).asArrayValue().size() : 0;
+        }
+
+        List<TarantoolColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            Optional<TarantoolFieldMetadata> field = hasFormat ?
+                spaceMetadata.getFieldByPosition(i) : Optional.empty();
+            String name = field.map(TarantoolFieldMetadata::getFieldName).orElse(null);
+            ColumnType type = ColumnType.fromFieldType(field.map(TarantoolFieldMetadata::getFieldType).orElse(null));
+            columns.add(createColumn(type, name, size));
+        }
+
+        for (int row = 0; row < size; row++) {
+            // don't cache the decoded tuples in the rows value
+            ArrayValue tuple = LazyArrayValue.arrayElementView(rows, row);
+            int tupleSize = tuple.size();
+            for (int i = 0; i < columnCount; i++) {
+                TarantoolColumn column = columns.get(i);
+                if (i < tupleSize) {
+                    column.read(row, tuple, i, mapper);
+                } else {
+                    column.setNull(row);
+                }
+            }
+        }
+        for (TarantoolColumn column : columns) {
+            column.complete();
+        }
+
+        return new TarantoolColumnarResult(spaceMetadata, size, columns);
+    }
+
+    private static TarantoolColumn createColumn(ColumnType type, String name, int size) {
+        switch (type) {
+            case LONG:
+                return new LongColumn(name, size);
+            case DOUBLE:
+                return new DoubleColumn(name, size);
+            case BOOLEAN:
+                return new BooleanColumn(name, size);
+            case STRING:
+                return new StringColumn(name, size);
+            default:
+                return new ObjectColumn(name, size);
+        }
+    }
+
+    /**
+     * Get the number of rows
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the number of columns
+     *
+     * @return number of columns
+     */
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    /**
+     * Get all columns in the order of the tuple fields
+     *
+     * @return unmodifiable list of columns
+     */
+    public List<TarantoolColumn> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Get the column by the field position
+     *
+     * @param fieldPosition the field position from the tuple start, starting from 0
+     * @return column
+     * @throws IndexOutOfBoundsException if there is no column for the specified position
+     */
+    public TarantoolColumn getColumn(int fieldPosition) {
+        return columns.get(fieldPosition);
+    }
+
+    /**
+     * Get the column by the field name
+     *
+     * @param fieldName the field name, must not be null
+     * @return column
+     * @throws TarantoolSpaceFieldNotFoundException if there is no field with the specified name in the space format
+     */
+    public TarantoolColumn getColumn(String fieldName) {
+        int fieldPosition = spaceMetadata != null ? spaceMetadata.getFieldPositionByName(fieldName) : -1;
+        if (fieldPosition < 0 || fieldPosition >= columns.size()) {
+            throw new TarantoolSpaceFieldNotFoundException(fieldName);
+        }
+        return columns.get(fieldPosition);
+    }
+
+    /**
+     * Get the column of the specified type by the field name
+     *
+     * @param fieldName   the field name, must not be null
+     * @param columnClass the expected column class, e.g. {@link LongColumn}
+     * @param <C>         column type
+     * @return column
+     * @throws TarantoolSpaceFieldNotFoundException if there is no field with the specified name in the space format
+     * @throws IllegalArgumentException             if the column has different type
+     */
+    public <C extends TarantoolColumn> C getColumn(String fieldName, Class<C> columnClass) {
+        TarantoolColumn column = getColumn(fieldName);
+        if (!columnClass.isInstance(column)) {
+            throw new IllegalArgumentException(String.format("Column %s has type %s, not %s",
+                fieldName, column.getType(), columnClass.getSimpleName()));
+        }
+        return columnClass.cast(column);
+    }
+
+    /**
+     * Get the space metadata used for building the columns
+     *
+     * @return space metadata or null if the result has no metadata
+     */
+    public TarantoolSpaceMetadata getSpaceMetadata() {
+        return spaceMetadata;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains the columnar representation of select results
+ */
+package io.tarantool.driver.api.columnar;
@@ -729,6 +729,39 @@ public final class Conditions implements Serializable {
         return this;
     }
 
+    /**
+     * Get the upper bounds of the field value ranges, i.e. the LT and LE conditions on the fields which also have
+     * a GT or GE condition. The index queries of box spaces accept a single condition per field, so such bounds
+     * have to be checked on the client side, see {@link #withoutRangeUpperBounds()}.
+     *
+     * @return list of the upper bound conditions, empty if there are no ranges
+     */
+    public List<FieldValueCondition> getRangeUpperBounds() {
+        List<Object> lowerBoundFields = conditions.stream()
+            .filter(c -> c instanceof FieldValueCondition &&
+                (c.operator() == Operator.GT || c.operator() == Operator.GE))
+            .map(c -> c.field().toIdentifier())
+            .collect(Collectors.toList());
+        return conditions.stream()
+            .filter(c -> c instanceof FieldValueCondition &&
+                (c.operator() == Operator.LT || c.operator() == Operator.LE) &&
+                lowerBoundFields.contains(c.field().toIdentifier()))
+            .map(c -> (FieldValueCondition) c)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Create a copy of these conditions without the upper bounds of the field value ranges
+     *
+     * @return new {@link Conditions} instance
+     * @see #getRangeUpperBounds()
+     */
+    public Conditions withoutRangeUpperBounds() {
+        Conditions result = new Conditions(this);
+        result.conditions.removeAll(getRangeUpperBounds());
+        return result;
+    }
+
     public List<?> toProxyQuery(
         TarantoolMetadataOperations operations,
         TarantoolSpaceMetadata spaceMetadata) {
@@ -0,0 +1,121 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Cursor implementation which takes the size of each batch from a {@link BatchSizePolicy} and reports the size and
+ * the latency of the received batches back to it, so that an {@link AdaptiveBatchSizePolicy} can adjust the batch
+ * size to the tuple width and the observed latency. The size of a batch is measured on the raw response data without
+ * encoding it again.
+ * <p>
+ * The batches are fetched either with 'limit' and 'offset' (standalone server) or with 'after' (cluster) conditions.
+ * <p>
+ * See {@link TarantoolCursor} for more details on cursors.
+ *
+ * @param <T> tuple type
+ */
+public class AdaptiveBatchCursor<T extends Packable> extends TarantoolCursorBase<T, List<T>> {
+
+    private static final ArrayValue EMPTY_ROWS = ValueFactory.emptyArray();
+
+    private final Function<Conditions, CompletableFuture<ArrayValue>> rowsSelector;
+    private final Function<ArrayValue, T> rowConverter;
+    private final Conditions initConditions;
+    private final BatchSizePolicy batchSizePolicy;
+    private final MessagePackMapper mapper;
+    private final boolean useStartAfter;
+
+    private long spaceOffset;
+    private boolean exhausted;
+
+    private ArrayValue rows = EMPTY_ROWS;
+    private int row = -1;
+    private T currentValue;
+    private T lastTuple;
+
+    /**
+     * Basic constructor
+     *
+     * @param rowsSelector    performs a select with the specified conditions and returns the raw array of tuples
+     * @param rowConverter    converts a raw tuple into the tuple object
+     * @param conditions      query with options
+     * @param batchSizePolicy provides the size of each batch
+     * @param mapper          provides conversion between MessagePack values and Java objects
+     * @param useStartAfter   use 'after' conditions for fetching the next batches instead of 'offset'
+     */
+    public AdaptiveBatchCursor(
+        Function<Conditions, CompletableFuture<ArrayValue>> rowsSelector,
+        Function<ArrayValue, T> rowConverter,
+        Conditions conditions,
+        BatchSizePolicy batchSizePolicy,
+        MessagePackMapper mapper,
+        boolean useStartAfter) {
+        Assert.notNull(rowsSelector, "Rows selector should not be null");
+        Assert.notNull(rowConverter, "Row converter should not be null");
+        Assert.notNull(batchSizePolicy, "Batch size policy should not be null");
+        this.rowsSelector = rowsSelector;
+        this.rowConverter = rowConverter;
+        this.initConditions = conditions;
+        this.batchSizePolicy = batchSizePolicy;
+        this.mapper = mapper;
+        this.useStartAfter = useStartAfter;
+    }
+
+    @Override
+    protected void fetchNextTuples() throws TarantoolClientException {
+        long limit = calcLimit(initConditions.getLimit(), batchSizePolicy.getBatchSize(), spaceOffset);
+        if (exhausted || limit <= 0) {
+            return;
+        }
+
+        Conditions conditions = new Conditions(initConditions).withLimit(limit);
+        if (!useStartAfter) {
+            conditions.withOffset(spaceOffset);
+        } else if (lastTuple != null) {
+            conditions.startAfter(lastTuple, mapper::toValue);
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            rows = rowsSelector.apply(conditions).get();
+            row = -1;
+        } catch (InterruptedException | ExecutionException e) {
+            throw new TarantoolClientException(e);
+        }
+        long bytes = rows instanceof LazyArrayValue ? ((LazyArrayValue) rows).getLength() : -1;
+        batchSizePolicy.onBatchReceived((int) limit, rows.size(), bytes, System.nanoTime() - startTime);
+        exhausted = rows.size() < limit;
+    }
+
+    @Override
+    protected boolean advanceIterator() {
+        if (row + 1 < rows.size()) {
+            row++;
+            currentValue = rowConverter.apply(LazyArrayValue.arrayElement(rows, row));
+            spaceOffset += 1;
+            return true;
+        }
+        if (currentValue != null) {
+            lastTuple = currentValue;
+            currentValue = null;
+        }
+        return false;
+    }
+
+    @Override
+    protected T getCurrentValue() {
+        return currentValue;
+    }
+}
@@ -0,0 +1,136 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.utils.Assert;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch size policy which grows or shrinks the batch size so that the responses fit into the target byte size and
+ * latency budget. The average tuple size is measured on the previous batches. The latency of a batch is modeled as
+ * a fixed round trip time plus a cost per tuple: the cost is measured as the latency difference between the batches
+ * of different sizes, and the round trip time is taken from the fastest batch. Only the per-tuple part of the latency
+ * is fitted into the target, and it is given at least half of the target latency, so that the round trips are
+ * amortized even if the network latency is close to or above the target. The batch size changes no more than twice
+ * per batch and stays within the specified bounds.
+ * <p>
+ * The policy is thread-safe and may be shared between the cursors of similar queries, so that the next cursors
+ * start with the learned batch size.
+ */
+public class AdaptiveBatchSizePolicy implements BatchSizePolicy {
+
+    private static final int DEFAULT_MIN_BATCH_SIZE = 10;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 10_000;
+    private static final long DEFAULT_TARGET_BYTES = 1024 * 1024;
+    private static final long DEFAULT_TARGET_LATENCY = 100; // milliseconds
+    // weight of the last batch in the average tuple size and cost
+    private static final double SMOOTHING = 0.5;
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long targetBytes;
+    private final long targetLatencyNanos;
+
+    private volatile int batchSize;
+    private volatile double bytesPerTuple = -1;
+    // the fastest batch observed, its latency includes the round trip time
+    private long minLatencyNanos = -1;
+    private int minLatencySize;
+    private double nanosPerTuple = -1;
+
+    /**
+     * Create a policy with the default bounds (from 10 to 10000 tuples), target response size (1 MB) and latency
+     * (100 ms)
+     *
+     * @param initialBatchSize size of the first batch
+     */
+    public AdaptiveBatchSizePolicy(int initialBatchSize) {
+        this(initialBatchSize, DEFAULT_MIN_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE, DEFAULT_TARGET_BYTES,
+            DEFAULT_TARGET_LATENCY);
+    }
+
+    /**
+     * Basic constructor
+     *
+     * @param initialBatchSize    size of the first batch
+     * @param minBatchSize        minimum batch size
+     * @param maxBatchSize        maximum batch size
+     * @param targetBytes         target size of a batch response in bytes
+     * @param targetLatencyMillis target latency of a batch request in milliseconds
+     */
+    public AdaptiveBatchSizePolicy(
+        int initialBatchSize, int minBatchSize, int maxBatchSize, long targetBytes, long targetLatencyMillis) {
+        Assert.state(minBatchSize > 0, "Minimum batch size should be greater than 0");
+        Assert.state(minBatchSize <= maxBatchSize, "Minimum batch size should not be greater than maximum");
+        Assert.state(targetBytes > 0, "Target bytes should be greater than 0");
+        Assert.state(targetLatencyMillis > 0, "Target latency should be greater than 0");
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.targetBytes = targetBytes;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.batchSize = clamp(initialBatchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public synchronized void onBatchReceived(int requested, int received, long bytes, long elapsedNanos) {
+        if (received <= 0) {
+            return;
+        }
+        long elapsed = Math.max(elapsedNanos, 1);
+        updateLatencyModel(received, elapsed);
+        double nextSize;
+        if (nanosPerTuple < 0) {
+            // the cost of a tuple is not known until the batches of different sizes are received
+            nextSize = (double) received * targetLatencyNanos / elapsed;
+        } else if (nanosPerTuple == 0) {
+            nextSize = Double.MAX_VALUE;
+        } else {
+            double roundTripNanos = Math.max(0, minLatencyNanos - minLatencySize * nanosPerTuple);
+            double budgetNanos = Math.max(targetLatencyNanos - roundTripNanos, targetLatencyNanos / 2.0);
+            nextSize = budgetNanos / nanosPerTuple;
+        }
+        if (bytes > 0) {
+            double lastBytesPerTuple = (double) bytes / received;
+            double averageBytesPerTuple = bytesPerTuple < 0 ? lastBytesPerTuple :
+                SMOOTHING * lastBytesPerTuple + (1 - SMOOTHING) * bytesPerTuple;
+            bytesPerTuple = averageBytesPerTuple;
+            nextSize = Math.min(nextSize, targetBytes / averageBytesPerTuple);
+        }
+        int current = batchSize;
+        if (received < requested) {
+            // a short batch does not show how a bigger one would perform
+            nextSize = Math.min(nextSize, current);
+        }
+        nextSize = Math.max(current / 2.0, Math.min(nextSize, current * 2.0));
+        batchSize = clamp((long) nextSize);
+    }
+
+    private void updateLatencyModel(int received, long elapsed) {
+        if (minLatencyNanos >= 0 && received != minLatencySize) {
+            // the latency difference between two batches is caused by the difference of their sizes
+            double cost = Math.max(0, (double) (elapsed - minLatencyNanos) / (received - minLatencySize));
+            nanosPerTuple = nanosPerTuple < 0 ? cost : SMOOTHING * cost + (1 - SMOOTHING) * nanosPerTuple;
+        }
+        if (minLatencyNanos < 0 || elapsed < minLatencyNanos) {
+            minLatencyNanos = elapsed;
+            minLatencySize = received;
+        }
+    }
+
+    private int clamp(long size) {
+        return (int) Math.max(minBatchSize, Math.min(maxBatchSize, size));
+    }
+
+    /**
+     * Get the average size of a tuple measured on the previous batches
+     *
+     * @return size in bytes or -1 if no batches with known size have been received yet
+     */
+    public double getAverageTupleSize() {
+        return bytesPerTuple;
+    }
+}
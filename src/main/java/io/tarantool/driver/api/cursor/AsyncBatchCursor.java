@@ -0,0 +1,117 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Asynchronous cursor implementation which fetches the batches either with 'limit' and 'offset' (standalone server)
+ * or with 'after' (cluster) conditions.
+ * <p>
+ * See {@link TarantoolAsyncCursor} for more details on asynchronous cursors.
+ *
+ * @param <T> tuple type
+ * @param <R> tuple collection type
+ */
+public class AsyncBatchCursor<T extends Packable, R extends Collection<T>> implements TarantoolAsyncCursor<T, R> {
+
+    private final Function<Conditions, CompletableFuture<R>> selector;
+    private final Conditions initConditions;
+    private final boolean useStartAfter;
+    private final MessagePackMapper mapper;
+
+    // size of a batch for single invocation of client
+    private final long batchSize;
+    private volatile long spaceOffset;
+
+    private volatile T lastTuple;
+    private volatile boolean exhausted;
+    private volatile boolean inProgress;
+
+    /**
+     * Basic constructor
+     *
+     * @param selector      performs a select with the specified conditions
+     * @param conditions    query with options
+     * @param batchSize     size of a batch of single client request
+     * @param mapper        provides conversion between MessagePack values and Java objects
+     * @param useStartAfter use 'after' conditions for fetching the next batches instead of 'offset'
+     */
+    public AsyncBatchCursor(
+        Function<Conditions, CompletableFuture<R>> selector,
+        Conditions conditions,
+        int batchSize,
+        MessagePackMapper mapper,
+        boolean useStartAfter) {
+        Assert.notNull(selector, "Selector should not be null");
+        Assert.state(batchSize > 0, "Batch size should be greater than 0");
+        this.selector = selector;
+        this.initConditions = conditions;
+        this.batchSize = batchSize;
+        this.mapper = mapper;
+        this.useStartAfter = useStartAfter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !exhausted && TarantoolCursorBase.calcLimit(initConditions.getLimit(), batchSize, spaceOffset) > 0;
+    }
+
+    @Override
+    public CompletableFuture<R> nextBatch() throws TarantoolClientException {
+        if (inProgress) {
+            throw new TarantoolClientException("The previous batch is not completed yet");
+        }
+        if (!hasNext()) {
+            throw new TarantoolClientException("No more batches are available in the cursor");
+        }
+        long limit = TarantoolCursorBase.calcLimit(initConditions.getLimit(), batchSize, spaceOffset);
+        Conditions conditions = new Conditions(initConditions).withLimit(limit);
+        if (useStartAfter) {
+            if (lastTuple != null) {
+                conditions.startAfter(lastTuple, mapper::toValue);
+            }
+        } else {
+            conditions.withOffset(spaceOffset);
+        }
+
+        inProgress = true;
+        CompletableFuture<R> result;
+        try {
+            result = selector.apply(conditions);
+        } catch (RuntimeException e) {
+            inProgress = false;
+            throw e;
+        }
+        return result.whenComplete((tuples, ex) -> {
+            if (ex == null) {
+                if (tuples.size() < limit) {
+                    exhausted = true;
+                } else {
+                    lastTuple = lastTuple(tuples);
+                }
+                spaceOffset += tuples.size();
+            }
+            inProgress = false;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private T lastTuple(R result) {
+        if (result instanceof List) {
+            return ((List<T>) result).get(result.size() - 1);
+        }
+        T last = null;
+        for (T tuple : result) {
+            last = tuple;
+        }
+        return last;
+    }
+}
@@ -0,0 +1,49 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.utils.Assert;
+
+/**
+ * Determines the size of the next batch requested by a cursor, possibly based on the statistics of the previous
+ * batches.
+ *
+ * @see AdaptiveBatchSizePolicy
+ */
+public interface BatchSizePolicy {
+
+    /**
+     * Get the size of the next batch
+     *
+     * @return a positive number of tuples
+     */
+    int getBatchSize();
+
+    /**
+     * Record the statistics of a received batch
+     *
+     * @param requested    number of requested tuples
+     * @param received     number of received tuples
+     * @param bytes        size of the received tuples in bytes or -1 if it is unknown
+     * @param elapsedNanos time between sending the request and receiving the response in nanoseconds
+     */
+    void onBatchReceived(int requested, int received, long bytes, long elapsedNanos);
+
+    /**
+     * Create a policy which always returns the same batch size
+     *
+     * @param batchSize size of a batch of single client request
+     * @return new policy
+     */
+    static BatchSizePolicy fixed(int batchSize) {
+        Assert.state(batchSize > 0, "Batch size should be greater than 0");
+        return new BatchSizePolicy() {
+            @Override
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            @Override
+            public void onBatchReceived(int requested, int received, long bytes, long elapsedNanos) {
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolSpaceOperationException;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.function.Predicate;
+
+/**
+ * Cursor which checks the bounds of the tuples returned by another cursor on the client side, for the queries
+ * which cannot pass the bounds to the server, e.g. the ranges of field values in the box spaces.
+ * <p>
+ * If the underlying cursor returns the tuples in ascending order of the bounded values, the iteration stops at the
+ * first tuple out of the bounds. Otherwise, the tuples out of the bounds are skipped.
+ * <p>
+ * See {@link TarantoolCursor} for more details on cursors.
+ *
+ * @param <T> tuple type
+ */
+public class BoundedCursor<T extends Packable> implements TarantoolCursor<T> {
+
+    private final TarantoolCursor<T> cursor;
+    private final Predicate<? super T> withinBounds;
+    private final boolean ordered;
+    private boolean finished;
+
+    /**
+     * Basic constructor
+     *
+     * @param cursor       underlying cursor
+     * @param withinBounds checks whether a tuple is within the bounds
+     * @param ordered      true if the underlying cursor returns the tuples in ascending order of the bounded values
+     */
+    public BoundedCursor(TarantoolCursor<T> cursor, Predicate<? super T> withinBounds, boolean ordered) {
+        Assert.notNull(cursor, "Cursor should not be null");
+        Assert.notNull(withinBounds, "Bounds predicate should not be null");
+        this.cursor = cursor;
+        this.withinBounds = withinBounds;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public boolean next() throws TarantoolClientException {
+        while (!finished && cursor.next()) {
+            if (withinBounds.test(cursor.get())) {
+                return true;
+            }
+            // the rest of the tuples are out of the bounds too
+            finished = ordered;
+        }
+        finished = true;
+        return false;
+    }
+
+    @Override
+    public T get() throws TarantoolSpaceOperationException {
+        if (finished) {
+            throw new TarantoolSpaceOperationException(
+                "Unexpected cursor state: check that next() is called");
+        }
+        return cursor.get();
+    }
+
+    @Override
+    public T copy() throws TarantoolSpaceOperationException {
+        if (finished) {
+            throw new TarantoolSpaceOperationException(
+                "Unexpected cursor state: check that next() is called");
+        }
+        return cursor.copy();
+    }
+}
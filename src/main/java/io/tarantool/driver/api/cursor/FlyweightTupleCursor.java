@@ -0,0 +1,127 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleView;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolSpaceOperationException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Cursor implementation which returns the same {@link TarantoolTupleView} for all tuples, moving it over the raw
+ * rows of the current batch. The tuple fields are decoded only when they are accessed, so iterating through a space
+ * does not create an object for each tuple.
+ * <p>
+ * The tuple returned by {@link #get()} is valid only until the next call of {@link #next()}. Use {@link #copy()} for
+ * keeping the current tuple.
+ * <p>
+ * The batches are fetched either with 'limit' and 'offset' (standalone server) or with 'after' (cluster) conditions.
+ * <p>
+ * See {@link TarantoolCursor} for more details on cursors.
+ */
+public class FlyweightTupleCursor extends TarantoolCursorBase<TarantoolTuple, TarantoolResult<TarantoolTuple>> {
+
+    private static final ArrayValue EMPTY_ROWS = ValueFactory.emptyArray();
+
+    private final Function<Conditions, CompletableFuture<ArrayValue>> rowsSelector;
+    private final Conditions initConditions;
+    private final boolean useStartAfter;
+    private final MessagePackMapper mapper;
+    private final TarantoolTupleView view;
+
+    // size of a batch for single invocation of client
+    private final long batchSize;
+    private long spaceOffset;
+
+    private ArrayValue rows = EMPTY_ROWS;
+    private int row = -1;
+    private boolean hasCurrent;
+    private TarantoolTuple lastTuple;
+
+    /**
+     * Basic constructor
+     *
+     * @param rowsSelector  performs a select with the specified conditions and returns the raw array of tuples
+     * @param conditions    query with options
+     * @param batchSize     size of a batch of single client request
+     * @param mapper        provides conversion between MessagePack values and Java objects
+     * @param spaceMetadata space metadata, may be null
+     * @param useStartAfter use 'after' conditions for fetching the next batches instead of 'offset'
+     */
+    public FlyweightTupleCursor(
+        Function<Conditions, CompletableFuture<ArrayValue>> rowsSelector,
+        Conditions conditions,
+        int batchSize,
+        MessagePackMapper mapper,
+        TarantoolSpaceMetadata spaceMetadata,
+        boolean useStartAfter) {
+        Assert.notNull(rowsSelector, "Rows selector should not be null");
+        this.rowsSelector = rowsSelector;
+        this.initConditions = conditions;
+        this.batchSize = batchSize;
+        this.spaceOffset = 0;
+        this.mapper = mapper;
+        this.useStartAfter = useStartAfter;
+        this.view = new TarantoolTupleView(mapper, spaceMetadata);
+    }
+
+    @Override
+    protected void fetchNextTuples() throws TarantoolClientException {
+        long limit = calcLimit(initConditions.getLimit(), batchSize, spaceOffset);
+        if (limit <= 0) {
+            return;
+        }
+
+        Conditions conditions = new Conditions(initConditions).withLimit(limit);
+        if (!useStartAfter) {
+            conditions.withOffset(spaceOffset);
+        } else if (lastTuple != null) {
+            conditions.startAfter(lastTuple, mapper::toValue);
+        }
+
+        try {
+            rows = rowsSelector.apply(conditions).get();
+            row = -1;
+        } catch (InterruptedException | ExecutionException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    protected boolean advanceIterator() {
+        if (row + 1 < rows.size()) {
+            row++;
+            view.reposition(rows, row);
+            hasCurrent = true;
+            spaceOffset += 1;
+            return true;
+        }
+        if (hasCurrent) {
+            if (useStartAfter) {
+                lastTuple = view.copy();
+            }
+            hasCurrent = false;
+        }
+        return false;
+    }
+
+    @Override
+    protected TarantoolTuple getCurrentValue() {
+        return hasCurrent ? view : null;
+    }
+
+    @Override
+    public TarantoolTuple copy() throws TarantoolSpaceOperationException {
+        get();
+        return view.copy();
+    }
+}
@@ -0,0 +1,118 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Cursor implementation for the standalone server spaces which fetches the first batch with the initial conditions
+ * and each next batch with a GT (or LT for descending scans) iterator over the key of the last received tuple.
+ * Unlike {@link OffsetCursor}, the server does not walk through the skipped tuples for each batch, so the cost of
+ * fetching a batch does not depend on its position in the space.
+ * <p>
+ * The scanned index must be unique, otherwise the tuples with the same key as the last tuple of a batch are skipped.
+ * <p>
+ * See {@link TarantoolCursor} for more details on cursors.
+ *
+ * @param <T> tuple type
+ * @param <R> tuple collection type
+ */
+public class IndexKeyCursor<T extends Packable, R extends Collection<T>> extends TarantoolCursorBase<T, R> {
+
+    private final Function<Conditions, CompletableFuture<R>> selector;
+    private final Conditions initConditions;
+    private final int indexId;
+    private final boolean descending;
+    private final Function<T, List<?>> keyExtractor;
+
+    // size of a batch for single invocation of client
+    private final long batchSize;
+    private long spaceOffset;
+    private boolean exhausted;
+
+    private Iterator<T> resultIter = Collections.emptyIterator();
+    private T currentValue;
+    private T lastTuple;
+
+    /**
+     * Basic constructor
+     *
+     * @param selector     performs a select with the specified conditions
+     * @param conditions   query with options
+     * @param batchSize    size of a batch of single client request
+     * @param indexId      ID of the unique index scanned by the query
+     * @param descending   true if the query returns the tuples in descending order of the index key
+     * @param keyExtractor extracts the values of the index key parts from a tuple
+     */
+    public IndexKeyCursor(
+        Function<Conditions, CompletableFuture<R>> selector,
+        Conditions conditions,
+        int batchSize,
+        int indexId,
+        boolean descending,
+        Function<T, List<?>> keyExtractor) {
+        Assert.notNull(selector, "Selector should not be null");
+        Assert.notNull(keyExtractor, "Key extractor should not be null");
+        this.selector = selector;
+        this.initConditions = conditions;
+        this.batchSize = batchSize;
+        this.indexId = indexId;
+        this.descending = descending;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    protected void fetchNextTuples() throws TarantoolClientException {
+        long limit = calcLimit(initConditions.getLimit(), batchSize, spaceOffset);
+        if (exhausted || limit <= 0) {
+            return;
+        }
+
+        Conditions conditions;
+        if (lastTuple == null) {
+            conditions = new Conditions(initConditions).withLimit(limit);
+        } else {
+            List<?> key = keyExtractor.apply(lastTuple);
+            conditions = descending ?
+                Conditions.indexLessThan(indexId, key) :
+                Conditions.indexGreaterThan(indexId, key);
+            conditions.withLimit(limit);
+        }
+
+        try {
+            R result = selector.apply(conditions).get();
+            exhausted = result.size() < limit;
+            resultIter = result.iterator();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    protected boolean advanceIterator() {
+        if (resultIter.hasNext()) {
+            currentValue = resultIter.next();
+            spaceOffset += 1;
+            return true;
+        }
+        if (currentValue != null) {
+            lastTuple = currentValue;
+            currentValue = null;
+        }
+        return false;
+    }
+
+    @Override
+    protected T getCurrentValue() {
+        return currentValue;
+    }
+}
@@ -0,0 +1,245 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Scan of a space split into independent partitions, each of them iterated by its own cursor. The partitions are
+ * scanned concurrently, so the requests of different partitions are sent over the client connections in parallel
+ * according to the connection selection strategy, and the scan is not limited by the latency of a single stream.
+ * <p>
+ * The partitions are specified as {@link Conditions} which must not overlap, for example ranges of a key field or,
+ * for the cluster spaces, ranges of the 'bucket_id' field (see {@link #bucketRanges(int, int)}). The box spaces
+ * select the tuples by the lower bound of a range and check its upper bound on the client side, stopping the scan of
+ * a partition at the first tuple out of the range if the tuples are ordered by the range field.
+ * <p>
+ * The partitions are scanned on the specified executor, the result is available either as a {@link Stream} or as
+ * per-partition consumers:
+ * <pre>
+ * <code>
+ * PartitionedScan&lt;TarantoolTuple&gt; scan = space.partitionedScan(PartitionedScan.bucketRanges(30000, 16));
+ * try (Stream&lt;TarantoolTuple&gt; tuples = scan.stream(executor)) {
+ *     long count = tuples.filter(...).count();
+ * }
+ * scan.forEachPartition(partition -&gt; writers.get(partition)::write, executor).join();
+ * </code>
+ * </pre>
+ *
+ * @param <T> tuple type
+ */
+public class PartitionedScan<T extends Packable> {
+
+    private static final String BUCKET_ID_FIELD = "bucket_id";
+
+    private final Function<Conditions, ? extends TarantoolCursor<T>> cursorFactory;
+    private final List<Conditions> partitions;
+
+    /**
+     * Basic constructor
+     *
+     * @param cursorFactory creates a cursor for a partition
+     * @param partitions    non-overlapping partition conditions
+     */
+    public PartitionedScan(Function<Conditions, ? extends TarantoolCursor<T>> cursorFactory,
+                           List<Conditions> partitions) {
+        Assert.notNull(cursorFactory, "Cursor factory should not be null");
+        Assert.notNull(partitions, "Partitions should not be null");
+        this.cursorFactory = cursorFactory;
+        this.partitions = Collections.unmodifiableList(new ArrayList<>(partitions));
+    }
+
+    /**
+     * Split the range of values of a numeric field into partitions of equal size. The last partition includes
+     * the remainder of the range.
+     *
+     * @param fieldName  field name
+     * @param from       lower bound of the range, inclusive
+     * @param to         upper bound of the range, exclusive
+     * @param partitions number of partitions
+     * @return partition conditions
+     */
+    public static List<Conditions> fieldRanges(String fieldName, long from, long to, int partitions) {
+        Assert.hasText(fieldName, "Field name should not be empty");
+        Assert.state(from < to, "Lower bound of the range should be less than the upper bound");
+        Assert.state(partitions > 0, "Number of partitions should be greater than 0");
+        long size = Math.max(1, (to - from) / partitions);
+        List<Conditions> result = new ArrayList<>(partitions);
+        for (long lower = from; lower < to && result.size() < partitions; lower += size) {
+            long upper = result.size() == partitions - 1 ? to : Math.min(lower + size, to);
+            result.add(Conditions.greaterOrEquals(fieldName, lower).andLessThan(fieldName, upper));
+        }
+        return result;
+    }
+
+    /**
+     * Split the buckets of a cluster into partitions by the 'bucket_id' field
+     *
+     * @param bucketCount total number of buckets in the cluster
+     * @param partitions  number of partitions
+     * @return partition conditions
+     */
+    public static List<Conditions> bucketRanges(int bucketCount, int partitions) {
+        Assert.state(bucketCount > 0, "Bucket count should be greater than 0");
+        // bucket ids start with 1
+        return fieldRanges(BUCKET_ID_FIELD, 1, bucketCount + 1L, partitions);
+    }
+
+    /**
+     * Get the partition conditions
+     *
+     * @return unmodifiable list of conditions
+     */
+    public List<Conditions> getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Create a stream of the tuples of all partitions. The partitions are scanned concurrently on the specified
+     * executor, and the stream returns the tuples in the order they are received. The tuples not consumed yet are
+     * buffered up to a fixed limit, so the partition scans are suspended while the stream consumer is behind.
+     * <p>
+     * The stream should be closed if it is not consumed completely, so that the scans of the remaining partitions
+     * are stopped.
+     *
+     * @param executor executor for scanning the partitions, each partition occupies a thread until its scan
+     *                 is finished
+     * @return stream of tuples, may be turned into a parallel one for processing the tuples in parallel
+     */
+    public Stream<T> stream(Executor executor) {
+        Assert.notNull(executor, "Executor should not be null");
+        MergingSpliterator<T> spliterator = new MergingSpliterator<>(partitions.size());
+        for (Conditions partition : partitions) {
+            CompletableFuture.runAsync(() -> spliterator.scan(cursorFactory.apply(partition)), executor)
+                .whenComplete((v, e) -> spliterator.finish(e));
+        }
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Scan all partitions concurrently, passing the tuples of each partition to its own consumer. The consumer of
+     * a partition is called from one thread at a time, so it does not need to be thread-safe.
+     *
+     * @param consumerFactory creates a consumer for the partition with the specified index
+     * @param executor        executor for scanning the partitions, each partition occupies a thread until its scan
+     *                        is finished
+     * @return a future with the total number of tuples, completed exceptionally if any partition scan fails
+     */
+    public CompletableFuture<Long> forEachPartition(
+        IntFunction<? extends Consumer<? super T>> consumerFactory, Executor executor) {
+        Assert.notNull(consumerFactory, "Consumer factory should not be null");
+        Assert.notNull(executor, "Executor should not be null");
+        List<CompletableFuture<Long>> scans = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            int partition = i;
+            scans.add(CompletableFuture.supplyAsync(() -> {
+                Consumer<? super T> consumer = consumerFactory.apply(partition);
+                TarantoolCursor<T> cursor = cursorFactory.apply(partitions.get(partition));
+                long count = 0;
+                while (cursor.next()) {
+                    consumer.accept(cursor.get());
+                    count++;
+                }
+                return count;
+            }, executor));
+        }
+        return CompletableFuture.allOf(scans.toArray(new CompletableFuture<?>[0]))
+            .thenApply(v -> scans.stream().mapToLong(CompletableFuture::join).sum());
+    }
+
+    private static final class MergingSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private static final int BUFFER_SIZE = 1024;
+        private static final long OFFER_TIMEOUT_MILLIS = 100;
+        // marks the end of a partition scan
+        private static final Object END = new Object();
+
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(BUFFER_SIZE);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        // the scans are stopped after a failure, the items are dropped when the stream is closed
+        private volatile boolean cancelled;
+        private volatile boolean closed;
+        private int remainingPartitions;
+
+        MergingSpliterator(int partitions) {
+            super(Long.MAX_VALUE, NONNULL);
+            this.remainingPartitions = partitions;
+        }
+
+        void scan(TarantoolCursor<?> cursor) {
+            while (!cancelled && cursor.next()) {
+                put(cursor.copy());
+            }
+        }
+
+        void finish(Throwable error) {
+            if (error != null) {
+                failure.compareAndSet(null, error instanceof CompletionException ? error.getCause() : error);
+                cancelled = true;
+            }
+            put(END);
+        }
+
+        void close() {
+            cancelled = true;
+            closed = true;
+        }
+
+        private void put(Object item) {
+            try {
+                while (!queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (closed || cancelled && item != END) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TarantoolClientException(e);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (remainingPartitions > 0) {
+                Object item;
+                try {
+                    item = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TarantoolClientException(e);
+                }
+                if (item != END) {
+                    action.accept((T) item);
+                    return true;
+                }
+                remainingPartitions--;
+                Throwable error = failure.get();
+                if (error != null) {
+                    close();
+                    throw error instanceof RuntimeException ?
+                        (RuntimeException) error : new TarantoolClientException(error);
+                }
+            }
+            return false;
+        }
+    }
+}
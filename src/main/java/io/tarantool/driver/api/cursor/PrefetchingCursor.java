@@ -0,0 +1,204 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Cursor implementation which requests the next batches asynchronously while the current one is being consumed,
+ * so the iteration does not stall for a full round trip after each batch.
+ * <p>
+ * When a batch is taken for iteration, the cursor sends the requests for up to 'prefetch depth' next batches.
+ * The number of batches in flight is also limited so that the current and the prefetched batches together do not
+ * exceed 'max buffered tuples'. If the limit is less than two batches, the cursor works like a regular one.
+ * <p>
+ * The batches are fetched either with 'limit' and 'offset' (standalone server) or with 'after' (cluster) conditions.
+ * In the latter case each request depends on the last tuple of the previous batch, so the requests are chained and
+ * sent as soon as the previous batch is received. In the former case the requests are independent, so up to
+ * 'prefetch depth' requests may be sent beyond the end of the data before a short batch is received.
+ * <p>
+ * See {@link TarantoolCursor} for more details on cursors.
+ *
+ * @param <T> tuple type
+ * @param <R> tuple collection type
+ */
+public class PrefetchingCursor<T extends Packable, R extends Collection<T>> extends TarantoolCursorBase<T, R> {
+
+    private final Function<Conditions, CompletableFuture<R>> selector;
+    private final Conditions initConditions;
+    private final boolean useStartAfter;
+    private final MessagePackMapper mapper;
+    private final int prefetchDepth;
+
+    // size of a batch for single invocation of client
+    private final long batchSize;
+    // count of tuples requested by the sent batches
+    private long requestedOffset;
+
+    private final Deque<PendingBatch<R>> pending = new ArrayDeque<>();
+    private PendingBatch<R> lastRequested;
+    private boolean exhausted;
+
+    private Iterator<T> resultIter = Collections.emptyIterator();
+    private T currentValue;
+
+    /**
+     * Basic constructor
+     *
+     * @param selector          performs a select with the specified conditions
+     * @param conditions        query with options
+     * @param batchSize         size of a batch of single client request
+     * @param prefetchDepth     maximum number of batches requested ahead of the current one
+     * @param maxBufferedTuples maximum number of tuples in the current and the prefetched batches
+     * @param mapper            provides conversion between MessagePack values and Java objects
+     * @param useStartAfter     use 'after' conditions for fetching the next batches instead of 'offset'
+     */
+    public PrefetchingCursor(
+        Function<Conditions, CompletableFuture<R>> selector,
+        Conditions conditions,
+        int batchSize,
+        int prefetchDepth,
+        int maxBufferedTuples,
+        MessagePackMapper mapper,
+        boolean useStartAfter) {
+        Assert.notNull(selector, "Selector should not be null");
+        Assert.state(batchSize > 0, "Batch size should be greater than 0");
+        Assert.state(prefetchDepth >= 0, "Prefetch depth should not be negative");
+        Assert.state(maxBufferedTuples > 0, "Max buffered tuples should be greater than 0");
+        this.selector = selector;
+        this.initConditions = conditions;
+        this.batchSize = batchSize;
+        this.prefetchDepth = Math.min(prefetchDepth, Math.max(0, maxBufferedTuples / batchSize - 1));
+        this.mapper = mapper;
+        this.useStartAfter = useStartAfter;
+    }
+
+    @Override
+    protected void fetchNextTuples() throws TarantoolClientException {
+        if (pending.isEmpty()) {
+            requestBatches(1);
+        }
+        PendingBatch<R> batch = pending.poll();
+        if (batch == null) {
+            return;
+        }
+        // send the requests for the next batches before waiting for the current one
+        requestBatches(prefetchDepth);
+
+        R result;
+        try {
+            result = batch.future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            cancelPending();
+            throw new TarantoolClientException(e);
+        }
+        if (result == null || result.size() < batch.limit) {
+            cancelPending();
+        }
+        if (result != null) {
+            resultIter = result.iterator();
+        }
+    }
+
+    private void requestBatches(int count) {
+        if (lastRequested != null && isShortBatch(lastRequested)) {
+            exhausted = true;
+        }
+        while (!exhausted && pending.size() < count) {
+            long limit = calcLimit(initConditions.getLimit(), batchSize, requestedOffset);
+            if (limit <= 0) {
+                exhausted = true;
+                return;
+            }
+            CompletableFuture<R> future;
+            if (useStartAfter) {
+                PendingBatch<R> previous = lastRequested;
+                if (previous == null) {
+                    future = selector.apply(new Conditions(initConditions).withLimit(limit));
+                } else {
+                    long previousLimit = previous.limit;
+                    future = previous.future.thenCompose(result -> {
+                        if (result == null || result.size() < previousLimit) {
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        Conditions conditions = new Conditions(initConditions).withLimit(limit);
+                        conditions.startAfter(lastTuple(result), mapper::toValue);
+                        return selector.apply(conditions);
+                    });
+                }
+            } else {
+                future = selector.apply(new Conditions(initConditions)
+                    .withLimit(limit)
+                    .withOffset(requestedOffset));
+            }
+            lastRequested = new PendingBatch<>(future, limit);
+            pending.add(lastRequested);
+            requestedOffset += limit;
+        }
+    }
+
+    private boolean isShortBatch(PendingBatch<R> batch) {
+        if (!batch.future.isDone() || batch.future.isCompletedExceptionally()) {
+            return false;
+        }
+        R result = batch.future.join();
+        return result == null || result.size() < batch.limit;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T lastTuple(R result) {
+        if (result instanceof List) {
+            return ((List<T>) result).get(result.size() - 1);
+        }
+        T last = null;
+        for (T tuple : result) {
+            last = tuple;
+        }
+        return last;
+    }
+
+    private void cancelPending() {
+        exhausted = true;
+        for (PendingBatch<R> batch : pending) {
+            batch.future.cancel(false);
+        }
+        pending.clear();
+    }
+
+    @Override
+    protected boolean advanceIterator() {
+        if (resultIter.hasNext()) {
+            currentValue = resultIter.next();
+            return true;
+        }
+        currentValue = null;
+        return false;
+    }
+
+    @Override
+    protected T getCurrentValue() {
+        return currentValue;
+    }
+
+    private static final class PendingBatch<R> {
+        private final CompletableFuture<R> future;
+        private final long limit;
+
+        PendingBatch(CompletableFuture<R> future, long limit) {
+            this.future = future;
+            this.limit = limit;
+        }
+    }
+}
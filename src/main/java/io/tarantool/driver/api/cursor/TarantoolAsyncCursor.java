@@ -0,0 +1,37 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous cursor interface which allows forward-only iteration through query results batch by batch
+ * without blocking the calling thread.
+ * <p>
+ * The next batch must be requested only after the previous one is completed.
+ * <p>
+ * Warning: 'TarantoolAsyncCursor' cursors are not thread-safe.
+ *
+ * @param <T> tuple type
+ * @param <R> tuple collection type
+ */
+public interface TarantoolAsyncCursor<T extends Packable, R extends Collection<T>> {
+
+    /**
+     * Check whether there may be more tuples to fetch. Returns false after a batch shorter than the batch size is
+     * received or the query limit is reached.
+     *
+     * @return true if the next batch should be requested
+     */
+    boolean hasNext();
+
+    /**
+     * Fetch the next batch of tuples. The last batch may be empty.
+     *
+     * @return a future with the next batch
+     * @throws TarantoolClientException if there are no more batches or the previous batch is not completed yet
+     */
+    CompletableFuture<R> nextBatch() throws TarantoolClientException;
+}
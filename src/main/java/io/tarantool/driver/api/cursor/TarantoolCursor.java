@@ -27,4 +27,16 @@ public interface TarantoolCursor<T extends Packable> {
      * @throws TarantoolSpaceOperationException when no data is available
      */
     T get() throws TarantoolSpaceOperationException;
+
+    /**
+     * Get the current element as an object which remains valid after the cursor moves to the next element.
+     * The cursors reusing a single object for all elements return its copy, the other cursors return the same
+     * element as {@link #get()}.
+     *
+     * @return current element or its copy
+     * @throws TarantoolSpaceOperationException when no data is available
+     */
+    default T copy() throws TarantoolSpaceOperationException {
+        return get();
+    }
 }
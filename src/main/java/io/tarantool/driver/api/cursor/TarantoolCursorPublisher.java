@@ -0,0 +1,164 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Publisher of the tuples of a query, which maps the subscriber demand to the batch requests of an
+ * {@link TarantoolAsyncCursor}. The batches are requested only when the subscriber requested more tuples than are
+ * left in the current batch, and no thread is blocked waiting for them.
+ * <p>
+ * The publisher and its {@link TarantoolCursorSubscription} follow the Reactive Streams signalling rules, so they can
+ * be adapted to {@code org.reactivestreams.Publisher} or {@code java.util.concurrent.Flow.Publisher}, for example:
+ * <pre>
+ * <code>
+ * Publisher&lt;TarantoolTuple&gt; reactivePublisher = subscriber -&gt; {
+ *     TarantoolCursorSubscription subscription = publisher.subscribe(
+ *         subscriber::onNext, subscriber::onError, subscriber::onComplete);
+ *     subscriber.onSubscribe(new Subscription() {
+ *         public void request(long n) { subscription.request(n); }
+ *         public void cancel() { subscription.cancel(); }
+ *     });
+ * };
+ * </code>
+ * </pre>
+ * Each subscription uses a new cursor, so the query is executed again for each subscriber.
+ *
+ * @param <T> tuple type
+ */
+public class TarantoolCursorPublisher<T extends Packable> {
+
+    private final Supplier<? extends TarantoolAsyncCursor<T, ?>> cursorSupplier;
+
+    /**
+     * Basic constructor
+     *
+     * @param cursorSupplier creates a new cursor for each subscription
+     */
+    public TarantoolCursorPublisher(Supplier<? extends TarantoolAsyncCursor<T, ?>> cursorSupplier) {
+        Assert.notNull(cursorSupplier, "Cursor supplier should not be null");
+        this.cursorSupplier = cursorSupplier;
+    }
+
+    /**
+     * Subscribe to the tuples. No tuples are fetched until they are requested with
+     * {@link TarantoolCursorSubscription#request(long)}.
+     *
+     * @param onNext     receives the tuples in order
+     * @param onError    receives the error of a batch request, no more signals are sent after it
+     * @param onComplete called after all tuples are delivered, no more signals are sent after it
+     * @return subscription for requesting the tuples
+     */
+    public TarantoolCursorSubscription subscribe(
+        Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Assert.notNull(onNext, "onNext callback should not be null");
+        Assert.notNull(onError, "onError callback should not be null");
+        Assert.notNull(onComplete, "onComplete callback should not be null");
+        return new CursorSubscription<>(cursorSupplier.get(), onNext, onError, onComplete);
+    }
+
+    private static final class CursorSubscription<T extends Packable> implements TarantoolCursorSubscription {
+
+        private final TarantoolAsyncCursor<T, ?> cursor;
+        private final Consumer<? super T> onNext;
+        private final Consumer<? super Throwable> onError;
+        private final Runnable onComplete;
+
+        private final AtomicLong demand = new AtomicLong();
+        // serializes the signals to the subscriber, see drain()
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile Iterator<T> batch = Collections.emptyIterator();
+        private volatile boolean fetching;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private boolean done;
+
+        CursorSubscription(
+            TarantoolAsyncCursor<T, ?> cursor,
+            Consumer<? super T> onNext,
+            Consumer<? super Throwable> onError,
+            Runnable onComplete) {
+            this.cursor = cursor;
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested number of tuples must be greater than 0");
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!cancelled && !done) {
+                    if (error != null) {
+                        done = true;
+                        onError.accept(error);
+                    } else if (batch.hasNext()) {
+                        if (demand.get() == 0) {
+                            break;
+                        }
+                        demand.decrementAndGet();
+                        onNext.accept(batch.next());
+                    } else if (fetching) {
+                        break;
+                    } else if (!cursor.hasNext()) {
+                        done = true;
+                        onComplete.run();
+                    } else if (demand.get() == 0) {
+                        break;
+                    } else {
+                        fetchNextBatch();
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void fetchNextBatch() {
+            fetching = true;
+            CompletableFuture<? extends Iterable<T>> future;
+            try {
+                future = cursor.nextBatch();
+            } catch (RuntimeException e) {
+                error = e;
+                fetching = false;
+                return;
+            }
+            future.whenComplete((tuples, ex) -> {
+                if (ex != null) {
+                    error = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                } else {
+                    batch = tuples.iterator();
+                }
+                fetching = false;
+                drain();
+            });
+        }
+    }
+}
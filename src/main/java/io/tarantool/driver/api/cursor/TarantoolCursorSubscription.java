@@ -0,0 +1,21 @@
+package io.tarantool.driver.api.cursor;
+
+/**
+ * Subscription to the tuples of a {@link TarantoolCursorPublisher}. Follows the semantics of the Reactive Streams
+ * {@code Subscription}, so it can be adapted to it directly.
+ */
+public interface TarantoolCursorSubscription {
+
+    /**
+     * Request more tuples. The tuples are delivered to the subscriber as soon as they are fetched, a new batch is
+     * requested from the server only if there is unsatisfied demand.
+     *
+     * @param n number of tuples, must be greater than 0
+     */
+    void request(long n);
+
+    /**
+     * Stop delivering the tuples. The batch being fetched is not interrupted, but its tuples are not delivered.
+     */
+    void cancel();
+}
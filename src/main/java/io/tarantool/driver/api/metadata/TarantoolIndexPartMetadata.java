@@ -26,4 +26,13 @@ public interface TarantoolIndexPartMetadata<T> {
      * @return path inside field (may be null)
      */
     T getPath();
+
+    /**
+     * Get the is_nullable parameter of the index part
+     *
+     * @return true if the indexed field may contain nil values
+     */
+    default boolean isNullable() {
+        return false;
+    }
 }
@@ -1,6 +1,8 @@
 package io.tarantool.driver.api.metadata;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -64,4 +66,23 @@ public interface TarantoolSpaceMetadata extends Serializable {
      * @return field name or null if this field not found in format metadata
      */
     Optional<String> getFieldNameByPosition(int fieldPosition);
+
+    /**
+     * Get names of the sharding key fields specified in the DDL schema of a cluster space
+     *
+     * @return field names or an empty list if the sharding key is not specified and the primary key is used
+     */
+    default List<String> getShardingKey() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Get the sharding function specified in the DDL schema of a cluster space, either a function name, e.g.
+     * {@code vshard.router.bucket_id_mpcrc32}, or a function body
+     *
+     * @return sharding function or empty if the default function is used
+     */
+    default Optional<String> getShardingFunction() {
+        return Optional.empty();
+    }
 }
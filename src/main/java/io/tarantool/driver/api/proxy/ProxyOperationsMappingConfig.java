@@ -18,7 +18,15 @@ public final class ProxyOperationsMappingConfig {
     public static final String SELECT_FUNCTION = CRUD_PREFIX + "select";
     public static final String UPDATE_FUNCTION = CRUD_PREFIX + "update";
     public static final String UPSERT_FUNCTION = CRUD_PREFIX + "upsert";
+    public static final String UPSERT_MANY_FUNCTION = CRUD_PREFIX + "upsert_many";
     public static final String TRUNCATE_FUNCTION = CRUD_PREFIX + "truncate";
+    public static final String GET_FUNCTION = CRUD_PREFIX + "get";
+    public static final String COUNT_FUNCTION = CRUD_PREFIX + "count";
+    public static final String LEN_FUNCTION = CRUD_PREFIX + "len";
+    public static final String MIN_FUNCTION = CRUD_PREFIX + "min";
+    public static final String MAX_FUNCTION = CRUD_PREFIX + "max";
+    public static final String BUCKET_COUNT_FUNCTION = "vshard.router.bucket_count";
+    public static final String STORAGE_OPERATION_FUNCTION = "direct_storage_operation";
 
     private final String schemaFunctionName;
     private final String deleteFunctionName;
@@ -28,8 +36,16 @@ public final class ProxyOperationsMappingConfig {
     private final String replaceManyFunctionName;
     private final String updateFunctionName;
     private final String upsertFunctionName;
+    private final String upsertManyFunctionName;
     private final String selectFunctionName;
     private final String truncateFunctionName;
+    private final String getFunctionName;
+    private final String countFunctionName;
+    private final String lenFunctionName;
+    private final String minFunctionName;
+    private final String maxFunctionName;
+    private final String bucketCountFunctionName;
+    private final String storageOperationFunctionName;
 
     /**
      * Get API function name for getting the spaces and indexes schema. The default value is
@@ -109,6 +125,16 @@ public final class ProxyOperationsMappingConfig {
         return upsertFunctionName;
     }
 
+    /**
+     * Get API function name for performing the upsert_many operation.
+     * The default value is <code>crud.upsert_many</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getUpsertManyFunctionName() {
+        return upsertManyFunctionName;
+    }
+
     /**
      * Get API function name for performing the select operation. The default value is <code>crud.select</code>.
      *
@@ -127,12 +153,81 @@ public final class ProxyOperationsMappingConfig {
         return truncateFunctionName;
     }
 
+    /**
+     * Get API function name for performing the get operation. The default value is <code>crud.get</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getGetFunctionName() {
+        return getFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the count operation. The default value is <code>crud.count</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getCountFunctionName() {
+        return countFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the len operation. The default value is <code>crud.len</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getLenFunctionName() {
+        return lenFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the min operation. The default value is <code>crud.min</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getMinFunctionName() {
+        return minFunctionName;
+    }
+
+    /**
+     * Get API function name for performing the max operation. The default value is <code>crud.max</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getMaxFunctionName() {
+        return maxFunctionName;
+    }
+
+    /**
+     * Get API function name for getting the total number of buckets in the cluster, used for computing the bucket
+     * ids on the client side. The default value is <code>vshard.router.bucket_count</code>.
+     *
+     * @return a callable API function name
+     */
+    public String getBucketCountFunctionName() {
+        return bucketCountFunctionName;
+    }
+
+    /**
+     * Get the name of the function defined on the storages for executing the operations sent directly to them,
+     * skipping the router. The default value is <code>direct_storage_operation</code>.
+     *
+     * @return a callable storage function name
+     */
+    public String getStorageOperationFunctionName() {
+        return storageOperationFunctionName;
+    }
+
     private ProxyOperationsMappingConfig(
         String schemaFunctionName, String deleteFunctionName,
         String insertFunctionName, String insertManyFunctionName,
         String replaceFunctionName, String replaceManyFunctionName,
         String updateFunctionName, String upsertFunctionName,
-        String selectFunctionName, String truncateFunctionName) {
+        String upsertManyFunctionName, String selectFunctionName,
+        String truncateFunctionName, String getFunctionName,
+        String countFunctionName, String lenFunctionName,
+        String minFunctionName, String maxFunctionName,
+        String bucketCountFunctionName, String storageOperationFunctionName) {
         this.schemaFunctionName = schemaFunctionName;
         this.deleteFunctionName = deleteFunctionName;
         this.insertFunctionName = insertFunctionName;
@@ -141,8 +236,16 @@ public final class ProxyOperationsMappingConfig {
         this.replaceManyFunctionName = replaceManyFunctionName;
         this.updateFunctionName = updateFunctionName;
         this.upsertFunctionName = upsertFunctionName;
+        this.upsertManyFunctionName = upsertManyFunctionName;
         this.selectFunctionName = selectFunctionName;
         this.truncateFunctionName = truncateFunctionName;
+        this.getFunctionName = getFunctionName;
+        this.countFunctionName = countFunctionName;
+        this.lenFunctionName = lenFunctionName;
+        this.minFunctionName = minFunctionName;
+        this.maxFunctionName = maxFunctionName;
+        this.bucketCountFunctionName = bucketCountFunctionName;
+        this.storageOperationFunctionName = storageOperationFunctionName;
     }
 
     /**
@@ -167,8 +270,16 @@ public final class ProxyOperationsMappingConfig {
         private String replaceManyFunctionName = REPLACE_MANY_FUNCTION;
         private String updateFunctionName = UPDATE_FUNCTION;
         private String upsertFunctionName = UPSERT_FUNCTION;
+        private String upsertManyFunctionName = UPSERT_MANY_FUNCTION;
         private String selectFunctionName = SELECT_FUNCTION;
         private String truncateFunctionName = TRUNCATE_FUNCTION;
+        private String getFunctionName = GET_FUNCTION;
+        private String countFunctionName = COUNT_FUNCTION;
+        private String lenFunctionName = LEN_FUNCTION;
+        private String minFunctionName = MIN_FUNCTION;
+        private String maxFunctionName = MAX_FUNCTION;
+        private String bucketCountFunctionName = BUCKET_COUNT_FUNCTION;
+        private String storageOperationFunctionName = STORAGE_OPERATION_FUNCTION;
 
         /**
          * Set API function name for getting the spaces and indexes schema.
@@ -261,6 +372,17 @@ public final class ProxyOperationsMappingConfig {
             return this;
         }
 
+        /**
+         * Get API function name for performing the upsert_many operation
+         *
+         * @param upsertManyFunctionName name for stored function performing upsert_many operation
+         * @return a callable API function name
+         */
+        public Builder withUpsertManyFunctionName(String upsertManyFunctionName) {
+            this.upsertManyFunctionName = upsertManyFunctionName;
+            return this;
+        }
+
         /**
          * Get API function name for performing the select operation
          *
@@ -283,6 +405,83 @@ public final class ProxyOperationsMappingConfig {
             return this;
         }
 
+        /**
+         * Set API function name for performing the get operation
+         *
+         * @param getFunctionName name for stored function performing get operation
+         * @return a callable API function name
+         */
+        public Builder withGetFunctionName(String getFunctionName) {
+            this.getFunctionName = getFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for performing the count operation
+         *
+         * @param countFunctionName name for stored function performing count operation
+         * @return a callable API function name
+         */
+        public Builder withCountFunctionName(String countFunctionName) {
+            this.countFunctionName = countFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for performing the len operation
+         *
+         * @param lenFunctionName name for stored function performing len operation
+         * @return a callable API function name
+         */
+        public Builder withLenFunctionName(String lenFunctionName) {
+            this.lenFunctionName = lenFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for performing the min operation
+         *
+         * @param minFunctionName name for stored function performing min operation
+         * @return a callable API function name
+         */
+        public Builder withMinFunctionName(String minFunctionName) {
+            this.minFunctionName = minFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for performing the max operation
+         *
+         * @param maxFunctionName name for stored function performing max operation
+         * @return a callable API function name
+         */
+        public Builder withMaxFunctionName(String maxFunctionName) {
+            this.maxFunctionName = maxFunctionName;
+            return this;
+        }
+
+        /**
+         * Set API function name for getting the total number of buckets in the cluster
+         *
+         * @param bucketCountFunctionName name for stored function returning the number of buckets
+         * @return a callable API function name
+         */
+        public Builder withBucketCountFunctionName(String bucketCountFunctionName) {
+            this.bucketCountFunctionName = bucketCountFunctionName;
+            return this;
+        }
+
+        /**
+         * Set the name of the function defined on the storages for executing the operations sent directly to them
+         *
+         * @param storageOperationFunctionName name for stored function executing an operation on a storage
+         * @return a callable API function name
+         */
+        public Builder withStorageOperationFunctionName(String storageOperationFunctionName) {
+            this.storageOperationFunctionName = storageOperationFunctionName;
+            return this;
+        }
+
         /**
          * Build a new {@link ProxyOperationsMappingConfig} instance
          *
@@ -291,7 +490,9 @@ public final class ProxyOperationsMappingConfig {
         public ProxyOperationsMappingConfig build() {
             return new ProxyOperationsMappingConfig(schemaFunctionName, deleteFunctionName, insertFunctionName,
                 insertManyFunctionName, replaceFunctionName, replaceManyFunctionName, updateFunctionName,
-                upsertFunctionName, selectFunctionName, truncateFunctionName);
+                upsertFunctionName, upsertManyFunctionName, selectFunctionName, truncateFunctionName,
+                getFunctionName, countFunctionName, lenFunctionName, minFunctionName, maxFunctionName,
+                bucketCountFunctionName, storageOperationFunctionName);
         }
     }
 }
@@ -1,22 +1,38 @@
 package io.tarantool.driver.api.space;
 
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.cursor.BatchSizePolicy;
+import io.tarantool.driver.api.cursor.PartitionedScan;
+import io.tarantool.driver.api.cursor.TarantoolAsyncCursor;
 import io.tarantool.driver.api.cursor.TarantoolCursor;
+import io.tarantool.driver.api.cursor.TarantoolCursorPublisher;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.api.space.options.CountOptions;
 import io.tarantool.driver.api.space.options.DeleteOptions;
+import io.tarantool.driver.api.space.options.GetOptions;
 import io.tarantool.driver.api.space.options.InsertOptions;
 import io.tarantool.driver.api.space.options.InsertManyOptions;
+import io.tarantool.driver.api.space.options.LenOptions;
+import io.tarantool.driver.api.space.options.MinMaxOptions;
 import io.tarantool.driver.api.space.options.ReplaceOptions;
 import io.tarantool.driver.api.space.options.ReplaceManyOptions;
 import io.tarantool.driver.api.space.options.SelectOptions;
 import io.tarantool.driver.api.space.options.UpdateOptions;
+import io.tarantool.driver.api.space.options.UpsertManyOptions;
 import io.tarantool.driver.api.space.options.UpsertOptions;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Tarantool space operations interface (create, insert, replace, delete...)
@@ -159,6 +175,169 @@ public interface TarantoolSpaceOperations<T extends Packable, R extends Collecti
         return select(conditions);
     }
 
+    /**
+     * Select tuples matching the specified query and pass them to the consumer one by one. For the spaces of
+     * {@link io.tarantool.driver.api.tuple.TarantoolTuple} the tuples are not collected into a result: each of them
+     * is decoded from the raw response data right before passing it to the consumer, so only the current tuple is
+     * kept in memory in addition to the response data.
+     * <p>
+     * The consumer is invoked after the whole response is received, in the executor specified with
+     * {@link io.tarantool.driver.api.TarantoolClientConfig.Builder#withConsumerExecutor} or, by default, in the
+     * Netty event loop thread which received the response. In the latter case the consumer must not block, since
+     * it delays the other responses handled by that thread.
+     *
+     * @param conditions query with options
+     * @param consumer   consumer of the selected tuples
+     * @return a future that will contain the number of consumed tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<Long> selectForEach(Conditions conditions, Consumer<? super T> consumer)
+        throws TarantoolClientException {
+        return select(conditions).thenApply(result -> {
+            result.forEach(consumer);
+            return (long) result.size();
+        });
+    }
+
+    /**
+     * Select tuples matching the specified query as a columnar result. The field values are decoded into columns
+     * by the field types from the space format, see {@link TarantoolColumnarResult}.
+     *
+     * @param conditions query with options
+     * @return a future that will contain the columns of the selected tuples once completed
+     * @throws TarantoolClientException      in case if the request failed
+     * @throws UnsupportedOperationException if the space does not support columnar results
+     */
+    default CompletableFuture<TarantoolColumnarResult> selectColumnar(Conditions conditions)
+        throws TarantoolClientException {
+        throw new UnsupportedOperationException("Columnar results are not supported for this space");
+    }
+
+    /**
+     * Get a tuple by the primary key. Only a single primary index value condition is supported. For the proxy
+     * spaces this operation is mapped to {@code crud.get}, which is lighter than a select on the router.
+     *
+     * @param conditions query with options
+     * @return a future that will contain the found tuple or an empty result once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> get(Conditions conditions) throws TarantoolClientException {
+        return select(conditions);
+    }
+
+    /**
+     * Get a tuple by the primary key with the specified options.
+     *
+     * @param conditions query with options
+     * @param options    operation options
+     * @return a future that will contain the found tuple or an empty result once completed
+     * @throws TarantoolClientException in case if the request failed
+     * @see #get(Conditions)
+     */
+    default CompletableFuture<R> get(Conditions conditions, GetOptions<?> options) throws TarantoolClientException {
+        return get(conditions);
+    }
+
+    /**
+     * Count the tuples matching the specified query without transferring them to the client. For the proxy spaces
+     * the tuples are counted on the storages by {@code crud.count}, for the standalone server spaces by
+     * {@code index:count()}.
+     *
+     * @param conditions query with options
+     * @return a future that will contain the number of matching tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException {
+        throw new UnsupportedOperationException("Counting tuples is not supported by this space");
+    }
+
+    /**
+     * Count the tuples matching the specified query with the specified options.
+     *
+     * @param conditions query with options
+     * @param options    operation options
+     * @return a future that will contain the number of matching tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     * @see #count(Conditions)
+     */
+    default CompletableFuture<Long> count(Conditions conditions, CountOptions<?> options)
+        throws TarantoolClientException {
+        return count(conditions);
+    }
+
+    /**
+     * Get the number of tuples in the space. For the proxy spaces this operation is mapped to {@code crud.len}, for
+     * the standalone server spaces to {@code space:len()}.
+     *
+     * @return a future that will contain the number of tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<Long> len() throws TarantoolClientException {
+        return count(Conditions.any());
+    }
+
+    /**
+     * Get the number of tuples in the space with the specified options.
+     *
+     * @param options operation options
+     * @return a future that will contain the number of tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     * @see #len()
+     */
+    default CompletableFuture<Long> len(LenOptions<?> options) throws TarantoolClientException {
+        return len();
+    }
+
+    /**
+     * Get the tuple with the minimal key of the specified index. For the proxy spaces this operation is mapped to
+     * {@code crud.min}.
+     *
+     * @param indexName index name
+     * @return a future that will contain the found tuple or an empty result once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> min(String indexName) throws TarantoolClientException {
+        return select(Conditions.indexGreaterOrEquals(indexName, Collections.emptyList()).withLimit(1));
+    }
+
+    /**
+     * Get the tuple with the minimal key of the specified index with the specified options.
+     *
+     * @param indexName index name
+     * @param options   operation options
+     * @return a future that will contain the found tuple or an empty result once completed
+     * @throws TarantoolClientException in case if the request failed
+     * @see #min(String)
+     */
+    default CompletableFuture<R> min(String indexName, MinMaxOptions<?> options) throws TarantoolClientException {
+        return min(indexName);
+    }
+
+    /**
+     * Get the tuple with the maximal key of the specified index. For the proxy spaces this operation is mapped to
+     * {@code crud.max}.
+     *
+     * @param indexName index name
+     * @return a future that will contain the found tuple or an empty result once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> max(String indexName) throws TarantoolClientException {
+        return select(Conditions.indexLessOrEquals(indexName, Collections.emptyList()).withLimit(1));
+    }
+
+    /**
+     * Get the tuple with the maximal key of the specified index with the specified options.
+     *
+     * @param indexName index name
+     * @param options   operation options
+     * @return a future that will contain the found tuple or an empty result once completed
+     * @throws TarantoolClientException in case if the request failed
+     * @see #max(String)
+     */
+    default CompletableFuture<R> max(String indexName, MinMaxOptions<?> options) throws TarantoolClientException {
+        return max(indexName);
+    }
+
     /**
      * Update a tuple. Only a single primary index value condition is supported.
      *
@@ -234,6 +413,137 @@ public interface TarantoolSpaceOperations<T extends Packable, R extends Collecti
         return upsert(conditions, tuple, operations);
     }
 
+    /**
+     * Insert a collection of tuples into the space, or update the tuples with the same primary key values if they
+     * already exist.
+     * <p>
+     * For the proxy spaces this operation is mapped to {@code crud.upsert_many} and is performed in one request with
+     * {@code stop_on_error} and {@code rollback_on_error} enabled, so the upserts on a storage are rolled back and the
+     * rest of the tuples are not processed if upserting of any tuple fails. Note that {@code crud.upsert_many} itself
+     * disables both options by default. Use {@link #upsertMany(Collection, Function, UpsertManyOptions)} for other
+     * values.
+     * <p>
+     * For the other spaces the single upsert requests are sent at once without waiting for the previous results, so
+     * the whole batch takes about one network round trip. The operation is not atomic: if upserting of some tuples
+     * fails, the other upserts stay applied, and the returned future is completed exceptionally with one of the
+     * errors. Call {@link #upsert(Conditions, Packable, TupleOperations)} for each tuple if the result of every
+     * upsert is needed.
+     *
+     * @param tuples     new data that will be inserted if the tuples do not exist, must not be empty
+     * @param operations provides the list of update operations to be performed if a tuple exists
+     * @return a future that will contain an empty list once all tuples are upserted
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> upsertMany(Collection<T> tuples, Function<? super T, TupleOperations> operations)
+        throws TarantoolClientException {
+        if (tuples.isEmpty()) {
+            throw new IllegalArgumentException("Tuples must not be empty");
+        }
+        CompletableFuture<?>[] results = new CompletableFuture<?>[tuples.size()];
+        CompletableFuture<R> last = null;
+        int i = 0;
+        for (T tuple : tuples) {
+            // the key is taken from the tuple, the conditions are ignored by upsert
+            last = upsert(Conditions.any(), tuple, operations.apply(tuple));
+            results[i++] = last;
+        }
+        CompletableFuture<R> lastResult = last;
+        return CompletableFuture.allOf(results).thenCompose(v -> lastResult);
+    }
+
+    /**
+     * Insert a collection of tuples into the space, or update the tuples with the same primary key values if they
+     * already exist, in one request. For the proxy spaces the specified options are passed to
+     * {@code crud.upsert_many} as is, so the crud defaults apply to the {@code stop_on_error} and
+     * {@code rollback_on_error} options which are not set.
+     *
+     * @param tuples     new data that will be inserted if the tuples do not exist
+     * @param operations provides the list of update operations to be performed if a tuple exists
+     * @param options    operation options
+     * @return a future that will contain an empty list
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default CompletableFuture<R> upsertMany(
+        Collection<T> tuples, Function<? super T, TupleOperations> operations, UpsertManyOptions<?> options)
+        throws TarantoolClientException {
+        return upsertMany(tuples, operations);
+    }
+
+    /**
+     * Update several tuples. The requests are sent at once without waiting for the previous results, so the whole
+     * batch takes about one network round trip. Only a single primary index value condition is supported for each
+     * tuple.
+     *
+     * @param operations pairs of the conditions selecting a tuple and the list of update operations for it
+     * @return the futures that will contain the updated tuples, in the order of the operations
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default List<CompletableFuture<R>> updateMany(List<? extends Map.Entry<Conditions, TupleOperations>> operations)
+        throws TarantoolClientException {
+        List<CompletableFuture<R>> results = new ArrayList<>(operations.size());
+        for (Map.Entry<Conditions, TupleOperations> entry : operations) {
+            results.add(update(entry.getKey(), entry.getValue()));
+        }
+        return results;
+    }
+
+    /**
+     * Update several tuples. The requests are sent at once without waiting for the previous results, so the whole
+     * batch takes about one network round trip. Only a single primary index value condition is supported for each
+     * tuple.
+     *
+     * @param operations pairs of the conditions selecting a tuple and the list of update operations for it
+     * @param options    operation options
+     * @return the futures that will contain the updated tuples, in the order of the operations
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default List<CompletableFuture<R>> updateMany(
+        List<? extends Map.Entry<Conditions, TupleOperations>> operations, UpdateOptions<?> options)
+        throws TarantoolClientException {
+        List<CompletableFuture<R>> results = new ArrayList<>(operations.size());
+        for (Map.Entry<Conditions, TupleOperations> entry : operations) {
+            results.add(update(entry.getKey(), entry.getValue(), options));
+        }
+        return results;
+    }
+
+    /**
+     * Delete several tuples. The requests are sent at once without waiting for the previous results, so the whole
+     * batch takes about one network round trip. Only a single primary index value condition is supported for each
+     * tuple.
+     *
+     * @param conditions queries selecting the tuples
+     * @return the futures that will contain the removed tuples, in the order of the conditions
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default List<CompletableFuture<R>> deleteMany(Collection<Conditions> conditions)
+        throws TarantoolClientException {
+        List<CompletableFuture<R>> results = new ArrayList<>(conditions.size());
+        for (Conditions condition : conditions) {
+            results.add(delete(condition));
+        }
+        return results;
+    }
+
+    /**
+     * Delete several tuples. The requests are sent at once without waiting for the previous results, so the whole
+     * batch takes about one network round trip. Only a single primary index value condition is supported for each
+     * tuple.
+     *
+     * @param conditions queries selecting the tuples
+     * @param options    operation options
+     * @return the futures that will contain the removed tuples, in the order of the conditions
+     * @throws TarantoolClientException in case if the request failed
+     */
+    default List<CompletableFuture<R>> deleteMany(Collection<Conditions> conditions, DeleteOptions<?> options)
+        throws TarantoolClientException {
+        List<CompletableFuture<R>> results = new ArrayList<>(conditions.size());
+        for (Conditions condition : conditions) {
+            results.add(delete(condition, options));
+        }
+        return results;
+    }
+
     /**
      * Truncate space if space would be found. Otherwise, throw space not found error.
      *
@@ -271,4 +581,153 @@ public interface TarantoolSpaceOperations<T extends Packable, R extends Collecti
      * @return cursor that can iterate through all corresponding tuples
      */
     TarantoolCursor<T> cursor(Conditions conditions);
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#cursor(Conditions, int)}, but the cursor returns the same tuple object
+     * for all tuples, moving it over the raw data of the current batch. The tuple is valid only until the next call
+     * of {@link TarantoolCursor#next()}, use {@link TarantoolCursor#copy()} for keeping it.
+     * <p>
+     * Supported only for the spaces of {@link io.tarantool.driver.api.tuple.TarantoolTuple}.
+     *
+     * @param conditions query with options
+     * @param batchSize  size of a batch of single client request
+     * @return cursor that can iterate through all corresponding tuples
+     * @throws UnsupportedOperationException if the space tuple type does not support reusable tuples
+     */
+    default TarantoolCursor<T> flyweightCursor(Conditions conditions, int batchSize) {
+        throw new UnsupportedOperationException("Reusable tuple cursors are not supported for this space");
+    }
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#flyweightCursor(Conditions, int)} but uses the default batch size.
+     *
+     * @param conditions query with options
+     * @return cursor that can iterate through all corresponding tuples
+     * @throws UnsupportedOperationException if the space tuple type does not support reusable tuples
+     */
+    default TarantoolCursor<T> flyweightCursor(Conditions conditions) {
+        throw new UnsupportedOperationException("Reusable tuple cursors are not supported for this space");
+    }
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#cursor(Conditions, int)}, but the cursor requests the next batches
+     * asynchronously while the current one is being consumed, so the iteration does not wait for a round trip
+     * after each batch.
+     *
+     * @param conditions        query with options
+     * @param batchSize         size of a batch of single client request
+     * @param prefetchDepth     maximum number of batches requested ahead of the current one
+     * @param maxBufferedTuples maximum number of tuples in the current and the prefetched batches
+     * @return cursor that can iterate through all corresponding tuples
+     * @throws UnsupportedOperationException if the space does not support prefetching cursors
+     */
+    default TarantoolCursor<T> prefetchingCursor(
+        Conditions conditions, int batchSize, int prefetchDepth, int maxBufferedTuples) {
+        throw new UnsupportedOperationException("Prefetching cursors are not supported for this space");
+    }
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#prefetchingCursor(Conditions, int, int, int)} but uses the default
+     * batch size, prefetch depth and maximum number of buffered tuples from the client configuration.
+     *
+     * @param conditions query with options
+     * @return cursor that can iterate through all corresponding tuples
+     * @throws UnsupportedOperationException if the space does not support prefetching cursors
+     */
+    default TarantoolCursor<T> prefetchingCursor(Conditions conditions) {
+        throw new UnsupportedOperationException("Prefetching cursors are not supported for this space");
+    }
+
+    /**
+     * Asynchronous cursor fetching the tuples matching the specified query batch by batch without blocking the
+     * calling thread. Each request to server will fetch no more than 'batch size' tuples.
+     *
+     * @param conditions query with options
+     * @param batchSize  size of a batch of single client request
+     * @return cursor that can fetch all corresponding tuples
+     * @throws UnsupportedOperationException if the space does not support asynchronous cursors
+     */
+    default TarantoolAsyncCursor<T, R> asyncCursor(Conditions conditions, int batchSize) {
+        throw new UnsupportedOperationException("Asynchronous cursors are not supported for this space");
+    }
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#asyncCursor(Conditions, int)} but uses the default batch size.
+     *
+     * @param conditions query with options
+     * @return cursor that can fetch all corresponding tuples
+     * @throws UnsupportedOperationException if the space does not support asynchronous cursors
+     */
+    default TarantoolAsyncCursor<T, R> asyncCursor(Conditions conditions) {
+        throw new UnsupportedOperationException("Asynchronous cursors are not supported for this space");
+    }
+
+    /**
+     * Publisher of the tuples matching the specified query. The subscriber demand is mapped to the batch requests
+     * of an {@link TarantoolSpaceOperations#asyncCursor(Conditions, int)} cursor, which is created for each
+     * subscription.
+     *
+     * @param conditions query with options
+     * @param batchSize  size of a batch of single client request
+     * @return publisher of all corresponding tuples
+     * @throws UnsupportedOperationException if the space does not support asynchronous cursors
+     */
+    default TarantoolCursorPublisher<T> publisher(Conditions conditions, int batchSize) {
+        asyncCursor(conditions, batchSize);
+        return new TarantoolCursorPublisher<>(() -> asyncCursor(conditions, batchSize));
+    }
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#publisher(Conditions, int)} but uses the default batch size.
+     *
+     * @param conditions query with options
+     * @return publisher of all corresponding tuples
+     * @throws UnsupportedOperationException if the space does not support asynchronous cursors
+     */
+    default TarantoolCursorPublisher<T> publisher(Conditions conditions) {
+        asyncCursor(conditions);
+        return new TarantoolCursorPublisher<>(() -> asyncCursor(conditions));
+    }
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#cursor(Conditions, int)}, but the size of each batch is provided by the
+     * specified policy, which receives the size and the latency of the previous batches. Use
+     * {@link io.tarantool.driver.api.cursor.AdaptiveBatchSizePolicy} for adjusting the batch size to a target
+     * response size and latency.
+     *
+     * @param conditions      query with options
+     * @param batchSizePolicy provides the size of each batch
+     * @return cursor that can iterate through all corresponding tuples
+     * @throws UnsupportedOperationException if the space does not support adaptive cursors
+     */
+    default TarantoolCursor<T> adaptiveCursor(Conditions conditions, BatchSizePolicy batchSizePolicy) {
+        throw new UnsupportedOperationException("Adaptive cursors are not supported for this space");
+    }
+
+    /**
+     * Same as {@link TarantoolSpaceOperations#adaptiveCursor(Conditions, BatchSizePolicy)} but uses a new
+     * {@link io.tarantool.driver.api.cursor.AdaptiveBatchSizePolicy} with the default settings, starting with
+     * the default batch size.
+     *
+     * @param conditions query with options
+     * @return cursor that can iterate through all corresponding tuples
+     * @throws UnsupportedOperationException if the space does not support adaptive cursors
+     */
+    default TarantoolCursor<T> adaptiveCursor(Conditions conditions) {
+        throw new UnsupportedOperationException("Adaptive cursors are not supported for this space");
+    }
+
+    /**
+     * Scan of the space split into the specified partitions, which are iterated concurrently by independent
+     * {@link TarantoolSpaceOperations#prefetchingCursor(Conditions)} cursors.
+     *
+     * @param partitions non-overlapping partition conditions, e.g. key or bucket ranges
+     * @return scan that can iterate through all tuples of the partitions in parallel
+     * @throws UnsupportedOperationException on iteration if the space does not support prefetching cursors
+     * @see PartitionedScan#bucketRanges(int, int)
+     * @see PartitionedScan#fieldRanges(String, long, long, int)
+     */
+    default PartitionedScan<T> partitionedScan(List<Conditions> partitions) {
+        return new PartitionedScan<>(conditions -> prefetchingCursor(conditions), partitions);
+    }
 }
@@ -0,0 +1,20 @@
+package io.tarantool.driver.api.space.options;
+
+import io.tarantool.driver.api.space.options.crud.OperationWithBalanceOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithBucketIdOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithForceMapCallOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithFullScanOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithModeOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithPreferReplicaOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithTimeoutOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithVshardRouterOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithYieldEveryOptions;
+
+/**
+ * Marker interface for space count operation options
+ */
+public interface CountOptions<T extends CountOptions<T>>
+    extends OperationWithBucketIdOptions<T>, OperationWithTimeoutOptions<T>, OperationWithModeOptions<T>,
+            OperationWithPreferReplicaOptions<T>, OperationWithBalanceOptions<T>, OperationWithYieldEveryOptions<T>,
+            OperationWithForceMapCallOptions<T>, OperationWithFullScanOptions<T>, OperationWithVshardRouterOptions<T> {
+}
@@ -0,0 +1,19 @@
+package io.tarantool.driver.api.space.options;
+
+import io.tarantool.driver.api.space.options.crud.OperationWithBalanceOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithBucketIdOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithFetchLatestMetadataOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithFieldsOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithModeOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithPreferReplicaOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithTimeoutOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithVshardRouterOptions;
+
+/**
+ * Marker interface for space get operation options
+ */
+public interface GetOptions<T extends GetOptions<T>>
+    extends OperationWithBucketIdOptions<T>, OperationWithTimeoutOptions<T>, OperationWithFieldsOptions<T>,
+            OperationWithModeOptions<T>, OperationWithPreferReplicaOptions<T>, OperationWithBalanceOptions<T>,
+            OperationWithVshardRouterOptions<T>, OperationWithFetchLatestMetadataOptions<T> {
+}
@@ -0,0 +1,11 @@
+package io.tarantool.driver.api.space.options;
+
+import io.tarantool.driver.api.space.options.crud.OperationWithTimeoutOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithVshardRouterOptions;
+
+/**
+ * Marker interface for space len operation options
+ */
+public interface LenOptions<T extends LenOptions<T>>
+    extends OperationWithTimeoutOptions<T>, OperationWithVshardRouterOptions<T> {
+}
@@ -0,0 +1,15 @@
+package io.tarantool.driver.api.space.options;
+
+import io.tarantool.driver.api.space.options.crud.OperationWithFetchLatestMetadataOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithFieldsOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithModeOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithTimeoutOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithVshardRouterOptions;
+
+/**
+ * Marker interface for space min and max operation options
+ */
+public interface MinMaxOptions<T extends MinMaxOptions<T>>
+    extends OperationWithTimeoutOptions<T>, OperationWithFieldsOptions<T>, OperationWithModeOptions<T>,
+            OperationWithVshardRouterOptions<T>, OperationWithFetchLatestMetadataOptions<T> {
+}
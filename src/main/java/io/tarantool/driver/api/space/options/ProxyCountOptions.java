@@ -0,0 +1,25 @@
+package io.tarantool.driver.api.space.options;
+
+/**
+ * Represent options for count cluster proxy operation
+ */
+public final class ProxyCountOptions extends BaseOptions
+    implements CountOptions<ProxyCountOptions> {
+
+    private ProxyCountOptions() {
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @return new options instance
+     */
+    public static ProxyCountOptions create() {
+        return new ProxyCountOptions();
+    }
+
+    @Override
+    public ProxyCountOptions self() {
+        return this;
+    }
+}
@@ -0,0 +1,25 @@
+package io.tarantool.driver.api.space.options;
+
+/**
+ * Represent options for get cluster proxy operation
+ */
+public final class ProxyGetOptions extends BaseOptions
+    implements GetOptions<ProxyGetOptions> {
+
+    private ProxyGetOptions() {
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @return new options instance
+     */
+    public static ProxyGetOptions create() {
+        return new ProxyGetOptions();
+    }
+
+    @Override
+    public ProxyGetOptions self() {
+        return this;
+    }
+}
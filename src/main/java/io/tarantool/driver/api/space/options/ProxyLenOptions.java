@@ -0,0 +1,25 @@
+package io.tarantool.driver.api.space.options;
+
+/**
+ * Represent options for len cluster proxy operation
+ */
+public final class ProxyLenOptions extends BaseOptions
+    implements LenOptions<ProxyLenOptions> {
+
+    private ProxyLenOptions() {
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @return new options instance
+     */
+    public static ProxyLenOptions create() {
+        return new ProxyLenOptions();
+    }
+
+    @Override
+    public ProxyLenOptions self() {
+        return this;
+    }
+}
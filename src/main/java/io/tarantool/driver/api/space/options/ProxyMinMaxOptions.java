@@ -0,0 +1,25 @@
+package io.tarantool.driver.api.space.options;
+
+/**
+ * Represent options for min and max cluster proxy operation
+ */
+public final class ProxyMinMaxOptions extends BaseOptions
+    implements MinMaxOptions<ProxyMinMaxOptions> {
+
+    private ProxyMinMaxOptions() {
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @return new options instance
+     */
+    public static ProxyMinMaxOptions create() {
+        return new ProxyMinMaxOptions();
+    }
+
+    @Override
+    public ProxyMinMaxOptions self() {
+        return this;
+    }
+}
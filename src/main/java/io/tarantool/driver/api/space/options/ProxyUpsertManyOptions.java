@@ -0,0 +1,25 @@
+package io.tarantool.driver.api.space.options;
+
+/**
+ * Represent options for upsert_many cluster proxy operation
+ */
+public final class ProxyUpsertManyOptions extends BaseOptions
+    implements UpsertManyOptions<ProxyUpsertManyOptions> {
+
+    private ProxyUpsertManyOptions() {
+    }
+
+    /**
+     * Create new instance.
+     *
+     * @return new options instance
+     */
+    public static ProxyUpsertManyOptions create() {
+        return new ProxyUpsertManyOptions();
+    }
+
+    @Override
+    public ProxyUpsertManyOptions self() {
+        return this;
+    }
+}
@@ -0,0 +1,17 @@
+package io.tarantool.driver.api.space.options;
+
+import io.tarantool.driver.api.space.options.crud.OperationWithFetchLatestMetadataOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithFieldsOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithRollbackOnErrorOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithStopOnErrorOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithTimeoutOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithVshardRouterOptions;
+
+/**
+ * Marker interface for space upsert_many operation options
+ */
+public interface UpsertManyOptions<T extends UpsertManyOptions<T>>
+    extends OperationWithTimeoutOptions<T>, OperationWithFieldsOptions<T>, OperationWithRollbackOnErrorOptions<T>,
+            OperationWithStopOnErrorOptions<T>, OperationWithVshardRouterOptions<T>,
+            OperationWithFetchLatestMetadataOptions<T> {
+}
@@ -0,0 +1,79 @@
+package io.tarantool.driver.api.tuple;
+
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.value.ImmutableStringValue;
+import org.msgpack.value.ValueFactory;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded dictionary of string field values. Identical UTF-8 byte sequences are decoded only once and the resulting
+ * value and {@link String} instances are shared by all tuples, which is useful for low-cardinality fields like
+ * status or country codes.
+ * <p>
+ * When the dictionary reaches the maximum size, the new values are decoded as usual and are not added to it.
+ * The dictionary is thread-safe.
+ * <p>
+ * The dictionary is applied only to the {@link TarantoolTuple} results decoding their fields lazily from the raw
+ * response data. The POJO, columnar and custom converter results, as well as the tuples built from already decoded
+ * values, don't use it.
+ */
+public final class StringDictionary {
+
+    private final int maxSize;
+    private final ConcurrentHashMap<ByteBuffer, ImmutableStringValue> values = new ConcurrentHashMap<>();
+
+    /**
+     * Basic constructor
+     *
+     * @param maxSize maximum number of distinct values in the dictionary
+     */
+    public StringDictionary(int maxSize) {
+        Assert.state(maxSize > 0, "Dictionary size must be greater than 0");
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the shared string value for the specified bytes, adding it to the dictionary if it is not full
+     *
+     * @param bytes UTF-8 bytes of the string between the buffer position and limit, the buffer is not modified
+     * @return string value
+     */
+    public ImmutableStringValue get(ByteBuffer bytes) {
+        ImmutableStringValue value = values.get(bytes);
+        if (value != null) {
+            return value;
+        }
+        byte[] data = new byte[bytes.remaining()];
+        bytes.duplicate().get(data);
+        value = ValueFactory.newString(data);
+        // decode the string before the value is shared between threads
+        value.toString();
+        if (values.size() < maxSize) {
+            ImmutableStringValue existing = values.putIfAbsent(ByteBuffer.wrap(data), value);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Get the number of values in the dictionary
+     *
+     * @return number of distinct values
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Get the maximum number of values in the dictionary
+     *
+     * @return maximum number of distinct values
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
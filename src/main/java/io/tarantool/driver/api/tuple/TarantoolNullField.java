@@ -2,9 +2,12 @@ package io.tarantool.driver.api.tuple;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Represents a field with empty value which serializes to {@code msgpack.NULL}
  *
@@ -22,6 +25,11 @@ public final class TarantoolNullField implements TarantoolField {
         return ValueFactory.newNil();
     }
 
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.packNil();
+    }
+
     @Override
     public <O> O getValue(Class<O> targetClass, MessagePackValueMapper mapper) {
         return null;
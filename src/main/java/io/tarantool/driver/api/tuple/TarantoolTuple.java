@@ -1,6 +1,9 @@
 package io.tarantool.driver.api.tuple;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +15,10 @@ import io.tarantool.driver.protocol.Packable;
 
 /**
  * Basic Tarantool atom of data
+ * <p>
+ * The tuples received from Tarantool decode their fields lazily from their own copy of the tuple bytes, so they don't
+ * keep the rest of the response in memory. The tuples created over a shared buffer, e.g. the copies of a
+ * {@code TarantoolTupleView} created before the view is moved, can be detached from it with {@link #compact()}.
  *
  * @author Alexey Kuzin
  */
@@ -155,6 +162,58 @@ public interface TarantoolTuple extends Iterable<TarantoolField>, Packable {
      */
     byte[] getByteArray(String fieldName);
 
+    /**
+     * Get the binary or string field contents as a read-only buffer. For the tuples received from the server the
+     * buffer is a view of the response data, so the field contents are not copied. The buffer keeps the response
+     * data in memory until it is no longer referenced, so it does not require releasing. The default implementation
+     * wraps the value returned by {@link #getByteArray(int)}.
+     *
+     * @param fieldPosition the field position from the tuple start, starting from 0
+     * @return read-only buffer or null if the field is absent or nil
+     */
+    default ByteBuffer getByteBuffer(int fieldPosition) {
+        byte[] bytes = getByteArray(fieldPosition);
+        return bytes != null ? ByteBuffer.wrap(bytes).asReadOnlyBuffer() : null;
+    }
+
+    /**
+     * Get the binary or string field contents as a read-only buffer
+     *
+     * @param fieldName the field name, must not be null
+     * @return read-only buffer or null if the field is absent or nil
+     * @see #getByteBuffer(int)
+     */
+    default ByteBuffer getByteBuffer(String fieldName) {
+        byte[] bytes = getByteArray(fieldName);
+        return bytes != null ? ByteBuffer.wrap(bytes).asReadOnlyBuffer() : null;
+    }
+
+    /**
+     * Get a stream for reading the binary or string field contents. For the tuples received from the server the
+     * field contents are not copied. The default implementation reads the value returned by
+     * {@link #getByteArray(int)}.
+     *
+     * @param fieldPosition the field position from the tuple start, starting from 0
+     * @return input stream or null if the field is absent or nil
+     * @see #getByteBuffer(int)
+     */
+    default InputStream getInputStream(int fieldPosition) {
+        byte[] bytes = getByteArray(fieldPosition);
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
+    /**
+     * Get a stream for reading the binary or string field contents
+     *
+     * @param fieldName the field name, must not be null
+     * @return input stream or null if the field is absent or nil
+     * @see #getByteBuffer(int)
+     */
+    default InputStream getInputStream(String fieldName) {
+        byte[] bytes = getByteArray(fieldName);
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
     /**
      * Get the field value converted to {@code Boolean}
      *
@@ -235,6 +294,131 @@ public interface TarantoolTuple extends Iterable<TarantoolField>, Packable {
      */
     Long getLong(String fieldName);
 
+    /**
+     * Check whether the field value is nil or the field is absent. The default implementation decodes the field
+     * value.
+     *
+     * @param fieldPosition the field position from the tuple start, starting from 0
+     * @return true if the field is nil or the field position is out of tuple length
+     */
+    default boolean isNull(int fieldPosition) {
+        return !getObject(fieldPosition).isPresent();
+    }
+
+    /**
+     * Check whether the field value is nil or the field is absent
+     *
+     * @param fieldName the field name, must not be null
+     * @return true if the field is nil or does not exist
+     */
+    default boolean isNull(String fieldName) {
+        return !getObject(fieldName).isPresent();
+    }
+
+    /**
+     * Get the field value as {@code long}. The tuples received from the server read the MessagePack integer
+     * values directly without boxing, the other types are converted using the tuple mapper.
+     *
+     * @param fieldPosition the field position from the tuple start, starting from 0
+     * @param defaultValue  the value returned if the field is nil or absent
+     * @return value
+     */
+    default long getLong(int fieldPosition, long defaultValue) {
+        Long value = getLong(fieldPosition);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get the field value as {@code long}. The tuples received from the server read the MessagePack integer
+     * values directly without boxing, the other types are converted using the tuple mapper.
+     *
+     * @param fieldName    the field name, must not be null
+     * @param defaultValue the value returned if the field is nil or absent
+     * @return value
+     */
+    default long getLong(String fieldName, long defaultValue) {
+        Long value = getLong(fieldName);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get the field value as {@code int}. The tuples received from the server read the MessagePack integer
+     * values directly without boxing, the other types are converted using the tuple mapper.
+     *
+     * @param fieldPosition the field position from the tuple start, starting from 0
+     * @param defaultValue  the value returned if the field is nil or absent
+     * @return value
+     */
+    default int getInt(int fieldPosition, int defaultValue) {
+        Integer value = getInteger(fieldPosition);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get the field value as {@code int}. The tuples received from the server read the MessagePack integer
+     * values directly without boxing, the other types are converted using the tuple mapper.
+     *
+     * @param fieldName    the field name, must not be null
+     * @param defaultValue the value returned if the field is nil or absent
+     * @return value
+     */
+    default int getInt(String fieldName, int defaultValue) {
+        Integer value = getInteger(fieldName);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get the field value as {@code double}. The tuples received from the server read the MessagePack float
+     * values directly without boxing, the other types are converted using the tuple mapper.
+     *
+     * @param fieldPosition the field position from the tuple start, starting from 0
+     * @param defaultValue  the value returned if the field is nil or absent
+     * @return value
+     */
+    default double getDouble(int fieldPosition, double defaultValue) {
+        Double value = getDouble(fieldPosition);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get the field value as {@code double}. The tuples received from the server read the MessagePack float
+     * values directly without boxing, the other types are converted using the tuple mapper.
+     *
+     * @param fieldName    the field name, must not be null
+     * @param defaultValue the value returned if the field is nil or absent
+     * @return value
+     */
+    default double getDouble(String fieldName, double defaultValue) {
+        Double value = getDouble(fieldName);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get the field value as {@code boolean}. The tuples received from the server read the MessagePack boolean
+     * values directly without boxing, the other types are converted using the tuple mapper.
+     *
+     * @param fieldPosition the field position from the tuple start, starting from 0
+     * @param defaultValue  the value returned if the field is nil or absent
+     * @return value
+     */
+    default boolean getBoolean(int fieldPosition, boolean defaultValue) {
+        Boolean value = getBoolean(fieldPosition);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get the field value as {@code boolean}. The tuples received from the server read the MessagePack boolean
+     * values directly without boxing, the other types are converted using the tuple mapper.
+     *
+     * @param fieldName    the field name, must not be null
+     * @param defaultValue the value returned if the field is nil or absent
+     * @return value
+     */
+    default boolean getBoolean(String fieldName, boolean defaultValue) {
+        Boolean value = getBoolean(fieldName);
+        return value != null ? value : defaultValue;
+    }
+
     /**
      * Get the field value converted to {@code String}
      *
@@ -362,4 +546,13 @@ public interface TarantoolTuple extends Iterable<TarantoolField>, Packable {
      * @return value
      */
     Map<?, ?> getMap(String fieldName);
+
+    /**
+     * Get a tuple with the same contents which does not reference the response data the tuple was received in
+     *
+     * @return this tuple, if it doesn't reference the response data, or a copy of it
+     */
+    default TarantoolTuple compact() {
+        return this;
+    }
 }
@@ -12,21 +12,18 @@ import java.util.List;
 import java.nio.ByteBuffer;
 
 /**
- * Converts Tarantool server responses from MessagePack frames to Java objects
+ * Converts Tarantool server responses from MessagePack frames to Java objects. Each frame is copied into a separate
+ * byte array which backs the lazily decoded response data.
  *
  * @author Alexey Kuzin
  */
 public class MessagePackFrameDecoder extends ByteToMessageDecoder {
 
     private static final int MINIMAL_HEADER_SIZE = 5; // MP_UINT32
-    private static final int MINIMAL_BODY_SIZE = 1 * 1024 * 1024; // 1 MB
     private int size;
     private final ByteBuffer lenBuffer = ByteBuffer.allocateDirect(MINIMAL_HEADER_SIZE);
     private final ByteBufferInput lenBufferInput = new ByteBufferInput(lenBuffer);
     private final MessageUnpacker lenUnpacker = new MessagePack.UnpackerConfig().newUnpacker(lenBufferInput);
-    private final ByteBuffer bodyBuffer = ByteBuffer.allocateDirect(MINIMAL_BODY_SIZE);
-    private final ByteBufferInput bodyBufferInput = new ByteBufferInput(bodyBuffer);
-    private final MessageUnpacker bodyUnpacker = new MessagePack.UnpackerConfig().newUnpacker(bodyBufferInput);
 
     @Override
     protected void decode(ChannelHandlerContext channelHandlerContext, ByteBuf byteBuf, List<Object> list)
@@ -47,12 +44,9 @@ public class MessagePackFrameDecoder extends ByteToMessageDecoder {
             return;
         }
 
-        bodyBuffer.clear();
-        bodyBuffer.limit(size);
-        bodyBufferInput.reset(bodyBuffer);
-        bodyUnpacker.reset(bodyBufferInput);
-        byteBuf.readBytes(bodyBuffer);
-        list.add(TarantoolResponse.fromMessagePack(bodyUnpacker));
+        byte[] frame = new byte[size];
+        byteBuf.readBytes(frame);
+        list.add(TarantoolResponse.fromMessagePack(frame));
         size = 0;
     }
 }
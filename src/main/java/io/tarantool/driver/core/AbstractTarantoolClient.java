@@ -12,6 +12,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.netty.bootstrap.Bootstrap;
@@ -48,6 +49,7 @@ import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactory;
 import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactoryImpl;
 import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.RawMessagePack;
 import io.tarantool.driver.protocol.TarantoolProtocolException;
 import io.tarantool.driver.protocol.TarantoolRequestSignature;
 import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
@@ -73,9 +75,12 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
     private final ResultMapperFactoryFactoryImpl mapperFactoryFactory;
     private final Map<TarantoolRequestSignature, MessagePackObjectMapper> argumentsMapperCache;
     private final Map<TarantoolRequestSignature, MessagePackValueMapper> resultMapperCache;
+    private final TarantoolResultDecoder resultDecoder;
+    private final TarantoolResultDecoder consumerDecoder;
 
     private final SpacesMetadataProvider metadataProvider;
     private final ScheduledExecutorService timeoutScheduler;
+    private final boolean ownsExecutors;
     private TarantoolConnectionManager connectionManager;
 
     /**
@@ -113,6 +118,29 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
      * @see TarantoolClientConfig
      */
     public AbstractTarantoolClient(TarantoolClientConfig config, TarantoolConnectionListeners listeners) {
+        this(config, listeners, new NioEventLoopGroup(config.getEventLoopThreadsNumber()),
+            Executors.newSingleThreadScheduledExecutor(new TarantoolDaemonThreadFactory("tarantool-timeout")), true);
+    }
+
+    /**
+     * Create a client sharing the Netty event loop threads and the request timeout scheduler with another client.
+     * The shared executors are shut down only by the other client, so it must be closed after this client.
+     *
+     * @param config        the client configuration
+     * @param executorOwner the client owning the shared executors
+     * @see TarantoolClientConfig
+     */
+    protected AbstractTarantoolClient(TarantoolClientConfig config, AbstractTarantoolClient<?, ?> executorOwner) {
+        this(config, new TarantoolConnectionListeners(), executorOwner.eventLoopGroup,
+            executorOwner.timeoutScheduler, false);
+    }
+
+    private AbstractTarantoolClient(
+        TarantoolClientConfig config,
+        TarantoolConnectionListeners listeners,
+        NioEventLoopGroup eventLoopGroup,
+        ScheduledExecutorService timeoutScheduler,
+        boolean ownsExecutors) {
         Assert.notNull(config, "Tarantool client config must not be null");
         Assert.notNull(listeners, "Tarantool connection listeners must not be null");
 
@@ -120,7 +148,11 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         this.mapperFactoryFactory = new ResultMapperFactoryFactoryImpl();
         this.argumentsMapperCache = new ConcurrentHashMap<>();
         this.resultMapperCache = new ConcurrentHashMap<>();
-        this.eventLoopGroup = new NioEventLoopGroup(config.getEventLoopThreadsNumber());
+        this.resultDecoder = TarantoolResultDecoder.fromConfig(config);
+        this.consumerDecoder = config.getConsumerExecutor() == null ? resultDecoder :
+            TarantoolResultDecoder.async(config.getConsumerExecutor());
+        this.eventLoopGroup = eventLoopGroup;
+        this.ownsExecutors = ownsExecutors;
         this.bootstrap = new Bootstrap()
             .group(eventLoopGroup)
             .channel(NioSocketChannel.class)
@@ -128,8 +160,7 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
             .option(ChannelOption.SO_KEEPALIVE, true)
             .option(ChannelOption.TCP_NODELAY, true)
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout());
-        this.timeoutScheduler =
-            Executors.newSingleThreadScheduledExecutor(new TarantoolDaemonThreadFactory("tarantool-timeout"));
+        this.timeoutScheduler = timeoutScheduler;
         this.connectionFactory = new TarantoolConnectionFactory(config, this.bootstrap, this.timeoutScheduler);
         this.listeners = listeners;
         this.metadataProvider = new SpacesMetadataProvider(this, config.getMessagePackMapper());
@@ -399,6 +430,38 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
             .thenApply(CallResult::value);
     }
 
+    @Override
+    public <T> CompletableFuture<Long> callForEach(
+        String functionName,
+        Collection<?> arguments,
+        Class<T> entityClass,
+        Consumer<? super T> consumer)
+        throws TarantoolClientException {
+        // the consumer is invoked while the response is converted
+        return this.<CallResult<Long>>makeRequest(functionName, arguments, null, config::getMessagePackMapper,
+            () -> mapperFactoryFactory.rowConsumerResultMapper(config.getMessagePackMapper(), entityClass, consumer),
+            consumerDecoder)
+            .thenApply(CallResult::value);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> callRaw(String functionName, RawMessagePack arguments)
+        throws TarantoolClientException {
+        Assert.notNull(arguments, "Function arguments should not be null");
+        Assert.state(arguments.isArray(), "Function arguments should be a MessagePack array");
+        try {
+            TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+                .withFunctionName(functionName)
+                .withArguments(arguments)
+                .build(config.getMessagePackMapper());
+            return connectionManager().getConnection()
+                .thenCompose(c -> c.sendRequest(request).getFuture())
+                .thenApply(RawMessagePack::toByteArray);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
     @Override
     public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
         String functionName,
@@ -533,6 +596,18 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         Supplier<? extends MessagePackObjectMapper> argumentsMapperSupplier,
         Supplier<? extends MessagePackValueMapper> resultMapperSupplier)
         throws TarantoolClientException {
+        return makeRequest(
+            functionName, arguments, requestSignature, argumentsMapperSupplier, resultMapperSupplier, resultDecoder);
+    }
+
+    private <S> CompletableFuture<S> makeRequest(
+        String functionName,
+        Collection<?> arguments,
+        TarantoolRequestSignature requestSignature,
+        Supplier<? extends MessagePackObjectMapper> argumentsMapperSupplier,
+        Supplier<? extends MessagePackValueMapper> resultMapperSupplier,
+        TarantoolResultDecoder decoder)
+        throws TarantoolClientException {
         try {
             TarantoolCallRequest.Builder builder = new TarantoolCallRequest.Builder()
                 .withFunctionName(functionName);
@@ -549,9 +624,8 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
                 resultMapperSupplier.get();
 
             TarantoolCallRequest request = builder.build(argumentsMapper);
-            return connectionManager().getConnection()
-                .thenCompose(c -> c.sendRequest(request).getFuture())
-                .thenApply(resultMapper::fromValue);
+            return decoder.decode(connectionManager().getConnection()
+                .thenCompose(c -> c.sendRequest(request).getFuture()), resultMapper::fromValue);
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
@@ -600,9 +674,26 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
                 .withArguments(arguments)
                 .withSignature(signature)
                 .build(argumentsMapper);
+            return resultDecoder.decode(connectionManager().getConnection()
+                .thenCompose(c -> c.sendRequest(request).getFuture()), resultMapper::fromValue);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<byte[]> evalRaw(String expression, RawMessagePack arguments)
+        throws TarantoolClientException {
+        Assert.notNull(arguments, "Expression arguments should not be null");
+        Assert.state(arguments.isArray(), "Expression arguments should be a MessagePack array");
+        try {
+            TarantoolEvalRequest request = new TarantoolEvalRequest.Builder()
+                .withExpression(expression)
+                .withArguments(arguments)
+                .build(config.getMessagePackMapper());
             return connectionManager().getConnection()
                 .thenCompose(c -> c.sendRequest(request).getFuture())
-                .thenApply(resultMapper::fromValue);
+                .thenApply(RawMessagePack::toByteArray);
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
@@ -619,6 +710,10 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
 
     @Override
     public void close() throws Exception {
+        if (!ownsExecutors) {
+            connectionManager().close();
+            return;
+        }
         try {
             connectionManager().close();
             timeoutScheduler.shutdownNow();
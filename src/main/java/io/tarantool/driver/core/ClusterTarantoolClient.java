@@ -43,6 +43,26 @@ public abstract class ClusterTarantoolClient<T extends Packable, R extends Colle
         this.addressProvider = addressProvider;
     }
 
+    /**
+     * Create a client sharing the Netty event loop threads and the request timeout scheduler with another client,
+     * which must be closed after this client.
+     *
+     * @param config          the client configuration
+     * @param addressProvider provides Tarantool server address for connection
+     * @param executorOwner   the client owning the shared executors
+     * @see TarantoolClientConfig
+     */
+    protected ClusterTarantoolClient(
+        TarantoolClientConfig config,
+        TarantoolClusterAddressProvider addressProvider,
+        AbstractTarantoolClient<?, ?> executorOwner) {
+        super(config, executorOwner);
+
+        Assert.notNull(addressProvider, "Address provider must not be null");
+
+        this.addressProvider = addressProvider;
+    }
+
     @Override
     protected TarantoolConnectionManager connectionManager(
         TarantoolClientConfig config,
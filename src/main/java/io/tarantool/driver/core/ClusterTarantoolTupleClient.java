@@ -138,6 +138,19 @@ public class ClusterTarantoolTupleClient
         super(config, addressProvider);
     }
 
+    /**
+     * Create a client connected to the specified server, sharing the Netty event loop threads and the request timeout
+     * scheduler with another client, which must be closed after this client.
+     *
+     * @param config        client configuration
+     * @param address       Tarantool server address
+     * @param executorOwner the client owning the shared executors
+     */
+    ClusterTarantoolTupleClient(
+        TarantoolClientConfig config, TarantoolServerAddress address, AbstractTarantoolClient<?, ?> executorOwner) {
+        super(config, () -> Collections.singletonList(address), executorOwner);
+    }
+
     @Override
     protected TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>>
     spaceOperations(
@@ -7,6 +7,7 @@ import io.tarantool.driver.api.TarantoolCallOperations;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
 import io.tarantool.driver.api.metadata.DDLMetadataContainerResult;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
@@ -17,6 +18,9 @@ import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.core.metadata.DDLTarantoolSpaceMetadataConverter;
 import io.tarantool.driver.core.metadata.ProxyMetadataProvider;
 import io.tarantool.driver.core.metadata.TarantoolMetadata;
+import io.tarantool.driver.core.proxy.ProxyWriteBatcher;
+import io.tarantool.driver.core.sharding.BucketCountProvider;
+import io.tarantool.driver.core.sharding.DirectStorageRouter;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolSpaceNotFoundException;
 import io.tarantool.driver.mappers.CallResultMapper;
@@ -25,6 +29,7 @@ import io.tarantool.driver.mappers.MessagePackValueMapper;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactory;
 import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.RawMessagePack;
 import io.tarantool.driver.utils.Assert;
 import org.msgpack.value.Value;
 
@@ -34,6 +39,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -69,6 +75,9 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
     private final ProxyOperationsMappingConfig mappingConfig;
     private final ProxyMetadataProvider metadataProvider;
     private final AtomicReference<TarantoolMetadata> metadataHolder = new AtomicReference<>();
+    private final ProxyWriteBatcher writeBatcher;
+    private final BucketCountProvider bucketCountProvider;
+    private final DirectStorageRouter directStorageRouter;
 
     /**
      * Basic constructor
@@ -86,6 +95,14 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         this.client.getConnectionListeners().clear();
         this.metadataProvider = new ProxyMetadataProvider(client, mappingConfig.getGetSchemaFunctionName(),
             DDLTarantoolSpaceMetadataConverter.getInstance(), DDLMetadataContainerResult.class);
+        this.writeBatcher = config.getAutoBatchSize() > 1 ?
+            ProxyWriteBatcher.create(this, mappingConfig, config) : null;
+        this.bucketCountProvider = config.isBucketIdComputation() || config.isDirectStorageRouting() ?
+            new BucketCountProvider(
+                () -> client.callForSingleResult(mappingConfig.getBucketCountFunctionName(), Integer.class)) : null;
+        this.directStorageRouter = config.isDirectStorageRouting() ? DirectStorageRouter.create(client,
+            this::createStorageClient, config::getMessagePackMapper, mappingConfig.getStorageOperationFunctionName()) :
+            null;
     }
 
     @Override
@@ -297,6 +314,22 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         return client.callForSingleResult(functionName, resultMapperSupplier);
     }
 
+    @Override
+    public <T> CompletableFuture<Long> callForEach(
+        String functionName,
+        Collection<?> arguments,
+        Class<T> entityClass,
+        Consumer<? super T> consumer)
+        throws TarantoolClientException {
+        return client.callForEach(functionName, arguments, entityClass, consumer);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> callRaw(String functionName, RawMessagePack arguments)
+        throws TarantoolClientException {
+        return client.callRaw(functionName, arguments);
+    }
+
     @Override
     public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
         String functionName,
@@ -394,6 +427,12 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         return client.eval(expression, arguments);
     }
 
+    @Override
+    public CompletableFuture<byte[]> evalRaw(String expression, RawMessagePack arguments)
+        throws TarantoolClientException {
+        return client.evalRaw(expression, arguments);
+    }
+
     @Override
     public CompletableFuture<List<?>> eval(
         String expression, Supplier<? extends MessagePackValueMapper> resultMapperSupplier)
@@ -424,9 +463,57 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
 
     @Override
     public void close() throws Exception {
+        if (writeBatcher != null) {
+            // the operations are completed by the responses, so the connections must stay open until then
+            writeBatcher.close();
+        }
+        if (directStorageRouter != null) {
+            directStorageRouter.close();
+        }
         this.client.close();
     }
 
+    /**
+     * Get the batcher of single tuple inserts and replaces shared by the spaces of this client
+     *
+     * @return batcher instance or null if the automatic batching is disabled in the client config
+     */
+    protected ProxyWriteBatcher getWriteBatcher() {
+        return writeBatcher;
+    }
+
+    /**
+     * Get the cached total number of buckets used for computing the bucket ids on the client side
+     *
+     * @return bucket count provider or null if the bucket id computation is disabled in the client config
+     */
+    protected BucketCountProvider getBucketCountProvider() {
+        return bucketCountProvider;
+    }
+
+    /**
+     * Get the router sending the single tuple operations directly to the storages
+     *
+     * @return storage router or null if the direct routing is disabled in the client config
+     */
+    protected DirectStorageRouter getDirectStorageRouter() {
+        return directStorageRouter;
+    }
+
+    /**
+     * Create a client connected to a storage for the operations routed directly to it. The client shares the event
+     * loop threads with the decorated client if possible. The method is called on the first operation routed to the
+     * storage, the client is closed when this client is closed.
+     *
+     * @param address storage master address returned by the router
+     * @return new client
+     */
+    protected TarantoolClient<?, ?> createStorageClient(TarantoolServerAddress address) {
+        return client instanceof AbstractTarantoolClient ?
+            new ClusterTarantoolTupleClient(config, address, (AbstractTarantoolClient<?, ?>) client) :
+            new ClusterTarantoolTupleClient(config, address);
+    }
+
     /**
      * Getter for {@link ProxyOperationsMappingConfig}
      *
@@ -20,6 +20,7 @@ import io.tarantool.driver.mappers.MessagePackValueMapper;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactory;
 import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.RawMessagePack;
 import org.msgpack.value.Value;
 
 import java.util.Collection;
@@ -29,6 +30,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -266,6 +268,24 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         return wrapOperation(() -> client.callForSingleResult(functionName, resultMapperSupplier));
     }
 
+    @Override
+    public <T> CompletableFuture<Long> callForEach(
+        String functionName,
+        Collection<?> arguments,
+        Class<T> entityClass,
+        Consumer<? super T> consumer)
+        throws TarantoolClientException {
+        return wrapOperation(() -> client.callForEach(functionName, arguments, entityClass, consumer));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> callRaw(String functionName, RawMessagePack arguments)
+        throws TarantoolClientException {
+        // the arguments may be changed by the caller before the request is retried
+        RawMessagePack argumentsCopy = arguments.copy();
+        return wrapOperation(() -> client.callRaw(functionName, argumentsCopy));
+    }
+
     @Override
     public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
         String functionName,
@@ -373,6 +393,14 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         return wrapOperation(() -> client.eval(expression, arguments));
     }
 
+    @Override
+    public CompletableFuture<byte[]> evalRaw(String expression, RawMessagePack arguments)
+        throws TarantoolClientException {
+        // the arguments may be changed by the caller before the request is retried
+        RawMessagePack argumentsCopy = arguments.copy();
+        return wrapOperation(() -> client.evalRaw(expression, argumentsCopy));
+    }
+
     @Override
     public CompletableFuture<List<?>> eval(
         String expression,
@@ -0,0 +1,244 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.exceptions.TarantoolTupleConversionException;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.core.MessageTypeCastException;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.StringValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Applies the result mappers to the responses of a client. By default, the responses are converted in the thread
+ * which receives them (usually a Netty event loop thread). If the parallel decoding is enabled in the client config
+ * (see {@link TarantoolClientConfig.Builder#withParallelDecoding(int, ForkJoinPool)}), the responses with at least
+ * the specified number of tuples are converted asynchronously in the fork-join pool, so the event loop is not
+ * blocked by the conversion of large results.
+ * <p>
+ * When the conversion runs in the pool of the parallel decoding, the results which decode every tuple, e.g. the POJO
+ * results, are split into ranges of tuples converted in parallel, see {@link #convertTuples(ArrayValue, Function)}.
+ * The {@link io.tarantool.driver.api.tuple.TarantoolTuple} results only wrap the raw tuples, their fields are decoded
+ * on access in the thread which reads them.
+ */
+public final class TarantoolResultDecoder {
+
+    private static final TarantoolResultDecoder SEQUENTIAL = new TarantoolResultDecoder(Integer.MAX_VALUE, null);
+
+    // the ranges of tuples are not split further if they are smaller
+    private static final int MIN_RANGE_SIZE = 256;
+
+    private static final StringValue RESULT_ROWS = ValueFactory.newString("rows");
+
+    // the parallel decoder running the conversion of a response in the current thread
+    private static final ThreadLocal<TarantoolResultDecoder> CURRENT_DECODER = new ThreadLocal<>();
+
+    private final int parallelThreshold;
+    private final Executor executor;
+
+    private TarantoolResultDecoder(int parallelThreshold, Executor executor) {
+        this.parallelThreshold = parallelThreshold;
+        this.executor = executor;
+    }
+
+    /**
+     * Get the decoder which always converts the responses in the thread receiving them
+     *
+     * @return decoder instance
+     */
+    public static TarantoolResultDecoder sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Create a decoder which converts the responses with at least the specified number of tuples in the pool
+     *
+     * @param parallelThreshold minimal number of tuples for the conversion in the pool, must be greater than 1
+     * @param pool              pool for running the conversion
+     * @return new decoder instance
+     */
+    public static TarantoolResultDecoder parallel(int parallelThreshold, ForkJoinPool pool) {
+        Assert.state(parallelThreshold > 1, "Parallel decoding threshold must be greater than 1");
+        Assert.notNull(pool, "Fork-join pool must not be null");
+        return new TarantoolResultDecoder(parallelThreshold, pool);
+    }
+
+    /**
+     * Create a decoder which converts all responses in the specified executor
+     *
+     * @param executor executor for running the conversion
+     * @return new decoder instance
+     */
+    public static TarantoolResultDecoder async(Executor executor) {
+        Assert.notNull(executor, "Executor must not be null");
+        return new TarantoolResultDecoder(0, executor);
+    }
+
+    /**
+     * Create a decoder with the parallel decoding settings of the client config
+     *
+     * @param config client config
+     * @return decoder instance
+     */
+    public static TarantoolResultDecoder fromConfig(TarantoolClientConfig config) {
+        return config.getParallelDecodingPool() == null ? sequential() :
+            parallel(config.getParallelDecodingThreshold(), config.getParallelDecodingPool());
+    }
+
+    /**
+     * Get the minimal number of tuples for the conversion in the pool
+     *
+     * @return number of tuples, {@link Integer#MAX_VALUE} if the parallel conversion is disabled, 0 if all responses
+     * are converted in the executor
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Convert the response with the specified result mapper once it is received
+     *
+     * @param response     future with the response body
+     * @param resultMapper converts the response body
+     * @param <R>          target result type
+     * @return a future with the converted result
+     */
+    public <R> CompletableFuture<R> decode(CompletableFuture<Value> response, Function<Value, R> resultMapper) {
+        if (executor == null) {
+            return response.thenApply(resultMapper);
+        }
+        if (parallelThreshold == 0) {
+            return response.thenApplyAsync(resultMapper, executor);
+        }
+        return response.thenCompose(value -> countTuples(value) < parallelThreshold ?
+            CompletableFuture.completedFuture(resultMapper.apply(value)) :
+            CompletableFuture.supplyAsync(() -> applyInPool(value, resultMapper), executor));
+    }
+
+    private <R> R applyInPool(Value value, Function<Value, R> resultMapper) {
+        TarantoolResultDecoder previous = CURRENT_DECODER.get();
+        CURRENT_DECODER.set(this);
+        try {
+            return resultMapper.apply(value);
+        } finally {
+            if (previous == null) {
+                CURRENT_DECODER.remove();
+            } else {
+                CURRENT_DECODER.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Estimate the number of tuples in the response body without decoding them, i.e. the size of the largest array
+     * among the body, its first element and the crud {@code rows}
+     */
+    private static int countTuples(Value value) {
+        if (!value.isArrayValue()) {
+            return 0;
+        }
+        ArrayValue body = value.asArrayValue();
+        int count = body.size();
+        if (count > 0) {
+            Value result = body.get(0);
+            if (result.isArrayValue()) {
+                count = Math.max(count, result.asArrayValue().size());
+            } else if (result.isMapValue()) {
+                Map<Value, Value> resultMap = result.asMapValue().map();
+                Value rows = resultMap.get(RESULT_ROWS);
+                if (rows != null && rows.isArrayValue()) {
+                    count = Math.max(count, rows.asArrayValue().size());
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Convert the tuples of the specified array. If the response is converted in the pool of a decoder with the
+     * parallel decoding enabled and the array has at least the configured number of tuples, the array is split into
+     * ranges of tuples which are converted in parallel in the same pool. Otherwise, the tuples are converted in the
+     * current thread. If the array is a {@link LazyArrayValue}, the tuples are taken by their offsets in the raw
+     * buffer, so the array itself is not decoded.
+     *
+     * @param tuples         MessagePack array of tuples
+     * @param tupleConverter converter of a single tuple, must be thread-safe
+     * @param <T>            target tuple type
+     * @return modifiable list of the converted tuples
+     * @throws TarantoolTupleConversionException if a tuple is not an array or cannot be converted
+     */
+    public static <T> List<T> convertTuples(ArrayValue tuples, Function<ArrayValue, T> tupleConverter) {
+        int size = tuples.size();
+        TarantoolResultDecoder decoder = CURRENT_DECODER.get();
+        if (decoder == null || size < decoder.parallelThreshold || size < MIN_RANGE_SIZE * 2 ||
+            ForkJoinTask.getPool() != decoder.executor) {
+            List<T> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(convert(tuples, i, tupleConverter));
+            }
+            return result;
+        }
+        Object[] result = new Object[size];
+        int leafSize = Math.max(MIN_RANGE_SIZE, size / (ForkJoinTask.getPool().getParallelism() * 4));
+        // runs in the current worker and forks the subtasks into its pool
+        new DecodeAction<>(tuples, tupleConverter, result, 0, size, leafSize).invoke();
+        @SuppressWarnings("unchecked")
+        List<T> items = (List<T>) Arrays.asList(result);
+        return new ArrayList<>(items);
+    }
+
+    private static <T> T convert(ArrayValue tuples, int index, Function<ArrayValue, T> tupleConverter) {
+        try {
+            return tupleConverter.apply(LazyArrayValue.arrayElement(tuples, index));
+        } catch (MessageTypeCastException e) {
+            throw new TarantoolTupleConversionException(tuples.get(index), e);
+        }
+    }
+
+    private static final class DecodeAction<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 20221019L;
+
+        private final transient ArrayValue tuples;
+        private final transient Function<ArrayValue, T> tupleConverter;
+        private final Object[] result;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        DecodeAction(ArrayValue tuples, Function<ArrayValue, T> tupleConverter, Object[] result,
+                     int from, int to, int leafSize) {
+            this.tuples = tuples;
+            this.tupleConverter = tupleConverter;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    result[i] = convert(tuples, i, tupleConverter);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new DecodeAction<>(tuples, tupleConverter, result, from, middle, leafSize),
+                new DecodeAction<>(tuples, tupleConverter, result, middle, to, leafSize));
+        }
+    }
+}
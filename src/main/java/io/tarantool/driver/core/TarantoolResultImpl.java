@@ -1,9 +1,7 @@
 package io.tarantool.driver.core;
 
 import io.tarantool.driver.api.TarantoolResult;
-import io.tarantool.driver.exceptions.TarantoolTupleConversionException;
 import io.tarantool.driver.mappers.converters.ValueConverter;
-import org.msgpack.core.MessageTypeCastException;
 import org.msgpack.value.ArrayValue;
 
 import java.util.Collection;
@@ -11,7 +9,6 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.stream.Collectors;
 
 /**
  * Basic TarantoolResult implementation
@@ -33,15 +30,7 @@ public class TarantoolResultImpl<T> implements TarantoolResult<T> {
     }
 
     protected void setItems(ArrayValue itemsArray, ValueConverter<ArrayValue, T> valueConverter) {
-        this.tuples = itemsArray.list().stream()
-            .map(v -> {
-                try {
-                    return valueConverter.fromValue(v.asArrayValue());
-                } catch (MessageTypeCastException e) {
-                    throw new TarantoolTupleConversionException(v, e);
-                }
-            })
-            .collect(Collectors.toList());
+        this.tuples = TarantoolResultDecoder.convertTuples(itemsArray, valueConverter::fromValue);
     }
 
     @Override
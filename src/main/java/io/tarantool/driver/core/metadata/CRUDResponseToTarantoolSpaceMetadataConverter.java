@@ -2,8 +2,17 @@ package io.tarantool.driver.core.metadata;
 
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
 import org.msgpack.value.ArrayValue;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Populates crud response metadata format to {@link TarantoolSpaceMetadata}.
  * The input data must be consistent with the metadata format from tarantool/crud.
@@ -11,22 +20,45 @@ import org.msgpack.value.ArrayValue;
  * <a href="https://github.com/tarantool/crud#api">
  * https://github.com/tarantool/crud#api
  * </a>
+ * <p>
+ * The metadata is the same for all responses from one space with the same schema, so the parsed instances are cached
+ * by the packed metadata bytes and shared between the responses. The lazily decoded metadata is looked up by its
+ * byte range in the response frame, so a cache hit does not decode anything. The cache is bounded and is dropped
+ * entirely when the limit is reached, for example after many schema changes.
  *
  * @author Artyom Dubinin
  */
 public final class CRUDResponseToTarantoolSpaceMetadataConverter
     implements ValueConverter<ArrayValue, TarantoolSpaceMetadata> {
 
+    private static final int METADATA_CACHE_MAX_SIZE = 1024;
+
     private static final CRUDResponseToTarantoolSpaceMetadataConverter instance =
         new CRUDResponseToTarantoolSpaceMetadataConverter();
 
     private static final ArrayValueToSpaceFormatConverter arrayValueToSpaceFormatConverter
         = ArrayValueToSpaceFormatConverter.getInstance();
 
+    private static final Map<MetadataKey, TarantoolSpaceMetadata> metadataCache = new ConcurrentHashMap<>();
+
     private CRUDResponseToTarantoolSpaceMetadataConverter() {
     }
 
     public TarantoolSpaceMetadata fromValue(ArrayValue metadata) {
+        MetadataKey key = MetadataKey.of(metadata);
+        TarantoolSpaceMetadata spaceMetadata = metadataCache.get(key);
+        if (spaceMetadata == null) {
+            spaceMetadata = parseMetadata(metadata);
+            if (metadataCache.size() >= METADATA_CACHE_MAX_SIZE) {
+                metadataCache.clear();
+            }
+            // don't let the cache hold the whole response frame behind a lazy value
+            metadataCache.put(key.compact(), spaceMetadata);
+        }
+        return spaceMetadata;
+    }
+
+    private TarantoolSpaceMetadata parseMetadata(ArrayValue metadata) {
         TarantoolSpaceMetadataImpl spaceMetadata = new TarantoolSpaceMetadataImpl();
         spaceMetadata.setSpaceFormatMetadata(arrayValueToSpaceFormatConverter.fromValue(metadata));
         return spaceMetadata;
@@ -35,4 +67,77 @@ public final class CRUDResponseToTarantoolSpaceMetadataConverter
     public static CRUDResponseToTarantoolSpaceMetadataConverter getInstance() {
         return instance;
     }
+
+    /**
+     * Cache key referencing a range of the packed metadata bytes. The hash is computed over the bytes and the keys are
+     * compared bytewise.
+     */
+    private static final class MetadataKey {
+        private final byte[] buffer;
+        private final int offset;
+        private final int length;
+        private final int hash;
+
+        private MetadataKey(byte[] buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+            int h = 1;
+            for (int i = offset; i < offset + length; i++) {
+                h = 31 * h + buffer[i];
+            }
+            this.hash = h;
+        }
+
+        static MetadataKey of(ArrayValue metadata) {
+            if (metadata instanceof LazyArrayValue) {
+                LazyArrayValue lazyMetadata = (LazyArrayValue) metadata;
+                return new MetadataKey(lazyMetadata.getBuffer(), lazyMetadata.getOffset(), lazyMetadata.getLength());
+            }
+            try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+                metadata.writeTo(packer);
+                byte[] packed = packer.toByteArray();
+                return new MetadataKey(packed, 0, packed.length);
+            } catch (IOException e) {
+                throw new MessagePackException(e);
+            }
+        }
+
+        /**
+         * Get a key which does not hold the rest of the response frame in memory
+         *
+         * @return key with a copy of the metadata bytes
+         */
+        MetadataKey compact() {
+            if (offset == 0 && length == buffer.length) {
+                return this;
+            }
+            return new MetadataKey(Arrays.copyOfRange(buffer, offset, offset + length), 0, length);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MetadataKey)) {
+                return false;
+            }
+            MetadataKey that = (MetadataKey) o;
+            if (hash != that.hash || length != that.length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (buffer[offset + i] != that.buffer[that.offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -14,6 +14,7 @@ import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 import org.msgpack.value.ValueType;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,9 @@ public final class DDLTarantoolSpaceMetadataConverter implements ValueConverter<
     private static final StringValue SPACE_ID_KEY = ValueFactory.newString("id");
     private static final StringValue SPACE_FORMAT_KEY = ValueFactory.newString("format");
     private static final StringValue SPACE_INDEXES_KEY = ValueFactory.newString("indexes");
+    private static final StringValue SPACE_SHARDING_KEY_KEY = ValueFactory.newString("sharding_key");
+    private static final StringValue SPACE_SHARDING_FUNC_KEY = ValueFactory.newString("sharding_func");
+    private static final StringValue SHARDING_FUNC_BODY_KEY = ValueFactory.newString("body");
 
     private static final StringValue INDEX_NAME_KEY = ValueFactory.newString("name");
     private static final StringValue INDEX_UNIQUE_KEY = ValueFactory.newString("unique");
@@ -50,6 +54,7 @@ public final class DDLTarantoolSpaceMetadataConverter implements ValueConverter<
 
     private static final StringValue INDEX_PARTS_TYPE_KEY = ValueFactory.newString("type");
     private static final StringValue INDEX_PARTS_PATH_KEY = ValueFactory.newString("path");
+    private static final StringValue INDEX_PARTS_IS_NULLABLE_KEY = ValueFactory.newString("is_nullable");
 
     private static final ArrayValueToSpaceFormatConverter arrayValueToSpaceFormatConverter
         = ArrayValueToSpaceFormatConverter.getInstance();
@@ -109,6 +114,7 @@ public final class DDLTarantoolSpaceMetadataConverter implements ValueConverter<
             ArrayValue spaceFormat = formatValue.asArrayValue();
             Map<String, TarantoolFieldMetadata> fields = arrayValueToSpaceFormatConverter.fromValue(spaceFormat);
             spaceMetadata.setSpaceFormatMetadata(fields);
+            parseSharding(space, spaceMetadata);
 
             proxyMetadata.addSpace(spaceMetadata);
 
@@ -121,6 +127,31 @@ public final class DDLTarantoolSpaceMetadataConverter implements ValueConverter<
         return proxyMetadata;
     }
 
+    private void parseSharding(Map<Value, Value> space, TarantoolSpaceMetadataImpl spaceMetadata) {
+        Value shardingKeyValue = space.get(SPACE_SHARDING_KEY_KEY);
+        if (shardingKeyValue != null && shardingKeyValue.isArrayValue()) {
+            List<String> shardingKey = new ArrayList<>(shardingKeyValue.asArrayValue().size());
+            for (Value fieldName : shardingKeyValue.asArrayValue()) {
+                if (!fieldName.isStringValue()) {
+                    throw new TarantoolClientException("Unsupported space metadata format: key '" +
+                        SPACE_SHARDING_KEY_KEY + "' must contain a list of field names");
+                }
+                shardingKey.add(fieldName.asStringValue().toString());
+            }
+            spaceMetadata.setShardingKey(shardingKey);
+        }
+
+        // either a function name or a map with the function body
+        Value shardingFuncValue = space.get(SPACE_SHARDING_FUNC_KEY);
+        if (shardingFuncValue != null && shardingFuncValue.isStringValue()) {
+            spaceMetadata.setShardingFunction(shardingFuncValue.asStringValue().toString());
+        } else if (shardingFuncValue != null && shardingFuncValue.isMapValue()) {
+            Value body = shardingFuncValue.asMapValue().map().get(SHARDING_FUNC_BODY_KEY);
+            spaceMetadata.setShardingFunction(body != null && body.isStringValue() ?
+                body.asStringValue().toString() : shardingFuncValue.toString());
+        }
+    }
+
     private Map<String, TarantoolIndexMetadata> parseIndexes(
         Map<String, TarantoolFieldMetadata> fields,
         List<Value> indexes) {
@@ -210,7 +241,11 @@ public final class DDLTarantoolSpaceMetadataConverter implements ValueConverter<
                     }
                     String fieldType = fieldTypeValue.asStringValue().toString();
 
-                    return new TarantoolIndexPartMetadataImpl<>(fieldNumber, fieldType, fieldPath);
+                    Value isNullableValue = partsMap.get(INDEX_PARTS_IS_NULLABLE_KEY);
+                    boolean isNullable = isNullableValue != null && isNullableValue.isBooleanValue() &&
+                        isNullableValue.asBooleanValue().getBoolean();
+
+                    return new TarantoolIndexPartMetadataImpl<>(fieldNumber, fieldType, fieldPath, isNullable);
                 })
                 .collect(Collectors.toList());
 
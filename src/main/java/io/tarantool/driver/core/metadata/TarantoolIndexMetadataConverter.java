@@ -27,6 +27,7 @@ public class TarantoolIndexMetadataConverter implements ValueConverter<ArrayValu
 
     private static final ImmutableStringValue INDEX_FIELD_KEY = new ImmutableStringValueImpl("field");
     private static final ImmutableStringValue INDEX_TYPE_KEY = new ImmutableStringValueImpl("type");
+    private static final ImmutableStringValue INDEX_IS_NULLABLE_KEY = new ImmutableStringValueImpl("is_nullable");
 
     private final MessagePackValueMapper mapper;
 
@@ -65,10 +66,16 @@ public class TarantoolIndexMetadataConverter implements ValueConverter<ArrayValu
                     )).collect(Collectors.toList());
             } else {
                 indexParts = indexPartsValue.list().stream()
-                    .map(partValue -> new TarantoolIndexPartMetadataImpl<>(
-                        partValue.asMapValue().map().get(INDEX_FIELD_KEY).asIntegerValue().asInt(),
-                        partValue.asMapValue().map().get(INDEX_TYPE_KEY).asStringValue().toString()
-                    )).collect(Collectors.toList());
+                    .map(partValue -> {
+                        Map<Value, Value> part = partValue.asMapValue().map();
+                        Value isNullable = part.get(INDEX_IS_NULLABLE_KEY);
+                        return new TarantoolIndexPartMetadataImpl<>(
+                            part.get(INDEX_FIELD_KEY).asIntegerValue().asInt(),
+                            part.get(INDEX_TYPE_KEY).asStringValue().toString(),
+                            null,
+                            isNullable != null && isNullable.isBooleanValue() &&
+                                isNullable.asBooleanValue().getBoolean());
+                    }).collect(Collectors.toList());
             }
         }
 
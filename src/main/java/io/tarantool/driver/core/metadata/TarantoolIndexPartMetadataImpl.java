@@ -12,15 +12,21 @@ class TarantoolIndexPartMetadataImpl<T> implements TarantoolIndexPartMetadata {
     private final int fieldIndex;
     private final String fieldType;
     private final T path;
+    private final boolean isNullable;
 
     TarantoolIndexPartMetadataImpl(int fieldIndex, String fieldType) {
         this(fieldIndex, fieldType, null);
     }
 
     TarantoolIndexPartMetadataImpl(int fieldIndex, String fieldType, T path) {
+        this(fieldIndex, fieldType, path, false);
+    }
+
+    TarantoolIndexPartMetadataImpl(int fieldIndex, String fieldType, T path, boolean isNullable) {
         this.fieldIndex = fieldIndex;
         this.fieldType = fieldType;
         this.path = path;
+        this.isNullable = isNullable;
     }
 
     @Override
@@ -37,4 +43,9 @@ class TarantoolIndexPartMetadataImpl<T> implements TarantoolIndexPartMetadata {
     public T getPath() {
         return path;
     }
+
+    @Override
+    public boolean isNullable() {
+        return isNullable;
+    }
 }
@@ -4,6 +4,7 @@ import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,6 +24,8 @@ public class TarantoolSpaceMetadataImpl implements TarantoolSpaceMetadata {
     private String spaceName;
     private Map<String, TarantoolFieldMetadata> spaceFormatMetadata;
     private List<TarantoolFieldMetadata> spaceFormatMetadataAsList;
+    private List<String> shardingKey = Collections.emptyList();
+    private String shardingFunction;
     //TODO private TarantoolEngine engine;
 
     /**
@@ -93,6 +96,24 @@ public class TarantoolSpaceMetadataImpl implements TarantoolSpaceMetadata {
         return getFieldByPosition(fieldPosition).map(TarantoolFieldMetadata::getFieldName);
     }
 
+    @Override
+    public List<String> getShardingKey() {
+        return shardingKey;
+    }
+
+    void setShardingKey(List<String> shardingKey) {
+        this.shardingKey = Collections.unmodifiableList(new ArrayList<>(shardingKey));
+    }
+
+    @Override
+    public Optional<String> getShardingFunction() {
+        return Optional.ofNullable(shardingFunction);
+    }
+
+    void setShardingFunction(String shardingFunction) {
+        this.shardingFunction = shardingFunction;
+    }
+
     @Override
     public String toString() {
         return "TarantoolSpaceMetadata{" +
@@ -101,6 +122,8 @@ public class TarantoolSpaceMetadataImpl implements TarantoolSpaceMetadata {
             ", spaceName='" + spaceName + '\'' +
             ", spaceFormatMetadata=" + spaceFormatMetadata +
             ", spaceFormatMetadataAsList=" + spaceFormatMetadataAsList +
+            ", shardingKey=" + shardingKey +
+            ", shardingFunction='" + shardingFunction + '\'' +
             '}';
     }
 
@@ -117,12 +140,15 @@ public class TarantoolSpaceMetadataImpl implements TarantoolSpaceMetadata {
             ownerId == that.ownerId &&
             spaceName.equals(that.spaceName) &&
             Objects.equals(spaceFormatMetadata, that.spaceFormatMetadata) &&
-            Objects.equals(spaceFormatMetadataAsList, that.spaceFormatMetadataAsList);
+            Objects.equals(spaceFormatMetadataAsList, that.spaceFormatMetadataAsList) &&
+            shardingKey.equals(that.shardingKey) &&
+            Objects.equals(shardingFunction, that.shardingFunction);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(spaceId, ownerId, spaceName, spaceFormatMetadata, spaceFormatMetadataAsList);
+        return Objects.hash(spaceId, ownerId, spaceName, spaceFormatMetadata, spaceFormatMetadataAsList,
+            shardingKey, shardingFunction);
     }
 
     /*
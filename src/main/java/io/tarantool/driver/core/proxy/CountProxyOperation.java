@@ -0,0 +1,84 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.space.options.CountOptions;
+import io.tarantool.driver.core.proxy.enums.ProxyOperationArgument;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Proxy operation for count, returning the number of tuples matching the conditions without fetching them
+ */
+public final class CountProxyOperation implements ProxyOperation<Long> {
+
+    private final TarantoolCallOperations client;
+    private final String functionName;
+    private final Collection<?> arguments;
+
+    private CountProxyOperation(
+        TarantoolCallOperations client,
+        String functionName,
+        Collection<?> arguments) {
+        this.client = client;
+        this.arguments = arguments;
+        this.functionName = functionName;
+    }
+
+    public TarantoolCallOperations getClient() {
+        return client;
+    }
+
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    public Collection<?> getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public CompletableFuture<Long> execute() {
+        return client.callForSingleResult(functionName, arguments, Long.class);
+    }
+
+    /**
+     * The builder for this class.
+     */
+    public static final class Builder
+        extends AbstractProxyOperation.GenericOperationsBuilder<Long, CountOptions<?>, Builder> {
+        private final TarantoolMetadataOperations operations;
+        private final TarantoolSpaceMetadata metadata;
+        private Conditions conditions;
+
+        public Builder(TarantoolMetadataOperations operations, TarantoolSpaceMetadata metadata) {
+            this.operations = operations;
+            this.metadata = metadata;
+        }
+
+        @Override
+        public Builder self() {
+            return this;
+        }
+
+        public Builder withConditions(Conditions conditions) {
+            this.conditions = conditions;
+            return this;
+        }
+
+        /**
+         * Prepare request of count operation to Tarantool server
+         *
+         * @return CountProxyOperation instance
+         */
+        public CountProxyOperation build() {
+            addArgument(ProxyOperationArgument.PROXY_QUERY,
+                this.conditions.toProxyQuery(this.operations, this.metadata));
+
+            return new CountProxyOperation(this.client, this.functionName, this.arguments.values());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.space.options.GetOptions;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Proxy operation for get
+ *
+ * @param <T> result type
+ */
+public final class GetProxyOperation<T> extends AbstractProxyOperation<T> {
+
+    private GetProxyOperation(
+        TarantoolCallOperations client,
+        String functionName,
+        Collection<?> arguments,
+        Supplier<MessagePackObjectMapper> argumentsMapperSupplier,
+        Supplier<CallResultMapper<T, SingleValueCallResult<T>>> resultMapperSupplier) {
+        super(client, functionName, arguments, argumentsMapperSupplier, resultMapperSupplier);
+    }
+
+    /**
+     * The builder for this class.
+     */
+    public static final class Builder<T>
+        extends GenericOperationsBuilder<T, GetOptions<?>, Builder<T>> implements
+        OperationWithIndexQueryBuilderOptions<Builder<T>> {
+
+        public Builder() {
+        }
+
+        @Override
+        public Builder<T> self() {
+            return this;
+        }
+
+        public GetProxyOperation<T> build() {
+
+            return new GetProxyOperation<>(
+                this.client, this.functionName, this.arguments.values(),
+                this.argumentsMapperSupplier, this.resultMapperSupplier);
+        }
+    }
+}
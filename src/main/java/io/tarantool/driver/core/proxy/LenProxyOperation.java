@@ -0,0 +1,74 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.space.options.LenOptions;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Proxy operation for len, returning the number of tuples in the space
+ */
+public final class LenProxyOperation implements ProxyOperation<Long> {
+
+    private final TarantoolCallOperations client;
+    private final String functionName;
+    private final Collection<?> arguments;
+
+    private LenProxyOperation(
+        TarantoolCallOperations client,
+        String functionName,
+        Collection<?> arguments) {
+        this.client = client;
+        this.arguments = arguments;
+        this.functionName = functionName;
+    }
+
+    /**
+     * Create a builder instance.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public TarantoolCallOperations getClient() {
+        return client;
+    }
+
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    public Collection<?> getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public CompletableFuture<Long> execute() {
+        return client.callForSingleResult(functionName, arguments, Long.class);
+    }
+
+    public static final class Builder
+        extends AbstractProxyOperation.GenericOperationsBuilder<Long, LenOptions<?>, Builder> {
+
+        public Builder() {
+        }
+
+        @Override
+        public Builder self() {
+            return this;
+        }
+
+        /**
+         * Prepare request of len operation to Tarantool server
+         *
+         * @return LenProxyOperation instance
+         */
+        public LenProxyOperation build() {
+
+            return new LenProxyOperation(this.client, this.functionName, this.arguments.values());
+        }
+    }
+}
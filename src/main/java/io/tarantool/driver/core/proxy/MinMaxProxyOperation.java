@@ -0,0 +1,61 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.space.options.MinMaxOptions;
+import io.tarantool.driver.core.proxy.enums.ProxyOperationArgument;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Proxy operation for min and max, returning the first or the last tuple of an index
+ *
+ * @param <T> result type
+ */
+public final class MinMaxProxyOperation<T> extends AbstractProxyOperation<T> {
+
+    private MinMaxProxyOperation(
+        TarantoolCallOperations client,
+        String functionName,
+        Collection<?> arguments,
+        Supplier<MessagePackObjectMapper> argumentsMapperSupplier,
+        Supplier<CallResultMapper<T, SingleValueCallResult<T>>> resultMapperSupplier) {
+        super(client, functionName, arguments, argumentsMapperSupplier, resultMapperSupplier);
+    }
+
+    /**
+     * The builder for this class.
+     */
+    public static final class Builder<T>
+        extends GenericOperationsBuilder<T, MinMaxOptions<?>, Builder<T>> {
+
+        public Builder() {
+        }
+
+        @Override
+        public Builder<T> self() {
+            return this;
+        }
+
+        /**
+         * Specify the name of the index to take the first or the last tuple from
+         *
+         * @param indexName index name
+         * @return builder
+         */
+        public Builder<T> withIndexName(String indexName) {
+            addArgument(ProxyOperationArgument.INDEX_NAME, indexName);
+            return this;
+        }
+
+        public MinMaxProxyOperation<T> build() {
+
+            return new MinMaxProxyOperation<>(
+                this.client, this.functionName, this.arguments.values(),
+                this.argumentsMapperSupplier, this.resultMapperSupplier);
+        }
+    }
+}
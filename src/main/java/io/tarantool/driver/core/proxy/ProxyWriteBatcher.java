@@ -0,0 +1,463 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
+import io.tarantool.driver.api.space.options.ProxyInsertManyOptions;
+import io.tarantool.driver.api.space.options.ProxyReplaceManyOptions;
+import io.tarantool.driver.api.space.options.crud.enums.RollbackOnError;
+import io.tarantool.driver.api.space.options.crud.enums.StopOnError;
+import io.tarantool.driver.core.TarantoolDaemonThreadFactory;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.errors.TarantoolErrorsParser;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.RawMessagePack;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.StringValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Collects single tuple inserts and replaces into the same space and sends them as one batch proxy call
+ * ({@code crud.insert_many} or {@code crud.replace_many}) when the maximum batch size is reached or when the maximum
+ * delay after the first operation in the batch expires. This saves a network round trip and a router map step per
+ * tuple under a high rate of single-tuple writes.
+ * <p>
+ * The batches are sent with {@code stop_on_error=false} and {@code rollback_on_error=false}, so a failed tuple does
+ * not affect the other tuples of the batch. The inserted tuples and the errors returned by the batch call are
+ * matched with the operations by the primary key values, and the future of each operation is completed with its own
+ * tuple or its own error. Since the key must identify the operation in the batch, a tuple with a primary key value
+ * already present in the collected batch starts a new batch, and a tuple with nil primary key parts (e.g. filled by
+ * a sequence on the server) is sent alone, without waiting for the other operations.
+ * <p>
+ * Each tuple is packed once when it is added to the batch. Only the primary key fields are decoded from the packed
+ * bytes, and the bytes are written to the batch request as is.
+ * <p>
+ * The delayed batches are sent by a scheduler thread owned by the batcher, which is stopped by {@link #close()}.
+ * <p>
+ * The batching is enabled with {@link TarantoolClientConfig.Builder#withAutoBatching(int, int)}.
+ */
+public final class ProxyWriteBatcher implements AutoCloseable {
+
+    private static final StringValue RESULT_METADATA = ValueFactory.newString("metadata");
+    private static final StringValue RESULT_ROWS = ValueFactory.newString("rows");
+    private static final StringValue ERROR_OPERATION_DATA = ValueFactory.newString("operation_data");
+
+    private final BiFunction<String, Collection<?>, CompletableFuture<ArrayValue>> batchCall;
+    private final ProxyOperationsMappingConfig operationsMapping;
+    private final Supplier<MessagePackObjectMapper> mapperSupplier;
+    private final int maxBatchSize;
+    private final int maxDelayMillis;
+    private final ConcurrentMap<List<String>, Batch> batches = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService flushScheduler =
+        Executors.newSingleThreadScheduledExecutor(new TarantoolDaemonThreadFactory("tarantool-write-batcher"));
+
+    /**
+     * Basic constructor
+     *
+     * @param batchCall         sends the batch call with the specified function name and arguments, the returned
+     *                          future contains all values returned by the function
+     * @param operationsMapping proxy operations mapping config
+     * @param mapperSupplier    mapper supplier for the tuples conversion
+     * @param maxBatchSize      maximum number of operations in one batch
+     * @param maxDelayMillis    maximum time in milliseconds the first operation in a batch waits for the others
+     */
+    public ProxyWriteBatcher(
+        BiFunction<String, Collection<?>, CompletableFuture<ArrayValue>> batchCall,
+        ProxyOperationsMappingConfig operationsMapping,
+        Supplier<MessagePackObjectMapper> mapperSupplier,
+        int maxBatchSize,
+        int maxDelayMillis) {
+        Assert.notNull(batchCall, "Batch call should not be null");
+        Assert.notNull(operationsMapping, "Proxy operations mapping config should not be null");
+        Assert.notNull(mapperSupplier, "Mapper supplier should not be null");
+        Assert.state(maxBatchSize > 1, "Max batch size should be greater than 1");
+        Assert.state(maxDelayMillis > 0, "Max delay should be greater than 0");
+        this.batchCall = batchCall;
+        this.operationsMapping = operationsMapping;
+        this.mapperSupplier = mapperSupplier;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Create a batcher sending the batch calls with the specified client, using the batch size and the delay from
+     * the client config
+     *
+     * @param client            client for the batch calls
+     * @param operationsMapping proxy operations mapping config
+     * @param config            client config
+     * @return new batcher instance
+     */
+    @SuppressWarnings("unchecked")
+    public static ProxyWriteBatcher create(
+        TarantoolCallOperations client,
+        ProxyOperationsMappingConfig operationsMapping,
+        TarantoolClientConfig config) {
+        ValueConverter<ArrayValue, SingleValueCallResult<ArrayValue>> resultConverter = result -> () -> result;
+        CallResultMapper<ArrayValue, SingleValueCallResult<ArrayValue>> resultMapper = new CallResultMapper<>(
+            config.getMessagePackMapper(), ValueType.ARRAY, resultConverter,
+            (Class<SingleValueCallResult<ArrayValue>>) (Class<?>) SingleValueCallResult.class);
+        return new ProxyWriteBatcher(
+            (functionName, arguments) -> client.callForSingleResult(
+                functionName, arguments, config::getMessagePackMapper, () -> resultMapper),
+            operationsMapping, config::getMessagePackMapper, config.getAutoBatchSize(), config.getAutoBatchDelay());
+    }
+
+    /**
+     * Add a tuple insert to the batch of the specified space
+     *
+     * @param spaceName       space name
+     * @param tuple           tuple to insert
+     * @param keyFields       positions of the primary key fields in the tuple
+     * @param resultConverter converts the call result containing only the inserted tuple
+     * @param <T>             tuple type
+     * @param <R>             result type
+     * @return a future with the converted result, completed exceptionally if the tuple was not inserted
+     */
+    public <T extends Packable, R> CompletableFuture<R> insert(
+        String spaceName, T tuple, int[] keyFields, Function<Value, R> resultConverter) {
+        return submit(operationsMapping.getInsertManyFunctionName(), spaceName, tuple, keyFields, resultConverter);
+    }
+
+    /**
+     * Add a tuple replace to the batch of the specified space
+     *
+     * @param spaceName       space name
+     * @param tuple           tuple to replace
+     * @param keyFields       positions of the primary key fields in the tuple
+     * @param resultConverter converts the call result containing only the replaced tuple
+     * @param <T>             tuple type
+     * @param <R>             result type
+     * @return a future with the converted result, completed exceptionally if the tuple was not replaced
+     */
+    public <T extends Packable, R> CompletableFuture<R> replace(
+        String spaceName, T tuple, int[] keyFields, Function<Value, R> resultConverter) {
+        return submit(operationsMapping.getReplaceManyFunctionName(), spaceName, tuple, keyFields, resultConverter);
+    }
+
+    /**
+     * Send all collected operations without waiting for the batch delay
+     *
+     * @return a future completed when all batch calls sent so far are completed, successfully or not
+     */
+    public CompletableFuture<Void> flush() {
+        batches.values().forEach(Batch::flush);
+        return CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Send all collected operations, stop the scheduler of the delayed batches and wait for the responses to the
+     * batch calls. The operations added after closing are sent without waiting for the batch delay.
+     */
+    @Override
+    public void close() {
+        flushScheduler.shutdownNow();
+        flush().join();
+    }
+
+    private <R> CompletableFuture<R> submit(
+        String functionName, String spaceName, Packable tuple, int[] keyFields, Function<Value, R> resultConverter) {
+        Assert.notNull(tuple, "Tuple should not be null");
+        Batch batch = batches.computeIfAbsent(Arrays.asList(functionName, spaceName),
+            k -> new Batch(functionName, spaceName, keyFields));
+        byte[] packed = pack(tuple);
+        RawMessagePack packedTuple = RawMessagePack.of(packed);
+        List<Value> key = packedTuple.isArray() ? extractKey(LazyArrayValue.of(packed), keyFields) : null;
+        Pending<R> pending = new Pending<>(packedTuple, key, resultConverter);
+        batch.add(pending);
+        return pending.future;
+    }
+
+    private byte[] pack(Packable tuple) {
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            tuple.toMessagePack(packer, mapperSupplier.get());
+            return packer.toByteArray();
+        } catch (IOException e) {
+            throw new MessagePackException(e);
+        }
+    }
+
+    /**
+     * Get the primary key values of the tuple
+     *
+     * @return key values or null if the tuple has no values for some key parts
+     */
+    private static List<Value> extractKey(Value tuple, int[] keyFields) {
+        if (!tuple.isArrayValue()) {
+            return null;
+        }
+        ArrayValue fields = tuple.asArrayValue();
+        List<Value> key = new ArrayList<>(keyFields.length);
+        for (int field : keyFields) {
+            Value value = fields.getOrNilValue(field);
+            if (value.isNilValue()) {
+                return null;
+            }
+            key.add(value);
+        }
+        return key;
+    }
+
+    private static final class Pending<R> {
+        private final Packable tuple;
+        private final List<Value> key;
+        private final Function<Value, R> resultConverter;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+
+        Pending(Packable tuple, List<Value> key, Function<Value, R> resultConverter) {
+            this.tuple = tuple;
+            this.key = key;
+            this.resultConverter = resultConverter;
+        }
+
+        void complete(Value result) {
+            try {
+                future.complete(resultConverter.apply(result));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        void fail(Throwable error) {
+            future.completeExceptionally(error);
+        }
+    }
+
+    private final class Batch {
+        private final String functionName;
+        private final String spaceName;
+        private final int[] keyFields;
+        private List<Pending<?>> pending = new ArrayList<>();
+        private Set<List<Value>> pendingKeys = new HashSet<>();
+        private ScheduledFuture<?> flushTask;
+
+        Batch(String functionName, String spaceName, int[] keyFields) {
+            this.functionName = functionName;
+            this.spaceName = spaceName;
+            this.keyFields = keyFields;
+        }
+
+        void add(Pending<?> operation) {
+            // the operations without a key cannot be matched with the results in a batch
+            if (operation.key == null) {
+                send(Collections.singletonList(operation));
+                return;
+            }
+            List<Pending<?>> previous = null;
+            List<Pending<?>> full = null;
+            synchronized (this) {
+                if (pendingKeys.contains(operation.key)) {
+                    previous = takePending();
+                }
+                pending.add(operation);
+                pendingKeys.add(operation.key);
+                if (pending.size() >= maxBatchSize) {
+                    full = takePending();
+                } else if (flushTask == null) {
+                    try {
+                        flushTask = flushScheduler.schedule(this::flush, maxDelayMillis, TimeUnit.MILLISECONDS);
+                    } catch (RejectedExecutionException e) {
+                        // the batcher is closed
+                        full = takePending();
+                    }
+                }
+            }
+            if (previous != null) {
+                send(previous);
+            }
+            if (full != null) {
+                send(full);
+            }
+        }
+
+        void flush() {
+            List<Pending<?>> operations;
+            synchronized (this) {
+                operations = takePending();
+            }
+            if (!operations.isEmpty()) {
+                send(operations);
+            }
+        }
+
+        private List<Pending<?>> takePending() {
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+            List<Pending<?>> operations = pending;
+            pending = new ArrayList<>();
+            pendingKeys = new HashSet<>();
+            return operations;
+        }
+
+        private void send(List<Pending<?>> operations) {
+            List<Packable> tuples = operations.stream().map(operation -> operation.tuple)
+                .collect(Collectors.toList());
+            CompletableFuture<ArrayValue> result;
+            try {
+                result = batchCall.apply(functionName, arguments(tuples));
+            } catch (RuntimeException e) {
+                result = new CompletableFuture<>();
+                result.completeExceptionally(e);
+            }
+            CompletableFuture<Void> completed = result.handle((value, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+                        error.getCause() : error;
+                    operations.forEach(operation -> operation.fail(cause));
+                } else {
+                    complete(operations, value);
+                }
+                return null;
+            });
+            inFlight.add(completed);
+            completed.whenComplete((value, error) -> inFlight.remove(completed));
+        }
+
+        private Collection<?> arguments(List<Packable> tuples) {
+            if (functionName.equals(operationsMapping.getReplaceManyFunctionName())) {
+                return new ReplaceManyProxyOperation.Builder<Packable, List<Packable>>()
+                    .withSpaceName(spaceName)
+                    .withFunctionName(functionName)
+                    .withTuples(tuples)
+                    .withArgumentsMapperSupplier(mapperSupplier)
+                    .withOptions(ProxyReplaceManyOptions.create()
+                        .withStopOnError(StopOnError.FALSE)
+                        .withRollbackOnError(RollbackOnError.FALSE))
+                    .build()
+                    .getArguments();
+            }
+            return new InsertManyProxyOperation.Builder<Packable, List<Packable>>()
+                .withSpaceName(spaceName)
+                .withFunctionName(functionName)
+                .withTuples(tuples)
+                .withArgumentsMapperSupplier(mapperSupplier)
+                .withOptions(ProxyInsertManyOptions.create()
+                    .withStopOnError(StopOnError.FALSE)
+                    .withRollbackOnError(RollbackOnError.FALSE))
+                .build()
+                .getArguments();
+        }
+
+        private void complete(List<Pending<?>> operations, ArrayValue response) {
+            if (operations.size() == 1) {
+                completeSingle(operations.get(0), response);
+                return;
+            }
+            Map<List<Value>, Deque<Pending<?>>> waiting = new HashMap<>();
+            for (Pending<?> operation : operations) {
+                waiting.computeIfAbsent(operation.key, k -> new ArrayDeque<>()).add(operation);
+            }
+            // [{metadata = ..., rows = ...}, errors], where any of the values may be nil
+            Value result = response == null ? ValueFactory.newNil() : response.getOrNilValue(0);
+            Value errors = response == null ? ValueFactory.newNil() : response.getOrNilValue(1);
+            if (result.isMapValue()) {
+                Map<Value, Value> resultMap = result.asMapValue().map();
+                Value metadata = resultMap.getOrDefault(RESULT_METADATA, ValueFactory.newNil());
+                Value rows = resultMap.get(RESULT_ROWS);
+                if (rows != null && rows.isArrayValue()) {
+                    for (Value row : rows.asArrayValue()) {
+                        Pending<?> operation = poll(waiting, extractKey(row, keyFields));
+                        if (operation != null) {
+                            operation.complete(ValueFactory.newArray(ValueFactory.newMap(
+                                RESULT_METADATA, metadata, RESULT_ROWS, ValueFactory.newArray(row))));
+                        }
+                    }
+                }
+            }
+            Throwable callError = null;
+            if (errors.isArrayValue()) {
+                for (Value error : errors.asArrayValue()) {
+                    Value operationData = error.isMapValue() ?
+                        error.asMapValue().map().get(ERROR_OPERATION_DATA) : null;
+                    Pending<?> operation = operationData != null ?
+                        poll(waiting, extractKey(operationData, keyFields)) : null;
+                    if (operation != null) {
+                        operation.fail(TarantoolErrorsParser.parse(error));
+                    } else if (callError == null) {
+                        callError = TarantoolErrorsParser.parse(error);
+                    }
+                }
+            } else if (!errors.isNilValue()) {
+                callError = TarantoolErrorsParser.parse(errors);
+            }
+            Throwable missingResultError = callError != null ? callError :
+                new TarantoolClientException("No result for the tuple in the response of the batch call");
+            waiting.values().forEach(rest -> rest.forEach(operation -> operation.fail(missingResultError)));
+        }
+
+        private void completeSingle(Pending<?> operation, ArrayValue response) {
+            Value result = response == null ? ValueFactory.newNil() : response.getOrNilValue(0);
+            Value errors = response == null ? ValueFactory.newNil() : response.getOrNilValue(1);
+            if (result.isMapValue()) {
+                Map<Value, Value> resultMap = result.asMapValue().map();
+                Value rows = resultMap.get(RESULT_ROWS);
+                if (rows != null && rows.isArrayValue() && rows.asArrayValue().size() > 0) {
+                    operation.complete(ValueFactory.newArray(ValueFactory.newMap(
+                        RESULT_METADATA, resultMap.getOrDefault(RESULT_METADATA, ValueFactory.newNil()),
+                        RESULT_ROWS, ValueFactory.newArray(rows.asArrayValue().get(0)))));
+                    return;
+                }
+            }
+            if (errors.isArrayValue() && errors.asArrayValue().size() > 0) {
+                operation.fail(TarantoolErrorsParser.parse(errors.asArrayValue().get(0)));
+            } else if (!errors.isNilValue() && !errors.isArrayValue()) {
+                operation.fail(TarantoolErrorsParser.parse(errors));
+            } else {
+                operation.fail(
+                    new TarantoolClientException("No result for the tuple in the response of the batch call"));
+            }
+        }
+
+        private Pending<?> poll(Map<List<Value>, Deque<Pending<?>>> waiting, List<Value> key) {
+            Deque<Pending<?>> operations = waiting.get(key);
+            if (operations == null) {
+                return null;
+            }
+            Pending<?> operation = operations.poll();
+            if (operations.isEmpty()) {
+                waiting.remove(key);
+            }
+            return operation;
+        }
+    }
+}
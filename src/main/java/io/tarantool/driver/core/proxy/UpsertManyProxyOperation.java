@@ -0,0 +1,80 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.space.options.UpsertManyOptions;
+import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.core.proxy.enums.ProxyOperationArgument;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Proxy operation for upserting many records at once
+ *
+ * @param <T> result type
+ * @param <R> result collection type
+ */
+public final class UpsertManyProxyOperation<T extends Packable, R extends Collection<T>>
+    extends AbstractProxyOperation<R> {
+
+    UpsertManyProxyOperation(
+        TarantoolCallOperations client,
+        String functionName,
+        Collection<?> arguments,
+        Supplier<MessagePackObjectMapper> argumentsMapperSupplier,
+        Supplier<CallResultMapper<R, SingleValueCallResult<R>>> resultMapperSupplier) {
+        super(client, functionName, arguments, argumentsMapperSupplier, resultMapperSupplier);
+    }
+
+    /**
+     * The builder for this class.
+     */
+    public static final class Builder<T extends Packable, R extends Collection<T>>
+        extends GenericOperationsBuilder<R, UpsertManyOptions<?>, Builder<T, R>> {
+
+        public Builder() {
+        }
+
+        @Override
+        public Builder<T, R> self() {
+            return this;
+        }
+
+        /**
+         * Specify the tuples to insert and the operations to apply to the tuples which already exist
+         *
+         * @param tuples     tuples to insert
+         * @param operations provides the operations for each tuple
+         * @return builder
+         */
+        public Builder<T, R> withTuplesOperations(
+            Collection<T> tuples, Function<? super T, TupleOperations> operations) {
+            if (Objects.isNull(tuples) || Objects.isNull(operations)) {
+                throw new IllegalArgumentException(
+                    "Tuples and operations must be specified for batch upsert operation");
+            }
+            List<List<?>> tuplesOperations = new ArrayList<>(tuples.size());
+            for (T tuple : tuples) {
+                tuplesOperations.add(Arrays.asList(tuple, operations.apply(tuple).asProxyOperationList()));
+            }
+            addArgument(ProxyOperationArgument.TUPLE, tuplesOperations);
+            return self();
+        }
+
+        public UpsertManyProxyOperation<T, R> build() {
+
+            return new UpsertManyProxyOperation<>(
+                this.client, this.functionName, this.arguments.values(),
+                this.argumentsMapperSupplier, this.resultMapperSupplier);
+        }
+    }
+}
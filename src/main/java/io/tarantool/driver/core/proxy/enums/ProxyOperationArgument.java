@@ -14,6 +14,8 @@ public enum ProxyOperationArgument {
 
     SPACE_NAME("space_name"),
 
+    INDEX_NAME("index_name"),
+
     INDEX_QUERY("index_query"),
 
     TUPLE("tuple"),
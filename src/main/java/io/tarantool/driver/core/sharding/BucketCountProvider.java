@@ -0,0 +1,84 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches the total number of buckets in the cluster, which does not change during the cluster lifetime. The value
+ * is loaded on the first request. If loading fails, the failure is returned for all requests during the retry
+ * interval, so the operations do not make an extra failing round trip each, and the value is loaded again on the
+ * first request after the interval.
+ */
+public final class BucketCountProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(BucketCountProvider.class);
+    private static final long DEFAULT_RETRY_INTERVAL = TimeUnit.SECONDS.toNanos(30);
+
+    private final Supplier<CompletableFuture<Integer>> loader;
+    private final long retryIntervalNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicReference<CompletableFuture<Integer>> bucketCount = new AtomicReference<>();
+    private volatile long retryAt;
+
+    /**
+     * Basic constructor
+     *
+     * @param loader requests the number of buckets from the cluster
+     */
+    public BucketCountProvider(Supplier<CompletableFuture<Integer>> loader) {
+        this(loader, DEFAULT_RETRY_INTERVAL, System::nanoTime);
+    }
+
+    BucketCountProvider(Supplier<CompletableFuture<Integer>> loader, long retryIntervalNanos, LongSupplier nanoTime) {
+        Assert.notNull(loader, "Bucket count loader should not be null");
+        this.loader = loader;
+        this.retryIntervalNanos = retryIntervalNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Get the total number of buckets in the cluster
+     *
+     * @return a future with the number of buckets
+     */
+    public CompletableFuture<Integer> getBucketCount() {
+        CompletableFuture<Integer> current = bucketCount.get();
+        if (current != null && (!current.isCompletedExceptionally() || nanoTime.getAsLong() - retryAt < 0)) {
+            return current;
+        }
+        CompletableFuture<Integer> next = new CompletableFuture<>();
+        if (!bucketCount.compareAndSet(current, next)) {
+            return bucketCount.get();
+        }
+        try {
+            loader.get().whenComplete((count, error) -> {
+                if (error != null) {
+                    fail(next, error);
+                } else if (count == null || count <= 0) {
+                    fail(next, new TarantoolClientException("Invalid bucket count: %s", count));
+                } else {
+                    next.complete(count);
+                }
+            });
+        } catch (RuntimeException e) {
+            fail(next, e);
+        }
+        return next;
+    }
+
+    private void fail(CompletableFuture<Integer> future, Throwable error) {
+        log.warn("Failed to get the bucket count, the bucket ids will not be computed on the client side for {} ms",
+            TimeUnit.NANOSECONDS.toMillis(retryIntervalNanos), error);
+        // the retry time must be visible to the threads which see the failed future
+        retryAt = nanoTime.getAsLong() + retryIntervalNanos;
+        future.completeExceptionally(error);
+    }
+}
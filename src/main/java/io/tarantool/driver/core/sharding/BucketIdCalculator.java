@@ -0,0 +1,137 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Computes the bucket ids of the tuples and the primary keys of a cluster space on the client side, using the
+ * sharding key and the sharding function from the space schema like crud does on the router. If the sharding key is
+ * not specified in the schema, the primary key is used.
+ */
+public final class BucketIdCalculator {
+
+    private final VshardShardingFunction shardingFunction;
+    private final int[] tupleFields;
+    private final int[] primaryKeyParts;
+
+    private BucketIdCalculator(VshardShardingFunction shardingFunction, int[] tupleFields, int[] primaryKeyParts) {
+        this.shardingFunction = shardingFunction;
+        this.tupleFields = tupleFields;
+        this.primaryKeyParts = primaryKeyParts;
+    }
+
+    /**
+     * Create a calculator for the specified space
+     *
+     * @param spaceMetadata space metadata with the sharding key and the sharding function
+     * @param primaryIndex  primary index metadata, may be null
+     * @return the calculator or empty if the space uses a custom sharding function or a sharding key which cannot be
+     * extracted from the tuples
+     */
+    public static Optional<BucketIdCalculator> of(
+        TarantoolSpaceMetadata spaceMetadata, TarantoolIndexMetadata primaryIndex) {
+        Optional<VshardShardingFunction> shardingFunction =
+            VshardShardingFunction.of(spaceMetadata.getShardingFunction().orElse(null));
+        if (!shardingFunction.isPresent()) {
+            return Optional.empty();
+        }
+        int[] primaryKeyFields = null;
+        if (primaryIndex != null && primaryIndex.getIndexParts().stream().noneMatch(BucketIdCalculator::isJsonPath)) {
+            primaryKeyFields = primaryIndex.getIndexParts().stream()
+                .mapToInt(part -> part.getFieldIndex())
+                .toArray();
+        }
+        int[] tupleFields;
+        if (spaceMetadata.getShardingKey().isEmpty()) {
+            if (primaryKeyFields == null) {
+                return Optional.empty();
+            }
+            tupleFields = primaryKeyFields;
+        } else {
+            tupleFields = spaceMetadata.getShardingKey().stream()
+                .mapToInt(spaceMetadata::getFieldPositionByName)
+                .toArray();
+            for (int field : tupleFields) {
+                if (field < 0) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(new BucketIdCalculator(
+            shardingFunction.get(), tupleFields, primaryKeyParts(tupleFields, primaryKeyFields)));
+    }
+
+    private static boolean isJsonPath(TarantoolIndexPartMetadata<?> part) {
+        Object path = part.getPath();
+        return path instanceof String && (((String) path).indexOf('.') >= 0 || ((String) path).indexOf('[') >= 0);
+    }
+
+    private static int[] primaryKeyParts(int[] tupleFields, int[] primaryKeyFields) {
+        if (primaryKeyFields == null) {
+            return null;
+        }
+        int[] parts = new int[tupleFields.length];
+        for (int i = 0; i < tupleFields.length; i++) {
+            parts[i] = -1;
+            for (int part = 0; part < primaryKeyFields.length; part++) {
+                if (primaryKeyFields[part] == tupleFields[i]) {
+                    parts[i] = part;
+                    break;
+                }
+            }
+            if (parts[i] < 0) {
+                // the sharding key is not a part of the primary key
+                return null;
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Compute the bucket id of a tuple
+     *
+     * @param tuple       tuple fields
+     * @param bucketCount total number of buckets in the cluster
+     * @return bucket id or empty if it cannot be computed on the client side
+     */
+    public OptionalInt fromTuple(Value tuple, int bucketCount) {
+        if (!tuple.isArrayValue()) {
+            return OptionalInt.empty();
+        }
+        return bucketId(tuple.asArrayValue(), tupleFields, bucketCount);
+    }
+
+    /**
+     * Compute the bucket id of a tuple by its primary key
+     *
+     * @param primaryKey  primary key values
+     * @param bucketCount total number of buckets in the cluster
+     * @return bucket id or empty if it cannot be computed on the client side
+     */
+    public OptionalInt fromPrimaryKey(ArrayValue primaryKey, int bucketCount) {
+        if (primaryKeyParts == null) {
+            return OptionalInt.empty();
+        }
+        return bucketId(primaryKey, primaryKeyParts, bucketCount);
+    }
+
+    private OptionalInt bucketId(ArrayValue values, int[] positions, int bucketCount) {
+        List<Value> key = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            Value value = values.getOrNilValue(position);
+            if (value.isNilValue()) {
+                return OptionalInt.empty();
+            }
+            key.add(value);
+        }
+        return shardingFunction.bucketId(key, bucketCount);
+    }
+}
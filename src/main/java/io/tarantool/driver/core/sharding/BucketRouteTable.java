@@ -0,0 +1,115 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Caches the addresses of the replicaset masters owning the buckets. The table is loaded from the router on the
+ * first request and is reloaded in background when a bucket is not found in it or is reported by a storage as moved,
+ * but not more often than the specified interval.
+ */
+public final class BucketRouteTable {
+
+    private static final TarantoolServerAddress[] EMPTY = new TarantoolServerAddress[0];
+
+    private final Supplier<CompletableFuture<Map<TarantoolServerAddress, Collection<Integer>>>> loader;
+    private final long minRefreshIntervalNanos;
+    private final AtomicReference<TarantoolServerAddress[]> masters = new AtomicReference<>(EMPTY);
+    private final AtomicBoolean loading = new AtomicBoolean();
+    private volatile long nextRefreshNanos = System.nanoTime();
+
+    /**
+     * Basic constructor
+     *
+     * @param loader                   requests the bucket ids owned by each replicaset master from the router
+     * @param minRefreshIntervalMillis minimal interval between the table reloads, in milliseconds
+     */
+    public BucketRouteTable(
+        Supplier<CompletableFuture<Map<TarantoolServerAddress, Collection<Integer>>>> loader,
+        long minRefreshIntervalMillis) {
+        Assert.notNull(loader, "Bucket routes loader should not be null");
+        Assert.state(minRefreshIntervalMillis >= 0, "Refresh interval should not be negative");
+        this.loader = loader;
+        this.minRefreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minRefreshIntervalMillis);
+    }
+
+    /**
+     * Get the address of the replicaset master owning the specified bucket. Requests reloading of the table if the
+     * bucket is not known.
+     *
+     * @param bucketId bucket id
+     * @return master address or empty if it is not known yet
+     */
+    public Optional<TarantoolServerAddress> getMaster(int bucketId) {
+        TarantoolServerAddress[] current = masters.get();
+        if (bucketId > 0 && bucketId < current.length && current[bucketId] != null) {
+            return Optional.of(current[bucketId]);
+        }
+        refresh();
+        return Optional.empty();
+    }
+
+    /**
+     * Forget the owner of the bucket, e.g. after the bucket is moved to another replicaset or the master has
+     * changed, and request reloading of the table
+     *
+     * @param bucketId bucket id
+     */
+    public void invalidate(int bucketId) {
+        TarantoolServerAddress[] current;
+        TarantoolServerAddress[] updated;
+        do {
+            current = masters.get();
+            if (bucketId <= 0 || bucketId >= current.length || current[bucketId] == null) {
+                break;
+            }
+            updated = current.clone();
+            updated[bucketId] = null;
+        } while (!masters.compareAndSet(current, updated));
+        refresh();
+    }
+
+    private void refresh() {
+        long now = System.nanoTime();
+        if (now - nextRefreshNanos < 0 || !loading.compareAndSet(false, true)) {
+            return;
+        }
+        nextRefreshNanos = now + minRefreshIntervalNanos;
+        try {
+            loader.get().whenComplete((routes, error) -> {
+                if (error == null && routes != null) {
+                    masters.set(toTable(routes));
+                }
+                loading.set(false);
+            });
+        } catch (RuntimeException e) {
+            loading.set(false);
+        }
+    }
+
+    private static TarantoolServerAddress[] toTable(Map<TarantoolServerAddress, Collection<Integer>> routes) {
+        int maxBucketId = routes.values().stream()
+            .flatMap(Collection::stream)
+            .mapToInt(Integer::intValue)
+            .max()
+            .orElse(0);
+        TarantoolServerAddress[] table = new TarantoolServerAddress[maxBucketId + 1];
+        routes.forEach((master, bucketIds) -> {
+            for (Integer bucketId : bucketIds) {
+                if (bucketId > 0) {
+                    table[bucketId] = master;
+                }
+            }
+        });
+        return table;
+    }
+}
@@ -0,0 +1,258 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.exceptions.NoAvailableConnectionsException;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolConnectionException;
+import io.tarantool.driver.exceptions.TarantoolNoSuchProcedureException;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.RawMessagePack;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sends the single tuple operations directly to the masters of the replicasets owning the buckets, skipping the
+ * router. The operation is executed on the storage under the vshard bucket reference, so it is rejected if the bucket
+ * is being moved or is not on the storage anymore. In that case, and if the storage is not reachable, the bucket
+ * route is invalidated and the caller should send the operation to the router.
+ * <p>
+ * The operation is executed by a function which must be defined on the storages by the application (see
+ * {@link io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig#getStorageOperationFunctionName()}). The
+ * function is called with the bucket id, the bucket reference mode ({@code read} or {@code write}), the space name,
+ * the space method name and the method arguments. It returns the result in the same format as crud does, i.e. the
+ * space format as metadata and the rows, or nil and a crud-like error, so the results and the errors of the
+ * operations sent directly and through the router are converted in the same way. If the bucket cannot be referenced,
+ * the function must return nil, nil and the error without executing the operation.
+ */
+public final class DirectStorageRouter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectStorageRouter.class);
+
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = 1000;
+
+    private static final String READ_MODE = "read";
+    private static final String WRITE_MODE = "write";
+
+    static final String ROUTES_EXPRESSION =
+        "local routes = {} " +
+        "for _, replicaset in pairs(require('vshard').router.routeall()) do " +
+        "    if replicaset.master ~= nil then " +
+        "        local buckets, err = replicaset:callrw('vshard.storage.buckets_info', {}) " +
+        "        if buckets == nil then error(err) end " +
+        "        local bucket_ids = {} " +
+        "        for bucket_id, bucket in pairs(buckets) do " +
+        "            if bucket.status == 'active' or bucket.status == 'pinned' then " +
+        "                table.insert(bucket_ids, bucket_id) " +
+        "            end " +
+        "        end " +
+        "        table.insert(routes, {replicaset.master.uri, bucket_ids}) " +
+        "    end " +
+        "end " +
+        "return routes";
+
+    private final BucketRouteTable routeTable;
+    private final BiFunction<TarantoolServerAddress, byte[], CompletableFuture<byte[]>> storageCall;
+    private final Supplier<? extends MessagePackObjectMapper> argumentsMapperSupplier;
+    private final Map<TarantoolServerAddress, ? extends AutoCloseable> storageClients;
+
+    /**
+     * Basic constructor
+     *
+     * @param routeTable              cached bucket routes
+     * @param storageCall             calls the storage operation function with the packed arguments on a storage
+     *                                and returns the packed results
+     * @param argumentsMapperSupplier mapper supplier for the operation arguments conversion
+     */
+    public DirectStorageRouter(
+        BucketRouteTable routeTable,
+        BiFunction<TarantoolServerAddress, byte[], CompletableFuture<byte[]>> storageCall,
+        Supplier<? extends MessagePackObjectMapper> argumentsMapperSupplier) {
+        this(routeTable, storageCall, argumentsMapperSupplier, Collections.emptyMap());
+    }
+
+    private DirectStorageRouter(
+        BucketRouteTable routeTable,
+        BiFunction<TarantoolServerAddress, byte[], CompletableFuture<byte[]>> storageCall,
+        Supplier<? extends MessagePackObjectMapper> argumentsMapperSupplier,
+        Map<TarantoolServerAddress, ? extends AutoCloseable> storageClients) {
+        Assert.notNull(routeTable, "Bucket route table should not be null");
+        Assert.notNull(storageCall, "Storage call should not be null");
+        Assert.notNull(argumentsMapperSupplier, "Arguments mapper supplier should not be null");
+        this.routeTable = routeTable;
+        this.storageCall = storageCall;
+        this.argumentsMapperSupplier = argumentsMapperSupplier;
+        this.storageClients = storageClients;
+    }
+
+    /**
+     * Create a router loading the bucket routes from the cluster router and connecting to the storages with the
+     * clients created by the specified factory
+     *
+     * @param routerClient         client connected to the cluster routers
+     * @param storageClientFactory creates a client connected to the storage with the specified address
+     * @param mapperSupplier       mapper supplier for the operation arguments conversion
+     * @param storageFunctionName  name of the function executing the operations on the storages
+     * @return new router instance
+     */
+    public static DirectStorageRouter create(
+        TarantoolClient<?, ?> routerClient,
+        Function<TarantoolServerAddress, TarantoolClient<?, ?>> storageClientFactory,
+        Supplier<? extends MessagePackObjectMapper> mapperSupplier,
+        String storageFunctionName) {
+        Assert.hasText(storageFunctionName, "Storage function name should not be empty");
+        Map<TarantoolServerAddress, TarantoolClient<?, ?>> storageClients = new ConcurrentHashMap<>();
+        BucketRouteTable routeTable = new BucketRouteTable(
+            () -> routerClient.eval(ROUTES_EXPRESSION).thenApply(DirectStorageRouter::parseRoutes),
+            MIN_REFRESH_INTERVAL_MILLIS);
+        return new DirectStorageRouter(routeTable, (address, arguments) -> storageClients
+            .computeIfAbsent(address, storageClientFactory)
+            .callRaw(storageFunctionName, RawMessagePack.of(arguments)), mapperSupplier, storageClients);
+    }
+
+    static Map<TarantoolServerAddress, Collection<Integer>> parseRoutes(List<?> result) {
+        Map<TarantoolServerAddress, Collection<Integer>> routes = new HashMap<>();
+        if (result.isEmpty() || !(result.get(0) instanceof List)) {
+            return routes;
+        }
+        for (Object route : (List<?>) result.get(0)) {
+            List<?> replicaset = (List<?>) route;
+            TarantoolServerAddress master;
+            try {
+                master = new TarantoolServerAddress(String.valueOf(replicaset.get(0)));
+            } catch (IllegalArgumentException e) {
+                // e.g. a unix socket, such replicasets are accessed through the router
+                log.debug("Unsupported storage address: {}", e.getMessage());
+                continue;
+            }
+            Collection<Integer> bucketIds = routes.computeIfAbsent(master, address -> new ArrayList<>());
+            for (Object bucketId : (List<?>) replicaset.get(1)) {
+                bucketIds.add(((Number) bucketId).intValue());
+            }
+        }
+        return routes;
+    }
+
+    /**
+     * Execute a space write operation on the master of the replicaset owning the bucket
+     *
+     * @param bucketId  bucket id of the tuple
+     * @param spaceName space name
+     * @param operation space method name, e.g. {@code insert}
+     * @param arguments space method arguments
+     * @return a future with the crud-like result, containing the error if the operation has failed, or empty if the
+     * operation should be sent to the router
+     */
+    public CompletableFuture<Optional<ArrayValue>> write(
+        int bucketId, String spaceName, String operation, List<?> arguments) {
+        return execute(bucketId, WRITE_MODE, spaceName, operation, arguments);
+    }
+
+    /**
+     * Execute a space read operation on the master of the replicaset owning the bucket
+     *
+     * @param bucketId  bucket id of the tuple
+     * @param spaceName space name
+     * @param operation space method name, e.g. {@code get}
+     * @param arguments space method arguments
+     * @return a future with the crud-like result, containing the error if the operation has failed, or empty if the
+     * operation should be sent to the router
+     */
+    public CompletableFuture<Optional<ArrayValue>> read(
+        int bucketId, String spaceName, String operation, List<?> arguments) {
+        return execute(bucketId, READ_MODE, spaceName, operation, arguments);
+    }
+
+    private CompletableFuture<Optional<ArrayValue>> execute(
+        int bucketId, String mode, String spaceName, String operation, List<?> arguments) {
+        Optional<TarantoolServerAddress> master = routeTable.getMaster(bucketId);
+        if (!master.isPresent()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        CompletableFuture<byte[]> result;
+        try {
+            result = storageCall.apply(master.get(), pack(Arrays.asList(bucketId, mode, spaceName, operation,
+                arguments)));
+        } catch (TarantoolConnectionException | NoAvailableConnectionsException e) {
+            routeTable.invalidate(bucketId);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return result.handle((packedResult, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+                    error.getCause() : error;
+                if (cause instanceof TarantoolConnectionException ||
+                    cause instanceof NoAvailableConnectionsException ||
+                    cause instanceof TarantoolNoSuchProcedureException) {
+                    // the operation has not been executed, the master may have changed
+                    routeTable.invalidate(bucketId);
+                    return Optional.empty();
+                }
+                throw error instanceof CompletionException ? (CompletionException) error :
+                    new CompletionException(error);
+            }
+            ArrayValue results = unpack(packedResult);
+            if (results.size() > 2 && results.get(0).isNilValue() && !results.get(2).isNilValue()) {
+                // the bucket is moved or is being moved
+                routeTable.invalidate(bucketId);
+                return Optional.empty();
+            }
+            return Optional.of(results);
+        });
+    }
+
+    private byte[] pack(List<?> arguments) {
+        Value value = argumentsMapperSupplier.get().toValue(arguments);
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packValue(value);
+            return packer.toByteArray();
+        } catch (IOException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    private static ArrayValue unpack(byte[] packedResult) {
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packedResult)) {
+            return unpacker.unpackValue().asArrayValue();
+        } catch (IOException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        Exception failure = null;
+        for (AutoCloseable client : storageClients.values()) {
+            try {
+                client.close();
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw new TarantoolClientException(failure);
+        }
+    }
+}
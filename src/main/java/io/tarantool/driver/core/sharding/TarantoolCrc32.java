@@ -0,0 +1,41 @@
+package io.tarantool.driver.core.sharding;
+
+/**
+ * CRC32 checksum compatible with the {@code digest.crc32} function of Tarantool, which is used by the vshard
+ * sharding functions. Tarantool uses the Castagnoli polynomial (CRC-32C) with the initial value {@code 0xFFFFFFFF}
+ * and without the final inversion of the result.
+ */
+final class TarantoolCrc32 {
+
+    static final int INITIAL_VALUE = 0xFFFFFFFF;
+
+    private static final int POLYNOMIAL = 0x82F63B78;
+    private static final int[] TABLE = new int[256];
+
+    static {
+        for (int i = 0; i < TABLE.length; i++) {
+            int crc = i;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+            }
+            TABLE[i] = crc;
+        }
+    }
+
+    private TarantoolCrc32() {
+    }
+
+    /**
+     * Continue the checksum calculation with the specified data, like {@code crc32:update(data)} in Tarantool
+     *
+     * @param crc  current checksum value, {@link #INITIAL_VALUE} for a new checksum
+     * @param data data bytes
+     * @return updated checksum value
+     */
+    static int update(int crc, byte[] data) {
+        for (byte b : data) {
+            crc = TABLE[(crc ^ b) & 0xff] ^ (crc >>> 8);
+        }
+        return crc;
+    }
+}
@@ -0,0 +1,127 @@
+package io.tarantool.driver.core.sharding;
+
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.IntegerValue;
+import org.msgpack.value.Value;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Client-side implementations of the vshard sharding functions, giving the same bucket ids as
+ * {@code vshard.router.bucket_id_strcrc32} and {@code vshard.router.bucket_id_mpcrc32} for the same sharding key.
+ * <p>
+ * Only the key values with an unambiguous representation on the Tarantool side are supported: strings, booleans,
+ * integers (for {@link #STRCRC32} the ones which are printed by Lua without the exponent, i.e. less than 10^14 by
+ * absolute value) and, for {@link #MPCRC32}, UUIDs. For the other values the bucket id is not computed and should be
+ * left to the router.
+ */
+public enum VshardShardingFunction {
+
+    /**
+     * CRC32 of the string representations of the key values, the default function of vshard and crud
+     */
+    STRCRC32("vshard.router.bucket_id_strcrc32") {
+        @Override
+        byte[] encode(Value value) {
+            if (value.isStringValue()) {
+                return value.asStringValue().asByteArray();
+            }
+            if (value.isBooleanValue()) {
+                return Boolean.toString(value.asBooleanValue().getBoolean()).getBytes(StandardCharsets.US_ASCII);
+            }
+            if (value.isIntegerValue()) {
+                IntegerValue integer = value.asIntegerValue();
+                // Lua formats the numbers with "%.14g"
+                if (integer.isInLongRange() &&
+                    integer.toLong() > -MAX_PLAIN_NUMBER && integer.toLong() < MAX_PLAIN_NUMBER) {
+                    return Long.toString(integer.toLong()).getBytes(StandardCharsets.US_ASCII);
+                }
+            }
+            return null;
+        }
+    },
+
+    /**
+     * CRC32 of the MessagePack representations of the key values, except the strings which are taken as is
+     */
+    MPCRC32("vshard.router.bucket_id_mpcrc32") {
+        @Override
+        byte[] encode(Value value) {
+            if (value.isStringValue()) {
+                return value.asStringValue().asByteArray();
+            }
+            if (value.isBooleanValue() || value.isIntegerValue() ||
+                value.isExtensionValue() && value.asExtensionValue().getType() == UUID_EXTENSION_TYPE) {
+                try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+                    packer.packValue(value);
+                    return packer.toByteArray();
+                } catch (IOException e) {
+                    return null;
+                }
+            }
+            return null;
+        }
+    };
+
+    private static final long MAX_PLAIN_NUMBER = 100_000_000_000_000L;
+    private static final byte UUID_EXTENSION_TYPE = 2;
+
+    private final String functionName;
+
+    VshardShardingFunction(String functionName) {
+        this.functionName = functionName;
+    }
+
+    /**
+     * Get the name of the corresponding vshard function
+     *
+     * @return function name
+     */
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    /**
+     * Find the function by the sharding function specified in the space schema
+     *
+     * @param shardingFunction sharding function name or body, null for the default function
+     * @return the function or empty if the specified function is not a vshard function
+     */
+    public static Optional<VshardShardingFunction> of(String shardingFunction) {
+        if (shardingFunction == null) {
+            return Optional.of(STRCRC32);
+        }
+        for (VshardShardingFunction function : values()) {
+            if (function.functionName.equals(shardingFunction)) {
+                return Optional.of(function);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Compute the bucket id for the specified sharding key
+     *
+     * @param key         sharding key values
+     * @param bucketCount total number of buckets in the cluster
+     * @return bucket id starting with 1 or empty if some of the key values are not supported
+     */
+    public OptionalInt bucketId(List<Value> key, int bucketCount) {
+        int crc = TarantoolCrc32.INITIAL_VALUE;
+        for (Value value : key) {
+            byte[] bytes = encode(value);
+            if (bytes == null) {
+                return OptionalInt.empty();
+            }
+            crc = TarantoolCrc32.update(crc, bytes);
+        }
+        return OptionalInt.of((int) (Integer.toUnsignedLong(crc) % bucketCount) + 1);
+    }
+
+    abstract byte[] encode(Value value);
+}
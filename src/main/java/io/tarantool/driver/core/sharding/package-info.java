@@ -0,0 +1,5 @@
+/**
+ * Contains the client-side implementation of the vshard sharding functions used for computing the bucket ids and
+ * the routing of the operations directly to the storages owning the buckets
+ */
+package io.tarantool.driver.core.sharding;
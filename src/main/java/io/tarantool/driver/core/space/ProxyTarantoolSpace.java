@@ -3,49 +3,82 @@ package io.tarantool.driver.core.space;
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolCallOperations;
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
 import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.options.CountOptions;
 import io.tarantool.driver.api.space.options.DeleteOptions;
+import io.tarantool.driver.api.space.options.GetOptions;
 import io.tarantool.driver.api.space.options.InsertManyOptions;
 import io.tarantool.driver.api.space.options.InsertOptions;
+import io.tarantool.driver.api.space.options.LenOptions;
+import io.tarantool.driver.api.space.options.MinMaxOptions;
 import io.tarantool.driver.api.space.options.ReplaceManyOptions;
 import io.tarantool.driver.api.space.options.ReplaceOptions;
 import io.tarantool.driver.api.space.options.SelectOptions;
 import io.tarantool.driver.api.space.options.UpdateOptions;
+import io.tarantool.driver.api.space.options.UpsertManyOptions;
 import io.tarantool.driver.api.space.options.UpsertOptions;
+import io.tarantool.driver.api.space.options.crud.OperationWithBucketIdOptions;
+import io.tarantool.driver.api.space.options.crud.enums.ProxyOption;
 import io.tarantool.driver.api.space.options.crud.enums.RollbackOnError;
 import io.tarantool.driver.api.space.options.crud.enums.StopOnError;
+import io.tarantool.driver.api.space.options.ProxyCountOptions;
 import io.tarantool.driver.api.space.options.ProxyDeleteOptions;
+import io.tarantool.driver.api.space.options.ProxyGetOptions;
 import io.tarantool.driver.api.space.options.ProxyInsertManyOptions;
 import io.tarantool.driver.api.space.options.ProxyInsertOptions;
+import io.tarantool.driver.api.space.options.ProxyLenOptions;
+import io.tarantool.driver.api.space.options.ProxyMinMaxOptions;
 import io.tarantool.driver.api.space.options.ProxyReplaceManyOptions;
 import io.tarantool.driver.api.space.options.ProxyReplaceOptions;
 import io.tarantool.driver.api.space.options.ProxySelectOptions;
 import io.tarantool.driver.api.space.options.ProxyTruncateOptions;
 import io.tarantool.driver.api.space.options.ProxyUpdateOptions;
+import io.tarantool.driver.api.space.options.ProxyUpsertManyOptions;
 import io.tarantool.driver.api.space.options.ProxyUpsertOptions;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.core.proxy.BuilderOptions;
+import io.tarantool.driver.core.proxy.CountProxyOperation;
 import io.tarantool.driver.core.proxy.DeleteProxyOperation;
+import io.tarantool.driver.core.proxy.GetProxyOperation;
 import io.tarantool.driver.core.proxy.InsertManyProxyOperation;
 import io.tarantool.driver.core.proxy.InsertProxyOperation;
+import io.tarantool.driver.core.proxy.LenProxyOperation;
+import io.tarantool.driver.core.proxy.MinMaxProxyOperation;
 import io.tarantool.driver.core.proxy.ProxyOperation;
+import io.tarantool.driver.core.proxy.ProxyWriteBatcher;
 import io.tarantool.driver.core.proxy.ReplaceManyProxyOperation;
 import io.tarantool.driver.core.proxy.ReplaceProxyOperation;
 import io.tarantool.driver.core.proxy.SelectProxyOperation;
 import io.tarantool.driver.core.proxy.TruncateProxyOperation;
 import io.tarantool.driver.core.proxy.UpdateProxyOperation;
+import io.tarantool.driver.core.proxy.UpsertManyProxyOperation;
 import io.tarantool.driver.core.proxy.UpsertProxyOperation;
+import io.tarantool.driver.core.proxy.enums.ProxyOperationArgument;
+import io.tarantool.driver.core.sharding.BucketCountProvider;
+import io.tarantool.driver.core.sharding.BucketIdCalculator;
+import io.tarantool.driver.core.sharding.DirectStorageRouter;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.converters.value.ValueToTupleRowsConverter;
 import io.tarantool.driver.protocol.Packable;
 import io.tarantool.driver.protocol.TarantoolIndexQuery;
 import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 /**
@@ -58,12 +91,18 @@ import java.util.function.Supplier;
 public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collection<T>>
     implements TarantoolSpaceOperations<T, R> {
 
+    // the options not affecting the result of the operations executed on the storages directly
     private final String spaceName;
     private final TarantoolClientConfig config;
     private final TarantoolCallOperations client;
     private final TarantoolMetadataOperations metadataOperations;
     private final ProxyOperationsMappingConfig operationsMapping;
     private final TarantoolSpaceMetadata spaceMetadata;
+    private final ProxyWriteBatcher writeBatcher;
+    private final int[] primaryKeyFields;
+    private final BucketCountProvider bucketCountProvider;
+    private final BucketIdCalculator bucketIdCalculator;
+    private final DirectStorageRouter directStorageRouter;
 
     public ProxyTarantoolSpace(
         TarantoolClientConfig config,
@@ -71,12 +110,47 @@ public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collecti
         ProxyOperationsMappingConfig operationsMapping,
         TarantoolMetadataOperations metadata,
         TarantoolSpaceMetadata spaceMetadata) {
+        this(config, client, operationsMapping, metadata, spaceMetadata, null, null, null);
+    }
+
+    /**
+     * Constructor for a space with automatic batching of single tuple writes, client-side bucket ids and direct
+     * routing to the storages
+     *
+     * @param config              Tarantool client config
+     * @param client              configured Tarantool client
+     * @param operationsMapping   proxy operation mapping config
+     * @param metadata            metadata operations
+     * @param spaceMetadata       current space metadata
+     * @param writeBatcher        batcher of single tuple writes shared by the spaces of the client, may be null
+     * @param bucketCountProvider cached number of buckets for computing the bucket ids, may be null
+     * @param directStorageRouter router of the single tuple operations to the storages, may be null
+     */
+    public ProxyTarantoolSpace(
+        TarantoolClientConfig config,
+        TarantoolCallOperations client,
+        ProxyOperationsMappingConfig operationsMapping,
+        TarantoolMetadataOperations metadata,
+        TarantoolSpaceMetadata spaceMetadata,
+        ProxyWriteBatcher writeBatcher,
+        BucketCountProvider bucketCountProvider,
+        DirectStorageRouter directStorageRouter) {
         this.config = config;
         this.client = client;
         this.operationsMapping = operationsMapping;
         this.metadataOperations = metadata;
         this.spaceMetadata = spaceMetadata;
         this.spaceName = spaceMetadata.getSpaceName();
+        // the batch results are matched with the operations by the primary key
+        this.primaryKeyFields = writeBatcher == null ? null : metadata.getIndexById(spaceName, 0)
+            .map(index -> index.getIndexParts().stream().mapToInt(part -> part.getFieldIndex()).toArray())
+            .orElse(null);
+        this.writeBatcher = primaryKeyFields == null ? null : writeBatcher;
+        this.bucketIdCalculator = bucketCountProvider == null ? null : BucketIdCalculator
+            .of(spaceMetadata, metadata.getIndexById(spaceName, 0).orElse(null))
+            .orElse(null);
+        this.bucketCountProvider = bucketIdCalculator == null ? null : bucketCountProvider;
+        this.directStorageRouter = bucketIdCalculator == null ? null : directStorageRouter;
     }
 
     @Override
@@ -99,21 +173,26 @@ public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collecti
         throws TarantoolClientException {
         TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
 
-        DeleteProxyOperation<R> operation = new DeleteProxyOperation.Builder<R>()
+        DeleteProxyOperation.Builder<R> builder = new DeleteProxyOperation.Builder<R>()
             .withClient(client)
             .withSpaceName(spaceName)
             .withFunctionName(operationsMapping.getDeleteFunctionName())
             .withIndexQuery(indexQuery)
             .withArgumentsMapperSupplier(config::getMessagePackMapper)
             .withResultMapperSupplier(resultMapperSupplier)
-            .withOptions(options)
-            .build();
+            .withOptions(options);
 
-        return executeOperation(operation);
+        return executeWithBucketId(builder, DeleteProxyOperation.Builder::build, options,
+            bucketCount -> bucketIdFromIndexQuery(indexQuery, bucketCount),
+            bucketId -> directStorageRouter.write(bucketId, spaceName, "delete",
+                Collections.singletonList(indexQuery.getKeyValues())));
     }
 
     @Override
     public CompletableFuture<R> insert(T tuple) throws TarantoolClientException {
+        if (writeBatcher != null) {
+            return writeBatcher.insert(spaceName, tuple, primaryKeyFields, this::fromRawResult);
+        }
         return insert(tuple, this::rowsMetadataTupleResultMapper, ProxyInsertOptions.create());
     }
 
@@ -130,17 +209,18 @@ public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collecti
         Supplier<CallResultMapper<R, SingleValueCallResult<R>>> resultMapperSupplier,
         InsertOptions options)
         throws TarantoolClientException {
-        InsertProxyOperation<T, R> operation = new InsertProxyOperation.Builder<T, R>()
+        InsertProxyOperation.Builder<T, R> builder = new InsertProxyOperation.Builder<T, R>()
             .withClient(client)
             .withSpaceName(spaceName)
             .withFunctionName(operationsMapping.getInsertFunctionName())
             .withTuple(tuple)
             .withArgumentsMapperSupplier(config::getMessagePackMapper)
             .withResultMapperSupplier(resultMapperSupplier)
-            .withOptions(options)
-            .build();
+            .withOptions(options);
 
-        return executeOperation(operation);
+        return executeWithBucketId(builder, InsertProxyOperation.Builder::build, options,
+            bucketCount -> bucketIdFromTuple(tuple, bucketCount),
+            bucketId -> directStorageRouter.write(bucketId, spaceName, "insert", Collections.singletonList(tuple)));
     }
 
     @Override
@@ -180,6 +260,9 @@ public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collecti
 
     @Override
     public CompletableFuture<R> replace(T tuple) throws TarantoolClientException {
+        if (writeBatcher != null) {
+            return writeBatcher.replace(spaceName, tuple, primaryKeyFields, this::fromRawResult);
+        }
         return replace(tuple, this::rowsMetadataTupleResultMapper, ProxyReplaceOptions.create());
     }
 
@@ -196,17 +279,18 @@ public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collecti
         Supplier<CallResultMapper<R, SingleValueCallResult<R>>> resultMapperSupplier,
         ReplaceOptions options)
         throws TarantoolClientException {
-        ReplaceProxyOperation<T, R> operation = new ReplaceProxyOperation.Builder<T, R>()
+        ReplaceProxyOperation.Builder<T, R> builder = new ReplaceProxyOperation.Builder<T, R>()
             .withClient(client)
             .withSpaceName(spaceName)
             .withFunctionName(operationsMapping.getReplaceFunctionName())
             .withTuple(tuple)
             .withArgumentsMapperSupplier(config::getMessagePackMapper)
             .withResultMapperSupplier(resultMapperSupplier)
-            .withOptions(options)
-            .build();
+            .withOptions(options);
 
-        return executeOperation(operation);
+        return executeWithBucketId(builder, ReplaceProxyOperation.Builder::build, options,
+            bucketCount -> bucketIdFromTuple(tuple, bucketCount),
+            bucketId -> directStorageRouter.write(bucketId, spaceName, "replace", Collections.singletonList(tuple)));
     }
 
     @Override
@@ -276,6 +360,166 @@ public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collecti
         return executeOperation(operation);
     }
 
+    /**
+     * Select tuples without converting them, used by the cursors which decode the tuples themselves
+     *
+     * @param conditions query with options
+     * @return a future that will contain the raw array of tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    @SuppressWarnings("unchecked")
+    protected CompletableFuture<ArrayValue> selectRows(Conditions conditions) throws TarantoolClientException {
+        SelectProxyOperation<ArrayValue> operation =
+            new SelectProxyOperation.Builder<ArrayValue>(metadataOperations, spaceMetadata)
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getSelectFunctionName())
+                .withConditions(conditions)
+                .withArgumentsMapperSupplier(config::getMessagePackMapper)
+                .withResultMapperSupplier(() -> client.getResultMapperFactoryFactory()
+                    .<ArrayValue>singleValueResultMapperFactory()
+                    .withSingleValueResultConverter(new ValueToTupleRowsConverter(),
+                        (Class<SingleValueCallResult<ArrayValue>>) (Class<?>) SingleValueCallResult.class))
+                .withOptions(ProxySelectOptions.create())
+                .build();
+
+        return operation.execute();
+    }
+
+    @Override
+    public CompletableFuture<TarantoolColumnarResult> selectColumnar(Conditions conditions)
+        throws TarantoolClientException {
+        SelectProxyOperation<TarantoolColumnarResult> operation =
+            new SelectProxyOperation.Builder<TarantoolColumnarResult>(metadataOperations, spaceMetadata)
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(operationsMapping.getSelectFunctionName())
+                .withConditions(conditions)
+                .withArgumentsMapperSupplier(config::getMessagePackMapper)
+                .withResultMapperSupplier(() -> client.getResultMapperFactoryFactory()
+                    .columnarResultMapper(config.getMessagePackMapper(), spaceMetadata))
+                .withOptions(ProxySelectOptions.create())
+                .build();
+
+        return operation.execute();
+    }
+
+    @Override
+    public CompletableFuture<R> get(Conditions conditions) throws TarantoolClientException {
+        return get(conditions, this::rowsMetadataTupleResultMapper, ProxyGetOptions.create());
+    }
+
+    @Override
+    public CompletableFuture<R> get(Conditions conditions, GetOptions<?> options) throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return get(conditions, this::rowsMetadataTupleResultMapper, options);
+    }
+
+    private CompletableFuture<R> get(
+        Conditions conditions,
+        Supplier<CallResultMapper<R, SingleValueCallResult<R>>> resultMapperSupplier,
+        GetOptions<?> options)
+        throws TarantoolClientException {
+        TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+
+        GetProxyOperation.Builder<R> builder = new GetProxyOperation.Builder<R>()
+            .withClient(client)
+            .withSpaceName(spaceName)
+            .withFunctionName(operationsMapping.getGetFunctionName())
+            .withIndexQuery(indexQuery)
+            .withArgumentsMapperSupplier(config::getMessagePackMapper)
+            .withResultMapperSupplier(resultMapperSupplier)
+            .withOptions(options);
+
+        return executeWithBucketId(builder, GetProxyOperation.Builder::build, options,
+            bucketCount -> bucketIdFromIndexQuery(indexQuery, bucketCount),
+            bucketId -> directStorageRouter.read(bucketId, spaceName, "get",
+                Collections.singletonList(indexQuery.getKeyValues())));
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException {
+        return count(conditions, ProxyCountOptions.create());
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions, CountOptions<?> options)
+        throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return new CountProxyOperation.Builder(metadataOperations, spaceMetadata)
+            .withClient(client)
+            .withSpaceName(spaceName)
+            .withFunctionName(operationsMapping.getCountFunctionName())
+            .withConditions(conditions)
+            .withOptions(options)
+            .build()
+            .execute();
+    }
+
+    @Override
+    public CompletableFuture<Long> len() throws TarantoolClientException {
+        return len(ProxyLenOptions.create());
+    }
+
+    @Override
+    public CompletableFuture<Long> len(LenOptions<?> options) throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return LenProxyOperation.builder()
+            .withClient(client)
+            .withSpaceName(spaceName)
+            .withFunctionName(operationsMapping.getLenFunctionName())
+            .withOptions(options)
+            .build()
+            .execute();
+    }
+
+    @Override
+    public CompletableFuture<R> min(String indexName) throws TarantoolClientException {
+        return minMax(operationsMapping.getMinFunctionName(), indexName, ProxyMinMaxOptions.create());
+    }
+
+    @Override
+    public CompletableFuture<R> min(String indexName, MinMaxOptions<?> options) throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return minMax(operationsMapping.getMinFunctionName(), indexName, options);
+    }
+
+    @Override
+    public CompletableFuture<R> max(String indexName) throws TarantoolClientException {
+        return minMax(operationsMapping.getMaxFunctionName(), indexName, ProxyMinMaxOptions.create());
+    }
+
+    @Override
+    public CompletableFuture<R> max(String indexName, MinMaxOptions<?> options) throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return minMax(operationsMapping.getMaxFunctionName(), indexName, options);
+    }
+
+    private CompletableFuture<R> minMax(String functionName, String indexName, MinMaxOptions<?> options)
+        throws TarantoolClientException {
+        MinMaxProxyOperation<R> operation = new MinMaxProxyOperation.Builder<R>()
+            .withClient(client)
+            .withSpaceName(spaceName)
+            .withFunctionName(functionName)
+            .withIndexName(indexName)
+            .withArgumentsMapperSupplier(config::getMessagePackMapper)
+            .withResultMapperSupplier(this::rowsMetadataTupleResultMapper)
+            .withOptions(options)
+            .build();
+
+        return executeOperation(operation);
+    }
+
     @Override
     public CompletableFuture<R> update(Conditions conditions, T tuple) {
         return update(conditions, makeOperationsFromTuple(tuple), this::rowsMetadataTupleResultMapper,
@@ -319,7 +563,7 @@ public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collecti
         UpdateOptions options) {
         TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
 
-        UpdateProxyOperation<R> operation = new UpdateProxyOperation.Builder<R>()
+        UpdateProxyOperation.Builder<R> builder = new UpdateProxyOperation.Builder<R>()
             .withClient(client)
             .withSpaceName(spaceName)
             .withFunctionName(operationsMapping.getUpdateFunctionName())
@@ -327,10 +571,10 @@ public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collecti
             .withTupleOperation(operations)
             .withArgumentsMapperSupplier(config::getMessagePackMapper)
             .withResultMapperSupplier(resultMapperSupplier)
-            .withOptions(options)
-            .build();
+            .withOptions(options);
 
-        return executeOperation(operation);
+        return executeWithBucketId(builder, UpdateProxyOperation.Builder::build, options,
+            bucketCount -> bucketIdFromIndexQuery(indexQuery, bucketCount), null);
     }
 
     @Override
@@ -355,7 +599,7 @@ public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collecti
         Supplier<CallResultMapper<R, SingleValueCallResult<R>>> resultMapperSupplier,
         UpsertOptions options) {
 
-        UpsertProxyOperation<T, R> operation = new UpsertProxyOperation.Builder<T, R>()
+        UpsertProxyOperation.Builder<T, R> builder = new UpsertProxyOperation.Builder<T, R>()
             .withClient(client)
             .withSpaceName(spaceName)
             .withFunctionName(operationsMapping.getUpsertFunctionName())
@@ -363,6 +607,44 @@ public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collecti
             .withTupleOperation(operations)
             .withArgumentsMapperSupplier(config::getMessagePackMapper)
             .withResultMapperSupplier(resultMapperSupplier)
+            .withOptions(options);
+
+        return executeWithBucketId(builder, UpsertProxyOperation.Builder::build, options,
+            bucketCount -> bucketIdFromTuple(tuple, bucketCount), null);
+    }
+
+    @Override
+    public CompletableFuture<R> upsertMany(Collection<T> tuples, Function<? super T, TupleOperations> operations)
+        throws TarantoolClientException {
+        return upsertMany(tuples, operations, this::rowsMetadataTupleResultMapper, ProxyUpsertManyOptions.create()
+            .withStopOnError(StopOnError.TRUE)
+            .withRollbackOnError(RollbackOnError.TRUE)
+        );
+    }
+
+    @Override
+    public CompletableFuture<R> upsertMany(
+        Collection<T> tuples, Function<? super T, TupleOperations> operations, UpsertManyOptions<?> options)
+        throws TarantoolClientException {
+        if (options == null) {
+            throw new IllegalArgumentException("Options should not be null");
+        }
+        return upsertMany(tuples, operations, this::rowsMetadataTupleResultMapper, options);
+    }
+
+    private CompletableFuture<R> upsertMany(
+        Collection<T> tuples,
+        Function<? super T, TupleOperations> operations,
+        Supplier<CallResultMapper<R, SingleValueCallResult<R>>> resultMapperSupplier,
+        UpsertManyOptions<?> options)
+        throws TarantoolClientException {
+        UpsertManyProxyOperation<T, R> operation = new UpsertManyProxyOperation.Builder<T, R>()
+            .withClient(client)
+            .withSpaceName(spaceName)
+            .withFunctionName(operationsMapping.getUpsertManyFunctionName())
+            .withTuplesOperations(tuples, operations)
+            .withArgumentsMapperSupplier(config::getMessagePackMapper)
+            .withResultMapperSupplier(resultMapperSupplier)
             .withOptions(options)
             .build();
 
@@ -392,10 +674,66 @@ public abstract class ProxyTarantoolSpace<T extends Packable, R extends Collecti
      */
     protected abstract CallResultMapper<R, SingleValueCallResult<R>> rowsMetadataTupleResultMapper();
 
+    private R fromRawResult(Value result) {
+        SingleValueCallResult<R> callResult = rowsMetadataTupleResultMapper().fromValue(result);
+        return callResult.value();
+    }
+
     private CompletableFuture<R> executeOperation(ProxyOperation<R> operation) {
         return operation.execute();
     }
 
+    /**
+     * Execute a single tuple operation, passing the bucket id computed on the client side to the router if it is
+     * not specified in the options. The operation is sent without the bucket id if it cannot be computed. If the
+     * direct routing is enabled and the operation has no options, it is sent to the storage first and to the router
+     * only if the storage does not own the bucket. The operations with options, including {@code timeout}, which
+     * the storage function does not support, are always sent to the router.
+     */
+    private <B extends BuilderOptions> CompletableFuture<R> executeWithBucketId(
+        B builder,
+        Function<B, ProxyOperation<R>> build,
+        OperationWithBucketIdOptions<?> options,
+        IntFunction<OptionalInt> bucketIdFunction,
+        IntFunction<CompletableFuture<Optional<ArrayValue>>> storageOperation) {
+        if (bucketCountProvider == null || options.getBucketId().isPresent()) {
+            return executeOperation(build.apply(builder));
+        }
+        boolean routeDirectly = directStorageRouter != null && storageOperation != null &&
+            options.asMap().isEmpty();
+        return bucketCountProvider.getBucketCount()
+            .thenApply(bucketIdFunction::apply)
+            .exceptionally(e -> OptionalInt.empty())
+            .thenCompose(bucketId -> {
+                if (!bucketId.isPresent()) {
+                    return executeOperation(build.apply(builder));
+                }
+                Map<String, Object> operationOptions = new HashMap<>(options.asMap());
+                operationOptions.put(ProxyOption.BUCKET_ID.toString(), bucketId.getAsInt());
+                builder.addArgument(ProxyOperationArgument.OPTIONS, operationOptions);
+                if (!routeDirectly) {
+                    return executeOperation(build.apply(builder));
+                }
+                return storageOperation.apply(bucketId.getAsInt())
+                    .thenCompose(result -> result.isPresent() ?
+                        CompletableFuture.completedFuture(fromRawResult(result.get())) :
+                        executeOperation(build.apply(builder)));
+            });
+    }
+
+    private OptionalInt bucketIdFromTuple(T tuple, int bucketCount) {
+        return bucketIdCalculator.fromTuple(tuple.toMessagePackValue(config.getMessagePackMapper()), bucketCount);
+    }
+
+    private OptionalInt bucketIdFromIndexQuery(TarantoolIndexQuery indexQuery, int bucketCount) {
+        if (indexQuery.getIndexId() != TarantoolIndexQuery.PRIMARY) {
+            return OptionalInt.empty();
+        }
+        Value key = config.getMessagePackMapper().toValue(indexQuery.getKeyValues());
+        return key.isArrayValue() ? bucketIdCalculator.fromPrimaryKey(key.asArrayValue(), bucketCount) :
+            OptionalInt.empty();
+    }
+
     private CompletableFuture<Void> executeVoidOperation(ProxyOperation<Void> operation) {
         return operation.execute();
     }
@@ -5,14 +5,32 @@ import io.tarantool.driver.api.TarantoolCallOperations;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.cursor.AdaptiveBatchCursor;
+import io.tarantool.driver.api.cursor.AdaptiveBatchSizePolicy;
+import io.tarantool.driver.api.cursor.AsyncBatchCursor;
+import io.tarantool.driver.api.cursor.BatchSizePolicy;
+import io.tarantool.driver.api.cursor.FlyweightTupleCursor;
+import io.tarantool.driver.api.cursor.PrefetchingCursor;
 import io.tarantool.driver.api.cursor.StartAfterCursor;
+import io.tarantool.driver.api.cursor.TarantoolAsyncCursor;
 import io.tarantool.driver.api.cursor.TarantoolCursor;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.core.tuple.TupleStringDictionaries;
+import io.tarantool.driver.core.proxy.ProxyWriteBatcher;
+import io.tarantool.driver.core.sharding.BucketCountProvider;
+import io.tarantool.driver.core.sharding.DirectStorageRouter;
+import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleConverter;
+import io.tarantool.driver.mappers.converters.value.ValueToRowConsumerConverter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * {@link ProxyTarantoolSpace} implementation for working with default tuples
@@ -24,6 +42,7 @@ public class ProxyTarantoolTupleSpace
 
     private final TarantoolClientConfig config;
     private final TarantoolCallOperations client;
+    private final ArrayValueToTarantoolTupleConverter tupleConverter;
     private final
         CallResultMapper<TarantoolResult<TarantoolTuple>, SingleValueCallResult<TarantoolResult<TarantoolTuple>>>
         rowsMetadataTupleResultMapper;
@@ -43,12 +62,40 @@ public class ProxyTarantoolTupleSpace
         ProxyOperationsMappingConfig mappingConfig,
         TarantoolSpaceMetadata spaceMetadata,
         TarantoolMetadataOperations metadataOperations) {
-        super(config, client, mappingConfig, metadataOperations, spaceMetadata);
+        this(config, client, mappingConfig, spaceMetadata, metadataOperations, null, null, null);
+    }
+
+    /**
+     * Constructor for a space with automatic batching of single tuple writes, client-side bucket ids and direct
+     * routing to the storages
+     *
+     * @param config              Tarantool client config
+     * @param client              configured Tarantool client
+     * @param mappingConfig       proxy operation mapping config
+     * @param spaceMetadata       current space metadata
+     * @param metadataOperations  metadata operations
+     * @param writeBatcher        batcher of single tuple writes shared by the spaces of the client, may be null
+     * @param bucketCountProvider cached number of buckets for computing the bucket ids, may be null
+     * @param directStorageRouter router of the single tuple operations to the storages, may be null
+     */
+    public ProxyTarantoolTupleSpace(
+        TarantoolClientConfig config,
+        TarantoolCallOperations client,
+        ProxyOperationsMappingConfig mappingConfig,
+        TarantoolSpaceMetadata spaceMetadata,
+        TarantoolMetadataOperations metadataOperations,
+        ProxyWriteBatcher writeBatcher,
+        BucketCountProvider bucketCountProvider,
+        DirectStorageRouter directStorageRouter) {
+        super(config, client, mappingConfig, metadataOperations, spaceMetadata, writeBatcher, bucketCountProvider,
+            directStorageRouter);
         this.config = config;
         this.client = client;
+        this.tupleConverter = new ArrayValueToTarantoolTupleConverter(config.getMessagePackMapper(), getMetadata(),
+            TupleStringDictionaries.of(getMetadata(), config.getStringDictionaries(getMetadata().getSpaceName())));
         this.rowsMetadataTupleResultMapper = client
-            .getResultMapperFactoryFactory().getTarantoolTupleResultMapperFactory()
-            .withSingleValueRowsMetadataToTarantoolTupleResultMapper(config.getMessagePackMapper(), getMetadata());
+            .getResultMapperFactoryFactory().singleValueTupleResultMapperFactory()
+            .withSingleValueRowsMetadataToTarantoolTupleResultMapper(tupleConverter);
     }
 
     @Override
@@ -76,4 +123,60 @@ public class ProxyTarantoolTupleSpace
     public TarantoolCursor<TarantoolTuple> cursor(Conditions conditions) {
         return cursor(conditions, config.getCursorBatchSize());
     }
+
+    @Override
+    public CompletableFuture<Long> selectForEach(Conditions conditions, Consumer<? super TarantoolTuple> consumer)
+        throws TarantoolClientException {
+        ValueToRowConsumerConverter<TarantoolTuple> rowConsumer =
+            new ValueToRowConsumerConverter<>(tupleConverter, consumer);
+        Executor consumerExecutor = config.getConsumerExecutor();
+        return consumerExecutor == null ? selectRows(conditions).thenApply(rowConsumer::fromValue) :
+            selectRows(conditions).thenApplyAsync(rowConsumer::fromValue, consumerExecutor);
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> flyweightCursor(Conditions conditions, int batchSize) {
+        return new FlyweightTupleCursor(
+            this::selectRows, conditions, batchSize, config.getMessagePackMapper(), getMetadata(), true);
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> flyweightCursor(Conditions conditions) {
+        return flyweightCursor(conditions, config.getCursorBatchSize());
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> prefetchingCursor(
+        Conditions conditions, int batchSize, int prefetchDepth, int maxBufferedTuples) {
+        return new PrefetchingCursor<>(this::select, conditions, batchSize, prefetchDepth, maxBufferedTuples,
+            config.getMessagePackMapper(), true);
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> prefetchingCursor(Conditions conditions) {
+        return prefetchingCursor(conditions, config.getCursorBatchSize(), config.getCursorPrefetchDepth(),
+            config.getCursorPrefetchMaxTuples());
+    }
+
+    @Override
+    public TarantoolAsyncCursor<TarantoolTuple, TarantoolResult<TarantoolTuple>> asyncCursor(
+        Conditions conditions, int batchSize) {
+        return new AsyncBatchCursor<>(this::select, conditions, batchSize, config.getMessagePackMapper(), true);
+    }
+
+    @Override
+    public TarantoolAsyncCursor<TarantoolTuple, TarantoolResult<TarantoolTuple>> asyncCursor(Conditions conditions) {
+        return asyncCursor(conditions, config.getCursorBatchSize());
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> adaptiveCursor(Conditions conditions, BatchSizePolicy batchSizePolicy) {
+        return new AdaptiveBatchCursor<>(this::selectRows, tupleConverter::fromValue, conditions, batchSizePolicy,
+            config.getMessagePackMapper(), true);
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> adaptiveCursor(Conditions conditions) {
+        return adaptiveCursor(conditions, new AdaptiveBatchSizePolicy(config.getCursorBatchSize()));
+    }
 }
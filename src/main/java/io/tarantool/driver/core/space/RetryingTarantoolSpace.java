@@ -1,18 +1,26 @@
 package io.tarantool.driver.core.space;
 
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.cursor.BatchSizePolicy;
+import io.tarantool.driver.api.cursor.TarantoolAsyncCursor;
 import io.tarantool.driver.api.cursor.TarantoolCursor;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.retry.RequestRetryPolicy;
 import io.tarantool.driver.api.retry.RequestRetryPolicyFactory;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.options.CountOptions;
 import io.tarantool.driver.api.space.options.DeleteOptions;
+import io.tarantool.driver.api.space.options.GetOptions;
 import io.tarantool.driver.api.space.options.InsertManyOptions;
 import io.tarantool.driver.api.space.options.InsertOptions;
+import io.tarantool.driver.api.space.options.LenOptions;
+import io.tarantool.driver.api.space.options.MinMaxOptions;
 import io.tarantool.driver.api.space.options.ReplaceManyOptions;
 import io.tarantool.driver.api.space.options.ReplaceOptions;
 import io.tarantool.driver.api.space.options.SelectOptions;
 import io.tarantool.driver.api.space.options.UpdateOptions;
+import io.tarantool.driver.api.space.options.UpsertManyOptions;
 import io.tarantool.driver.api.space.options.UpsertOptions;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
 import io.tarantool.driver.exceptions.TarantoolClientException;
@@ -21,6 +29,8 @@ import io.tarantool.driver.protocol.Packable;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -122,6 +132,57 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
         return wrapOperation(() -> spaceOperations.select(conditions, options));
     }
 
+    @Override
+    public CompletableFuture<R> get(Conditions conditions) throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.get(conditions));
+    }
+
+    @Override
+    public CompletableFuture<R> get(Conditions conditions, GetOptions<?> options) throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.get(conditions, options));
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException {
+        return wrapCountOperation(() -> spaceOperations.count(conditions));
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions, CountOptions<?> options)
+        throws TarantoolClientException {
+        return wrapCountOperation(() -> spaceOperations.count(conditions, options));
+    }
+
+    @Override
+    public CompletableFuture<Long> len() throws TarantoolClientException {
+        return wrapCountOperation(spaceOperations::len);
+    }
+
+    @Override
+    public CompletableFuture<Long> len(LenOptions<?> options) throws TarantoolClientException {
+        return wrapCountOperation(() -> spaceOperations.len(options));
+    }
+
+    @Override
+    public CompletableFuture<R> min(String indexName) throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.min(indexName));
+    }
+
+    @Override
+    public CompletableFuture<R> min(String indexName, MinMaxOptions<?> options) throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.min(indexName, options));
+    }
+
+    @Override
+    public CompletableFuture<R> max(String indexName) throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.max(indexName));
+    }
+
+    @Override
+    public CompletableFuture<R> max(String indexName, MinMaxOptions<?> options) throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.max(indexName, options));
+    }
+
     @Override
     public CompletableFuture<R> update(Conditions conditions, T tuple) {
         return wrapOperation(() -> spaceOperations.update(conditions, tuple));
@@ -154,6 +215,19 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
         return wrapOperation(() -> spaceOperations.upsert(conditions, tuple, operations, options));
     }
 
+    @Override
+    public CompletableFuture<R> upsertMany(Collection<T> tuples, Function<? super T, TupleOperations> operations)
+        throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.upsertMany(tuples, operations));
+    }
+
+    @Override
+    public CompletableFuture<R> upsertMany(
+        Collection<T> tuples, Function<? super T, TupleOperations> operations, UpsertManyOptions<?> options)
+        throws TarantoolClientException {
+        return wrapOperation(() -> spaceOperations.upsertMany(tuples, operations, options));
+    }
+
     @Override
     public CompletableFuture<Void> truncate() throws TarantoolClientException {
         return wrapVoidOperation(spaceOperations::truncate);
@@ -174,11 +248,70 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
         return spaceOperations.cursor(conditions);
     }
 
+    @Override
+    public CompletableFuture<Long> selectForEach(Conditions conditions, Consumer<? super T> consumer)
+        throws TarantoolClientException {
+        return spaceOperations.selectForEach(conditions, consumer);
+    }
+
+    @Override
+    public CompletableFuture<TarantoolColumnarResult> selectColumnar(Conditions conditions)
+        throws TarantoolClientException {
+        RequestRetryPolicy retryPolicy = retryPolicyFactory.create();
+        return retryPolicy.wrapOperation(() -> spaceOperations.selectColumnar(conditions), executor);
+    }
+
+    @Override
+    public TarantoolCursor<T> flyweightCursor(Conditions conditions, int batchSize) {
+        return spaceOperations.flyweightCursor(conditions, batchSize);
+    }
+
+    @Override
+    public TarantoolCursor<T> flyweightCursor(Conditions conditions) {
+        return spaceOperations.flyweightCursor(conditions);
+    }
+
+    @Override
+    public TarantoolCursor<T> prefetchingCursor(
+        Conditions conditions, int batchSize, int prefetchDepth, int maxBufferedTuples) {
+        return spaceOperations.prefetchingCursor(conditions, batchSize, prefetchDepth, maxBufferedTuples);
+    }
+
+    @Override
+    public TarantoolCursor<T> prefetchingCursor(Conditions conditions) {
+        return spaceOperations.prefetchingCursor(conditions);
+    }
+
+    @Override
+    public TarantoolAsyncCursor<T, R> asyncCursor(Conditions conditions, int batchSize) {
+        return spaceOperations.asyncCursor(conditions, batchSize);
+    }
+
+    @Override
+    public TarantoolAsyncCursor<T, R> asyncCursor(Conditions conditions) {
+        return spaceOperations.asyncCursor(conditions);
+    }
+
+    @Override
+    public TarantoolCursor<T> adaptiveCursor(Conditions conditions, BatchSizePolicy batchSizePolicy) {
+        return spaceOperations.adaptiveCursor(conditions, batchSizePolicy);
+    }
+
+    @Override
+    public TarantoolCursor<T> adaptiveCursor(Conditions conditions) {
+        return spaceOperations.adaptiveCursor(conditions);
+    }
+
     private CompletableFuture<R> wrapOperation(Supplier<CompletableFuture<R>> operation) {
         RequestRetryPolicy retryPolicy = retryPolicyFactory.create();
         return retryPolicy.wrapOperation(operation, executor);
     }
 
+    private CompletableFuture<Long> wrapCountOperation(Supplier<CompletableFuture<Long>> operation) {
+        RequestRetryPolicy retryPolicy = retryPolicyFactory.create();
+        return retryPolicy.wrapOperation(operation, executor);
+    }
+
     private CompletableFuture<Void> wrapVoidOperation(Supplier<CompletableFuture<Void>> operation) {
         RequestRetryPolicy retryPolicy = retryPolicyFactory.create();
         return retryPolicy.wrapOperation(operation, executor);
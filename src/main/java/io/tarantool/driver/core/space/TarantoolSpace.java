@@ -2,13 +2,19 @@ package io.tarantool.driver.core.space;
 
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolVoidResult;
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.conditions.FieldValueCondition;
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
 import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.api.tuple.operations.TupleOperation;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.core.TarantoolResultDecoder;
 import io.tarantool.driver.core.connection.TarantoolConnectionManager;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
@@ -27,8 +33,11 @@ import io.tarantool.driver.protocol.requests.TarantoolSelectRequest;
 import io.tarantool.driver.protocol.requests.TarantoolUpdateRequest;
 import io.tarantool.driver.protocol.requests.TarantoolUpsertRequest;
 import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +60,7 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
     private final TarantoolSpaceMetadata spaceMetadata;
     private final TarantoolMetadataOperations metadataOperations;
     private final Map<String, TarantoolRequestSignature> methodSignatures;
+    private final TarantoolResultDecoder resultDecoder;
 
     public TarantoolSpace(
         TarantoolClientConfig config,
@@ -62,6 +72,7 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
         this.connectionManager = connectionManager;
         this.spaceMetadata = spaceMetadata;
         this.metadataOperations = metadataOperations;
+        this.resultDecoder = TarantoolResultDecoder.fromConfig(config);
         this.methodSignatures = new HashMap<>();
         String spaceIdStr = String.valueOf(this.spaceId);
         methodSignatures.put(
@@ -92,6 +103,14 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
             "truncate",
             new TarantoolRequestSignature()
                 .addComponent(spaceIdStr).addComponent("truncate").addComponent(TarantoolCallRequest.class.getName()));
+        methodSignatures.put(
+            "count",
+            new TarantoolRequestSignature()
+                .addComponent(spaceIdStr).addComponent("count").addComponent(TarantoolCallRequest.class.getName()));
+        methodSignatures.put(
+            "len",
+            new TarantoolRequestSignature()
+                .addComponent(spaceIdStr).addComponent("len").addComponent(TarantoolCallRequest.class.getName()));
     }
 
     @Override
@@ -180,9 +199,35 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
 
     private CompletableFuture<R> select(Conditions conditions, Supplier<MessagePackValueMapper> resultMapperSupplier)
         throws TarantoolClientException {
+        return sendRequest(selectRequest(conditions), resultMapperSupplier);
+    }
+
+    /**
+     * Select tuples without converting them, used by the cursors which decode the tuples themselves
+     *
+     * @param conditions query with options
+     * @return a future that will contain the raw array of tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    protected CompletableFuture<ArrayValue> selectRows(Conditions conditions) throws TarantoolClientException {
+        TarantoolSelectRequest request = selectRequest(conditions);
+        return connectionManager.getConnection()
+            .thenCompose(c -> c.sendRequest(request).getFuture())
+            .thenApply(Value::asArrayValue);
+    }
+
+    @Override
+    public CompletableFuture<TarantoolColumnarResult> selectColumnar(Conditions conditions)
+        throws TarantoolClientException {
+        return resultDecoder.decode(selectRows(conditions).thenApply(rows -> rows),
+            rows -> TarantoolColumnarResult.fromRows(
+                rows.asArrayValue(), spaceMetadata, config.getMessagePackMapper()));
+    }
+
+    private TarantoolSelectRequest selectRequest(Conditions conditions) throws TarantoolClientException {
         try {
             TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
-            TarantoolSelectRequest request = new TarantoolSelectRequest.Builder()
+            return new TarantoolSelectRequest.Builder()
                 .withSpaceId(spaceId)
                 .withIndexId(indexQuery.getIndexId())
                 .withIteratorType(indexQuery.getIteratorType())
@@ -191,13 +236,122 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
                 .withOffset(conditions.getOffset())
                 .withSignature(methodSignatures.get(TarantoolSelectRequest.class.getName()))
                 .build(config.getMessagePackMapper());
-
-            return sendRequest(request, resultMapperSupplier);
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
     }
 
+    /**
+     * Get the index which the query can be continued by after the last received tuple, using the key of that tuple
+     * with a GT or LT iterator instead of an offset. The query must scan a unique TREE index without nullable and JSON
+     * path parts in one direction, either from the beginning or from a key.
+     *
+     * @param conditions query with options
+     * @return metadata of the scanned index or empty if the query cannot be continued by key
+     */
+    protected Optional<TarantoolIndexMetadata> getKeyCursorIndex(Conditions conditions) {
+        if (conditions.getStartTuple() != null) {
+            return Optional.empty();
+        }
+        TarantoolIndexQuery indexQuery;
+        try {
+            indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        } catch (TarantoolClientException e) {
+            return Optional.empty();
+        }
+        switch (indexQuery.getIteratorType()) {
+            case ITER_EQ:
+            case ITER_REQ:
+                if (!indexQuery.getKeyValues().isEmpty()) {
+                    return Optional.empty();
+                }
+                break;
+            case ITER_ALL:
+            case ITER_GE:
+            case ITER_GT:
+            case ITER_LE:
+            case ITER_LT:
+                break;
+            default:
+                return Optional.empty();
+        }
+        return metadataOperations.getIndexById(spaceId, indexQuery.getIndexId())
+            .filter(index -> isKeyCursorIndex(index, spaceMetadata));
+    }
+
+    /**
+     * Check whether the scan can be continued by the last key of the index. The index keys must be unique, so a
+     * unique index with nullable parts, which allows repeating keys with nil values, does not fit.
+     *
+     * @param index         index metadata
+     * @param spaceMetadata space metadata with the format
+     * @return true if the index is a unique TREE index without nullable and JSON path parts
+     */
+    static boolean isKeyCursorIndex(TarantoolIndexMetadata index, TarantoolSpaceMetadata spaceMetadata) {
+        if (index.getIndexType() != TarantoolIndexType.TREE || !index.isUnique()) {
+            return false;
+        }
+        for (TarantoolIndexPartMetadata<?> part : index.getIndexParts()) {
+            if (part.getPath() != null || part.isNullable() || spaceMetadata.getFieldByPosition(part.getFieldIndex())
+                .map(TarantoolFieldMetadata::getIsNullable).orElse(false)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the position of the field which the condition is applied to
+     *
+     * @param condition field value condition
+     * @return field position in the tuple
+     */
+    protected int getFieldPosition(FieldValueCondition condition) {
+        return ((TarantoolFieldMetadata) condition.field().metadata(metadataOperations, spaceMetadata))
+            .getFieldPosition();
+    }
+
+    /**
+     * Check whether the query returns the tuples in ascending order of the specified field, i.e. the field is the
+     * first part of the TREE index selected by the query and the index is scanned in ascending order
+     *
+     * @param conditions    query with options
+     * @param fieldPosition field position in the tuple
+     * @return true if the tuples are ordered by the field
+     */
+    protected boolean isAscendingScanByField(Conditions conditions, int fieldPosition) {
+        TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        switch (indexQuery.getIteratorType()) {
+            case ITER_ALL:
+            case ITER_GE:
+            case ITER_GT:
+                break;
+            default:
+                return false;
+        }
+        return metadataOperations.getIndexById(spaceMetadata.getSpaceId(), indexQuery.getIndexId())
+            .filter(index -> index.getIndexType() == TarantoolIndexType.TREE &&
+                index.getIndexParts().get(0).getFieldIndex() == fieldPosition)
+            .isPresent();
+    }
+
+    /**
+     * Check whether the query scans the index in descending order
+     *
+     * @param conditions query with options
+     * @return true if the tuples are returned in descending order of the index key
+     */
+    protected boolean isDescendingScan(Conditions conditions) {
+        switch (conditions.toIndexQuery(metadataOperations, spaceMetadata).getIteratorType()) {
+            case ITER_REQ:
+            case ITER_LE:
+            case ITER_LT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     @Override
     public CompletableFuture<R> update(Conditions conditions, T tuple) {
         return update(conditions, makeOperationsFromTuple(tuple), this::arrayTupleResultMapper);
@@ -293,6 +447,60 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
         }
     }
 
+    /**
+     * Count the tuples matching the index conditions on the server with {@code index:count()}, without fetching
+     * them. Only the conditions on one index are supported, the limit and the offset are ignored.
+     *
+     * @param conditions query with options
+     * @return a future that will contain the number of tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException {
+        try {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+            String indexName = metadataOperations.getIndexById(spaceId, indexQuery.getIndexId())
+                .map(TarantoolIndexMetadata::getIndexName)
+                .orElseThrow(() -> new TarantoolClientException(
+                    "Index %d is not found in space %s", indexQuery.getIndexId(), spaceMetadata.getSpaceName()));
+            Map<String, String> options = Collections.singletonMap(
+                "iterator", indexQuery.getIteratorType().getStringCode());
+            TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+                .withFunctionName("box.space." + spaceMetadata.getSpaceName() + ".index." + indexName + ":count")
+                .withArguments(Arrays.asList(indexQuery.getKeyValues(), options))
+                .withSignature(methodSignatures.get("count"))
+                .build(config.getMessagePackMapper());
+            return sendCountRequest(request);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    /**
+     * Get the number of tuples in the space with {@code space:len()}
+     *
+     * @return a future that will contain the number of tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    @Override
+    public CompletableFuture<Long> len() throws TarantoolClientException {
+        try {
+            TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+                .withFunctionName("box.space." + spaceMetadata.getSpaceName() + ":len")
+                .withSignature(methodSignatures.get("len"))
+                .build(config.getMessagePackMapper());
+            return sendCountRequest(request);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    private CompletableFuture<Long> sendCountRequest(TarantoolRequest request) {
+        return connectionManager.getConnection()
+            .thenCompose(c -> c.sendRequest(request).getFuture())
+            .thenApply(result -> result.asArrayValue().get(0).asIntegerValue().asLong());
+    }
+
     /**
      * MessagePack value mapper configured with an ArrayValue to tuple converter corresponding to the selected
      * tuple type
@@ -304,9 +512,8 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
     private CompletableFuture<R> sendRequest(
         TarantoolRequest request, Supplier<MessagePackValueMapper> resultMapperSupplier) {
         MessagePackValueMapper resultMapper = resultMapperSupplier.get();
-        return connectionManager.getConnection()
-            .thenCompose(c -> c.sendRequest(request).getFuture())
-            .thenApply(resultMapper::fromValue);
+        return resultDecoder.decode(connectionManager.getConnection()
+            .thenCompose(c -> c.sendRequest(request).getFuture()), resultMapper::fromValue);
     }
 
     @Override
@@ -4,14 +4,40 @@ import io.tarantool.driver.api.TarantoolCallOperations;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.conditions.FieldValueCondition;
+import io.tarantool.driver.api.conditions.Operator;
+import io.tarantool.driver.api.cursor.AdaptiveBatchCursor;
+import io.tarantool.driver.api.cursor.AdaptiveBatchSizePolicy;
+import io.tarantool.driver.api.cursor.AsyncBatchCursor;
+import io.tarantool.driver.api.cursor.BatchSizePolicy;
+import io.tarantool.driver.api.cursor.BoundedCursor;
+import io.tarantool.driver.api.cursor.FlyweightTupleCursor;
+import io.tarantool.driver.api.cursor.IndexKeyCursor;
 import io.tarantool.driver.api.cursor.OffsetCursor;
+import io.tarantool.driver.api.cursor.PartitionedScan;
+import io.tarantool.driver.api.cursor.PrefetchingCursor;
+import io.tarantool.driver.api.cursor.TarantoolAsyncCursor;
 import io.tarantool.driver.api.cursor.TarantoolCursor;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
 import io.tarantool.driver.core.connection.TarantoolConnectionManager;
+import io.tarantool.driver.core.tuple.TupleStringDictionaries;
+import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleConverter;
+import io.tarantool.driver.mappers.converters.value.ValueToRowConsumerConverter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * {@link TarantoolSpace} implementation for working with default tuples
@@ -23,6 +49,7 @@ public class TarantoolTupleSpace extends
 
     private final TarantoolCallOperations client;
     private final TarantoolClientConfig config;
+    private final ArrayValueToTarantoolTupleConverter tupleConverter;
     private final MessagePackValueMapper arrayTupleResultMapper;
 
     /**
@@ -43,8 +70,10 @@ public class TarantoolTupleSpace extends
         super(config, connectionManager, metadataOperations, spaceMetadata);
         this.client = client;
         this.config = config;
-        this.arrayTupleResultMapper = client.getResultMapperFactoryFactory().getTarantoolTupleResultMapperFactory()
-            .withArrayValueToTarantoolTupleResultConverter(config.getMessagePackMapper(), getMetadata());
+        this.tupleConverter = new ArrayValueToTarantoolTupleConverter(config.getMessagePackMapper(), getMetadata(),
+            TupleStringDictionaries.of(getMetadata(), config.getStringDictionaries(getMetadata().getSpaceName())));
+        this.arrayTupleResultMapper = client.getResultMapperFactoryFactory().arrayTupleResultMapperFactory()
+            .withArrayValueToTarantoolTupleResultConverter(tupleConverter);
     }
 
     @Override
@@ -64,11 +93,127 @@ public class TarantoolTupleSpace extends
 
     @Override
     public TarantoolCursor<TarantoolTuple> cursor(Conditions conditions, int batchSize) {
-        return new OffsetCursor<>(this, conditions, batchSize);
+        Optional<TarantoolIndexMetadata> keyCursorIndex = getKeyCursorIndex(conditions);
+        if (!keyCursorIndex.isPresent()) {
+            return new OffsetCursor<>(this, conditions, batchSize);
+        }
+        List<Integer> keyFields = keyCursorIndex.get().getIndexParts().stream()
+            .map(part -> part.getFieldIndex())
+            .collect(Collectors.toList());
+        return new IndexKeyCursor<>(this::select, conditions, batchSize, keyCursorIndex.get().getIndexId(),
+            isDescendingScan(conditions), tuple -> keyFields.stream()
+            .map(field -> tuple.getObject(field).orElse(null))
+            .collect(Collectors.toList()));
     }
 
     @Override
     public TarantoolCursor<TarantoolTuple> cursor(Conditions conditions) {
         return cursor(conditions, config.getCursorBatchSize());
     }
+
+    @Override
+    public CompletableFuture<Long> selectForEach(Conditions conditions, Consumer<? super TarantoolTuple> consumer)
+        throws TarantoolClientException {
+        ValueToRowConsumerConverter<TarantoolTuple> rowConsumer =
+            new ValueToRowConsumerConverter<>(tupleConverter, consumer);
+        Executor consumerExecutor = config.getConsumerExecutor();
+        return consumerExecutor == null ? selectRows(conditions).thenApply(rowConsumer::fromValue) :
+            selectRows(conditions).thenApplyAsync(rowConsumer::fromValue, consumerExecutor);
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> flyweightCursor(Conditions conditions, int batchSize) {
+        return new FlyweightTupleCursor(
+            this::selectRows, conditions, batchSize, config.getMessagePackMapper(), getMetadata(), false);
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> flyweightCursor(Conditions conditions) {
+        return flyweightCursor(conditions, config.getCursorBatchSize());
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> prefetchingCursor(
+        Conditions conditions, int batchSize, int prefetchDepth, int maxBufferedTuples) {
+        return new PrefetchingCursor<>(this::select, conditions, batchSize, prefetchDepth, maxBufferedTuples,
+            config.getMessagePackMapper(), false);
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> prefetchingCursor(Conditions conditions) {
+        return prefetchingCursor(conditions, config.getCursorBatchSize(), config.getCursorPrefetchDepth(),
+            config.getCursorPrefetchMaxTuples());
+    }
+
+    @Override
+    public PartitionedScan<TarantoolTuple> partitionedScan(List<Conditions> partitions) {
+        return new PartitionedScan<>(this::partitionCursor, partitions);
+    }
+
+    private TarantoolCursor<TarantoolTuple> partitionCursor(Conditions partition) {
+        List<FieldValueCondition> upperBounds = partition.getRangeUpperBounds();
+        if (upperBounds.isEmpty()) {
+            return prefetchingCursor(partition);
+        }
+        // the index queries accept a single condition per field, so the upper bounds are checked by the client
+        Conditions lowerBounds = partition.withoutRangeUpperBounds();
+        List<Integer> positions = upperBounds.stream()
+            .map(this::getFieldPosition)
+            .collect(Collectors.toList());
+        Predicate<TarantoolTuple> withinBounds = tuple -> {
+            for (int i = 0; i < upperBounds.size(); i++) {
+                Object value = tuple.getObject(positions.get(i)).orElse(null);
+                // nil values are the least ones in the indexes
+                if (value != null) {
+                    int result = compareFieldValue(value, upperBounds.get(i).value());
+                    if (result > 0 || result == 0 && upperBounds.get(i).operator() == Operator.LT) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        };
+        boolean ordered = upperBounds.size() == 1 && isAscendingScanByField(lowerBounds, positions.get(0));
+        return new BoundedCursor<>(prefetchingCursor(lowerBounds), withinBounds, ordered);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareFieldValue(Object value, Object bound) {
+        if (value instanceof Number && bound instanceof Number) {
+            if (isLongValue(value) && isLongValue(bound)) {
+                return Long.compare(((Number) value).longValue(), ((Number) bound).longValue());
+            }
+            return new BigDecimal(value.toString()).compareTo(new BigDecimal(bound.toString()));
+        }
+        if (value instanceof Comparable && value.getClass() == bound.getClass()) {
+            return ((Comparable<Object>) value).compareTo(bound);
+        }
+        throw new TarantoolClientException("Field value %s cannot be compared with the range bound %s", value, bound);
+    }
+
+    private static boolean isLongValue(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    @Override
+    public TarantoolAsyncCursor<TarantoolTuple, TarantoolResult<TarantoolTuple>> asyncCursor(
+        Conditions conditions, int batchSize) {
+        return new AsyncBatchCursor<>(this::select, conditions, batchSize, config.getMessagePackMapper(), false);
+    }
+
+    @Override
+    public TarantoolAsyncCursor<TarantoolTuple, TarantoolResult<TarantoolTuple>> asyncCursor(Conditions conditions) {
+        return asyncCursor(conditions, config.getCursorBatchSize());
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> adaptiveCursor(Conditions conditions, BatchSizePolicy batchSizePolicy) {
+        return new AdaptiveBatchCursor<>(this::selectRows, tupleConverter::fromValue, conditions, batchSizePolicy,
+            config.getMessagePackMapper(), false);
+    }
+
+    @Override
+    public TarantoolCursor<TarantoolTuple> adaptiveCursor(Conditions conditions) {
+        return adaptiveCursor(conditions, new AdaptiveBatchSizePolicy(config.getCursorBatchSize()));
+    }
 }
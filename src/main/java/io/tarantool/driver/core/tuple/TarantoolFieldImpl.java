@@ -3,9 +3,11 @@ package io.tarantool.driver.core.tuple;
 import io.tarantool.driver.api.tuple.TarantoolField;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -36,11 +38,29 @@ public class TarantoolFieldImpl implements TarantoolField {
         this.value = object;
     }
 
+    /**
+     * Get the wrapped MessagePack value or entity object as is
+     *
+     * @return MessagePack value or entity object
+     */
+    Object getRawValue() {
+        return value;
+    }
+
     @Override
     public Value toMessagePackValue(MessagePackObjectMapper mapper) {
         return getEntity(mapper);
     }
 
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        if (value instanceof Value) {
+            packer.packValue((Value) value);
+        } else {
+            mapper.toMessagePack(value, packer);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private Value getEntity(MessagePackObjectMapper mapper) {
         if (value == null) {
@@ -1,7 +1,9 @@
 package io.tarantool.driver.core.tuple;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -15,14 +17,20 @@ import java.util.Spliterator;
 import java.util.UUID;
 import java.util.function.Consumer;
 
+import org.msgpack.core.MessageBufferPacker;
 import org.msgpack.core.MessagePack;
 import org.msgpack.core.MessagePackException;
 import org.msgpack.core.MessagePacker;
 import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
 
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.StringDictionary;
 import io.tarantool.driver.api.tuple.TarantoolField;
 import io.tarantool.driver.api.tuple.TarantoolNullField;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -31,10 +39,15 @@ import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.converters.Interval;
+import io.tarantool.driver.protocol.LazyArrayValue;
 import io.tarantool.driver.utils.Assert;
 
 /**
- * Basic Tarantool tuple implementation
+ * Basic Tarantool tuple implementation.
+ * <p>
+ * The tuples created from a MessagePack array value decode their fields lazily: each field is converted only when it
+ * is accessed for the first time. If the array value is a {@link LazyArrayValue}, the fields which are not accessed
+ * are not decoded at all and are written back as raw bytes when the tuple is serialized.
  *
  * @author Alexey Kuzin
  * @author Sergey Volgin
@@ -49,6 +62,12 @@ public class TarantoolTupleImpl implements TarantoolTuple {
 
     private transient ArrayList<TarantoolField> fields = new ArrayList<>();
 
+    private transient ArrayValue value;
+
+    private transient boolean decoded = true;
+
+    private transient TupleStringDictionaries stringDictionaries;
+
     /**
      * Constructor for empty tuple
      *
@@ -122,21 +141,76 @@ public class TarantoolTupleImpl implements TarantoolTuple {
      * @param spaceMetadata provides field names and other metadata
      */
     public TarantoolTupleImpl(ArrayValue value, MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata) {
+        this(value, mapper, spaceMetadata, null);
+    }
+
+    /**
+     * Construct a tuple which decodes the string fields having a dictionary into the shared dictionary values
+     *
+     * @param value              serialized Tarantool tuple
+     * @param mapper             provides conversion between MessagePack values and Java objects
+     * @param spaceMetadata      provides field names and other metadata
+     * @param stringDictionaries string dictionaries of the fields, may be null
+     */
+    public TarantoolTupleImpl(
+        ArrayValue value, MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata,
+        TupleStringDictionaries stringDictionaries) {
         Assert.notNull(mapper, "MessagePack mapper should not be null");
 
+        this.stringDictionaries = stringDictionaries;
+
         this.mapper = mapper;
         this.spaceMetadata = spaceMetadata;
 
-        if (value != null) {
-            this.fields.ensureCapacity(value.size());
-            for (Value fieldValue : value) {
-                if (fieldValue.isNilValue()) {
-                    fields.add(TarantoolNullField.INSTANCE);
-                } else {
-                    fields.add(new TarantoolFieldImpl(fieldValue));
-                }
+        if (value != null && value.size() > 0) {
+            this.value = value;
+            this.fields = new ArrayList<>(Collections.nCopies(value.size(), null));
+            this.decoded = false;
+        }
+    }
+
+    /**
+     * Replace the tuple contents with the fields of the specified array value, reusing the fields list
+     *
+     * @param value serialized Tarantool tuple
+     */
+    void reset(ArrayValue value) {
+        int size = value.size();
+        fields.clear();
+        fields.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            fields.add(null);
+        }
+        this.value = size > 0 ? value : null;
+        this.decoded = size == 0;
+    }
+
+    private TarantoolField decodeField(int fieldPosition) {
+        TarantoolField field = fields.get(fieldPosition);
+        if (field == null) {
+            StringDictionary dictionary = stringDictionaries != null ? stringDictionaries.get(fieldPosition) : null;
+            if (value instanceof LazyArrayValue && ((LazyArrayValue) value).isNil(fieldPosition)) {
+                field = TarantoolNullField.INSTANCE;
+            } else if (dictionary != null && value instanceof LazyArrayValue &&
+                ((LazyArrayValue) value).getType(fieldPosition) == ValueType.STRING) {
+                field = new TarantoolFieldImpl(dictionary.get(((LazyArrayValue) value).getBytes(fieldPosition)));
+            } else {
+                Value fieldValue = value.get(fieldPosition);
+                field = fieldValue.isNilValue() ? TarantoolNullField.INSTANCE : new TarantoolFieldImpl(fieldValue);
+            }
+            fields.set(fieldPosition, field);
+        }
+        return field;
+    }
+
+    private ArrayList<TarantoolField> decodedFields() {
+        if (!decoded) {
+            for (int i = 0; i < fields.size(); i++) {
+                decodeField(i);
             }
+            decoded = true;
         }
+        return fields;
     }
 
     @Override
@@ -150,7 +224,7 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         Assert.state(fieldPosition >= 0, "Field position starts with 0");
 
         if (fieldPosition < fields.size()) {
-            return Optional.ofNullable(fields.get(fieldPosition));
+            return Optional.ofNullable(decoded ? fields.get(fieldPosition) : decodeField(fieldPosition));
         }
         return Optional.empty();
     }
@@ -167,7 +241,7 @@ public class TarantoolTupleImpl implements TarantoolTuple {
 
     @Override
     public List<TarantoolField> getFields() {
-        return fields;
+        return decodedFields();
     }
 
     @Override
@@ -208,22 +282,37 @@ public class TarantoolTupleImpl implements TarantoolTuple {
 
     @Override
     public Iterator<TarantoolField> iterator() {
-        return fields.iterator();
+        return decodedFields().iterator();
     }
 
     @Override
     public void forEach(Consumer<? super TarantoolField> action) {
-        fields.forEach(action);
+        decodedFields().forEach(action);
     }
 
     @Override
     public Spliterator<TarantoolField> spliterator() {
-        return fields.spliterator();
+        return decodedFields().spliterator();
     }
 
     @Override
     public Value toMessagePackValue(MessagePackObjectMapper mapper) {
-        return mapper.toValue(fields);
+        return mapper.toValue(decodedFields());
+    }
+
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.packArrayHeader(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            TarantoolField field = fields.get(i);
+            if (field != null) {
+                field.toMessagePack(packer, mapper);
+            } else if (value instanceof LazyArrayValue) {
+                ((LazyArrayValue) value).writeElementTo(i, packer);
+            } else {
+                decodeField(i).toMessagePack(packer, mapper);
+            }
+        }
     }
 
     @Override
@@ -231,6 +320,21 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         return this.fields.size();
     }
 
+    @Override
+    public TarantoolTuple compact() {
+        if (!(value instanceof LazyArrayValue)) {
+            return this;
+        }
+        // the decoded fields may reference the response data as well, so the whole tuple is copied
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            toMessagePack(packer, mapper);
+            return new TarantoolTupleImpl(
+                LazyArrayValue.of(packer.toByteArray()), mapper, spaceMetadata, stringDictionaries);
+        } catch (IOException e) {
+            throw new TarantoolClientException("Failed to copy tuple fields", e);
+        }
+    }
+
     @Override
     public void setField(int fieldPosition, TarantoolField field) {
         if (fieldPosition < 0 ||
@@ -291,6 +395,48 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         return getObject(fieldName, byte[].class).orElse(null);
     }
 
+    @Override
+    public ByteBuffer getByteBuffer(int fieldPosition) {
+        LazyArrayValue lazyValue = getUndecodedLazyValue(fieldPosition);
+        if (lazyValue != null) {
+            ValueType type = lazyValue.getType(fieldPosition);
+            if (type == ValueType.NIL) {
+                return null;
+            } else if (type == ValueType.BINARY || type == ValueType.STRING) {
+                return lazyValue.getBytes(fieldPosition);
+            }
+        } else {
+            Object rawValue = getFieldRawValue(fieldPosition);
+            if (isNilValue(rawValue)) {
+                return null;
+            } else if (rawValue instanceof Value && ((Value) rawValue).isRawValue()) {
+                return ((Value) rawValue).asRawValue().asByteBuffer();
+            } else if (rawValue instanceof byte[]) {
+                return ByteBuffer.wrap((byte[]) rawValue).asReadOnlyBuffer();
+            }
+        }
+        byte[] result = getByteArray(fieldPosition);
+        return result != null ? ByteBuffer.wrap(result).asReadOnlyBuffer() : null;
+    }
+
+    @Override
+    public ByteBuffer getByteBuffer(String fieldName) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        return fieldPosition < 0 ? null : getByteBuffer(fieldPosition);
+    }
+
+    @Override
+    public InputStream getInputStream(int fieldPosition) {
+        ByteBuffer buffer = getByteBuffer(fieldPosition);
+        return buffer != null ? new ByteBufInputStream(Unpooled.wrappedBuffer(buffer), true) : null;
+    }
+
+    @Override
+    public InputStream getInputStream(String fieldName) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        return fieldPosition < 0 ? null : getInputStream(fieldPosition);
+    }
+
     @Override
     public Boolean getBoolean(int fieldPosition) {
         return getObject(fieldPosition, Boolean.class).orElse(null);
@@ -341,6 +487,189 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         return getObject(fieldName, Long.class).orElse(null);
     }
 
+    /**
+     * Get the MessagePack value or the entity object of a field without wrapping it into a field object
+     *
+     * @param fieldPosition the field position from the tuple start
+     * @return the field value or entity object, nil value for null fields, or null if the field is absent
+     */
+    private Object getFieldRawValue(int fieldPosition) {
+        if (fieldPosition < 0 || fieldPosition >= fields.size()) {
+            return null;
+        }
+        TarantoolField field = fields.get(fieldPosition);
+        if (field == null) {
+            return value.get(fieldPosition);
+        }
+        if (field instanceof TarantoolNullField) {
+            return ValueFactory.newNil();
+        }
+        if (field instanceof TarantoolFieldImpl) {
+            return ((TarantoolFieldImpl) field).getRawValue();
+        }
+        return null;
+    }
+
+    private static boolean isNilValue(Object rawValue) {
+        return rawValue instanceof Value && ((Value) rawValue).isNilValue();
+    }
+
+    private static boolean isIntegralNumber(Object rawValue) {
+        return rawValue instanceof Long || rawValue instanceof Integer ||
+            rawValue instanceof Short || rawValue instanceof Byte;
+    }
+
+    private LazyArrayValue getUndecodedLazyValue(int fieldPosition) {
+        if (value instanceof LazyArrayValue && fieldPosition >= 0 && fieldPosition < fields.size() &&
+            fields.get(fieldPosition) == null) {
+            return (LazyArrayValue) value;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isNull(int fieldPosition) {
+        LazyArrayValue lazyValue = getUndecodedLazyValue(fieldPosition);
+        if (lazyValue != null) {
+            return lazyValue.isNil(fieldPosition);
+        }
+        Object rawValue = getFieldRawValue(fieldPosition);
+        if (rawValue != null) {
+            return isNilValue(rawValue);
+        }
+        return !getField(fieldPosition).isPresent();
+    }
+
+    @Override
+    public boolean isNull(String fieldName) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        return fieldPosition < 0 || isNull(fieldPosition);
+    }
+
+    @Override
+    public long getLong(int fieldPosition, long defaultValue) {
+        LazyArrayValue lazyValue = getUndecodedLazyValue(fieldPosition);
+        if (lazyValue != null) {
+            ValueType type = lazyValue.getType(fieldPosition);
+            if (type == ValueType.NIL) {
+                return defaultValue;
+            } else if (type == ValueType.INTEGER) {
+                return lazyValue.getLong(fieldPosition);
+            }
+        } else {
+            Object rawValue = getFieldRawValue(fieldPosition);
+            if (isNilValue(rawValue)) {
+                return defaultValue;
+            } else if (rawValue instanceof Value && ((Value) rawValue).isIntegerValue()) {
+                return ((Value) rawValue).asIntegerValue().asLong();
+            } else if (isIntegralNumber(rawValue)) {
+                return ((Number) rawValue).longValue();
+            }
+        }
+        Long result = getLong(fieldPosition);
+        return result != null ? result : defaultValue;
+    }
+
+    @Override
+    public long getLong(String fieldName, long defaultValue) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        return fieldPosition < 0 ? defaultValue : getLong(fieldPosition, defaultValue);
+    }
+
+    @Override
+    public int getInt(int fieldPosition, int defaultValue) {
+        LazyArrayValue lazyValue = getUndecodedLazyValue(fieldPosition);
+        if (lazyValue != null) {
+            ValueType type = lazyValue.getType(fieldPosition);
+            if (type == ValueType.NIL) {
+                return defaultValue;
+            } else if (type == ValueType.INTEGER) {
+                long result = lazyValue.getLong(fieldPosition);
+                if (result >= Integer.MIN_VALUE && result <= Integer.MAX_VALUE) {
+                    return (int) result;
+                }
+            }
+        } else {
+            Object rawValue = getFieldRawValue(fieldPosition);
+            if (isNilValue(rawValue)) {
+                return defaultValue;
+            } else if (rawValue instanceof Value && ((Value) rawValue).isIntegerValue() &&
+                ((Value) rawValue).asIntegerValue().isInIntRange()) {
+                return ((Value) rawValue).asIntegerValue().toInt();
+            } else if (isIntegralNumber(rawValue) && !(rawValue instanceof Long)) {
+                return ((Number) rawValue).intValue();
+            }
+        }
+        Integer result = getInteger(fieldPosition);
+        return result != null ? result : defaultValue;
+    }
+
+    @Override
+    public int getInt(String fieldName, int defaultValue) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        return fieldPosition < 0 ? defaultValue : getInt(fieldPosition, defaultValue);
+    }
+
+    @Override
+    public double getDouble(int fieldPosition, double defaultValue) {
+        LazyArrayValue lazyValue = getUndecodedLazyValue(fieldPosition);
+        if (lazyValue != null) {
+            ValueType type = lazyValue.getType(fieldPosition);
+            if (type == ValueType.NIL) {
+                return defaultValue;
+            } else if (type == ValueType.FLOAT) {
+                return lazyValue.getDouble(fieldPosition);
+            }
+        } else {
+            Object rawValue = getFieldRawValue(fieldPosition);
+            if (isNilValue(rawValue)) {
+                return defaultValue;
+            } else if (rawValue instanceof Value && ((Value) rawValue).isFloatValue()) {
+                return ((Value) rawValue).asFloatValue().toDouble();
+            } else if (rawValue instanceof Double || rawValue instanceof Float) {
+                return ((Number) rawValue).doubleValue();
+            }
+        }
+        Double result = getDouble(fieldPosition);
+        return result != null ? result : defaultValue;
+    }
+
+    @Override
+    public double getDouble(String fieldName, double defaultValue) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        return fieldPosition < 0 ? defaultValue : getDouble(fieldPosition, defaultValue);
+    }
+
+    @Override
+    public boolean getBoolean(int fieldPosition, boolean defaultValue) {
+        LazyArrayValue lazyValue = getUndecodedLazyValue(fieldPosition);
+        if (lazyValue != null) {
+            ValueType type = lazyValue.getType(fieldPosition);
+            if (type == ValueType.NIL) {
+                return defaultValue;
+            } else if (type == ValueType.BOOLEAN) {
+                return lazyValue.getBoolean(fieldPosition);
+            }
+        } else {
+            Object rawValue = getFieldRawValue(fieldPosition);
+            if (isNilValue(rawValue)) {
+                return defaultValue;
+            } else if (rawValue instanceof Value && ((Value) rawValue).isBooleanValue()) {
+                return ((Value) rawValue).asBooleanValue().getBoolean();
+            } else if (rawValue instanceof Boolean) {
+                return (Boolean) rawValue;
+            }
+        }
+        Boolean result = getBoolean(fieldPosition);
+        return result != null ? result : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(String fieldName, boolean defaultValue) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        return fieldPosition < 0 ? defaultValue : getBoolean(fieldPosition, defaultValue);
+    }
+
     @Override
     public String getString(int fieldPosition) {
         return getObject(fieldPosition, String.class).orElse(null);
@@ -452,7 +781,7 @@ public class TarantoolTupleImpl implements TarantoolTuple {
             out.defaultWriteObject();
 
             MessagePacker packer = MessagePack.newDefaultPacker(out);
-            packer.packValue(toMessagePackValue(mapper));
+            toMessagePack(packer, mapper);
             packer.flush();
         } catch (IOException | MessagePackException e) {
             throw new TarantoolClientException("Failed to serialize tuple fields", e);
@@ -470,6 +799,7 @@ public class TarantoolTupleImpl implements TarantoolTuple {
             throw new TarantoolClientException("Failed to deserialize tuple fields", e);
         }
 
+        this.decoded = true;
         this.fields = new ArrayList<>(value.size());
         for (Value fieldValue : value) {
             if (fieldValue.isNilValue()) {
@@ -484,6 +814,6 @@ public class TarantoolTupleImpl implements TarantoolTuple {
     public String toString() {
         return new StringBuilder("TarantoolTupleImpl{\n")
             .append("\tspaceMetadata=").append(spaceMetadata).append(",\n")
-            .append("\tfields=").append(fields).append("}").toString();
+            .append("\tfields=").append(decodedFields()).append("}").toString();
     }
 }
@@ -0,0 +1,72 @@
+package io.tarantool.driver.core.tuple;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolField;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.value.ArrayValue;
+
+/**
+ * Reusable tuple which is repositioned over the rows of a result instead of creating a new tuple for each row.
+ * <p>
+ * The fields are decoded lazily from the raw row bytes, so the view is valid only until the next call of
+ * {@link #reposition(ArrayValue, int)}. Use {@link #copy()} for keeping the current row.
+ */
+public class TarantoolTupleView extends TarantoolTupleImpl {
+
+    private static final long serialVersionUID = 20221019L;
+
+    private final transient MessagePackMapper mapper;
+    private final transient TarantoolSpaceMetadata spaceMetadata;
+    private transient ArrayValue current;
+    private transient boolean modified;
+
+    /**
+     * Basic constructor
+     *
+     * @param mapper        provides conversion between MessagePack values and Java objects
+     * @param spaceMetadata provides field names and other metadata, may be null
+     */
+    public TarantoolTupleView(MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata) {
+        super(mapper, spaceMetadata);
+        this.mapper = mapper;
+        this.spaceMetadata = spaceMetadata;
+    }
+
+    /**
+     * Move the view to the specified row. If the rows are a {@link LazyArrayValue}, the row is not decoded.
+     *
+     * @param rows MessagePack array of tuples
+     * @param row  row index
+     */
+    public void reposition(ArrayValue rows, int row) {
+        Assert.notNull(rows, "Rows should not be null");
+        current = LazyArrayValue.arrayElementView(rows, row);
+        reset(current);
+        modified = false;
+    }
+
+    /**
+     * Create an independent tuple with the contents of the current row, which remains valid after the view is moved
+     *
+     * @return new tuple
+     */
+    public TarantoolTuple copy() {
+        if (current == null) {
+            return new TarantoolTupleImpl(mapper, spaceMetadata);
+        }
+        if (!modified) {
+            ArrayValue value = current instanceof LazyArrayValue ? ((LazyArrayValue) current).compact() : current;
+            return new TarantoolTupleImpl(value, mapper, spaceMetadata);
+        }
+        return new TarantoolTupleImpl(toMessagePackValue(mapper).asArrayValue(), mapper, spaceMetadata);
+    }
+
+    @Override
+    public void setField(int fieldPosition, TarantoolField field) {
+        modified = true;
+        super.setField(fieldPosition, field);
+    }
+}
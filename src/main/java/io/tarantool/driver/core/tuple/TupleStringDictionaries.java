@@ -0,0 +1,56 @@
+package io.tarantool.driver.core.tuple;
+
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.StringDictionary;
+
+import java.util.Map;
+
+/**
+ * String dictionaries of the tuple fields, resolved by the field positions in the space format
+ *
+ * @see StringDictionary
+ */
+public final class TupleStringDictionaries {
+
+    private final StringDictionary[] dictionaries;
+
+    private TupleStringDictionaries(StringDictionary[] dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    /**
+     * Resolve the positions of the fields with dictionaries in the space format
+     *
+     * @param spaceMetadata     space metadata, may be null
+     * @param fieldDictionaries dictionaries by field names
+     * @return field dictionaries or null if none of the fields is present in the space format
+     */
+    public static TupleStringDictionaries of(
+        TarantoolSpaceMetadata spaceMetadata, Map<String, StringDictionary> fieldDictionaries) {
+        if (spaceMetadata == null || spaceMetadata.getSpaceFormatMetadata() == null ||
+            fieldDictionaries == null || fieldDictionaries.isEmpty()) {
+            return null;
+        }
+        StringDictionary[] dictionaries = new StringDictionary[spaceMetadata.getSpaceFormatMetadata().size()];
+        boolean found = false;
+        for (Map.Entry<String, StringDictionary> entry : fieldDictionaries.entrySet()) {
+            TarantoolFieldMetadata field = spaceMetadata.getFieldByName(entry.getKey()).orElse(null);
+            if (field != null && field.getFieldPosition() < dictionaries.length) {
+                dictionaries[field.getFieldPosition()] = entry.getValue();
+                found = true;
+            }
+        }
+        return found ? new TupleStringDictionaries(dictionaries) : null;
+    }
+
+    /**
+     * Get the dictionary of the field
+     *
+     * @param fieldPosition field position starting with 0
+     * @return dictionary or null if the field has no dictionary
+     */
+    public StringDictionary get(int fieldPosition) {
+        return fieldPosition < dictionaries.length ? dictionaries[fieldPosition] : null;
+    }
+}
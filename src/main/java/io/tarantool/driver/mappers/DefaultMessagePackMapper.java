@@ -11,26 +11,35 @@ import io.tarantool.driver.mappers.converters.object.DefaultMapToMapValueConvert
 import io.tarantool.driver.mappers.converters.value.defaults.DefaultArrayValueToListConverter;
 import io.tarantool.driver.mappers.converters.value.defaults.DefaultMapValueToMapConverter;
 import io.tarantool.driver.mappers.converters.value.defaults.DefaultNullToNilValueConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.NilValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueType;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static io.tarantool.driver.mappers.MapperReflectionUtils.getInterfaceParameterClass;
 
 /**
  * Default implementation of {@link MessagePackObjectMapper} and {@link MessagePackValueMapper}.
- * Deals with standard Java objects
+ * Deals with standard Java objects.
+ * <p>
+ * The converter candidates resolved for a pair of the source and target types are cached, so the class hierarchy
+ * walk and the target type checks are performed only once for each pair. The cache is invalidated on every
+ * converter registration.
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
@@ -42,6 +51,10 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
     private final Map<ValueType, List<ConverterWrapper<ValueConverter<? extends Value, ?>>>> valueConverters;
     private final Map<String, List<ConverterWrapper<ObjectConverter<?, ? extends Value>>>> objectConverters;
     private final ObjectConverter<Object, NilValue> nilConverter = new DefaultNullToNilValueConverter();
+    private transient Map<ValueType, Map<Class<?>, List<ConverterWrapper<ValueConverter<? extends Value, ?>>>>>
+        valueConvertersCache;
+    private transient Map<Class<?>, List<ConverterWrapper<ObjectConverter<?, ? extends Value>>>>
+        objectConvertersCache;
 
     /**
      * Basic constructor
@@ -49,6 +62,7 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
     public DefaultMessagePackMapper() {
         valueConverters = new HashMap<>();
         objectConverters = new HashMap<>();
+        initCaches();
     }
 
     /**
@@ -61,6 +75,22 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
             .collect(Collectors.toMap(Map.Entry::getKey, e -> new ArrayList<>(e.getValue())));
         this.objectConverters = mapper.objectConverters.entrySet().stream()
             .collect(Collectors.toMap(Map.Entry::getKey, e -> new ArrayList<>(e.getValue())));
+        initCaches();
+    }
+
+    private void initCaches() {
+        valueConvertersCache = new ConcurrentHashMap<>();
+        objectConvertersCache = new ConcurrentHashMap<>();
+    }
+
+    private void invalidateCaches() {
+        valueConvertersCache.clear();
+        objectConvertersCache.clear();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        initCaches();
     }
 
     @Override
@@ -101,20 +131,47 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
         V v, ValueType valueType, Class<O> targetClass) {
         ValueConverter<V, O> converter;
         List<ConverterWrapper<ValueConverter<? extends Value, ?>>> wrappers =
-            valueConverters.getOrDefault(valueType, Collections.emptyList());
-        ConverterWrapper<ValueConverter<? extends Value, ?>> wrapper;
+            getValueConvertersByTargetType(valueType, targetClass);
         for (int i = 0; i < wrappers.size(); i++) {
-            wrapper = wrappers.get(i);
-            if (checkConverterByTargetType(wrapper.getTargetClass(), targetClass)) {
-                converter = (ValueConverter<V, O>) wrapper.getConverter();
-                if (converter.canConvertValue(v)) {
-                    return Optional.of(converter);
-                }
+            converter = (ValueConverter<V, O>) wrappers.get(i).getConverter();
+            if (converter.canConvertValue(v)) {
+                return Optional.of(converter);
             }
         }
         return Optional.empty();
     }
 
+    /**
+     * Get the list of all converters registered for the specified MessagePack type, in the order of lookup
+     */
+    List<ConverterWrapper<ValueConverter<? extends Value, ?>>> getValueConverters(ValueType valueType) {
+        return valueConverters.getOrDefault(valueType, Collections.emptyList());
+    }
+
+    /**
+     * Get the cached list of converters for the specified MessagePack type that can convert to the specified
+     * object type, in the order of lookup
+     */
+    List<ConverterWrapper<ValueConverter<? extends Value, ?>>> getValueConvertersByTargetType(
+        ValueType valueType, Class<?> targetClass) {
+        return valueConvertersCache
+            .computeIfAbsent(valueType, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(targetClass, k -> findValueConvertersByTargetType(valueType, targetClass));
+    }
+
+    private List<ConverterWrapper<ValueConverter<? extends Value, ?>>> findValueConvertersByTargetType(
+        ValueType valueType, Class<?> targetClass) {
+        List<ConverterWrapper<ValueConverter<? extends Value, ?>>> wrappers =
+            valueConverters.getOrDefault(valueType, Collections.emptyList());
+        List<ConverterWrapper<ValueConverter<? extends Value, ?>>> result = new ArrayList<>();
+        for (ConverterWrapper<ValueConverter<? extends Value, ?>> wrapper : wrappers) {
+            if (checkConverterByTargetType(wrapper.getTargetClass(), targetClass)) {
+                result.add(wrapper);
+            }
+        }
+        return result;
+    }
+
     /**
      * Check if the specified converter can convert to the specified object type
      */
@@ -126,15 +183,11 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
     private <V extends Value, O> Optional<ValueConverter<V, O>> getValueConverterByTargetType(
         ValueType valueType, Class<? extends O> targetClass) {
         List<ConverterWrapper<ValueConverter<? extends Value, ?>>> wrappers =
-            valueConverters.getOrDefault(valueType, Collections.emptyList());
-        ConverterWrapper<ValueConverter<? extends Value, ?>> wrapper;
-        for (int i = 0; i < wrappers.size(); i++) {
-            wrapper = wrappers.get(i);
-            if (checkConverterByTargetType(wrapper.getTargetClass(), targetClass)) {
-                return Optional.of((ValueConverter<V, O>) wrapper.getConverter());
-            }
+            getValueConvertersByTargetType(valueType, targetClass);
+        if (wrappers.isEmpty()) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of((ValueConverter<V, O>) wrappers.get(0).getConverter());
     }
 
     @Override
@@ -174,6 +227,7 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
         List<ConverterWrapper<ValueConverter<? extends Value, ?>>> converters =
             valueConverters.computeIfAbsent(valueType, k -> new ArrayList<>());
         converters.add(0, new ConverterWrapper<>(converter, objectClass));
+        invalidateCaches();
     }
 
     public <V extends Value, O> void registerValueConverterWithoutTargetClass(
@@ -182,6 +236,7 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
         List<ConverterWrapper<ValueConverter<? extends Value, ?>>> converters =
             valueConverters.computeIfAbsent(valueType, k -> new ArrayList<>());
         converters.add(0, new ConverterWrapper<>(converter, Object.class));
+        invalidateCaches();
     }
 
     @Override
@@ -190,6 +245,16 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
         return converter.toValue(o);
     }
 
+    @Override
+    public <O> void toMessagePack(O o, MessagePacker packer) throws IOException {
+        if (o == null) {
+            packer.packNil();
+            return;
+        }
+        ObjectConverter<O, Value> converter = getObjectConverter(o);
+        converter.toMessagePack(o, packer);
+    }
+
     @SuppressWarnings("unchecked")
     private <V extends Value, O> ObjectConverter<O, V> getObjectConverter(O o) {
         if (o == null) {
@@ -203,10 +268,9 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
     }
 
     @SuppressWarnings("unchecked")
-    private <V extends Value, O> Optional<ObjectConverter<O, V>> getObjectConverter(O o, String typeName) {
+    private <V extends Value, O> Optional<ObjectConverter<O, V>> findObjectConverter(O o, Class<?> objectClass) {
         ObjectConverter<O, V> converter;
-        List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> wrappers =
-            objectConverters.getOrDefault(typeName, Collections.emptyList());
+        List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> wrappers = getObjectConverters(objectClass);
         for (int i = 0; i < wrappers.size(); i++) {
             converter = (ObjectConverter<O, V>) wrappers.get(i).getConverter();
             if (converter.canConvertObject(o)) {
@@ -216,27 +280,10 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
         return Optional.empty();
     }
 
-    private <V extends Value, O> Optional<ObjectConverter<O, V>> findObjectConverter(O o, Class<?> objectClass) {
-        Optional<ObjectConverter<O, V>> converter = getObjectConverter(o, objectClass.getTypeName());
-        if (!converter.isPresent() && objectClass.getSuperclass() != null) {
-            converter = findObjectConverter(o, objectClass.getSuperclass());
-        }
-        if (!converter.isPresent()) {
-            for (Class<?> iface : objectClass.getInterfaces()) {
-                converter = findObjectConverter(o, iface);
-                if (converter.isPresent()) {
-                    break;
-                }
-            }
-        }
-        return converter;
-    }
-
     @SuppressWarnings("unchecked")
-    private <V extends Value, O> Optional<ObjectConverter<O, V>> getObjectConverterByTargetType(
-        String typeName, Class<? extends V> valueClass) {
-        List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> wrappers =
-            objectConverters.getOrDefault(typeName, Collections.emptyList());
+    private <V extends Value, O> Optional<ObjectConverter<O, V>> findObjectConverter(
+        Class<?> objectClass, Class<? extends V> valueClass) {
+        List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> wrappers = getObjectConverters(objectClass);
         ConverterWrapper<ObjectConverter<?, ? extends Value>> wrapper;
         for (int i = 0; i < wrappers.size(); i++) {
             wrapper = wrappers.get(i);
@@ -247,22 +294,32 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
         return Optional.empty();
     }
 
-    private <V extends Value, O> Optional<ObjectConverter<O, V>> findObjectConverter(
-        Class<?> objectClass, Class<? extends V> valueClass) {
-        Optional<ObjectConverter<O, V>> converter = getObjectConverterByTargetType(
-            objectClass.getTypeName(), valueClass);
-        if (!converter.isPresent() && objectClass.getSuperclass() != null) {
-            converter = findObjectConverter(objectClass.getSuperclass(), valueClass);
+    /**
+     * Get the cached list of converters applicable to the specified object class. The converters registered for the
+     * class itself go first, then the ones for its superclasses and interfaces, in the order of lookup
+     */
+    List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> getObjectConverters(Class<?> objectClass) {
+        return objectConvertersCache.computeIfAbsent(objectClass, k -> {
+            List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> result = new ArrayList<>();
+            collectObjectConverters(objectClass, new HashSet<>(), result);
+            return result;
+        });
+    }
+
+    private void collectObjectConverters(
+        Class<?> objectClass, Set<Class<?>> visited,
+        List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> result) {
+        if (!visited.add(objectClass)) {
+            // the converters for this class are already added before, so they will be checked earlier
+            return;
         }
-        if (!converter.isPresent()) {
-            for (Class<?> iface : objectClass.getInterfaces()) {
-                converter = findObjectConverter(iface, valueClass);
-                if (converter.isPresent()) {
-                    break;
-                }
-            }
+        result.addAll(objectConverters.getOrDefault(objectClass.getTypeName(), Collections.emptyList()));
+        if (objectClass.getSuperclass() != null) {
+            collectObjectConverters(objectClass.getSuperclass(), visited, result);
+        }
+        for (Class<?> iface : objectClass.getInterfaces()) {
+            collectObjectConverters(iface, visited, result);
         }
-        return converter;
     }
 
     @Override
@@ -321,6 +378,7 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
         List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> converters =
             objectConverters.computeIfAbsent(objectClass.getTypeName(), k -> new ArrayList<>());
         converters.add(0, new ConverterWrapper<>(converter, valueClass));
+        invalidateCaches();
     }
 
     @Override
@@ -328,6 +386,16 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
         return new DefaultMessagePackMapper(this);
     }
 
+    /**
+     * Makes an immutable copy of this mapper, which is safe to share between threads. Converters registered in this
+     * mapper afterwards do not affect the copy
+     *
+     * @return new {@link FrozenMessagePackMapper} instance
+     */
+    public FrozenMessagePackMapper freeze() {
+        return new FrozenMessagePackMapper(new DefaultMessagePackMapper(this));
+    }
+
     /**
      * Builder for {@link DefaultMessagePackMapper}
      */
@@ -427,5 +495,15 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
         public DefaultMessagePackMapper build() {
             return mapper;
         }
+
+        /**
+         * Build an immutable mapper instance
+         *
+         * @return a new {@link FrozenMessagePackMapper} instance
+         * @see DefaultMessagePackMapper#freeze()
+         */
+        public FrozenMessagePackMapper buildFrozen() {
+            return mapper.freeze();
+        }
     }
 }
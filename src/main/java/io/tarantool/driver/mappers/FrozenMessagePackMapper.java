@@ -0,0 +1,241 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.mappers.converters.ConverterWrapper;
+import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultCollectionToArrayValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultListToArrayValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultMapToMapValueConverter;
+import io.tarantool.driver.mappers.converters.object.DefaultPackableObjectConverter;
+import io.tarantool.driver.mappers.converters.value.defaults.DefaultArrayValueToListConverter;
+import io.tarantool.driver.mappers.converters.value.defaults.DefaultMapValueToMapConverter;
+import io.tarantool.driver.mappers.converters.value.defaults.DefaultNullToNilValueConverter;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.NilValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueType;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable {@link MessagePackMapper} created from a snapshot of {@link DefaultMessagePackMapper} converters.
+ * The value converters are dispatched through an array indexed by the {@link ValueType} ordinal, and the converters
+ * resolved for the object classes and target classes are stored in lock-free maps, so the instance may be shared
+ * between threads without any synchronization.
+ * <p>
+ * Registering converters is not supported. Use {@link #copy()} for getting a modifiable mapper with the same set of
+ * converters. The default converters of the nested values (for {@link java.util.Map}, {@link java.util.List},
+ * {@link java.util.Collection} and {@link io.tarantool.driver.protocol.Packable}) are bound to this instance, so the
+ * nested values are converted by the frozen converters as well. The other converters keep using the mapper they were
+ * created with.
+ *
+ * @see DefaultMessagePackMapper#freeze()
+ */
+public final class FrozenMessagePackMapper implements MessagePackMapper {
+
+    private static final long serialVersionUID = 20241019L;
+
+    private static final ValueType[] VALUE_TYPES = ValueType.values();
+
+    private final DefaultMessagePackMapper mapper;
+    private final ObjectConverter<Object, NilValue> nilConverter = new DefaultNullToNilValueConverter();
+    private transient ValueConverter<?, ?>[][] valueConverters;
+    private transient List<Map<Class<?>, ValueConverter<?, ?>[]>> valueConvertersByTargetType;
+    private transient Map<Class<?>, ObjectConverter<?, ?>[]> objectConverters;
+
+    /**
+     * Basic constructor. The passed mapper must not be modified after creating this instance.
+     *
+     * @param mapper source of the converters
+     */
+    FrozenMessagePackMapper(DefaultMessagePackMapper mapper) {
+        this.mapper = mapper;
+        init();
+    }
+
+    private void init() {
+        valueConverters = new ValueConverter<?, ?>[VALUE_TYPES.length][];
+        valueConvertersByTargetType = new ArrayList<>(VALUE_TYPES.length);
+        for (ValueType valueType : VALUE_TYPES) {
+            valueConverters[valueType.ordinal()] = toValueConverters(mapper.getValueConverters(valueType));
+            valueConvertersByTargetType.add(new ConcurrentHashMap<>());
+        }
+        objectConverters = new ConcurrentHashMap<>();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        init();
+    }
+
+    private ValueConverter<?, ?>[] toValueConverters(
+        List<ConverterWrapper<ValueConverter<? extends Value, ?>>> wrappers) {
+        ValueConverter<?, ?>[] converters = new ValueConverter<?, ?>[wrappers.size()];
+        for (int i = 0; i < converters.length; i++) {
+            converters[i] = bindValueConverter(wrappers.get(i).getConverter());
+        }
+        return converters;
+    }
+
+    private ObjectConverter<?, ?>[] toObjectConverters(
+        List<ConverterWrapper<ObjectConverter<?, ? extends Value>>> wrappers) {
+        ObjectConverter<?, ?>[] converters = new ObjectConverter<?, ?>[wrappers.size()];
+        for (int i = 0; i < converters.length; i++) {
+            converters[i] = bindObjectConverter(wrappers.get(i).getConverter());
+        }
+        return converters;
+    }
+
+    /**
+     * Replace the default converter of the nested values with the one converting them with this mapper
+     */
+    private ValueConverter<?, ?> bindValueConverter(ValueConverter<?, ?> converter) {
+        if (converter.getClass() == DefaultMapValueToMapConverter.class) {
+            return new DefaultMapValueToMapConverter(this);
+        } else if (converter.getClass() == DefaultArrayValueToListConverter.class) {
+            return new DefaultArrayValueToListConverter(this);
+        }
+        return converter;
+    }
+
+    /**
+     * Replace the default converter of the nested objects with the one converting them with this mapper
+     */
+    private ObjectConverter<?, ?> bindObjectConverter(ObjectConverter<?, ?> converter) {
+        if (converter.getClass() == DefaultMapToMapValueConverter.class) {
+            return new DefaultMapToMapValueConverter(this);
+        } else if (converter.getClass() == DefaultListToArrayValueConverter.class) {
+            return new DefaultListToArrayValueConverter(this);
+        } else if (converter.getClass() == DefaultCollectionToArrayValueConverter.class) {
+            return new DefaultCollectionToArrayValueConverter(this);
+        } else if (converter.getClass() == DefaultPackableObjectConverter.class) {
+            return new DefaultPackableObjectConverter(this);
+        }
+        return converter;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V extends Value, O> O fromValue(V v) {
+        ValueConverter<?, ?>[] converters = valueConverters[v.getValueType().ordinal()];
+        ValueConverter<V, O> converter;
+        for (int i = 0; i < converters.length; i++) {
+            converter = (ValueConverter<V, O>) converters[i];
+            if (converter.canConvertValue(v)) {
+                return converter.fromValue(v);
+            }
+        }
+        throw new MessagePackValueMapperException("ValueConverter for type %s is not found", v.getClass());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V extends Value, O> O fromValue(V v, Class<O> targetClass) {
+        ValueConverter<?, ?>[] converters = getValueConvertersByTargetType(v.getValueType(), targetClass);
+        ValueConverter<V, O> converter;
+        for (int i = 0; i < converters.length; i++) {
+            converter = (ValueConverter<V, O>) converters[i];
+            if (converter.canConvertValue(v)) {
+                return converter.fromValue(v);
+            }
+        }
+        throw new MessagePackValueMapperException(
+            "ValueConverter for type %s and target class %s is not found", v.getClass(), targetClass);
+    }
+
+    private ValueConverter<?, ?>[] getValueConvertersByTargetType(ValueType valueType, Class<?> targetClass) {
+        return valueConvertersByTargetType.get(valueType.ordinal()).computeIfAbsent(
+            targetClass, k -> toValueConverters(mapper.getValueConvertersByTargetType(valueType, targetClass)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V extends Value, O> Optional<ValueConverter<V, O>> getValueConverter(
+        ValueType valueType, Class<? extends O> objectClass) {
+        ValueConverter<?, ?>[] converters = getValueConvertersByTargetType(valueType, objectClass);
+        if (converters.length == 0) {
+            return Optional.empty();
+        }
+        return Optional.of((ValueConverter<V, O>) converters[0]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V extends Value, O> V toValue(O o) {
+        if (o == null) {
+            return (V) nilConverter.toValue(null);
+        }
+        ObjectConverter<?, ?>[] converters = objectConverters.computeIfAbsent(
+            o.getClass(), k -> toObjectConverters(mapper.getObjectConverters(k)));
+        ObjectConverter<O, V> converter;
+        for (int i = 0; i < converters.length; i++) {
+            converter = (ObjectConverter<O, V>) converters[i];
+            if (converter.canConvertObject(o)) {
+                return converter.toValue(o);
+            }
+        }
+        throw new MessagePackObjectMapperException("ObjectConverter for type %s is not found", o.getClass());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <O> void toMessagePack(O o, MessagePacker packer) throws IOException {
+        if (o == null) {
+            packer.packNil();
+            return;
+        }
+        ObjectConverter<?, ?>[] converters = objectConverters.computeIfAbsent(
+            o.getClass(), k -> toObjectConverters(mapper.getObjectConverters(k)));
+        ObjectConverter<O, Value> converter;
+        for (int i = 0; i < converters.length; i++) {
+            converter = (ObjectConverter<O, Value>) converters[i];
+            if (converter.canConvertObject(o)) {
+                converter.toMessagePack(o, packer);
+                return;
+            }
+        }
+        throw new MessagePackObjectMapperException("ObjectConverter for type %s is not found", o.getClass());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V extends Value, O> Optional<ObjectConverter<O, V>> getObjectConverter(
+        Class<? extends O> objectClass, Class<? extends V> valueClass) {
+        Optional<ObjectConverter<O, V>> converter = mapper.getObjectConverter(objectClass, valueClass);
+        return converter.map(c -> (ObjectConverter<O, V>) bindObjectConverter(c));
+    }
+
+    @Override
+    public <V extends Value, O> void registerValueConverter(
+        ValueType valueType, Class<? extends O> objectClass, ValueConverter<V, ? extends O> converter) {
+        throw new UnsupportedOperationException("Converters cannot be registered in a frozen mapper");
+    }
+
+    @Override
+    public <V extends Value, O> void registerValueConverterWithoutTargetClass(
+        ValueType valueType, ValueConverter<V, ? extends O> converter) {
+        throw new UnsupportedOperationException("Converters cannot be registered in a frozen mapper");
+    }
+
+    @Override
+    public <V extends Value, O> void registerObjectConverter(
+        Class<? extends O> objectClass, Class<V> valueClass, ObjectConverter<O, V> converter) {
+        throw new UnsupportedOperationException("Converters cannot be registered in a frozen mapper");
+    }
+
+    /**
+     * Makes a modifiable copy of this mapper
+     *
+     * @return new {@link DefaultMessagePackMapper} instance with the same converters
+     */
+    @Override
+    public DefaultMessagePackMapper copy() {
+        return new DefaultMessagePackMapper(mapper);
+    }
+}
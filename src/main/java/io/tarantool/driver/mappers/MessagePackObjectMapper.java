@@ -1,8 +1,10 @@
 package io.tarantool.driver.mappers;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
 import java.util.Optional;
 
 /**
@@ -23,6 +25,20 @@ public interface MessagePackObjectMapper {
      */
     <V extends Value, O> V toValue(O o) throws MessagePackObjectMapperException;
 
+    /**
+     * Write MessagePack representation of an object directly to the packer, without creating an intermediate
+     * {@link Value} where the corresponding converter supports that.
+     *
+     * @param o      an object to be converted
+     * @param packer MessagePack packer
+     * @param <O>    the source object type
+     * @throws MessagePackObjectMapperException if the corresponding conversion cannot be performed
+     * @throws IOException                      if writing to the packer failed
+     */
+    default <O> void toMessagePack(O o, MessagePacker packer) throws MessagePackObjectMapperException, IOException {
+        packer.packValue(toValue(o));
+    }
+
     /**
      * Adds a Java object converter to this mappers instance
      *
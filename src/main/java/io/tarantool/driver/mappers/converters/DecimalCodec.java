@@ -0,0 +1,216 @@
+package io.tarantool.driver.mappers.converters;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Encoder and decoder for the Tarantool MP_DECIMAL extension payload: the scale packed as MessagePack integer followed
+ * by the packed BCD digits with the sign in the last nibble.
+ * <p>
+ * The unscaled value is computed arithmetically from the digits: numbers with up to 18 digits are accumulated in a
+ * {@code long}, the longer ones in a {@link BigInteger} by 18-digit chunks.
+ * See <a href="https://github.com/tarantool/tarantool/blob/master/src/lib/core/decimal.c">decimal.c</a>
+ * and <a href="https://github.com/tarantool/decNumber/blob/master/decPacked.h">decPacked.h</a>.
+ */
+public final class DecimalCodec {
+
+    /**
+     * MessagePack extension type of decimal values
+     */
+    public static final byte DECIMAL_TYPE = 0x01;
+
+    private static final int DECIMAL_MAX_DIGITS = 38;
+    private static final int LONG_CHUNK_DIGITS = 18;
+    private static final byte DECIMAL_MINUS = 0x0D;
+    private static final byte DECIMAL_MINUS_ALT = 0x0B;
+    private static final byte DECIMAL_PLUS = 0x0C;
+    private static final BigInteger[] TEN_POWERS = new BigInteger[LONG_CHUNK_DIGITS + 1];
+    private static final BigInteger LONG_CHUNK_DIVISOR;
+
+    static {
+        TEN_POWERS[0] = BigInteger.ONE;
+        for (int i = 1; i < TEN_POWERS.length; i++) {
+            TEN_POWERS[i] = TEN_POWERS[i - 1].multiply(BigInteger.TEN);
+        }
+        LONG_CHUNK_DIVISOR = TEN_POWERS[LONG_CHUNK_DIGITS];
+    }
+
+    private DecimalCodec() {
+    }
+
+    /**
+     * Decode a decimal from the extension payload
+     *
+     * @param data   byte array containing the payload
+     * @param offset payload offset
+     * @param length payload length
+     * @return decoded decimal
+     * @throws IOException if the payload is invalid
+     */
+    public static BigDecimal decode(byte[] data, int offset, int length) throws IOException {
+        int end = offset + length;
+        if (length < 2) {
+            throw new IOException("Not enough bytes in the packed data");
+        }
+        int position = offset;
+        int scale;
+        int b = data[position++] & 0xFF;
+        if (length <= scaleLength(b)) {
+            throw new IOException("Not enough bytes in the packed data");
+        }
+        if (b <= 0x7F || b >= 0xE0) {
+            scale = (byte) b;
+        } else if (b == 0xD0) {
+            scale = data[position++];
+        } else if (b == 0xCC) {
+            scale = data[position++] & 0xFF;
+        } else if (b == 0xD1 || b == 0xCD) {
+            scale = b == 0xD1 ? (short) readUInt16(data, position) : readUInt16(data, position);
+            position += 2;
+        } else if (b == 0xD2 || b == 0xCE) {
+            scale = (data[position] & 0xFF) << 24 | (data[position + 1] & 0xFF) << 16 |
+                readUInt16(data, position + 2);
+            position += 4;
+        } else {
+            throw new IOException(String.format("Unsupported scale format byte 0x%02x", b));
+        }
+        if (scale > DECIMAL_MAX_DIGITS || scale < -DECIMAL_MAX_DIGITS) {
+            throw new IOException(
+                String.format("Scales with absolute value greater than %d are not supported", DECIMAL_MAX_DIGITS));
+        }
+
+        int sign = data[end - 1] & 0x0F;
+        boolean negative;
+        if (sign == DECIMAL_MINUS || sign == DECIMAL_MINUS_ALT) {
+            negative = true;
+        } else if (sign <= 0x09) {
+            throw new IOException("The sign nibble has wrong value");
+        } else {
+            negative = false;
+        }
+
+        long chunk = 0;
+        int chunkDigits = 0;
+        BigInteger unscaled = null;
+        int lastNibble = (end - position) * 2 - 1;
+        for (int i = 0; i < lastNibble; i++) {
+            int current = data[position + (i >> 1)];
+            int digit = (i & 1) == 0 ? (current >> 4) & 0x0F : current & 0x0F;
+            if (digit > 9) {
+                throw new IOException(String.format("Invalid digit at position %d", i));
+            }
+            if (chunkDigits == LONG_CHUNK_DIGITS) {
+                unscaled = unscaled == null ? BigInteger.valueOf(chunk) :
+                    unscaled.multiply(LONG_CHUNK_DIVISOR).add(BigInteger.valueOf(chunk));
+                chunk = 0;
+                chunkDigits = 0;
+            }
+            chunk = chunk * 10 + digit;
+            if (chunk != 0 || unscaled != null) {
+                chunkDigits++;
+            }
+        }
+
+        if (unscaled == null) {
+            return BigDecimal.valueOf(negative ? -chunk : chunk, scale);
+        }
+        unscaled = unscaled.multiply(TEN_POWERS[chunkDigits]).add(BigInteger.valueOf(chunk));
+        return new BigDecimal(negative ? unscaled.negate() : unscaled, scale);
+    }
+
+    /**
+     * Encode a decimal into the extension payload
+     *
+     * @param value decimal value
+     * @return extension payload
+     * @throws IOException if the decimal scale is not supported
+     */
+    public static byte[] encode(BigDecimal value) throws IOException {
+        int scale = value.scale();
+        if (scale > DECIMAL_MAX_DIGITS || scale < -DECIMAL_MAX_DIGITS) {
+            throw new IOException(
+                String.format("Scales with absolute value greater than %d are not supported", DECIMAL_MAX_DIGITS));
+        }
+        // the same encoding as MessagePacker.packInt for the supported scale range
+        int scaleLength = scale >= -32 ? 1 : 2;
+
+        BigInteger unscaled = value.unscaledValue();
+        byte sign = unscaled.signum() < 0 ? DECIMAL_MINUS : DECIMAL_PLUS;
+        long[] chunks;
+        if (unscaled.bitLength() < Long.SIZE - 1) {
+            chunks = new long[]{Math.abs(unscaled.longValue())};
+        } else {
+            BigInteger remaining = unscaled.abs();
+            // 10^18 is greater than 2^59, so each chunk holds at least 59 bits
+            int count = unscaled.bitLength() / 59 + 1;
+            chunks = new long[count];
+            for (int i = count - 1; i >= 0; i--) {
+                BigInteger[] quotientAndRemainder = remaining.divideAndRemainder(LONG_CHUNK_DIVISOR);
+                chunks[i] = quotientAndRemainder[1].longValue();
+                remaining = quotientAndRemainder[0];
+            }
+        }
+
+        int digitsNum = countDigits(chunks);
+        int bcdLength = (digitsNum >> 1) + 1;
+        byte[] payload = new byte[scaleLength + bcdLength];
+        if (scaleLength == 1) {
+            payload[0] = (byte) scale;
+        } else {
+            payload[0] = (byte) 0xD0;
+            payload[1] = (byte) scale;
+        }
+        int last = payload.length - 1;
+        payload[last] = sign;
+        // fill the digits from the least significant one, the nibble 0 is the sign
+        int nibble = 1;
+        for (int i = chunks.length - 1; i >= 0 && nibble <= digitsNum; i--) {
+            long chunk = chunks[i];
+            // the most significant chunk may be a full long with 19 digits
+            for (int j = 0; (j < LONG_CHUNK_DIGITS || i == 0) && nibble <= digitsNum; j++) {
+                int digit = (int) (chunk % 10);
+                chunk /= 10;
+                int index = last - (nibble >> 1);
+                payload[index] |= (nibble & 1) == 1 ? digit << 4 : digit;
+                nibble++;
+            }
+        }
+        return payload;
+    }
+
+    private static int scaleLength(int formatByte) {
+        switch (formatByte) {
+            case 0xCC:
+            case 0xD0:
+                return 2;
+            case 0xCD:
+            case 0xD1:
+                return 3;
+            case 0xCE:
+            case 0xD2:
+                return 5;
+            default:
+                return 1;
+        }
+    }
+
+    private static int readUInt16(byte[] data, int position) {
+        return (data[position] & 0xFF) << 8 | (data[position + 1] & 0xFF);
+    }
+
+    private static int countDigits(long[] chunks) {
+        int first = 0;
+        while (first < chunks.length - 1 && chunks[first] == 0) {
+            first++;
+        }
+        int digits = (chunks.length - first - 1) * LONG_CHUNK_DIGITS;
+        long head = chunks[first];
+        int headDigits = 1;
+        while (head >= 10) {
+            head /= 10;
+            headDigits++;
+        }
+        return digits + headDigits;
+    }
+}
@@ -1,7 +1,10 @@
 package io.tarantool.driver.mappers.converters;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
+
 /**
  * Basic interface for converters from Java objects to MessagePack entities for a particular class
  *
@@ -18,6 +21,18 @@ public interface ObjectConverter<O, V extends Value> extends Converter {
      */
     V toValue(O object);
 
+    /**
+     * Write the MessagePack representation of a Java object directly to the packer. Override this method for
+     * avoiding creation of an intermediate {@link Value}.
+     *
+     * @param object object
+     * @param packer MessagePack packer
+     * @throws IOException if writing to the packer failed
+     */
+    default void toMessagePack(O object, MessagePacker packer) throws IOException {
+        packer.packValue(toValue(object));
+    }
+
     /**
      * Optional method for determining if this specific object can be converted to the specified {@link Value} type.
      *
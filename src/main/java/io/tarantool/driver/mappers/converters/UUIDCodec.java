@@ -0,0 +1,67 @@
+package io.tarantool.driver.mappers.converters;
+
+import java.util.UUID;
+
+/**
+ * Encoder and decoder for the Tarantool MP_UUID extension payload: 16 bytes of the UUID in the big-endian order,
+ * read and written as two {@code long} values.
+ */
+public final class UUIDCodec {
+
+    /**
+     * MessagePack extension type of UUID values
+     */
+    public static final byte UUID_TYPE = 0x02;
+
+    /**
+     * Length of the UUID extension payload
+     */
+    public static final int UUID_LENGTH = 16;
+
+    private UUIDCodec() {
+    }
+
+    /**
+     * Decode a UUID from the extension payload
+     *
+     * @param data   byte array containing the payload
+     * @param offset payload offset
+     * @return decoded UUID
+     * @throws IllegalArgumentException if there are not enough bytes after the offset
+     */
+    public static UUID decode(byte[] data, int offset) {
+        if (data.length - offset < UUID_LENGTH) {
+            throw new IllegalArgumentException(
+                String.format("UUID payload must contain %d bytes, got %d", UUID_LENGTH, data.length - offset));
+        }
+        return new UUID(readLong(data, offset), readLong(data, offset + 8));
+    }
+
+    /**
+     * Encode a UUID into the extension payload
+     *
+     * @param value UUID
+     * @return extension payload
+     */
+    public static byte[] encode(UUID value) {
+        byte[] payload = new byte[UUID_LENGTH];
+        writeLong(payload, 0, value.getMostSignificantBits());
+        writeLong(payload, 8, value.getLeastSignificantBits());
+        return payload;
+    }
+
+    private static long readLong(byte[] data, int offset) {
+        long result = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            result = result << 8 | (data[i] & 0xFFL);
+        }
+        return result;
+    }
+
+    private static void writeLong(byte[] data, int offset, long value) {
+        for (int i = offset + 7; i >= offset; i--) {
+            data[i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.BooleanValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Boolean} to {@link BooleanValue} converter
  *
@@ -18,4 +21,9 @@ public class DefaultBooleanToBooleanValueConverter implements ObjectConverter<Bo
     public BooleanValue toValue(Boolean object) {
         return ValueFactory.newBoolean(object);
     }
+
+    @Override
+    public void toMessagePack(Boolean object, MessagePacker packer) throws IOException {
+        packer.packBoolean(object);
+    }
 }
@@ -1,9 +1,12 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.BinaryValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@code byte[]} to {@link BinaryValue} converter
  *
@@ -19,4 +22,9 @@ public class DefaultByteArrayToBinaryValueConverter implements ObjectConverter<b
         return ValueFactory.newBinary(object);
     }
 
+    @Override
+    public void toMessagePack(byte[] object, MessagePacker packer) throws IOException {
+        packer.packBinaryHeader(object.length);
+        packer.writePayload(object);
+    }
 }
@@ -1,9 +1,12 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.StringValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Character} to {@link StringValue} converter
  *
@@ -19,4 +22,9 @@ public class DefaultCharacterToStringValueConverter implements ObjectConverter<C
         String stringFromCharacter = String.valueOf(object);
         return ValueFactory.newString(stringFromCharacter);
     }
+
+    @Override
+    public void toMessagePack(Character object, MessagePacker packer) throws IOException {
+        packer.packString(String.valueOf(object));
+    }
 }
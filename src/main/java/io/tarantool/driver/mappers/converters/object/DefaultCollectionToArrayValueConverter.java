@@ -2,10 +2,12 @@ package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.Collection;
 
 /**
@@ -32,4 +34,12 @@ public class DefaultCollectionToArrayValueConverter implements ObjectConverter<C
         }
         return ValueFactory.newArray(values, true);
     }
+
+    @Override
+    public void toMessagePack(Collection<?> object, MessagePacker packer) throws IOException {
+        packer.packArrayHeader(object.size());
+        for (Object value : object) {
+            mapper.toMessagePack(value, packer);
+        }
+    }
 }
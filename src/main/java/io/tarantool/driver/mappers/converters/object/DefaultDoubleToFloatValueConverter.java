@@ -1,9 +1,12 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.FloatValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Double} to {@link FloatValue} converter
  *
@@ -19,4 +22,8 @@ public class DefaultDoubleToFloatValueConverter implements ObjectConverter<Doubl
         return ValueFactory.newFloat(object);
     }
 
+    @Override
+    public void toMessagePack(Double object, MessagePacker packer) throws IOException {
+        packer.packDouble(object);
+    }
 }
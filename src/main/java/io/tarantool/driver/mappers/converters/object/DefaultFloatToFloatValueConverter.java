@@ -1,9 +1,12 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.FloatValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Float} to {@link FloatValue} converter
  *
@@ -18,4 +21,9 @@ public class DefaultFloatToFloatValueConverter implements ObjectConverter<Float,
     public FloatValue toValue(Float object) {
         return ValueFactory.newFloat(object);
     }
+
+    @Override
+    public void toMessagePack(Float object, MessagePacker packer) throws IOException {
+        packer.packDouble(object);
+    }
 }
@@ -1,9 +1,12 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Integer} to {@link IntegerValue} converter
  *
@@ -19,4 +22,8 @@ public class DefaultIntegerToIntegerValueConverter implements ObjectConverter<In
         return ValueFactory.newInteger(object);
     }
 
+    @Override
+    public void toMessagePack(Integer object, MessagePacker packer) throws IOException {
+        packer.packInt(object);
+    }
 }
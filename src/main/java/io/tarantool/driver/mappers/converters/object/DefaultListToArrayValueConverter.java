@@ -2,10 +2,12 @@ package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -32,4 +34,12 @@ public class DefaultListToArrayValueConverter implements ObjectConverter<List<?>
         }
         return ValueFactory.newArray(values, true);
     }
+
+    @Override
+    public void toMessagePack(List<?> object, MessagePacker packer) throws IOException {
+        packer.packArrayHeader(object.size());
+        for (Object value : object) {
+            mapper.toMessagePack(value, packer);
+        }
+    }
 }
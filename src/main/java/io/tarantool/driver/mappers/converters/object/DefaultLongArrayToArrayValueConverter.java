@@ -1,11 +1,13 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 import org.msgpack.value.impl.ImmutableLongValueImpl;
 
+import java.io.IOException;
 import java.util.Arrays;
 
 /**
@@ -25,4 +27,12 @@ public class DefaultLongArrayToArrayValueConverter implements ObjectConverter<lo
     private Value[] toNumberValueArray(long[] object) {
         return Arrays.stream(object).mapToObj(ImmutableLongValueImpl::new).toArray(Value[]::new);
     }
+
+    @Override
+    public void toMessagePack(long[] object, MessagePacker packer) throws IOException {
+        packer.packArrayHeader(object.length);
+        for (long value : object) {
+            packer.packLong(value);
+        }
+    }
 }
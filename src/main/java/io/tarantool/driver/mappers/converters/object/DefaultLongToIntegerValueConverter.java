@@ -1,9 +1,12 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Long} to {@link IntegerValue} converter
  *
@@ -19,4 +22,8 @@ public class DefaultLongToIntegerValueConverter implements ObjectConverter<Long,
         return ValueFactory.newInteger(object);
     }
 
+    @Override
+    public void toMessagePack(Long object, MessagePacker packer) throws IOException {
+        packer.packLong(object);
+    }
 }
@@ -2,10 +2,12 @@ package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -34,4 +36,13 @@ public class DefaultMapToMapValueConverter implements ObjectConverter<Map<?, ?>,
         }
         return ValueFactory.newMap(values, true);
     }
+
+    @Override
+    public void toMessagePack(Map<?, ?> object, MessagePacker packer) throws IOException {
+        packer.packMapHeader(object.size());
+        for (Map.Entry<?, ?> entry : object.entrySet()) {
+            mapper.toMessagePack(entry.getKey(), packer);
+            mapper.toMessagePack(entry.getValue(), packer);
+        }
+    }
 }
@@ -3,8 +3,11 @@ package io.tarantool.driver.mappers.converters.object;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.converters.ObjectConverter;
 import io.tarantool.driver.protocol.Packable;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
+
 /**
  * Default converter for internal classes aware of MessagePack serialization
  *
@@ -24,4 +27,9 @@ public class DefaultPackableObjectConverter implements ObjectConverter<Packable,
     public Value toValue(Packable object) {
         return object.toMessagePackValue(mapper);
     }
+
+    @Override
+    public void toMessagePack(Packable object, MessagePacker packer) throws IOException {
+        object.toMessagePack(packer, mapper);
+    }
 }
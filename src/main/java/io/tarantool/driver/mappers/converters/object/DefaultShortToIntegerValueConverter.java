@@ -1,9 +1,12 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link Short} to {@link IntegerValue} converter
  *
@@ -16,4 +19,9 @@ public class DefaultShortToIntegerValueConverter implements ObjectConverter<Shor
     public IntegerValue toValue(Short object) {
         return ValueFactory.newInteger(object);
     }
+
+    @Override
+    public void toMessagePack(Short object, MessagePacker packer) throws IOException {
+        packer.packShort(object);
+    }
 }
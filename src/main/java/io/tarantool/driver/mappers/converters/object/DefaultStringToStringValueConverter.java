@@ -1,9 +1,12 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.StringValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@link String} to {@link StringValue} converter
  *
@@ -18,4 +21,9 @@ public class DefaultStringToStringValueConverter implements ObjectConverter<Stri
     public StringValue toValue(String object) {
         return ValueFactory.newString(object);
     }
+
+    @Override
+    public void toMessagePack(String object, MessagePacker packer) throws IOException {
+        packer.packString(object);
+    }
 }
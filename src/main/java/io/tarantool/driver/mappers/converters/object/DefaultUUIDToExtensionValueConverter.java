@@ -1,10 +1,12 @@
 package io.tarantool.driver.mappers.converters.object;
 
 import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.UUIDCodec;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ExtensionValue;
 import org.msgpack.value.ValueFactory;
 
-import java.nio.ByteBuffer;
+import java.io.IOException;
 import java.util.UUID;
 
 /**
@@ -17,30 +19,14 @@ public class DefaultUUIDToExtensionValueConverter implements ObjectConverter<UUI
 
     private static final long serialVersionUID = 20220418L;
 
-    private static final byte UUID_TYPE = 0x02;
-
-    private byte[] toBytes(UUID value) {
-        ByteBuffer buffer = ByteBuffer.wrap(new byte[16]);
-
-        long mostSignificant = value.getMostSignificantBits();
-        buffer.putInt((int) (mostSignificant >>> 32))
-            .putShort((short) ((mostSignificant & 0x00000000FFFFFFFFL) >>> 16))
-            .putShort((short) (mostSignificant & 0x000000000000FFFFL));
-
-        long leastSignificant = value.getLeastSignificantBits();
-        buffer.put((byte) (leastSignificant >>> 56))
-            .put((byte) ((leastSignificant & 0x00FF000000000000L) >>> 48))
-            .put((byte) ((leastSignificant & 0x0000FF0000000000L) >>> 40))
-            .put((byte) ((leastSignificant & 0x000000FF00000000L) >>> 32))
-            .put((byte) ((leastSignificant & 0x00000000FF000000L) >>> 24))
-            .put((byte) ((leastSignificant & 0x0000000000FF0000L) >>> 16))
-            .put((byte) ((leastSignificant & 0x000000000000FF00L) >>> 8))
-            .put((byte) (leastSignificant & 0x00000000000000FFL));
-        return buffer.array();
+    @Override
+    public ExtensionValue toValue(UUID object) {
+        return ValueFactory.newExtension(UUIDCodec.UUID_TYPE, UUIDCodec.encode(object));
     }
 
     @Override
-    public ExtensionValue toValue(UUID object) {
-        return ValueFactory.newExtension(UUID_TYPE, toBytes(object));
+    public void toMessagePack(UUID object, MessagePacker packer) throws IOException {
+        packer.packExtensionTypeHeader(UUIDCodec.UUID_TYPE, UUIDCodec.UUID_LENGTH);
+        packer.writePayload(UUIDCodec.encode(object));
     }
 }
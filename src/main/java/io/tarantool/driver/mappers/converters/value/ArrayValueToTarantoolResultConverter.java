@@ -23,7 +23,7 @@ public class ArrayValueToTarantoolResultConverter<T>
 
     public ArrayValueToTarantoolResultConverter(ValueConverter<ArrayValue, T> valueConverter) {
         this.valueConverter = valueConverter;
-        this.tarantoolResultFactory = new TarantoolResultFactory();
+        this.tarantoolResultFactory = TarantoolResultFactory.getInstance();
     }
 
     @Override
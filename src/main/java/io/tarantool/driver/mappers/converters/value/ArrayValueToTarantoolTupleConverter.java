@@ -3,6 +3,7 @@ package io.tarantool.driver.mappers.converters.value;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.core.tuple.TupleStringDictionaries;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import org.msgpack.value.ArrayValue;
@@ -19,18 +20,32 @@ public class ArrayValueToTarantoolTupleConverter implements ValueConverter<Array
 
     private final MessagePackMapper mapper;
     private final TarantoolSpaceMetadata spaceMetadata;
+    private final transient TupleStringDictionaries stringDictionaries;
 
     public ArrayValueToTarantoolTupleConverter(MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata) {
+        this(mapper, spaceMetadata, null);
+    }
+
+    /**
+     * Create a converter producing tuples which share the decoded values of the string fields having a dictionary
+     *
+     * @param mapper             provides conversion between MessagePack values and Java objects
+     * @param spaceMetadata      space metadata, may be null
+     * @param stringDictionaries string dictionaries of the fields, may be null
+     */
+    public ArrayValueToTarantoolTupleConverter(
+        MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata, TupleStringDictionaries stringDictionaries) {
         this.mapper = mapper;
         this.spaceMetadata = spaceMetadata;
+        this.stringDictionaries = stringDictionaries;
     }
 
     @Override
     public TarantoolTuple fromValue(ArrayValue value) {
-        return new TarantoolTupleImpl(value, mapper, spaceMetadata);
+        return new TarantoolTupleImpl(value, mapper, spaceMetadata, stringDictionaries);
     }
 
     public TarantoolTuple fromValue(ArrayValue value, TarantoolSpaceMetadata responseMetadata) {
-        return new TarantoolTupleImpl(value, mapper, responseMetadata);
+        return new TarantoolTupleImpl(value, mapper, responseMetadata, stringDictionaries);
     }
 }
@@ -0,0 +1,90 @@
+package io.tarantool.driver.mappers.converters.value;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.metadata.CRUDResponseToTarantoolSpaceMetadataConverter;
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.StringValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Converts the tuples of a select result one by one and passes them to a consumer instead of collecting them into
+ * a list. Accepts both an array of tuples and a map with the {@code metadata} and {@code rows} keys (the result of
+ * {@code crud.select}). The conversion result is the number of the consumed tuples.
+ * <p>
+ * Each tuple is decoded right before it is passed to the consumer, so only the raw response data and the current
+ * tuple are kept in memory.
+ *
+ * @param <T> target tuple type
+ */
+public class ValueToRowConsumerConverter<T> implements ValueConverter<Value, Long> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    private static final StringValue RESULT_META = ValueFactory.newString("metadata");
+    private static final StringValue RESULT_ROWS = ValueFactory.newString("rows");
+
+    private final ValueConverter<ArrayValue, T> rowConverter;
+    private final transient Consumer<? super T> consumer;
+
+    /**
+     * Basic constructor
+     *
+     * @param rowConverter converter of a single tuple
+     * @param consumer     consumer of the converted tuples
+     */
+    public ValueToRowConsumerConverter(ValueConverter<ArrayValue, T> rowConverter, Consumer<? super T> consumer) {
+        Assert.notNull(rowConverter, "Row converter should not be null");
+        Assert.notNull(consumer, "Row consumer should not be null");
+        this.rowConverter = rowConverter;
+        this.consumer = consumer;
+    }
+
+    @Override
+    public Long fromValue(Value value) {
+        if (value.isArrayValue()) {
+            return forEachRow(value.asArrayValue(), null);
+        }
+        if (value.isMapValue()) {
+            Map<Value, Value> result = value.asMapValue().map();
+            Value rows = result.get(RESULT_ROWS);
+            Value metadata = result.get(RESULT_META);
+            if (rows != null && rows.isArrayValue()) {
+                TarantoolSpaceMetadata responseMetadata = null;
+                if (metadata != null && metadata.isArrayValue() &&
+                    rowConverter instanceof ArrayValueToTarantoolTupleConverter) {
+                    responseMetadata = CRUDResponseToTarantoolSpaceMetadataConverter.getInstance()
+                        .fromValue(metadata.asArrayValue());
+                }
+                return forEachRow(rows.asArrayValue(), responseMetadata);
+            }
+        }
+        throw new MessagePackValueMapperException(
+            "Expected an array of tuples or a map with metadata and rows, but got %s", value.getValueType());
+    }
+
+    @SuppressWarnings("unchecked")
+    private long forEachRow(ArrayValue rows, TarantoolSpaceMetadata responseMetadata) {
+        int size = rows.size();
+        for (int i = 0; i < size; i++) {
+            ArrayValue row = LazyArrayValue.arrayElement(rows, i);
+            T item = responseMetadata != null ?
+                (T) ((ArrayValueToTarantoolTupleConverter) rowConverter).fromValue(row, responseMetadata) :
+                rowConverter.fromValue(row);
+            consumer.accept(item);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean canConvertValue(Value value) {
+        return value.isArrayValue() || value.isMapValue() && value.asMapValue().map().containsKey(RESULT_ROWS);
+    }
+}
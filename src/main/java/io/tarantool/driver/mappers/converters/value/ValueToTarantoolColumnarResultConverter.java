@@ -0,0 +1,75 @@
+package io.tarantool.driver.mappers.converters.value;
+
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.metadata.CRUDResponseToTarantoolSpaceMetadataConverter;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.value.StringValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.Map;
+
+/**
+ * Converts select results into {@link TarantoolColumnarResult}. Accepts both an array of tuples (the result of
+ * {@code box.space.select}, the passed space metadata is used) and a map with the {@code metadata} and {@code rows}
+ * keys (the result of {@code crud.select}, the metadata from the response is used).
+ */
+public class ValueToTarantoolColumnarResultConverter implements ValueConverter<Value, TarantoolColumnarResult> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    private static final StringValue RESULT_META = ValueFactory.newString("metadata");
+    private static final StringValue RESULT_ROWS = ValueFactory.newString("rows");
+
+    private final MessagePackValueMapper mapper;
+    private final TarantoolSpaceMetadata spaceMetadata;
+
+    /**
+     * Basic constructor
+     *
+     * @param mapper mapper for the field values which are not stored in primitive columns
+     */
+    public ValueToTarantoolColumnarResultConverter(MessagePackValueMapper mapper) {
+        this(mapper, null);
+    }
+
+    /**
+     * Constructor with space metadata, used for the results without metadata
+     *
+     * @param mapper        mapper for the field values which are not stored in primitive columns
+     * @param spaceMetadata space metadata with the format
+     */
+    public ValueToTarantoolColumnarResultConverter(
+        MessagePackValueMapper mapper, TarantoolSpaceMetadata spaceMetadata) {
+        this.mapper = mapper;
+        this.spaceMetadata = spaceMetadata;
+    }
+
+    @Override
+    public TarantoolColumnarResult fromValue(Value value) {
+        if (value.isArrayValue()) {
+            return TarantoolColumnarResult.fromRows(value.asArrayValue(), spaceMetadata, mapper);
+        }
+        if (value.isMapValue()) {
+            Map<Value, Value> result = value.asMapValue().map();
+            Value rows = result.get(RESULT_ROWS);
+            Value metadata = result.get(RESULT_META);
+            if (rows != null && rows.isArrayValue()) {
+                TarantoolSpaceMetadata responseMetadata = metadata != null && metadata.isArrayValue() ?
+                    CRUDResponseToTarantoolSpaceMetadataConverter.getInstance().fromValue(metadata.asArrayValue()) :
+                    spaceMetadata;
+                return TarantoolColumnarResult.fromRows(rows.asArrayValue(), responseMetadata, mapper);
+            }
+        }
+        throw new MessagePackValueMapperException(
+            "Expected an array of tuples or a map with metadata and rows, but got %s", value.getValueType());
+    }
+
+    @Override
+    public boolean canConvertValue(Value value) {
+        return value.isArrayValue() || value.isMapValue() && value.asMapValue().map().containsKey(RESULT_ROWS);
+    }
+}
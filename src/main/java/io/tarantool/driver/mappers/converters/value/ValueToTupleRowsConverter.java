@@ -0,0 +1,39 @@
+package io.tarantool.driver.mappers.converters.value;
+
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.StringValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+/**
+ * Extracts the raw array of tuples from select results without converting the tuples. Accepts both an array of
+ * tuples and a map with the {@code rows} key (the result of {@code crud.select}).
+ */
+public class ValueToTupleRowsConverter implements ValueConverter<Value, ArrayValue> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    private static final StringValue RESULT_ROWS = ValueFactory.newString("rows");
+
+    @Override
+    public ArrayValue fromValue(Value value) {
+        if (value.isArrayValue()) {
+            return value.asArrayValue();
+        }
+        if (value.isMapValue()) {
+            Value rows = value.asMapValue().map().get(RESULT_ROWS);
+            if (rows != null && rows.isArrayValue()) {
+                return rows.asArrayValue();
+            }
+        }
+        throw new MessagePackValueMapperException(
+            "Expected an array of tuples or a map with rows, but got %s", value.getValueType());
+    }
+
+    @Override
+    public boolean canConvertValue(Value value) {
+        return value.isArrayValue() || value.isMapValue() && value.asMapValue().map().containsKey(RESULT_ROWS);
+    }
+}
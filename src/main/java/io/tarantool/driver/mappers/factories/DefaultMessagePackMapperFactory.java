@@ -1,6 +1,7 @@
 package io.tarantool.driver.mappers.factories;
 
 import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.FrozenMessagePackMapper;
 import io.tarantool.driver.mappers.converters.Interval;
 import io.tarantool.driver.mappers.converters.object.DefaultBigDecimalToExtensionValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultBooleanToBooleanValueConverter;
@@ -62,6 +63,7 @@ public final class DefaultMessagePackMapperFactory {
     private static final DefaultMessagePackMapperFactory instance = new DefaultMessagePackMapperFactory();
 
     private final DefaultMessagePackMapper defaultSimpleTypesMapper;
+    private final FrozenMessagePackMapper defaultFrozenMapper;
 
     /**
      * Basic constructor.
@@ -108,6 +110,7 @@ public final class DefaultMessagePackMapperFactory {
             .withObjectConverter(Instant.class, ExtensionValue.class, new DefaultInstantToExtensionValueConverter())
             .withObjectConverter(Interval.class, ExtensionValue.class, new DefaultIntervalToExtensionValueConverter())
             .build();
+        defaultFrozenMapper = defaultComplexTypesMapper().freeze();
     }
 
     /**
@@ -145,6 +148,17 @@ public final class DefaultMessagePackMapperFactory {
         return defaultComplexTypesMapper;
     }
 
+    /**
+     * Get the shared immutable instance of the mapper. The instance contains the same converters as
+     * {@link #defaultComplexTypesMapper()} and is safe to use from multiple threads. Use
+     * {@link FrozenMessagePackMapper#copy()} for getting a modifiable copy.
+     *
+     * @return {@link FrozenMessagePackMapper} instance
+     */
+    public FrozenMessagePackMapper defaultFrozenMapper() {
+        return defaultFrozenMapper;
+    }
+
     /**
      * Get modification-safe instance of the given mapper (shallow copy).
      *
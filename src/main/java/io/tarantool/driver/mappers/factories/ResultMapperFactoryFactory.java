@@ -3,6 +3,7 @@ package io.tarantool.driver.mappers.factories;
 import io.tarantool.driver.api.MultiValueCallResult;
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.TarantoolTupleResult;
@@ -10,8 +11,10 @@ import io.tarantool.driver.mappers.CallResultMapper;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
 import io.tarantool.driver.mappers.TarantoolTupleResultMapperFactory;
+import io.tarantool.driver.mappers.pojo.PojoConverter;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Provides different factories for creating result mappers
@@ -197,6 +200,84 @@ public interface ResultMapperFactoryFactory {
      */
     <T> ArrayValueToTarantoolResultMapperFactory<T> rowsMetadataStructureResultMapperFactory();
 
+    /**
+     * Create a mapper for stored function call result with a list of tuples mapped to a user POJO class
+     * by position using {@link PojoConverter}
+     * <p>
+     * input: [x, y, ...], MessagePack array from a Lua function multi-return response
+     * <br>
+     * where <code>x</code> is an array of tuples ([t1, t2, ...]) and <code>y</code> can be interpreted as an error
+     * structure if it is not empty and there are no more arguments after <code>y</code>
+     * <br>
+     * mapper result: converted value of <code>x</code> to {@code TarantoolResult<T>}
+     *
+     * @param messagePackMapper mapper for the POJO field types without a dedicated codec
+     * @param pojoClass         target POJO class
+     * @param <T>               target POJO type
+     * @return call result mapper
+     */
+    <T> CallResultMapper<TarantoolResult<T>, SingleValueCallResult<TarantoolResult<T>>>
+    pojoResultMapper(MessagePackMapper messagePackMapper, Class<T> pojoClass);
+
+    /**
+     * Create a mapper for stored function call result with a list of tuples mapped to a user POJO class
+     * by the field names from the space format using {@link PojoConverter}
+     * <p>
+     * input: [x, y, ...], MessagePack array from a Lua function multi-return response
+     * <br>
+     * where <code>x</code> is an array of tuples ([t1, t2, ...]) and <code>y</code> can be interpreted as an error
+     * structure if it is not empty and there are no more arguments after <code>y</code>
+     * <br>
+     * mapper result: converted value of <code>x</code> to {@code TarantoolResult<T>}
+     *
+     * @param messagePackMapper mapper for the POJO field types without a dedicated codec
+     * @param pojoClass         target POJO class
+     * @param spaceMetadata     metadata to bind the POJO fields to the tuple fields by names
+     * @param <T>               target POJO type
+     * @return call result mapper
+     */
+    <T> CallResultMapper<TarantoolResult<T>, SingleValueCallResult<TarantoolResult<T>>>
+    pojoResultMapper(MessagePackMapper messagePackMapper, Class<T> pojoClass, TarantoolSpaceMetadata spaceMetadata);
+
+    /**
+     * Create a mapper for stored function call result with a select result decoded into columns
+     * (see {@link TarantoolColumnarResult})
+     * <p>
+     * input: [x, y, ...], MessagePack array from a Lua function multi-return response
+     * <br>
+     * where <code>x</code> is either an array of tuples or a crud result map with metadata and rows,
+     * and <code>y</code> can be interpreted as an error structure if it is not empty and there are no more arguments
+     * after <code>y</code>
+     * <br>
+     * mapper result: converted value of <code>x</code> to {@link TarantoolColumnarResult}
+     *
+     * @param messagePackMapper mapper for the field values which are not stored in primitive columns
+     * @param spaceMetadata     metadata with the space format, used if the result doesn't contain metadata
+     * @return call result mapper
+     */
+    CallResultMapper<TarantoolColumnarResult, SingleValueCallResult<TarantoolColumnarResult>>
+    columnarResultMapper(MessagePackMapper messagePackMapper, TarantoolSpaceMetadata spaceMetadata);
+
+    /**
+     * Create a mapper for stored function call result which passes the tuples to a consumer one by one
+     * <p>
+     * input: [x, y, ...], MessagePack array from a Lua function multi-return response
+     * <br>
+     * where <code>x</code> is either an array of tuples or a crud result map with metadata and rows,
+     * and <code>y</code> can be interpreted as an error structure if it is not empty and there are no more arguments
+     * after <code>y</code>
+     * <br>
+     * mapper result: number of tuples in <code>x</code> passed to the consumer
+     *
+     * @param messagePackMapper mapper with the converter of MessagePack arrays to the tuple type
+     * @param tupleClass        target tuple class
+     * @param consumer          consumer of the converted tuples
+     * @param <T>               target tuple type
+     * @return call result mapper
+     */
+    <T> CallResultMapper<Long, SingleValueCallResult<Long>>
+    rowConsumerResultMapper(MessagePackMapper messagePackMapper, Class<T> tupleClass, Consumer<? super T> consumer);
+
     /**
      * Return builder to create mapper which may depend on input clientMapper
      * For example, you can create maper that can obtain crud and box results from lua
@@ -3,7 +3,9 @@ package io.tarantool.driver.mappers.factories;
 import io.tarantool.driver.api.MultiValueCallResult;
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.CallResultMapper;
 import io.tarantool.driver.mappers.DefaultMultiValueResultMapper;
@@ -15,12 +17,18 @@ import io.tarantool.driver.mappers.TarantoolTupleResultMapperFactoryImpl;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.mappers.converters.ValueConverterWithInputTypeWrapper;
 import io.tarantool.driver.mappers.converters.value.ArrayValueToMultiValueListConverter;
+import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleConverter;
+import io.tarantool.driver.mappers.converters.value.ValueToRowConsumerConverter;
+import io.tarantool.driver.mappers.converters.value.ValueToTarantoolColumnarResultConverter;
+import io.tarantool.driver.mappers.pojo.PojoConverter;
+import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueType;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -106,6 +114,51 @@ public final class ResultMapperFactoryFactoryImpl implements ResultMapperFactory
             .withSingleValueArrayTarantoolResultConverter(getConverter(mapper, ValueType.ARRAY, tupleClass));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CallResultMapper<TarantoolResult<T>, SingleValueCallResult<TarantoolResult<T>>>
+    pojoResultMapper(MessagePackMapper messagePackMapper, Class<T> pojoClass) {
+        return this.<T>singleValueTarantoolResultMapperFactory()
+            .withSingleValueArrayTarantoolResultConverter(PojoConverter.of(pojoClass, messagePackMapper),
+                (Class<SingleValueCallResult<TarantoolResult<T>>>) (Class<?>) SingleValueCallResult.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CallResultMapper<TarantoolResult<T>, SingleValueCallResult<TarantoolResult<T>>>
+    pojoResultMapper(MessagePackMapper messagePackMapper, Class<T> pojoClass, TarantoolSpaceMetadata spaceMetadata) {
+        return this.<T>singleValueTarantoolResultMapperFactory()
+            .withSingleValueArrayTarantoolResultConverter(
+                PojoConverter.of(pojoClass, messagePackMapper, spaceMetadata),
+                (Class<SingleValueCallResult<TarantoolResult<T>>>) (Class<?>) SingleValueCallResult.class);
+    }
+
+    @Override
+    public CallResultMapper<TarantoolColumnarResult, SingleValueCallResult<TarantoolColumnarResult>>
+    columnarResultMapper(MessagePackMapper messagePackMapper, TarantoolSpaceMetadata spaceMetadata) {
+        return getSingleValueResultMapper(
+            new ValueToTarantoolColumnarResultConverter(messagePackMapper, spaceMetadata));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CallResultMapper<Long, SingleValueCallResult<Long>>
+    rowConsumerResultMapper(MessagePackMapper messagePackMapper, Class<T> tupleClass, Consumer<? super T> consumer) {
+        Optional<? extends ValueConverter<ArrayValue, T>> converter =
+            messagePackMapper.getValueConverter(ValueType.ARRAY, tupleClass);
+        ValueConverter<ArrayValue, T> rowConverter;
+        if (converter.isPresent()) {
+            rowConverter = converter.get();
+        } else if (tupleClass.isAssignableFrom(TarantoolTupleImpl.class)) {
+            rowConverter = (ValueConverter<ArrayValue, T>) (ValueConverter<ArrayValue, ?>)
+                new ArrayValueToTarantoolTupleConverter(messagePackMapper, null);
+        } else {
+            throw new TarantoolClientException(
+                "No converter for value type %s and type %s is present", ValueType.ARRAY, tupleClass);
+        }
+        return getSingleValueResultMapper(new ValueToRowConsumerConverter<>(rowConverter, consumer));
+    }
+
     public <T, R extends List<T>> CallResultMapper<R, MultiValueCallResult<T, R>>
     getDefaultMultiValueMapper(MessagePackMapper mapper, Class<T> tupleClass) {
         return new DefaultMultiValueResultMapper<>(mapper, tupleClass);
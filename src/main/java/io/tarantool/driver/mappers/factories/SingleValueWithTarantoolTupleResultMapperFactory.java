@@ -67,4 +67,19 @@ public class SingleValueWithTarantoolTupleResultMapperFactory
             SingleValueTarantoolTupleResult.class
         );
     }
+
+    /**
+     * Get {@link TarantoolTuple} result mapper for the crud results with metadata using the specified tuple converter
+     *
+     * @param tupleConverter converter of the tuples, e.g. configured with the field string dictionaries
+     * @return mapper instance
+     */
+    public CallResultMapper<TarantoolResult<TarantoolTuple>, SingleValueCallResult<TarantoolResult<TarantoolTuple>>>
+    withSingleValueRowsMetadataToTarantoolTupleResultMapper(ArrayValueToTarantoolTupleConverter tupleConverter) {
+        return withSingleValueResultConverter(
+            rowsMetadataToTarantoolTupleResultMapperFactory.
+                withRowsMetadataToTarantoolTupleResultConverter(tupleConverter),
+            SingleValueTarantoolTupleResult.class
+        );
+    }
 }
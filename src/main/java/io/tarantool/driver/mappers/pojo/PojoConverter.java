@@ -0,0 +1,262 @@
+package io.tarantool.driver.mappers.pojo;
+
+import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapperException;
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import io.tarantool.driver.mappers.converters.ObjectConverter;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Converter between tuples and user POJO classes. The tuple fields are bound to the POJO fields either by position
+ * (in the order of the field declaration, superclass fields go first) or by the field names from the space format.
+ * <p>
+ * All field accessors are resolved once into method handles when the converter is created, so converting a tuple
+ * does not involve the mapper converter lookup, except for the field types which don't have a dedicated codec
+ * (e.g. nested objects or UUID). Besides the {@link Value}-based conversion, a tuple can be read directly from
+ * a {@link MessageUnpacker} and written directly to a {@link MessagePacker} without building the intermediate
+ * {@link Value} objects. The tuples of the responses are {@link LazyArrayValue}s, they are read from their raw bytes
+ * in the same way, so the result mappers using this converter don't decode the tuple fields into {@link Value}s.
+ * <p>
+ * The POJO class must have a no-arguments constructor and must not have final instance fields. Static and transient
+ * fields are ignored.
+ *
+ * @param <T> target POJO type
+ */
+public final class PojoConverter<T> implements ValueConverter<ArrayValue, T>, ObjectConverter<T, ArrayValue> {
+
+    private static final long serialVersionUID = 20221019L;
+
+    private final Class<T> type;
+    private final MessagePackMapper mapper;
+    private final String[] fieldNames;
+    private transient MethodHandle constructor;
+    private transient PojoFieldCodec[] codecs;
+
+    private PojoConverter(Class<T> type, MessagePackMapper mapper, String[] fieldNames) {
+        this.type = type;
+        this.mapper = mapper;
+        this.fieldNames = fieldNames;
+        init();
+    }
+
+    /**
+     * Create a converter binding the tuple fields to the POJO fields by position
+     *
+     * @param type   POJO class
+     * @param mapper mapper for the field types without a dedicated codec
+     * @param <T>    POJO type
+     * @return new converter instance
+     */
+    public static <T> PojoConverter<T> of(Class<T> type, MessagePackMapper mapper) {
+        List<Field> fields = getFields(type);
+        String[] fieldNames = new String[fields.size()];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = fields.get(i).getName();
+        }
+        return new PojoConverter<>(type, mapper, fieldNames);
+    }
+
+    /**
+     * Create a converter binding the tuple fields to the POJO fields by the field names from the space format.
+     * The POJO fields missing in the format are not filled, the format fields missing in the POJO are skipped
+     * while reading and written as nil.
+     *
+     * @param type          POJO class
+     * @param mapper        mapper for the field types without a dedicated codec
+     * @param spaceMetadata space metadata with the format
+     * @param <T>           POJO type
+     * @return new converter instance
+     */
+    public static <T> PojoConverter<T> of(
+        Class<T> type, MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata) {
+        String[] fieldNames = new String[spaceMetadata.getSpaceFormatMetadata().size()];
+        for (Field field : getFields(type)) {
+            Optional<TarantoolFieldMetadata> fieldMetadata = spaceMetadata.getFieldByName(field.getName());
+            if (fieldMetadata.isPresent()) {
+                int position = fieldMetadata.get().getFieldPosition();
+                if (position >= fieldNames.length) {
+                    fieldNames = Arrays.copyOf(fieldNames, position + 1);
+                }
+                fieldNames[position] = field.getName();
+            }
+        }
+        return new PojoConverter<>(type, mapper, fieldNames);
+    }
+
+    private static List<Field> getFields(Class<?> type) {
+        LinkedList<Class<?>> hierarchy = new LinkedList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.addFirst(current);
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                if (Modifier.isFinal(modifiers)) {
+                    throw new IllegalArgumentException(String.format(
+                        "Final field %s of class %s cannot be mapped", field.getName(), type.getName()));
+                }
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private void init() {
+        try {
+            Constructor<T> ctor = type.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            constructor = MethodHandles.lookup().unreflectConstructor(ctor)
+                .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(String.format(
+                "Class %s must have an accessible constructor without arguments", type.getName()), e);
+        }
+        List<Field> fields = getFields(type);
+        codecs = new PojoFieldCodec[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (fieldNames[i] == null) {
+                continue;
+            }
+            for (Field field : fields) {
+                if (field.getName().equals(fieldNames[i])) {
+                    field.setAccessible(true);
+                    try {
+                        codecs[i] = PojoFieldCodec.forField(field, mapper);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalArgumentException(String.format(
+                            "Field %s of class %s is not accessible", field.getName(), type.getName()), e);
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        init();
+    }
+
+    /**
+     * Get the POJO class
+     *
+     * @return POJO class
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T fromValue(ArrayValue value) {
+        if (value instanceof LazyArrayValue) {
+            LazyArrayValue tuple = (LazyArrayValue) value;
+            return fromMessagePack(
+                MessagePack.newDefaultUnpacker(tuple.getBuffer(), tuple.getOffset(), tuple.getLength()));
+        }
+        try {
+            T result = (T) (Object) constructor.invokeExact();
+            int size = Math.min(value.size(), codecs.length);
+            for (int i = 0; i < size; i++) {
+                if (codecs[i] != null) {
+                    codecs[i].read(result, value.get(i));
+                }
+            }
+            return result;
+        } catch (Throwable e) {
+            throw new MessagePackValueMapperException(
+                String.format("Failed to convert tuple to %s", type.getName()), e);
+        }
+    }
+
+    /**
+     * Read a tuple directly from the unpacker. The unpacker must be positioned at the tuple array header.
+     *
+     * @param unpacker MessagePack unpacker
+     * @return POJO instance
+     * @throws MessagePackValueMapperException if the tuple cannot be read or converted
+     */
+    @SuppressWarnings("unchecked")
+    public T fromMessagePack(MessageUnpacker unpacker) throws MessagePackValueMapperException {
+        try {
+            T result = (T) (Object) constructor.invokeExact();
+            int size = unpacker.unpackArrayHeader();
+            for (int i = 0; i < size; i++) {
+                if (i < codecs.length && codecs[i] != null) {
+                    codecs[i].read(result, unpacker);
+                } else {
+                    unpacker.skipValue();
+                }
+            }
+            return result;
+        } catch (Throwable e) {
+            throw new MessagePackValueMapperException(
+                String.format("Failed to read tuple as %s", type.getName()), e);
+        }
+    }
+
+    @Override
+    public ArrayValue toValue(T object) {
+        try {
+            Value[] values = new Value[codecs.length];
+            for (int i = 0; i < codecs.length; i++) {
+                values[i] = codecs[i] != null ? codecs[i].write(object) : ValueFactory.newNil();
+            }
+            return ValueFactory.newArray(values, true);
+        } catch (Throwable e) {
+            throw new MessagePackObjectMapperException(
+                String.format("Failed to convert %s to tuple", type.getName()), e);
+        }
+    }
+
+    /**
+     * Write the object as a tuple directly to the packer
+     *
+     * @param object POJO instance
+     * @param packer MessagePack packer
+     * @throws MessagePackObjectMapperException if the object cannot be converted or written
+     */
+    @Override
+    public void toMessagePack(T object, MessagePacker packer) throws MessagePackObjectMapperException {
+        try {
+            packer.packArrayHeader(codecs.length);
+            for (PojoFieldCodec codec : codecs) {
+                if (codec != null) {
+                    codec.write(object, packer);
+                } else {
+                    packer.packNil();
+                }
+            }
+        } catch (Throwable e) {
+            throw new MessagePackObjectMapperException(
+                String.format("Failed to write %s as tuple", type.getName()), e);
+        }
+    }
+}
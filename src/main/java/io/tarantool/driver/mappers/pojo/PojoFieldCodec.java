@@ -0,0 +1,530 @@
+package io.tarantool.driver.mappers.pojo;
+
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Reads and writes a single POJO field using method handles bound to that field. The codec for each field is
+ * selected once, when the {@link PojoConverter} is created, so no converter lookup is performed per tuple.
+ */
+abstract class PojoFieldCodec {
+
+    /**
+     * Read the field value from a MessagePack entity and set it to the target object
+     *
+     * @param target POJO instance
+     * @param value  tuple field value
+     * @throws Throwable if the field cannot be set
+     */
+    abstract void read(Object target, Value value) throws Throwable;
+
+    /**
+     * Read the field value from the unpacker and set it to the target object
+     *
+     * @param target   POJO instance
+     * @param unpacker unpacker positioned at the tuple field
+     * @throws Throwable if the field cannot be read or set
+     */
+    abstract void read(Object target, MessageUnpacker unpacker) throws Throwable;
+
+    /**
+     * Get the field value from the source object and convert it to a MessagePack entity
+     *
+     * @param source POJO instance
+     * @return tuple field value
+     * @throws Throwable if the field cannot be got
+     */
+    abstract Value write(Object source) throws Throwable;
+
+    /**
+     * Get the field value from the source object and pack it
+     *
+     * @param source POJO instance
+     * @param packer target packer
+     * @throws Throwable if the field cannot be got or packed
+     */
+    abstract void write(Object source, MessagePacker packer) throws Throwable;
+
+    /**
+     * Select a codec for the specified field
+     *
+     * @param field  POJO field, must be accessible
+     * @param mapper mapper for field types without a dedicated codec
+     * @return new codec instance
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    static PojoFieldCodec forField(Field field, MessagePackMapper mapper) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle getter = lookup.unreflectGetter(field);
+        MethodHandle setter = lookup.unreflectSetter(field);
+        Class<?> type = field.getType();
+        if (type.isPrimitive()) {
+            getter = getter.asType(MethodType.methodType(type, Object.class));
+            setter = setter.asType(MethodType.methodType(void.class, Object.class, type));
+            if (type == long.class) {
+                return new LongCodec(getter, setter);
+            } else if (type == int.class) {
+                return new IntCodec(getter, setter);
+            } else if (type == short.class) {
+                return new ShortCodec(getter, setter);
+            } else if (type == double.class) {
+                return new DoubleCodec(getter, setter);
+            } else if (type == float.class) {
+                return new FloatCodec(getter, setter);
+            } else if (type == boolean.class) {
+                return new BooleanCodec(getter, setter);
+            }
+            getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+            setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return new PrimitiveObjectCodec(getter, setter, type, mapper);
+        }
+        getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+        setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return new ObjectCodec(getter, setter, ObjectCodec.Kind.of(type), type, mapper);
+    }
+
+    static long unpackLong(MessageUnpacker unpacker) throws IOException {
+        if (unpacker.getNextFormat().getValueType() == ValueType.FLOAT) {
+            return (long) unpacker.unpackDouble();
+        }
+        return unpacker.unpackLong();
+    }
+
+    static double unpackDouble(MessageUnpacker unpacker) throws IOException {
+        if (unpacker.getNextFormat().getValueType() == ValueType.INTEGER) {
+            return unpacker.unpackLong();
+        }
+        return unpacker.unpackDouble();
+    }
+
+    /**
+     * Skip nil values, leaving the default value of a primitive field untouched
+     */
+    static boolean skipNil(MessageUnpacker unpacker) throws IOException {
+        return unpacker.tryUnpackNil();
+    }
+
+    private static final class LongCodec extends PojoFieldCodec {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        LongCodec(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        void read(Object target, Value value) throws Throwable {
+            if (!value.isNilValue()) {
+                setter.invokeExact(target, value.asNumberValue().toLong());
+            }
+        }
+
+        @Override
+        void read(Object target, MessageUnpacker unpacker) throws Throwable {
+            if (!skipNil(unpacker)) {
+                setter.invokeExact(target, unpackLong(unpacker));
+            }
+        }
+
+        @Override
+        Value write(Object source) throws Throwable {
+            return ValueFactory.newInteger((long) getter.invokeExact(source));
+        }
+
+        @Override
+        void write(Object source, MessagePacker packer) throws Throwable {
+            packer.packLong((long) getter.invokeExact(source));
+        }
+    }
+
+    private static final class IntCodec extends PojoFieldCodec {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        IntCodec(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        void read(Object target, Value value) throws Throwable {
+            if (!value.isNilValue()) {
+                setter.invokeExact(target, value.asNumberValue().toInt());
+            }
+        }
+
+        @Override
+        void read(Object target, MessageUnpacker unpacker) throws Throwable {
+            if (!skipNil(unpacker)) {
+                setter.invokeExact(target, (int) unpackLong(unpacker));
+            }
+        }
+
+        @Override
+        Value write(Object source) throws Throwable {
+            return ValueFactory.newInteger((int) getter.invokeExact(source));
+        }
+
+        @Override
+        void write(Object source, MessagePacker packer) throws Throwable {
+            packer.packInt((int) getter.invokeExact(source));
+        }
+    }
+
+    private static final class ShortCodec extends PojoFieldCodec {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        ShortCodec(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        void read(Object target, Value value) throws Throwable {
+            if (!value.isNilValue()) {
+                setter.invokeExact(target, value.asNumberValue().toShort());
+            }
+        }
+
+        @Override
+        void read(Object target, MessageUnpacker unpacker) throws Throwable {
+            if (!skipNil(unpacker)) {
+                setter.invokeExact(target, (short) unpackLong(unpacker));
+            }
+        }
+
+        @Override
+        Value write(Object source) throws Throwable {
+            return ValueFactory.newInteger((short) getter.invokeExact(source));
+        }
+
+        @Override
+        void write(Object source, MessagePacker packer) throws Throwable {
+            packer.packShort((short) getter.invokeExact(source));
+        }
+    }
+
+    private static final class DoubleCodec extends PojoFieldCodec {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        DoubleCodec(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        void read(Object target, Value value) throws Throwable {
+            if (!value.isNilValue()) {
+                setter.invokeExact(target, value.asNumberValue().toDouble());
+            }
+        }
+
+        @Override
+        void read(Object target, MessageUnpacker unpacker) throws Throwable {
+            if (!skipNil(unpacker)) {
+                setter.invokeExact(target, unpackDouble(unpacker));
+            }
+        }
+
+        @Override
+        Value write(Object source) throws Throwable {
+            return ValueFactory.newFloat((double) getter.invokeExact(source));
+        }
+
+        @Override
+        void write(Object source, MessagePacker packer) throws Throwable {
+            packer.packDouble((double) getter.invokeExact(source));
+        }
+    }
+
+    private static final class FloatCodec extends PojoFieldCodec {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        FloatCodec(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        void read(Object target, Value value) throws Throwable {
+            if (!value.isNilValue()) {
+                setter.invokeExact(target, value.asNumberValue().toFloat());
+            }
+        }
+
+        @Override
+        void read(Object target, MessageUnpacker unpacker) throws Throwable {
+            if (!skipNil(unpacker)) {
+                setter.invokeExact(target, (float) unpackDouble(unpacker));
+            }
+        }
+
+        @Override
+        Value write(Object source) throws Throwable {
+            return ValueFactory.newFloat((float) getter.invokeExact(source));
+        }
+
+        @Override
+        void write(Object source, MessagePacker packer) throws Throwable {
+            packer.packDouble((float) getter.invokeExact(source));
+        }
+    }
+
+    private static final class BooleanCodec extends PojoFieldCodec {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        BooleanCodec(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        void read(Object target, Value value) throws Throwable {
+            if (!value.isNilValue()) {
+                setter.invokeExact(target, value.asBooleanValue().getBoolean());
+            }
+        }
+
+        @Override
+        void read(Object target, MessageUnpacker unpacker) throws Throwable {
+            if (!skipNil(unpacker)) {
+                setter.invokeExact(target, unpacker.unpackBoolean());
+            }
+        }
+
+        @Override
+        Value write(Object source) throws Throwable {
+            return ValueFactory.newBoolean((boolean) getter.invokeExact(source));
+        }
+
+        @Override
+        void write(Object source, MessagePacker packer) throws Throwable {
+            packer.packBoolean((boolean) getter.invokeExact(source));
+        }
+    }
+
+    /**
+     * Codec for the primitive types without a dedicated codec (byte and char), delegating to the mapper
+     */
+    private static final class PrimitiveObjectCodec extends PojoFieldCodec {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final Class<?> type;
+        private final MessagePackMapper mapper;
+
+        PrimitiveObjectCodec(MethodHandle getter, MethodHandle setter, Class<?> type, MessagePackMapper mapper) {
+            this.getter = getter;
+            this.setter = setter;
+            this.type = type;
+            this.mapper = mapper;
+        }
+
+        @Override
+        void read(Object target, Value value) throws Throwable {
+            if (!value.isNilValue()) {
+                setter.invokeExact(target, mapper.fromValue(value, type));
+            }
+        }
+
+        @Override
+        void read(Object target, MessageUnpacker unpacker) throws Throwable {
+            if (!skipNil(unpacker)) {
+                setter.invokeExact(target, mapper.fromValue(unpacker.unpackValue(), type));
+            }
+        }
+
+        @Override
+        Value write(Object source) throws Throwable {
+            return mapper.toValue((Object) getter.invokeExact(source));
+        }
+
+        @Override
+        void write(Object source, MessagePacker packer) throws Throwable {
+            mapper.toMessagePack((Object) getter.invokeExact(source), packer);
+        }
+    }
+
+    /**
+     * Codec for reference field types. The common types are handled directly, the rest are passed to the mapper.
+     */
+    private static final class ObjectCodec extends PojoFieldCodec {
+
+        enum Kind {
+            STRING, BINARY, LONG, INTEGER, SHORT, DOUBLE, FLOAT, BOOLEAN, OTHER;
+
+            static Kind of(Class<?> type) {
+                if (type == String.class) {
+                    return STRING;
+                } else if (type == byte[].class) {
+                    return BINARY;
+                } else if (type == Long.class) {
+                    return LONG;
+                } else if (type == Integer.class) {
+                    return INTEGER;
+                } else if (type == Short.class) {
+                    return SHORT;
+                } else if (type == Double.class) {
+                    return DOUBLE;
+                } else if (type == Float.class) {
+                    return FLOAT;
+                } else if (type == Boolean.class) {
+                    return BOOLEAN;
+                }
+                return OTHER;
+            }
+        }
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final Kind kind;
+        private final Class<?> type;
+        private final MessagePackMapper mapper;
+
+        ObjectCodec(MethodHandle getter, MethodHandle setter, Kind kind, Class<?> type, MessagePackMapper mapper) {
+            this.getter = getter;
+            this.setter = setter;
+            this.kind = kind;
+            this.type = type;
+            this.mapper = mapper;
+        }
+
+        @Override
+        void read(Object target, Value value) throws Throwable {
+            setter.invokeExact(target, fromValue(value));
+        }
+
+        private Object fromValue(Value value) {
+            if (value.isNilValue()) {
+                return null;
+            }
+            switch (kind) {
+                case STRING:
+                    return value.asStringValue().asString();
+                case BINARY:
+                    return value.asRawValue().asByteArray();
+                case LONG:
+                    return value.asNumberValue().toLong();
+                case INTEGER:
+                    return value.asNumberValue().toInt();
+                case SHORT:
+                    return value.asNumberValue().toShort();
+                case DOUBLE:
+                    return value.asNumberValue().toDouble();
+                case FLOAT:
+                    return value.asNumberValue().toFloat();
+                case BOOLEAN:
+                    return value.asBooleanValue().getBoolean();
+                default:
+                    return mapper.fromValue(value, type);
+            }
+        }
+
+        @Override
+        void read(Object target, MessageUnpacker unpacker) throws Throwable {
+            setter.invokeExact(target, unpack(unpacker));
+        }
+
+        private Object unpack(MessageUnpacker unpacker) throws IOException {
+            if (unpacker.tryUnpackNil()) {
+                return null;
+            }
+            switch (kind) {
+                case STRING:
+                    return unpacker.unpackString();
+                case BINARY:
+                    return unpacker.readPayload(unpacker.getNextFormat().getValueType() == ValueType.STRING ?
+                        unpacker.unpackRawStringHeader() : unpacker.unpackBinaryHeader());
+                case LONG:
+                    return unpackLong(unpacker);
+                case INTEGER:
+                    return (int) unpackLong(unpacker);
+                case SHORT:
+                    return (short) unpackLong(unpacker);
+                case DOUBLE:
+                    return unpackDouble(unpacker);
+                case FLOAT:
+                    return (float) unpackDouble(unpacker);
+                case BOOLEAN:
+                    return unpacker.unpackBoolean();
+                default:
+                    return mapper.fromValue(unpacker.unpackValue(), type);
+            }
+        }
+
+        @Override
+        Value write(Object source) throws Throwable {
+            Object object = (Object) getter.invokeExact(source);
+            if (object == null) {
+                return ValueFactory.newNil();
+            }
+            switch (kind) {
+                case STRING:
+                    return ValueFactory.newString((String) object);
+                case BINARY:
+                    return ValueFactory.newBinary((byte[]) object);
+                case LONG:
+                case INTEGER:
+                case SHORT:
+                    return ValueFactory.newInteger(((Number) object).longValue());
+                case DOUBLE:
+                    return ValueFactory.newFloat((Double) object);
+                case FLOAT:
+                    return ValueFactory.newFloat((Float) object);
+                case BOOLEAN:
+                    return ValueFactory.newBoolean((Boolean) object);
+                default:
+                    return mapper.toValue(object);
+            }
+        }
+
+        @Override
+        void write(Object source, MessagePacker packer) throws Throwable {
+            Object object = (Object) getter.invokeExact(source);
+            if (object == null) {
+                packer.packNil();
+                return;
+            }
+            switch (kind) {
+                case STRING:
+                    packer.packString((String) object);
+                    break;
+                case BINARY:
+                    byte[] bytes = (byte[]) object;
+                    packer.packBinaryHeader(bytes.length);
+                    packer.writePayload(bytes);
+                    break;
+                case LONG:
+                case INTEGER:
+                case SHORT:
+                    packer.packLong(((Number) object).longValue());
+                    break;
+                case DOUBLE:
+                    packer.packDouble((Double) object);
+                    break;
+                case FLOAT:
+                    packer.packDouble((Float) object);
+                    break;
+                case BOOLEAN:
+                    packer.packBoolean((Boolean) object);
+                    break;
+                default:
+                    mapper.toMessagePack(object, packer);
+            }
+        }
+    }
+}
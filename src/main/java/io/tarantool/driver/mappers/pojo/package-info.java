@@ -0,0 +1,4 @@
+/**
+ * Contains converters that map tuples to user POJO classes and back without the per-field converter lookup
+ */
+package io.tarantool.driver.mappers.pojo;
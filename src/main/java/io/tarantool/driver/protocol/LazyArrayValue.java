@@ -0,0 +1,981 @@
+package io.tarantool.driver.protocol;
+
+import org.msgpack.core.MessageFormatException;
+import org.msgpack.core.MessageInsufficientBufferException;
+import org.msgpack.core.MessageIntegerOverflowException;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageTypeCastException;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ImmutableArrayValue;
+import org.msgpack.value.ImmutableBinaryValue;
+import org.msgpack.value.ImmutableBooleanValue;
+import org.msgpack.value.ImmutableExtensionValue;
+import org.msgpack.value.ImmutableFloatValue;
+import org.msgpack.value.ImmutableIntegerValue;
+import org.msgpack.value.ImmutableMapValue;
+import org.msgpack.value.ImmutableNilValue;
+import org.msgpack.value.ImmutableNumberValue;
+import org.msgpack.value.ImmutableRawValue;
+import org.msgpack.value.ImmutableStringValue;
+import org.msgpack.value.ImmutableTimestampValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * MessagePack array value backed by the raw MessagePack bytes. The elements are not decoded when the value is
+ * created: the element offsets are indexed on the first element access and each element is decoded only once when
+ * it is accessed. The nested arrays are decoded into lazy values as well, the map values are decoded eagerly (but
+ * the arrays inside them are lazy).
+ * <p>
+ * The value shares the byte array it was created from, so holding a reference to one element of a big response keeps
+ * the whole response frame in memory. Use {@link #compact()} for keeping the value for a long time. The tuples of
+ * the results are extracted with {@link #arrayElement(ArrayValue, int)}, which copies the bytes of each tuple.
+ * <p>
+ * The elements are read only within the bounds of the packed array. Truncated or malformed data results in a
+ * {@link MessagePackException} when the elements are accessed for the first time.
+ */
+public final class LazyArrayValue implements ImmutableArrayValue {
+
+    private static final Value[] EMPTY_VALUES = new Value[0];
+
+    private final byte[] buffer;
+    private final int offset;
+    private final int length;
+    private final int size;
+    private final int dataOffset;
+    private volatile int[] offsets;
+    private volatile Value[] values;
+
+    /**
+     * Basic constructor.
+     *
+     * @param buffer byte array containing the packed array
+     * @param offset offset of the array header in the buffer
+     * @param length length of the packed array including the header
+     * @throws MessageTypeCastException if the data at the specified offset is not an array
+     * @throws MessageInsufficientBufferException if the specified range is out of the buffer bounds or is too short
+     */
+    public LazyArrayValue(byte[] buffer, int offset, int length) {
+        if (offset < 0 || length < 1 || offset > buffer.length - length) {
+            throw new MessageInsufficientBufferException(String.format(
+                "Invalid MessagePack array range: offset %d, length %d, buffer size %d",
+                offset, length, buffer.length));
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        int b = buffer[offset] & 0xff;
+        if (b >= 0x90 && b <= 0x9f) {
+            this.size = b & 0x0f;
+            this.dataOffset = offset + 1;
+        } else if (b == 0xdc) {
+            checkAvailable(offset, 3, offset + length);
+            this.size = readUInt16(buffer, offset + 1);
+            this.dataOffset = offset + 3;
+        } else if (b == 0xdd) {
+            checkAvailable(offset, 5, offset + length);
+            this.size = readLength32(buffer, offset + 1);
+            this.dataOffset = offset + 5;
+        } else {
+            throw new MessageTypeCastException(
+                String.format("Expected MessagePack array, but got format byte 0x%02x", b));
+        }
+        // each element takes at least one byte
+        if (size > offset + length - dataOffset) {
+            throw new MessageInsufficientBufferException(String.format(
+                "MessagePack array of %d elements exceeds the data bounds", size));
+        }
+    }
+
+    /**
+     * Create a lazy array value from the packed array bytes
+     *
+     * @param buffer byte array containing exactly one packed array
+     * @return new lazy array value
+     */
+    public static LazyArrayValue of(byte[] buffer) {
+        return new LazyArrayValue(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Decode the MessagePack value at the specified position. Arrays are decoded into {@link LazyArrayValue}
+     *
+     * @param buffer byte array containing the packed value
+     * @param offset offset of the value in the buffer
+     * @param length length of the packed value
+     * @return decoded value
+     * @throws MessagePackException if the data is not a valid MessagePack value
+     */
+    public static Value decode(byte[] buffer, int offset, int length) {
+        int b = buffer[offset] & 0xff;
+        if (b <= 0x7f) {
+            return ValueFactory.newInteger(b);
+        } else if (b >= 0xe0) {
+            return ValueFactory.newInteger((byte) b);
+        } else if (b >= 0xa0 && b <= 0xbf) {
+            return newString(buffer, offset + 1, b & 0x1f);
+        } else if (b >= 0x90 && b <= 0x9f || b == 0xdc || b == 0xdd) {
+            return new LazyArrayValue(buffer, offset, length);
+        } else if (b >= 0x80 && b <= 0x8f || b == 0xde || b == 0xdf) {
+            return decodeMap(buffer, offset, offset + length);
+        }
+        switch (b) {
+            case 0xc0:
+                return ValueFactory.newNil();
+            case 0xc2:
+                return ValueFactory.newBoolean(false);
+            case 0xc3:
+                return ValueFactory.newBoolean(true);
+            case 0xcb:
+                return ValueFactory.newFloat(Double.longBitsToDouble(readLong(buffer, offset + 1)));
+            case 0xcc:
+                return ValueFactory.newInteger(buffer[offset + 1] & 0xff);
+            case 0xcd:
+                return ValueFactory.newInteger(readUInt16(buffer, offset + 1));
+            case 0xce:
+                return ValueFactory.newInteger(readInt(buffer, offset + 1) & 0xffffffffL);
+            case 0xd0:
+                return ValueFactory.newInteger(buffer[offset + 1]);
+            case 0xd1:
+                return ValueFactory.newInteger((short) readUInt16(buffer, offset + 1));
+            case 0xd2:
+                return ValueFactory.newInteger(readInt(buffer, offset + 1));
+            case 0xd3:
+                return ValueFactory.newInteger(readLong(buffer, offset + 1));
+            case 0xd9:
+                return newString(buffer, offset + 2, buffer[offset + 1] & 0xff);
+            case 0xda:
+                return newString(buffer, offset + 3, readUInt16(buffer, offset + 1));
+            case 0xdb:
+                return newString(buffer, offset + 5, readLength32(buffer, offset + 1));
+            case 0xd4:
+            case 0xd5:
+            case 0xd6:
+            case 0xd7:
+            case 0xd8:
+                // decimal and UUID values are packed as fixext or ext8
+                return newExtension(buffer, offset + 2, buffer[offset + 1], 1 << (b - 0xd4));
+            case 0xc7:
+                return newExtension(buffer, offset + 3, buffer[offset + 2], buffer[offset + 1] & 0xff);
+            default:
+                // binary, large extension, float32 and uint64 values are rare, use the standard decoder for them
+                try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(buffer, offset, length)) {
+                    return unpacker.unpackValue();
+                } catch (IOException e) {
+                    throw new MessageFormatException("Failed to decode MessagePack value", e);
+                }
+        }
+    }
+
+    private static Value newString(byte[] buffer, int offset, int length) {
+        return ValueFactory.newString(Arrays.copyOfRange(buffer, offset, offset + length), true);
+    }
+
+    private static Value newExtension(byte[] buffer, int offset, byte type, int length) {
+        return ValueFactory.newExtension(type, Arrays.copyOfRange(buffer, offset, offset + length));
+    }
+
+    private static Value decodeMap(byte[] buffer, int offset, int limit) {
+        int b = buffer[offset] & 0xff;
+        int mapSize;
+        int position;
+        if (b == 0xde) {
+            checkAvailable(offset, 3, limit);
+            mapSize = readUInt16(buffer, offset + 1);
+            position = offset + 3;
+        } else if (b == 0xdf) {
+            checkAvailable(offset, 5, limit);
+            mapSize = readLength32(buffer, offset + 1);
+            position = offset + 5;
+        } else {
+            mapSize = b & 0x0f;
+            position = offset + 1;
+        }
+        Value[] keyValues = new Value[mapSize * 2];
+        for (int i = 0; i < keyValues.length; i++) {
+            int next = skip(buffer, position, limit);
+            keyValues[i] = decode(buffer, position, next - position);
+            position = next;
+        }
+        return ValueFactory.newMap(keyValues, true);
+    }
+
+    /**
+     * Get the position right after the MessagePack value starting at the specified position
+     *
+     * @param buffer   byte array containing the packed value
+     * @param position offset of the value in the buffer
+     * @param limit    offset right after the last byte the value may occupy, must not exceed the buffer size
+     * @return offset of the next value
+     * @throws MessageFormatException if the data is not a valid MessagePack value
+     * @throws MessageInsufficientBufferException if the value does not fit into the limit
+     */
+    static int skip(byte[] buffer, int position, int limit) {
+        long remaining = 1;
+        while (remaining > 0) {
+            remaining--;
+            checkAvailable(position, 1, limit);
+            int b = buffer[position] & 0xff;
+            if (b <= 0x7f || b >= 0xe0) {
+                position += 1;
+            } else if (b <= 0x8f) {
+                remaining += (b & 0x0f) * 2L;
+                position += 1;
+            } else if (b <= 0x9f) {
+                remaining += b & 0x0f;
+                position += 1;
+            } else if (b <= 0xbf) {
+                position += 1 + (b & 0x1f);
+            } else {
+                switch (b) {
+                    case 0xc0:
+                    case 0xc2:
+                    case 0xc3:
+                        position += 1;
+                        break;
+                    case 0xc4:
+                    case 0xd9:
+                        checkAvailable(position, 2, limit);
+                        position += 2 + (buffer[position + 1] & 0xff);
+                        break;
+                    case 0xc5:
+                    case 0xda:
+                        checkAvailable(position, 3, limit);
+                        position += 3 + readUInt16(buffer, position + 1);
+                        break;
+                    case 0xc6:
+                    case 0xdb:
+                        checkAvailable(position, 5, limit);
+                        position += 5 + readLength32(buffer, position + 1);
+                        break;
+                    case 0xc7:
+                        checkAvailable(position, 3, limit);
+                        position += 3 + (buffer[position + 1] & 0xff);
+                        break;
+                    case 0xc8:
+                        checkAvailable(position, 4, limit);
+                        position += 4 + readUInt16(buffer, position + 1);
+                        break;
+                    case 0xc9:
+                        checkAvailable(position, 6, limit);
+                        position += 6 + readLength32(buffer, position + 1);
+                        break;
+                    case 0xcc:
+                    case 0xd0:
+                        position += 2;
+                        break;
+                    case 0xcd:
+                    case 0xd1:
+                        position += 3;
+                        break;
+                    case 0xca:
+                    case 0xce:
+                    case 0xd2:
+                        position += 5;
+                        break;
+                    case 0xcb:
+                    case 0xcf:
+                    case 0xd3:
+                        position += 9;
+                        break;
+                    case 0xd4:
+                        position += 3;
+                        break;
+                    case 0xd5:
+                        position += 4;
+                        break;
+                    case 0xd6:
+                        position += 6;
+                        break;
+                    case 0xd7:
+                        position += 10;
+                        break;
+                    case 0xd8:
+                        position += 18;
+                        break;
+                    case 0xdc:
+                        checkAvailable(position, 3, limit);
+                        remaining += readUInt16(buffer, position + 1);
+                        position += 3;
+                        break;
+                    case 0xdd:
+                        checkAvailable(position, 5, limit);
+                        remaining += readLength32(buffer, position + 1);
+                        position += 5;
+                        break;
+                    case 0xde:
+                        checkAvailable(position, 3, limit);
+                        remaining += readUInt16(buffer, position + 1) * 2L;
+                        position += 3;
+                        break;
+                    case 0xdf:
+                        checkAvailable(position, 5, limit);
+                        remaining += readLength32(buffer, position + 1) * 2L;
+                        position += 5;
+                        break;
+                    default:
+                        throw new MessageFormatException(
+                            String.format("Invalid MessagePack format byte 0x%02x", b));
+                }
+            }
+            // the lengths may be corrupted, so the position may also overflow
+            if (position < 0 || position > limit) {
+                throw new MessageInsufficientBufferException("MessagePack value exceeds the data bounds");
+            }
+        }
+        return position;
+    }
+
+    private static void checkAvailable(int position, int count, int limit) {
+        if (position > limit - count) {
+            throw new MessageInsufficientBufferException("MessagePack value exceeds the data bounds");
+        }
+    }
+
+    private static int readUInt16(byte[] buffer, int position) {
+        return ((buffer[position] & 0xff) << 8) | (buffer[position + 1] & 0xff);
+    }
+
+    private static int readInt(byte[] buffer, int position) {
+        return ((buffer[position] & 0xff) << 24) | ((buffer[position + 1] & 0xff) << 16) |
+            ((buffer[position + 2] & 0xff) << 8) | (buffer[position + 3] & 0xff);
+    }
+
+    private static int readLength32(byte[] buffer, int position) {
+        int value = readInt(buffer, position);
+        if (value < 0) {
+            throw new MessageFormatException("MessagePack length exceeds the maximum array size");
+        }
+        return value;
+    }
+
+    private static long readLong(byte[] buffer, int position) {
+        return ((long) readInt(buffer, position) << 32) | (readInt(buffer, position + 4) & 0xffffffffL);
+    }
+
+    private int[] getOffsets() {
+        int[] result = offsets;
+        if (result == null) {
+            result = new int[size + 1];
+            int position = dataOffset;
+            for (int i = 0; i < size; i++) {
+                result[i] = position;
+                position = skip(buffer, position, offset + length);
+            }
+            result[size] = position;
+            offsets = result;
+        }
+        return result;
+    }
+
+    /**
+     * Get the underlying byte array. The array is not copied and must not be modified.
+     *
+     * @return byte array containing the packed array
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Get the offset of the packed array in the underlying byte array
+     *
+     * @return offset of the array header
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Get the length of the packed array in the underlying byte array
+     *
+     * @return length of the packed array including the header
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Get the offset of the packed element in the underlying byte array
+     *
+     * @param index element index
+     * @return offset of the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getElementOffset(int index) {
+        checkIndex(index);
+        return getOffsets()[index];
+    }
+
+    /**
+     * Get the length of the packed element in the underlying byte array
+     *
+     * @param index element index
+     * @return length of the packed element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getElementLength(int index) {
+        checkIndex(index);
+        int[] elementOffsets = getOffsets();
+        return elementOffsets[index + 1] - elementOffsets[index];
+    }
+
+    /**
+     * Check if the element is nil without decoding it
+     *
+     * @param index element index
+     * @return true if the element is nil
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean isNil(int index) {
+        return buffer[getElementOffset(index)] == (byte) 0xc0;
+    }
+
+    /**
+     * Get the element type without decoding the element
+     *
+     * @param index element index
+     * @return MessagePack value type of the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws MessageFormatException if the element has invalid format
+     */
+    public ValueType getType(int index) {
+        int b = buffer[getElementOffset(index)] & 0xff;
+        if (b <= 0x7f || b >= 0xe0) {
+            return ValueType.INTEGER;
+        } else if (b <= 0x8f) {
+            return ValueType.MAP;
+        } else if (b <= 0x9f) {
+            return ValueType.ARRAY;
+        } else if (b <= 0xbf) {
+            return ValueType.STRING;
+        }
+        switch (b) {
+            case 0xc0:
+                return ValueType.NIL;
+            case 0xc2:
+            case 0xc3:
+                return ValueType.BOOLEAN;
+            case 0xc4:
+            case 0xc5:
+            case 0xc6:
+                return ValueType.BINARY;
+            case 0xca:
+            case 0xcb:
+                return ValueType.FLOAT;
+            case 0xcc:
+            case 0xcd:
+            case 0xce:
+            case 0xcf:
+            case 0xd0:
+            case 0xd1:
+            case 0xd2:
+            case 0xd3:
+                return ValueType.INTEGER;
+            case 0xd9:
+            case 0xda:
+            case 0xdb:
+                return ValueType.STRING;
+            case 0xdc:
+            case 0xdd:
+                return ValueType.ARRAY;
+            case 0xde:
+            case 0xdf:
+                return ValueType.MAP;
+            case 0xc1:
+                throw new MessageFormatException(String.format("Invalid MessagePack format byte 0x%02x", b));
+            default:
+                return ValueType.EXTENSION;
+        }
+    }
+
+    /**
+     * Read the integer element without decoding it into a {@link Value}
+     *
+     * @param index element index
+     * @return element value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws MessageTypeCastException if the element is not an integer
+     * @throws MessageIntegerOverflowException if the element value doesn't fit into {@code long}
+     */
+    public long getLong(int index) {
+        int position = getElementOffset(index);
+        int b = buffer[position] & 0xff;
+        if (b <= 0x7f) {
+            return b;
+        } else if (b >= 0xe0) {
+            return (byte) b;
+        }
+        switch (b) {
+            case 0xcc:
+                return buffer[position + 1] & 0xff;
+            case 0xcd:
+                return readUInt16(buffer, position + 1);
+            case 0xce:
+                return readInt(buffer, position + 1) & 0xffffffffL;
+            case 0xcf:
+                long value = readLong(buffer, position + 1);
+                if (value < 0) {
+                    throw new MessageIntegerOverflowException(
+                        BigInteger.valueOf(value & Long.MAX_VALUE).setBit(Long.SIZE - 1));
+                }
+                return value;
+            case 0xd0:
+                return buffer[position + 1];
+            case 0xd1:
+                return (short) readUInt16(buffer, position + 1);
+            case 0xd2:
+                return readInt(buffer, position + 1);
+            case 0xd3:
+                return readLong(buffer, position + 1);
+            default:
+                throw new MessageTypeCastException(
+                    String.format("Expected MessagePack integer, but got format byte 0x%02x", b));
+        }
+    }
+
+    /**
+     * Read the float element without decoding it into a {@link Value}
+     *
+     * @param index element index
+     * @return element value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws MessageTypeCastException if the element is not a float
+     */
+    public double getDouble(int index) {
+        int position = getElementOffset(index);
+        int b = buffer[position] & 0xff;
+        if (b == 0xcb) {
+            return Double.longBitsToDouble(readLong(buffer, position + 1));
+        } else if (b == 0xca) {
+            return Float.intBitsToFloat(readInt(buffer, position + 1));
+        }
+        throw new MessageTypeCastException(
+            String.format("Expected MessagePack float, but got format byte 0x%02x", b));
+    }
+
+    /**
+     * Read the boolean element without decoding it into a {@link Value}
+     *
+     * @param index element index
+     * @return element value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws MessageTypeCastException if the element is not a boolean
+     */
+    public boolean getBoolean(int index) {
+        int b = buffer[getElementOffset(index)] & 0xff;
+        if (b == 0xc3) {
+            return true;
+        } else if (b == 0xc2) {
+            return false;
+        }
+        throw new MessageTypeCastException(
+            String.format("Expected MessagePack boolean, but got format byte 0x%02x", b));
+    }
+
+    /**
+     * Get the payload of the string or binary element without copying it
+     *
+     * @param index element index
+     * @return read-only buffer with the raw string (UTF-8) or binary data
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws MessageTypeCastException if the element is neither a string nor a binary
+     */
+    public ByteBuffer getBytes(int index) {
+        int position = getElementOffset(index);
+        int b = buffer[position] & 0xff;
+        int headerLength;
+        int payloadLength;
+        if (b >= 0xa0 && b <= 0xbf) {
+            headerLength = 1;
+            payloadLength = b & 0x1f;
+        } else if (b == 0xc4 || b == 0xd9) {
+            headerLength = 2;
+            payloadLength = buffer[position + 1] & 0xff;
+        } else if (b == 0xc5 || b == 0xda) {
+            headerLength = 3;
+            payloadLength = readUInt16(buffer, position + 1);
+        } else if (b == 0xc6 || b == 0xdb) {
+            headerLength = 5;
+            payloadLength = readLength32(buffer, position + 1);
+        } else {
+            throw new MessageTypeCastException(
+                String.format("Expected MessagePack string or binary, but got format byte 0x%02x", b));
+        }
+        return ByteBuffer.wrap(buffer, position + headerLength, payloadLength).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Write the packed element bytes to the packer without decoding the element
+     *
+     * @param index  element index
+     * @param packer MessagePack packer
+     * @throws IOException if writing to the packer failed
+     */
+    public void writeElementTo(int index, MessagePacker packer) throws IOException {
+        packer.writePayload(buffer, getElementOffset(index), getElementLength(index));
+    }
+
+    /**
+     * Get a value which does not share the underlying byte array with the other values
+     *
+     * @return this value, if it occupies the whole underlying array, or a copy of it
+     */
+    public LazyArrayValue compact() {
+        if (offset == 0 && length == buffer.length) {
+            return this;
+        }
+        return new LazyArrayValue(Arrays.copyOfRange(buffer, offset, offset + length), 0, length);
+    }
+
+    /**
+     * Get an element of an array of arrays, e.g. a tuple from an array of tuples. For a {@link LazyArrayValue} the
+     * element is not decoded and is not cached in the array, so the elements can be processed one by one without
+     * keeping all of them in memory. The bytes of the element are copied, so the element does not keep the whole
+     * array in memory and may be passed to the user code.
+     *
+     * @param array array of arrays
+     * @param index element index
+     * @return element array value
+     */
+    public static ArrayValue arrayElement(ArrayValue array, int index) {
+        if (array instanceof LazyArrayValue) {
+            LazyArrayValue lazyArray = (LazyArrayValue) array;
+            int elementOffset = lazyArray.getElementOffset(index);
+            int elementLength = lazyArray.getElementLength(index);
+            return new LazyArrayValue(
+                Arrays.copyOfRange(lazyArray.buffer, elementOffset, elementOffset + elementLength), 0, elementLength);
+        }
+        return array.get(index).asArrayValue();
+    }
+
+    /**
+     * Get an element of an array of arrays without copying its bytes. The returned value shares the underlying byte
+     * array with the passed array, so it must be used only while the array is processed and must not be passed to
+     * the user code.
+     *
+     * @param array array of arrays
+     * @param index element index
+     * @return element array value
+     * @see #arrayElement(ArrayValue, int)
+     */
+    public static ArrayValue arrayElementView(ArrayValue array, int index) {
+        if (array instanceof LazyArrayValue) {
+            LazyArrayValue lazyArray = (LazyArrayValue) array;
+            return new LazyArrayValue(
+                lazyArray.buffer, lazyArray.getElementOffset(index), lazyArray.getElementLength(index));
+        }
+        return array.get(index).asArrayValue();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Value get(int index) {
+        checkIndex(index);
+        Value[] cache = values;
+        if (cache == null) {
+            cache = new Value[size];
+            values = cache;
+        }
+        Value value = cache[index];
+        if (value == null) {
+            int[] elementOffsets = getOffsets();
+            value = decode(buffer, elementOffsets[index], elementOffsets[index + 1] - elementOffsets[index]);
+            cache[index] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Value getOrNilValue(int index) {
+        if (index >= 0 && index < size) {
+            return get(index);
+        }
+        return ValueFactory.newNil();
+    }
+
+    @Override
+    public Iterator<Value> iterator() {
+        return new Iterator<Value>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Value next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    @Override
+    public List<Value> list() {
+        return new AbstractList<Value>() {
+            @Override
+            public Value get(int index) {
+                return LazyArrayValue.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Get all elements decoded
+     *
+     * @return array of the decoded elements
+     */
+    public Value[] toArray() {
+        if (size == 0) {
+            return EMPTY_VALUES;
+        }
+        Value[] result = new Value[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    @Override
+    public void writeTo(MessagePacker packer) throws IOException {
+        packer.writePayload(buffer, offset, length);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public ImmutableArrayValue immutableValue() {
+        return this;
+    }
+
+    @Override
+    public boolean isNilValue() {
+        return false;
+    }
+
+    @Override
+    public boolean isBooleanValue() {
+        return false;
+    }
+
+    @Override
+    public boolean isNumberValue() {
+        return false;
+    }
+
+    @Override
+    public boolean isIntegerValue() {
+        return false;
+    }
+
+    @Override
+    public boolean isFloatValue() {
+        return false;
+    }
+
+    @Override
+    public boolean isRawValue() {
+        return false;
+    }
+
+    @Override
+    public boolean isBinaryValue() {
+        return false;
+    }
+
+    @Override
+    public boolean isStringValue() {
+        return false;
+    }
+
+    @Override
+    public boolean isArrayValue() {
+        return true;
+    }
+
+    @Override
+    public boolean isMapValue() {
+        return false;
+    }
+
+    @Override
+    public boolean isExtensionValue() {
+        return false;
+    }
+
+    @Override
+    public boolean isTimestampValue() {
+        return false;
+    }
+
+    @Override
+    public ImmutableNilValue asNilValue() {
+        throw new MessageTypeCastException();
+    }
+
+    @Override
+    public ImmutableBooleanValue asBooleanValue() {
+        throw new MessageTypeCastException();
+    }
+
+    @Override
+    public ImmutableNumberValue asNumberValue() {
+        throw new MessageTypeCastException();
+    }
+
+    @Override
+    public ImmutableIntegerValue asIntegerValue() {
+        throw new MessageTypeCastException();
+    }
+
+    @Override
+    public ImmutableFloatValue asFloatValue() {
+        throw new MessageTypeCastException();
+    }
+
+    @Override
+    public ImmutableRawValue asRawValue() {
+        throw new MessageTypeCastException();
+    }
+
+    @Override
+    public ImmutableBinaryValue asBinaryValue() {
+        throw new MessageTypeCastException();
+    }
+
+    @Override
+    public ImmutableStringValue asStringValue() {
+        throw new MessageTypeCastException();
+    }
+
+    @Override
+    public ImmutableArrayValue asArrayValue() {
+        return this;
+    }
+
+    @Override
+    public ImmutableMapValue asMapValue() {
+        throw new MessageTypeCastException();
+    }
+
+    @Override
+    public ImmutableExtensionValue asExtensionValue() {
+        throw new MessageTypeCastException();
+    }
+
+    @Override
+    public ImmutableTimestampValue asTimestampValue() {
+        throw new MessageTypeCastException();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof Value)) {
+            return false;
+        }
+        Value v = (Value) o;
+        if (!v.isArrayValue()) {
+            return false;
+        }
+        if (v instanceof LazyArrayValue) {
+            LazyArrayValue that = (LazyArrayValue) v;
+            if (rangeEquals(this.buffer, this.offset, that.buffer, that.offset, this.length, that.length)) {
+                return true;
+            }
+        }
+        List<Value> other = v.asArrayValue().list();
+        if (size != other.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!get(i).equals(other.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean rangeEquals(byte[] a, int aOffset, byte[] b, int bOffset, int aLength, int bLength) {
+        if (aLength != bLength) {
+            return false;
+        }
+        for (int i = 0; i < aLength; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < size; i++) {
+            h = 31 * h + get(i).hashCode();
+        }
+        return h;
+    }
+
+    @Override
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(get(i).toJson());
+        }
+        return sb.append(']').toString();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            Value value = get(i);
+            sb.append(value.isRawValue() ? value.toJson() : value.toString());
+        }
+        return sb.append(']').toString();
+    }
+}
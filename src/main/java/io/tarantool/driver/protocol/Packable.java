@@ -1,8 +1,10 @@
 package io.tarantool.driver.protocol;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -18,4 +20,16 @@ public interface Packable extends Serializable {
      * @return MessagePack entity
      */
     Value toMessagePackValue(MessagePackObjectMapper mapper);
+
+    /**
+     * Write this instance directly to the packer. Override this method for avoiding creation of an intermediate
+     * {@link Value}.
+     *
+     * @param packer MessagePack packer
+     * @param mapper configured Java objects to entities mapper
+     * @throws IOException if writing to the packer failed
+     */
+    default void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.packValue(toMessagePackValue(mapper));
+    }
 }
@@ -0,0 +1,134 @@
+package io.tarantool.driver.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.utils.Assert;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.Value;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Pre-encoded MessagePack value, which is written to the request as is, without decoding and encoding it again.
+ * <p>
+ * The value references the passed bytes without copying them, so they must not be modified until the request
+ * is built.
+ */
+public final class RawMessagePack implements Packable {
+
+    private static final long serialVersionUID = 20221019L;
+
+    private final byte[] buffer;
+    private final int offset;
+    private final int length;
+
+    private RawMessagePack(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Create a value from the packed bytes
+     *
+     * @param packed byte array containing exactly one MessagePack value
+     * @return new value
+     */
+    public static RawMessagePack of(byte[] packed) {
+        Assert.notNull(packed, "Packed value should not be null");
+        return of(packed, 0, packed.length);
+    }
+
+    /**
+     * Create a value from a part of the byte array
+     *
+     * @param buffer byte array containing the packed value
+     * @param offset offset of the value in the array
+     * @param length length of the packed value
+     * @return new value
+     */
+    public static RawMessagePack of(byte[] buffer, int offset, int length) {
+        Assert.notNull(buffer, "Packed value should not be null");
+        Assert.state(offset >= 0 && length > 0 && offset + length <= buffer.length,
+            "Packed value offset and length should be within the buffer");
+        return new RawMessagePack(buffer, offset, length);
+    }
+
+    /**
+     * Create a value from the readable bytes of the buffer. The reader index of the buffer is not changed.
+     * The bytes are copied, so the buffer may be released or reused right after the call.
+     *
+     * @param packed buffer containing exactly one MessagePack value
+     * @return new value
+     */
+    public static RawMessagePack of(ByteBuf packed) {
+        Assert.notNull(packed, "Packed value should not be null");
+        return of(ByteBufUtil.getBytes(packed));
+    }
+
+    /**
+     * Get the packed bytes of a value. If the value is a {@link LazyArrayValue}, its bytes are copied without
+     * encoding the value again.
+     *
+     * @param value MessagePack value
+     * @return packed bytes
+     */
+    public static byte[] toByteArray(Value value) {
+        if (value instanceof LazyArrayValue) {
+            LazyArrayValue lazyValue = (LazyArrayValue) value;
+            return Arrays.copyOfRange(
+                lazyValue.getBuffer(), lazyValue.getOffset(), lazyValue.getOffset() + lazyValue.getLength());
+        }
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packValue(value);
+            return packer.toByteArray();
+        } catch (IOException e) {
+            throw new MessagePackException(e);
+        }
+    }
+
+    /**
+     * Check that the value is exactly one complete MessagePack array
+     *
+     * @return true if the bytes start with an array header and the array ends at the end of the value
+     */
+    public boolean isArray() {
+        int b = buffer[offset] & 0xff;
+        if (!((b >= 0x90 && b <= 0x9f) || b == 0xdc || b == 0xdd)) {
+            return false;
+        }
+        try {
+            return LazyArrayValue.skip(buffer, offset, offset + length) == offset + length;
+        } catch (MessagePackException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Create a value holding a copy of the packed bytes
+     *
+     * @return new value
+     */
+    public RawMessagePack copy() {
+        return new RawMessagePack(Arrays.copyOfRange(buffer, offset, offset + length), 0, length);
+    }
+
+    @Override
+    public Value toMessagePackValue(MessagePackObjectMapper mapper) {
+        try {
+            return MessagePack.newDefaultUnpacker(buffer, offset, length).unpackValue();
+        } catch (IOException e) {
+            throw new MessagePackException(e);
+        }
+    }
+
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.writePayload(buffer, offset, length);
+    }
+}
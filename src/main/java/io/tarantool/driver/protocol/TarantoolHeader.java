@@ -1,11 +1,13 @@
 package io.tarantool.driver.protocol;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -109,6 +111,24 @@ public final class TarantoolHeader implements Packable {
         return ValueFactory.newMap(values);
     }
 
+    /**
+     * Writes the current header contents directly to the packer
+     *
+     * @param packer MessagePack packer
+     * @throws IOException if writing to the packer failed
+     */
+    public void toMessagePack(MessagePacker packer) throws IOException {
+        packer.packMapHeader(schemaVersion != null ? 3 : 2);
+        packer.packInt(IPROTO_REQUEST_TYPE);
+        packer.packLong(code);
+        packer.packInt(IPROTO_SYNC);
+        packer.packLong(sync);
+        if (schemaVersion != null) {
+            packer.packInt(IPROTO_SCHEMA_VERSION);
+            packer.packLong(schemaVersion);
+        }
+    }
+
     /**
      * Creates an instance of {@link TarantoolHeader} from MessagePack {@link Value}
      *
@@ -78,8 +78,8 @@ public abstract class TarantoolRequest {
     public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper)
         throws TarantoolDecoderException {
         try {
-            packer.packValue(header.toMessagePackValue(mapper));
-            packer.packValue(body.toMessagePackValue(mapper));
+            header.toMessagePack(packer);
+            body.toMessagePack(packer, mapper);
         } catch (IOException | MessagePackException e) {
             throw new TarantoolDecoderException(header, e);
         }
@@ -1,34 +1,41 @@
 package io.tarantool.driver.protocol;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapperException;
 import io.tarantool.driver.mappers.MessagePackValueMapperException;
-import org.msgpack.value.IntegerValue;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
-import org.msgpack.value.ValueFactory;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.io.IOException;
 import java.util.Map;
 
 /**
- * Represents basic Tarantool request body
+ * Represents basic Tarantool request body. The body contents are packed once when the request is built, field by
+ * field, without creating the intermediate {@link Value} objects. The {@link RawMessagePack} values are written
+ * as is. The packed bytes are then written to the outgoing frame without encoding them again, so the mapper passed
+ * to {@link #toMessagePack(MessagePacker, MessagePackObjectMapper)} is not used.
  *
  * @author Alexey Kuzin
  */
 public class TarantoolRequestBody implements Packable {
 
-    private final Map<IntegerValue, Value> values;
+    private static final byte[] EMPTY_BODY = new byte[]{(byte) 0x80};
+
+    private final byte[] packed;
 
     /**
      * In rare cases, the body may be empty. Creates a request with empty body
      */
     public TarantoolRequestBody() {
-        values = Collections.emptyMap();
+        this.packed = EMPTY_BODY;
     }
 
     /**
      * Basic constructor. Takes a typical {@link Map} with {@code Integer} keys and {@code Object} values.
-     * Converts values into MessagePack entities using the passed instance of {@link MessagePackObjectMapper}.
+     * Converts values into MessagePack using the passed instance of {@link MessagePackObjectMapper}.
      * See <a href="https://www.tarantool.io/en/doc/2.3/dev_guide/internals/box_protocol/#binary-protocol-requests">
      * https://www.tarantool.io/en/doc/2.3/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
      *
@@ -38,18 +45,34 @@ public class TarantoolRequestBody implements Packable {
      */
     public TarantoolRequestBody(Map<Integer, ?> body, MessagePackObjectMapper mapper)
         throws TarantoolProtocolException {
-        try {
-            this.values = new HashMap<>(body.size(), 1);
-            for (Integer key : body.keySet()) {
-                values.put(ValueFactory.newInteger(key), mapper.toValue(body.get(key)));
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packMapHeader(body.size());
+            for (Map.Entry<Integer, ?> entry : body.entrySet()) {
+                packer.packInt(entry.getKey());
+                if (entry.getValue() instanceof RawMessagePack) {
+                    ((RawMessagePack) entry.getValue()).toMessagePack(packer, mapper);
+                } else {
+                    mapper.toMessagePack(entry.getValue(), packer);
+                }
             }
-        } catch (MessagePackValueMapperException e) {
+            this.packed = packer.toByteArray();
+        } catch (IOException | MessagePackException |
+                 MessagePackObjectMapperException | MessagePackValueMapperException e) {
             throw new TarantoolProtocolException(e);
         }
     }
 
     @Override
     public Value toMessagePackValue(MessagePackObjectMapper mapper) {
-        return ValueFactory.newMap(values);
+        try {
+            return MessagePack.newDefaultUnpacker(packed).unpackValue();
+        } catch (IOException e) {
+            throw new MessagePackException(e);
+        }
+    }
+
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.writePayload(packed);
     }
 }
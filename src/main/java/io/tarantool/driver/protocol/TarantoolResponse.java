@@ -110,31 +110,57 @@ public final class TarantoolResponse {
         TarantoolHeader header = null;
         try {
             header = TarantoolHeader.fromMessagePackValue(unpacker.unpackValue());
-            TarantoolResponseBody responseBody = new EmptyTarantoolResponseBody();
-
-            if (unpacker.hasNext()) {
-                Value bodyMap = unpacker.unpackValue();
-                if (!bodyMap.isMapValue()) {
-                    throw new TarantoolProtocolException("Response body must be of MP_MAP type");
-                }
-                MapValue values = bodyMap.asMapValue();
-                Iterator<Value> it = values.keySet().iterator();
-                if (it.hasNext()) {
-                    Value key = it.next();
-                    if (!key.isIntegerValue()) {
-                        throw new TarantoolProtocolException("Response body first key must be of MP_INT type");
-                    }
-                    responseBody = new NotEmptyTarantoolResponseBody(
-                        key.asIntegerValue().asInt(), values.map().get(key));
-                }
+            Value bodyMap = unpacker.hasNext() ? unpacker.unpackValue() : null;
+            return new TarantoolResponse(header.getSync(), header.getCode(), responseBodyFromValue(bodyMap));
+        } catch (IOException | MessagePackException e) {
+            if (header != null) {
+                throw new TarantoolDecoderException(header, e);
             }
+            throw new TarantoolProtocolException(e);
+        }
+    }
 
-            return new TarantoolResponse(header.getSync(), header.getCode(), responseBody);
-        } catch (IOException | MessagePackException e) {
+    /**
+     * Create Tarantool response from the binary data of one response frame. The MessagePack arrays in the response
+     * body are decoded lazily (see {@link LazyArrayValue}), so the frame bytes are held until the response data is
+     * released.
+     *
+     * @param frame response header and body bytes, without the frame size prefix
+     * @return Tarantool response populated from the binary data
+     * @throws TarantoolProtocolException if the data is invalid
+     */
+    public static TarantoolResponse fromMessagePack(byte[] frame) throws TarantoolProtocolException {
+        TarantoolHeader header = null;
+        try {
+            int bodyOffset = LazyArrayValue.skip(frame, 0, frame.length);
+            header = TarantoolHeader.fromMessagePackValue(LazyArrayValue.decode(frame, 0, bodyOffset));
+            Value bodyMap = bodyOffset < frame.length ?
+                LazyArrayValue.decode(frame, bodyOffset, frame.length - bodyOffset) : null;
+            return new TarantoolResponse(header.getSync(), header.getCode(), responseBodyFromValue(bodyMap));
+        } catch (IndexOutOfBoundsException | MessagePackException e) {
             if (header != null) {
                 throw new TarantoolDecoderException(header, e);
             }
             throw new TarantoolProtocolException(e);
         }
     }
+
+    private static TarantoolResponseBody responseBodyFromValue(Value bodyMap) throws TarantoolProtocolException {
+        if (bodyMap == null) {
+            return new EmptyTarantoolResponseBody();
+        }
+        if (!bodyMap.isMapValue()) {
+            throw new TarantoolProtocolException("Response body must be of MP_MAP type");
+        }
+        MapValue values = bodyMap.asMapValue();
+        Iterator<Value> it = values.keySet().iterator();
+        if (it.hasNext()) {
+            Value key = it.next();
+            if (!key.isIntegerValue()) {
+                throw new TarantoolProtocolException("Response body first key must be of MP_INT type");
+            }
+            return new NotEmptyTarantoolResponseBody(key.asIntegerValue().asInt(), values.map().get(key));
+        }
+        return new EmptyTarantoolResponseBody();
+    }
 }
@@ -1,6 +1,7 @@
 package io.tarantool.driver.protocol.requests;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.RawMessagePack;
 import io.tarantool.driver.protocol.TarantoolProtocolException;
 import io.tarantool.driver.protocol.TarantoolRequest;
 import io.tarantool.driver.protocol.TarantoolRequestBody;
@@ -63,6 +64,17 @@ public final class TarantoolEvalRequest extends TarantoolRequest {
             return this;
         }
 
+        /**
+         * Specify pre-encoded eval arguments
+         *
+         * @param arguments MessagePack array of eval arguments
+         * @return builder
+         */
+        public Builder withArguments(RawMessagePack arguments) {
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_TUPLE.getCode(), arguments);
+            return this;
+        }
+
         /**
          * Build a {@link TarantoolEvalRequest} instance
          *
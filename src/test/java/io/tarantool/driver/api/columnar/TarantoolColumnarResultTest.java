@@ -0,0 +1,196 @@
+package io.tarantool.driver.api.columnar;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.metadata.CRUDResponseToTarantoolSpaceMetadataConverter;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.converters.value.ValueToTarantoolColumnarResultConverter;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactoryImpl;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolColumnarResultTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private static final UUID uuid = UUID.randomUUID();
+    private static final BigInteger MAX_UNSIGNED = new BigInteger("18446744073709551615");
+
+    private static MapValue field(String name, String type) {
+        return ValueFactory.newMap(
+            ValueFactory.newString("name"), ValueFactory.newString(name),
+            ValueFactory.newString("type"), ValueFactory.newString(type),
+            ValueFactory.newString("is_nullable"), ValueFactory.newBoolean(true));
+    }
+
+    private static ArrayValue format() {
+        return ValueFactory.newArray(
+            field("id", "unsigned"),
+            field("rating", "double"),
+            field("name", "string"),
+            field("available", "boolean"),
+            field("uuid", "uuid"));
+    }
+
+    private static ArrayValue rows() {
+        return ValueFactory.newArray(
+            ValueFactory.newArray(
+                ValueFactory.newInteger(1), ValueFactory.newFloat(4.5), ValueFactory.newString("red"),
+                ValueFactory.newBoolean(true), mapper.toValue(uuid)),
+            ValueFactory.newArray(
+                ValueFactory.newInteger(2), ValueFactory.newInteger(3), ValueFactory.newString("green"),
+                ValueFactory.newBoolean(false), ValueFactory.newNil()),
+            ValueFactory.newArray(
+                ValueFactory.newNil(), ValueFactory.newNil(), ValueFactory.newString("red")),
+            ValueFactory.newArray(
+                ValueFactory.newInteger(4), ValueFactory.newFloat(1.0), ValueFactory.newNil(),
+                ValueFactory.newNil(), ValueFactory.newNil()));
+    }
+
+    private static ArrayValue lazy(Value value) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(value);
+        return LazyArrayValue.of(packer.toByteArray());
+    }
+
+    private static TarantoolSpaceMetadata metadata() {
+        return CRUDResponseToTarantoolSpaceMetadataConverter.getInstance().fromValue(format());
+    }
+
+    private static void assertColumns(TarantoolColumnarResult result) {
+        assertEquals(4, result.size());
+        assertEquals(5, result.getColumnCount());
+
+        LongColumn id = result.getColumn("id", LongColumn.class);
+        assertArrayEquals(new long[]{1, 2, 0, 4}, id.getValues());
+        assertTrue(id.isNull(2));
+        assertEquals(1, id.getNullCount());
+
+        DoubleColumn rating = result.getColumn("rating", DoubleColumn.class);
+        assertArrayEquals(new double[]{4.5, 3.0, 0, 1.0}, rating.getValues());
+        assertTrue(rating.isNull(2));
+
+        StringColumn name = result.getColumn("name", StringColumn.class);
+        assertArrayEquals(new String[]{"red", "green"}, name.getDictionary());
+        assertArrayEquals(new int[]{0, 1, 0, StringColumn.NULL_CODE}, name.getCodes());
+        assertEquals("green", name.get(1));
+        assertNull(name.get(3));
+
+        BooleanColumn available = result.getColumn("available", BooleanColumn.class);
+        assertTrue(available.get(0));
+        assertFalse(available.get(1));
+        assertTrue(available.isNull(2));
+        assertTrue(available.isNull(3));
+
+        TarantoolColumn uuidColumn = result.getColumn(4);
+        assertEquals(ColumnType.OBJECT, uuidColumn.getType());
+        assertEquals(uuid, uuidColumn.getObject(0));
+        assertNull(uuidColumn.getObject(1));
+        assertEquals(3, uuidColumn.getNullCount());
+    }
+
+    @Test
+    public void test_fromRows_shouldBuildColumns_fromLazyRows() throws IOException {
+        assertColumns(TarantoolColumnarResult.fromRows(lazy(rows()), metadata(), mapper));
+    }
+
+    @Test
+    public void test_fromRows_shouldBuildColumns_fromDecodedRows() {
+        assertColumns(TarantoolColumnarResult.fromRows(rows(), metadata(), mapper));
+    }
+
+    @Test
+    public void test_fromRows_shouldBuildObjectColumns_ifNoMetadata() {
+        TarantoolColumnarResult result = TarantoolColumnarResult.fromRows(rows(), null, mapper);
+
+        assertEquals(5, result.getColumnCount());
+        assertEquals(ColumnType.OBJECT, result.getColumn(0).getType());
+        assertEquals(3, result.getColumn(1).getObject(1));
+        assertThrows(TarantoolSpaceFieldNotFoundException.class, () -> result.getColumn("id"));
+    }
+
+    private static void assertLargeNumbers(TarantoolColumnarResult result) {
+        LongColumn id = result.getColumn("id", LongColumn.class);
+        assertFalse(id.isOverflow(0));
+        assertEquals(1L, id.getObject(0));
+        assertTrue(id.isOverflow(1));
+        assertEquals(-1L, id.get(1));
+        assertEquals(MAX_UNSIGNED, id.getObject(1));
+
+        TarantoolColumn amount = result.getColumn("amount");
+        assertEquals(ColumnType.OBJECT, amount.getType());
+        assertEquals(new BigDecimal("12.345"), amount.getObject(0));
+        assertEquals(7, amount.getObject(1));
+
+        DoubleColumn weight = result.getColumn("weight", DoubleColumn.class);
+        assertArrayEquals(new double[]{0.5, MAX_UNSIGNED.doubleValue()}, weight.getValues());
+    }
+
+    @Test
+    public void test_fromRows_shouldReadDecimalsAndLargeUnsignedValues() throws IOException {
+        ArrayValue format = ValueFactory.newArray(
+            field("id", "unsigned"), field("amount", "number"), field("weight", "double"));
+        ArrayValue rows = ValueFactory.newArray(
+            ValueFactory.newArray(
+                ValueFactory.newInteger(1), mapper.toValue(new BigDecimal("12.345")), ValueFactory.newFloat(0.5)),
+            ValueFactory.newArray(
+                ValueFactory.newInteger(MAX_UNSIGNED), ValueFactory.newInteger(7),
+                ValueFactory.newInteger(MAX_UNSIGNED)));
+        TarantoolSpaceMetadata metadata = CRUDResponseToTarantoolSpaceMetadataConverter.getInstance().fromValue(format);
+
+        assertLargeNumbers(TarantoolColumnarResult.fromRows(lazy(rows), metadata, mapper));
+        assertLargeNumbers(TarantoolColumnarResult.fromRows(rows, metadata, mapper));
+    }
+
+    @Test
+    public void test_getColumn_shouldThrowException_ifColumnTypeIsDifferent() {
+        TarantoolColumnarResult result = TarantoolColumnarResult.fromRows(rows(), metadata(), mapper);
+
+        assertThrows(IllegalArgumentException.class, () -> result.getColumn("id", StringColumn.class));
+    }
+
+    @Test
+    public void test_columnarResultMapper_shouldConvertCrudResult() throws IOException {
+        CallResultMapper<TarantoolColumnarResult, SingleValueCallResult<TarantoolColumnarResult>> resultMapper =
+            new ResultMapperFactoryFactoryImpl().columnarResultMapper(mapper, null);
+        Value crudResult = ValueFactory.newArray(ValueFactory.newMap(
+            ValueFactory.newString("metadata"), format(),
+            ValueFactory.newString("rows"), rows()));
+
+        SingleValueCallResult<TarantoolColumnarResult> callResult = resultMapper.fromValue(lazy(crudResult));
+
+        assertColumns(callResult.value());
+    }
+
+    @Test
+    public void test_converter_shouldConvertBoxResult_withSpaceMetadata() throws IOException {
+        ValueToTarantoolColumnarResultConverter converter =
+            new ValueToTarantoolColumnarResultConverter(mapper, metadata());
+
+        assertColumns(converter.fromValue(lazy(rows())));
+        assertEquals(Arrays.asList("id", "rating", "name", "available", "uuid"), Arrays.asList(
+            converter.fromValue(rows()).getColumns().stream().map(TarantoolColumn::getName).toArray()));
+    }
+}
@@ -349,6 +349,22 @@ class ConditionsTest {
             serializedConditions.toProxyQuery(testOperations, spaceMetadata));
     }
 
+    @Test
+    public void testRangeUpperBounds_SplitOnlyForFieldsWithLowerBound() {
+        Conditions conditions = Conditions.greaterOrEquals("id", 10L).andLessThan("id", 20L)
+            .andLessOrEquals("name", "b").withLimit(5);
+
+        List<FieldValueCondition> upperBounds = conditions.getRangeUpperBounds();
+        assertEquals(1, upperBounds.size());
+        assertEquals(Operator.LT, upperBounds.get(0).operator());
+        assertEquals(20L, upperBounds.get(0).value());
+        assertEquals(Conditions.greaterOrEquals("id", 10L).andLessOrEquals("name", "b").withLimit(5),
+            conditions.withoutRangeUpperBounds());
+        assertEquals(Conditions.greaterOrEquals("id", 10L).andLessThan("id", 20L)
+            .andLessOrEquals("name", "b").withLimit(5), conditions);
+        assertTrue(Conditions.lessThan("id", 20L).getRangeUpperBounds().isEmpty());
+    }
+
     @Test
     public void testIndexMetadata_CanHandleBothStringAndIntFiledPath() {
         Optional<TarantoolIndexMetadata> primaryIndex = testOperations.getIndexByName("test", "primary");
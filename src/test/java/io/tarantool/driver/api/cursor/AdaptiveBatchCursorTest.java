@@ -0,0 +1,133 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveBatchCursorTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static ArrayValue packedRows(long from, long to, int width) {
+        List<Value> rows = new ArrayList<>();
+        char[] payload = new char[width];
+        Arrays.fill(payload, 'x');
+        for (long i = from; i < to; i++) {
+            rows.add(ValueFactory.newArray(ValueFactory.newInteger(i), ValueFactory.newString(new String(payload))));
+        }
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packValue(ValueFactory.newArray(rows));
+            return LazyArrayValue.of(packer.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    public void test_onBatchReceived_shouldGrowBatchSize_ifResponsesAreSmallAndFast() {
+        AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(100, 10, 1000, 1024 * 1024, 100);
+
+        policy.onBatchReceived(100, 100, 1000, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(200, policy.getBatchSize());
+        policy.onBatchReceived(200, 200, 2000, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(400, policy.getBatchSize());
+        policy.onBatchReceived(400, 400, 4000, TimeUnit.MILLISECONDS.toNanos(1));
+        policy.onBatchReceived(800, 800, 8000, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(1000, policy.getBatchSize());
+        assertEquals(10, policy.getAverageTupleSize());
+    }
+
+    @Test
+    public void test_onBatchReceived_shouldShrinkBatchSize_ifResponsesExceedBudget() {
+        AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(1000, 10, 10000, 64 * 1024, 100);
+
+        // 1000 tuples of 1 KB each exceed the target size
+        policy.onBatchReceived(1000, 1000, 1024 * 1000, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(500, policy.getBatchSize());
+        policy.onBatchReceived(500, 500, 1024 * 500, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(250, policy.getBatchSize());
+        policy.onBatchReceived(250, 250, 1024 * 250, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(125, policy.getBatchSize());
+        policy.onBatchReceived(125, 125, 1024 * 125, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(64, policy.getBatchSize());
+
+        // a short batch does not grow the batch size
+        policy.onBatchReceived(64, 5, 1024 * 5, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(64, policy.getBatchSize());
+    }
+
+    @Test
+    public void test_onBatchReceived_shouldShrinkBatchSize_ifTupleCostExceedsLatencyBudget() {
+        AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(200, 10, 10000, 1024 * 1024, 100);
+
+        // 10 ms round trip and 1 ms per tuple
+        policy.onBatchReceived(200, 200, -1, TimeUnit.MILLISECONDS.toNanos(210));
+        assertEquals(100, policy.getBatchSize());
+        policy.onBatchReceived(100, 100, -1, TimeUnit.MILLISECONDS.toNanos(110));
+        assertEquals(90, policy.getBatchSize());
+        policy.onBatchReceived(90, 90, -1, TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(90, policy.getBatchSize());
+    }
+
+    @Test
+    public void test_onBatchReceived_shouldGrowBatchSize_ifRoundTripExceedsTargetLatency() {
+        AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(100, 10, 10000, 1024 * 1024, 100);
+
+        // 120 ms round trip and 10 us per tuple
+        int size = policy.getBatchSize();
+        for (int i = 0; i < 8; i++) {
+            policy.onBatchReceived(size, size, -1, TimeUnit.MICROSECONDS.toNanos(120_000 + size * 10L));
+            size = policy.getBatchSize();
+        }
+
+        // the tuples take no more than a half of the target latency on top of the round trip
+        assertEquals(5000, size);
+    }
+
+    @Test
+    public void test_next_shouldRequestBatchesOfPolicySize() {
+        List<Conditions> requests = new ArrayList<>();
+        AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(2, 2, 100, 1024 * 1024, 1000);
+        AdaptiveBatchCursor<TarantoolTuple> cursor = new AdaptiveBatchCursor<>(conditions -> {
+            requests.add(conditions);
+            long offset = conditions.getOffset();
+            return CompletableFuture.completedFuture(
+                packedRows(offset, Math.min(offset + conditions.getLimit(), 20), 8));
+        }, row -> new TarantoolTupleImpl(row, mapper), Conditions.any(), policy, mapper, false);
+
+        long expected = 0;
+        while (cursor.next()) {
+            assertEquals(expected, cursor.get().getLong(0));
+            expected++;
+        }
+
+        assertEquals(20, expected);
+        // 2 + 4 + 8 + 6 (short batch, the end of data)
+        assertEquals(4, requests.size());
+        assertEquals(4, requests.get(1).getLimit());
+        assertEquals(8, requests.get(2).getLimit());
+        assertEquals(14, requests.get(3).getOffset());
+        assertTrue(policy.getAverageTupleSize() > 8);
+    }
+}
@@ -0,0 +1,78 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class BoundedCursorTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static TarantoolCursor<TarantoolTuple> cursor(AtomicInteger fetched, long... ids) {
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        for (long id : ids) {
+            tuples.add(new TarantoolTupleImpl(Arrays.asList(id, "name" + id), mapper));
+        }
+        Iterator<TarantoolTuple> iterator = tuples.iterator();
+        return new TarantoolCursor<TarantoolTuple>() {
+            private TarantoolTuple current;
+
+            @Override
+            public boolean next() {
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+                current = iterator.next();
+                fetched.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public TarantoolTuple get() {
+                return current;
+            }
+        };
+    }
+
+    private static List<Long> ids(TarantoolCursor<TarantoolTuple> cursor) {
+        List<Long> ids = new ArrayList<>();
+        while (cursor.next()) {
+            ids.add(cursor.get().getLong(0));
+        }
+        return ids;
+    }
+
+    @Test
+    public void test_next_shouldStopAtFirstTupleOutOfBounds_ifOrdered() {
+        AtomicInteger fetched = new AtomicInteger();
+        BoundedCursor<TarantoolTuple> cursor = new BoundedCursor<>(
+            cursor(fetched, 1, 2, 3, 4, 5, 6), tuple -> tuple.getLong(0) < 4, true);
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), ids(cursor));
+        assertEquals(4, fetched.get());
+        assertFalse(cursor.next());
+        assertEquals(4, fetched.get());
+    }
+
+    @Test
+    public void test_next_shouldSkipTuplesOutOfBounds_ifNotOrdered() {
+        AtomicInteger fetched = new AtomicInteger();
+        BoundedCursor<TarantoolTuple> cursor = new BoundedCursor<>(
+            cursor(fetched, 5, 1, 6, 2, 3), tuple -> tuple.getLong(0) < 4, false);
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), ids(cursor));
+        assertEquals(5, fetched.get());
+    }
+}
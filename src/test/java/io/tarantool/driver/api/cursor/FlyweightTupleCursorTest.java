@@ -0,0 +1,118 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.exceptions.TarantoolSpaceOperationException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlyweightTupleCursorTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static ArrayValue packedRows(long from, long to) {
+        List<Value> rows = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            rows.add(ValueFactory.newArray(ValueFactory.newInteger(i), ValueFactory.newString("name" + i)));
+        }
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packValue(ValueFactory.newArray(rows));
+            return LazyArrayValue.of(packer.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    public void test_next_shouldReuseTuple_withOffsetBatches() {
+        List<Conditions> requests = new ArrayList<>();
+        FlyweightTupleCursor cursor = new FlyweightTupleCursor(conditions -> {
+            requests.add(conditions);
+            long offset = conditions.getOffset();
+            return CompletableFuture.completedFuture(
+                packedRows(offset, Math.min(offset + conditions.getLimit(), 5)));
+        }, Conditions.any(), 2, mapper, null, false);
+
+        assertThrows(TarantoolSpaceOperationException.class, cursor::get);
+
+        List<TarantoolTuple> copies = new ArrayList<>();
+        TarantoolTuple first = null;
+        long expected = 0;
+        while (cursor.next()) {
+            TarantoolTuple tuple = cursor.get();
+            if (first == null) {
+                first = tuple;
+            }
+            assertSame(first, tuple);
+            assertEquals(expected, tuple.getLong(0, -1));
+            assertEquals("name" + expected, tuple.getString(1));
+            copies.add(cursor.copy());
+            expected++;
+        }
+
+        assertEquals(5, expected);
+        assertEquals(4, requests.size());
+        assertEquals(4, requests.get(2).getOffset());
+        for (int i = 0; i < copies.size(); i++) {
+            assertNotSame(first, copies.get(i));
+            assertEquals(i, copies.get(i).getLong(0, -1));
+        }
+    }
+
+    @Test
+    public void test_copy_shouldKeepModifiedFields_ifTupleIsChanged() {
+        FlyweightTupleCursor cursor = new FlyweightTupleCursor(
+            conditions -> CompletableFuture.completedFuture(conditions.getOffset() == 0 ?
+                packedRows(0, 2) : packedRows(0, 0)),
+            Conditions.any(), 10, mapper, null, false);
+
+        assertTrue(cursor.next());
+        cursor.get().putObject(1, "changed");
+        TarantoolTuple copy = cursor.copy();
+        assertTrue(cursor.next());
+        assertEquals("name1", cursor.get().getString(1));
+        assertEquals("changed", copy.getString(1));
+        assertEquals(0, copy.getLong(0, -1));
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    public void test_next_shouldStartAfterLastTuple_ifStartAfterIsUsed() {
+        List<Conditions> requests = new ArrayList<>();
+        FlyweightTupleCursor cursor = new FlyweightTupleCursor(conditions -> {
+            requests.add(conditions);
+            return CompletableFuture.completedFuture(requests.size() == 1 ? packedRows(0, 2) : packedRows(0, 0));
+        }, Conditions.any(), 2, mapper, null, true);
+
+        assertTrue(cursor.next());
+        assertTrue(cursor.next());
+        assertFalse(cursor.next());
+
+        assertEquals(2, requests.size());
+        assertEquals(0, requests.get(1).getOffset());
+        assertEquals(
+            ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newString("name1")),
+            requests.get(1).getStartTuple().toMessagePackValue(mapper));
+    }
+}
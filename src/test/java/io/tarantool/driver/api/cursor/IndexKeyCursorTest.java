@@ -0,0 +1,81 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IndexKeyCursorTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static final long SPACE_SIZE = 7;
+
+    private static CompletableFuture<List<TarantoolTuple>> select(
+        Conditions initConditions, Conditions conditions, boolean descending) {
+        long limit = conditions.getLimit();
+        long first = -1;
+        if (conditions.equals(new Conditions(initConditions).withLimit(limit))) {
+            first = descending ? SPACE_SIZE - 1 : 0;
+        }
+        for (long id = 0; id < SPACE_SIZE; id++) {
+            List<Long> key = Collections.singletonList(id);
+            Conditions next = descending ? Conditions.indexLessThan(0, key) : Conditions.indexGreaterThan(0, key);
+            if (conditions.equals(next.withLimit(limit))) {
+                first = descending ? id - 1 : id + 1;
+            }
+        }
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        for (long id = first; id >= 0 && id < SPACE_SIZE && tuples.size() < limit; id += descending ? -1 : 1) {
+            tuples.add(new TarantoolTupleImpl(Arrays.asList(id, "name" + id), mapper));
+        }
+        return CompletableFuture.completedFuture(tuples);
+    }
+
+    @Test
+    public void test_next_shouldContinueAfterLastKey_withoutOffset() {
+        List<Conditions> requests = new ArrayList<>();
+        Conditions initConditions = Conditions.any();
+        IndexKeyCursor<TarantoolTuple, List<TarantoolTuple>> cursor = new IndexKeyCursor<>(conditions -> {
+            requests.add(conditions);
+            return select(initConditions, conditions, false);
+        }, initConditions, 3, 0, false, tuple -> Collections.singletonList(tuple.getLong(0)));
+
+        long expected = 0;
+        while (cursor.next()) {
+            assertEquals(expected, cursor.get().getLong(0));
+            expected++;
+        }
+
+        assertEquals(SPACE_SIZE, expected);
+        assertEquals(3, requests.size());
+        assertEquals(Conditions.indexGreaterThan(0, Collections.singletonList(5L)).withLimit(3), requests.get(2));
+        requests.forEach(conditions -> assertEquals(0, conditions.getOffset()));
+    }
+
+    @Test
+    public void test_next_shouldUseLessThanIterator_ifScanIsDescending() {
+        Conditions initConditions = Conditions.descending().withLimit(5);
+        IndexKeyCursor<TarantoolTuple, List<TarantoolTuple>> cursor = new IndexKeyCursor<>(
+            conditions -> select(initConditions, conditions, true),
+            initConditions, 2, 0, true, tuple -> Collections.singletonList(tuple.getLong(0)));
+
+        List<Long> ids = new ArrayList<>();
+        while (cursor.next()) {
+            ids.add(cursor.get().getLong(0));
+        }
+
+        assertEquals(Arrays.asList(6L, 5L, 4L, 3L, 2L), ids);
+    }
+}
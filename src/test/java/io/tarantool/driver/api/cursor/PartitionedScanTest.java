@@ -0,0 +1,130 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PartitionedScanTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static PartitionedScan<TarantoolTuple> scan(List<Conditions> partitions, long rowsPerPartition) {
+        return new PartitionedScan<>(cursorFactory(partitions, rowsPerPartition), partitions);
+    }
+
+    private static Function<Conditions, TarantoolCursor<TarantoolTuple>> cursorFactory(
+        List<Conditions> partitions, long rowsPerPartition) {
+        Map<Conditions, Long> firstIds = new IdentityHashMap<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            firstIds.put(partitions.get(i), i * rowsPerPartition);
+        }
+        return partition -> new PrefetchingCursor<>(conditions -> {
+            List<TarantoolTuple> tuples = new ArrayList<>();
+            long first = firstIds.get(partition) + conditions.getOffset();
+            long last = Math.min(first + conditions.getLimit(), firstIds.get(partition) + rowsPerPartition);
+            for (long id = first; id < last; id++) {
+                tuples.add(new TarantoolTupleImpl(Arrays.asList(id, "name" + id), mapper));
+            }
+            return CompletableFuture.completedFuture(tuples);
+        }, partition, 10, 1, 100, mapper, false);
+    }
+
+    @Test
+    public void test_bucketRanges_shouldCoverAllBuckets() {
+        List<Conditions> partitions = PartitionedScan.bucketRanges(30000, 7);
+
+        assertEquals(7, partitions.size());
+        assertEquals(Conditions.greaterOrEquals("bucket_id", 1L).andLessThan("bucket_id", 4286L),
+            partitions.get(0));
+        assertEquals(Conditions.greaterOrEquals("bucket_id", 25711L).andLessThan("bucket_id", 30001L),
+            partitions.get(6));
+    }
+
+    @Test
+    public void test_stream_shouldReturnTuplesOfAllPartitions_scannedOnExecutor() {
+        List<Conditions> partitions = PartitionedScan.fieldRanges("id", 0, 8000, 8);
+        Function<Conditions, TarantoolCursor<TarantoolTuple>> cursorFactory = cursorFactory(partitions, 1000);
+        Set<Thread> scanThreads = ConcurrentHashMap.newKeySet();
+        PartitionedScan<TarantoolTuple> scan = new PartitionedScan<>(partition -> {
+            scanThreads.add(Thread.currentThread());
+            return cursorFactory.apply(partition);
+        }, partitions);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (Stream<TarantoolTuple> tuples = scan.stream(executor)) {
+            List<Long> ids = tuples
+                .map(tuple -> tuple.getLong(0))
+                .sorted()
+                .collect(Collectors.toList());
+
+            assertEquals(8000, ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(i, ids.get(i));
+            }
+            assertFalse(scanThreads.contains(Thread.currentThread()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_stream_shouldFail_ifPartitionScanFails() {
+        List<Conditions> partitions = PartitionedScan.fieldRanges("id", 0, 400, 4);
+        PartitionedScan<TarantoolTuple> scan = new PartitionedScan<>(partition -> {
+            throw new TarantoolClientException("Partition scan failed");
+        }, partitions);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (Stream<TarantoolTuple> tuples = scan.stream(executor)) {
+            TarantoolClientException error = assertThrows(TarantoolClientException.class, tuples::count);
+            assertEquals("Partition scan failed", error.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_forEachPartition_shouldPassTuplesToPartitionConsumers() {
+        List<Conditions> partitions = PartitionedScan.fieldRanges("id", 0, 400, 4);
+        Map<Integer, List<Long>> received = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            long count = scan(partitions, 100).forEachPartition(partition -> {
+                List<Long> ids = new ArrayList<>();
+                received.put(partition, ids);
+                return tuple -> ids.add(tuple.getLong(0));
+            }, executor).join();
+
+            assertEquals(400, count);
+            for (int partition = 0; partition < 4; partition++) {
+                List<Long> ids = received.get(partition);
+                assertEquals(100, ids.size());
+                assertEquals(partition * 100L, ids.get(0));
+                assertEquals(partition * 100L + 99, ids.get(99));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
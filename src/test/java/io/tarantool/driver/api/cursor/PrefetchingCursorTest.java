@@ -0,0 +1,128 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrefetchingCursorTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static List<TarantoolTuple> tuples(long from, long to) {
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            tuples.add(new TarantoolTupleImpl(Arrays.asList(i, "name" + i), mapper));
+        }
+        return tuples;
+    }
+
+    @Test
+    public void test_next_shouldRequestNextBatches_beforeCurrentIsConsumed() {
+        List<Conditions> requests = new ArrayList<>();
+        PrefetchingCursor<TarantoolTuple, List<TarantoolTuple>> cursor = new PrefetchingCursor<>(conditions -> {
+            requests.add(conditions);
+            long offset = conditions.getOffset();
+            return CompletableFuture.completedFuture(tuples(offset, Math.min(offset + conditions.getLimit(), 7)));
+        }, Conditions.any(), 2, 2, 100, mapper, false);
+
+        assertTrue(cursor.next());
+        assertEquals(0, cursor.get().getLong(0));
+        // the first batch and two next ones are requested
+        assertEquals(3, requests.size());
+        assertEquals(2, requests.get(1).getOffset());
+        assertEquals(4, requests.get(2).getOffset());
+
+        long expected = 1;
+        while (cursor.next()) {
+            assertEquals(expected, cursor.get().getLong(0));
+            expected++;
+        }
+        assertEquals(7, expected);
+        assertFalse(cursor.next());
+        // the batch at offset 6 is received short, so no more requests are sent after it
+        assertEquals(4, requests.size());
+        assertEquals(6, requests.get(3).getOffset());
+    }
+
+    @Test
+    public void test_next_shouldChainStartAfterRequests_ifUseStartAfter() {
+        List<Conditions> requests = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<List<TarantoolTuple>>> futures = new CopyOnWriteArrayList<>();
+        PrefetchingCursor<TarantoolTuple, List<TarantoolTuple>> cursor = new PrefetchingCursor<>(conditions -> {
+            requests.add(conditions);
+            CompletableFuture<List<TarantoolTuple>> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        }, Conditions.any().withLimit(5), 2, 3, 100, mapper, true);
+
+        // complete the batches in background as they are requested
+        Thread server = new Thread(() -> {
+            int completed = 0;
+            long from = 0;
+            while (completed < 3) {
+                if (futures.size() > completed) {
+                    long to = Math.min(from + 2, 5);
+                    futures.get(completed).complete(tuples(from, to));
+                    from = to;
+                    completed++;
+                }
+                Thread.yield();
+            }
+        });
+        server.start();
+
+        long expected = 0;
+        while (cursor.next()) {
+            assertEquals(expected, cursor.get().getLong(0));
+            expected++;
+        }
+        assertEquals(5, expected);
+        assertEquals(3, requests.size());
+        assertNull(requests.get(0).getStartTuple());
+        assertEquals(1, requests.get(2).getLimit());
+    }
+
+    @Test
+    public void test_next_shouldNotPrefetch_ifMemoryCapIsBelowTwoBatches() {
+        List<Conditions> requests = new ArrayList<>();
+        PrefetchingCursor<TarantoolTuple, List<TarantoolTuple>> cursor = new PrefetchingCursor<>(conditions -> {
+            requests.add(conditions);
+            long offset = conditions.getOffset();
+            return CompletableFuture.completedFuture(tuples(offset, Math.min(offset + conditions.getLimit(), 5)));
+        }, Conditions.any(), 2, 4, 3, mapper, false);
+
+        assertTrue(cursor.next());
+        assertEquals(1, requests.size());
+        assertTrue(cursor.next());
+        assertTrue(cursor.next());
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void test_next_shouldThrowException_ifBatchRequestFails() {
+        PrefetchingCursor<TarantoolTuple, List<TarantoolTuple>> cursor = new PrefetchingCursor<>(conditions -> {
+            CompletableFuture<List<TarantoolTuple>> future = new CompletableFuture<>();
+            future.completeExceptionally(new RuntimeException("failed"));
+            return future;
+        }, Conditions.any(), 2, 1, 100, mapper, false);
+
+        assertThrows(TarantoolClientException.class, cursor::next);
+    }
+}
@@ -0,0 +1,130 @@
+package io.tarantool.driver.api.cursor;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolCursorPublisherTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static List<TarantoolTuple> tuples(long from, long to) {
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            tuples.add(new TarantoolTupleImpl(Arrays.asList(i, "name" + i), mapper));
+        }
+        return tuples;
+    }
+
+    private static Function<Conditions, CompletableFuture<List<TarantoolTuple>>> selector(
+        List<Conditions> requests, List<CompletableFuture<List<TarantoolTuple>>> futures) {
+        return conditions -> {
+            requests.add(conditions);
+            CompletableFuture<List<TarantoolTuple>> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        };
+    }
+
+    @Test
+    public void test_nextBatch_shouldFetchBatchesWithoutBlocking_ifUseStartAfter() {
+        List<Conditions> requests = new ArrayList<>();
+        List<CompletableFuture<List<TarantoolTuple>>> futures = new ArrayList<>();
+        AsyncBatchCursor<TarantoolTuple, List<TarantoolTuple>> cursor =
+            new AsyncBatchCursor<>(selector(requests, futures), Conditions.any(), 2, mapper, true);
+
+        assertTrue(cursor.hasNext());
+        CompletableFuture<List<TarantoolTuple>> first = cursor.nextBatch();
+        assertFalse(first.isDone());
+        assertThrows(TarantoolClientException.class, cursor::nextBatch);
+        futures.get(0).complete(tuples(0, 2));
+        assertEquals(2, first.join().size());
+        assertNull(requests.get(0).getStartTuple());
+
+        assertTrue(cursor.hasNext());
+        CompletableFuture<List<TarantoolTuple>> second = cursor.nextBatch();
+        futures.get(1).complete(tuples(2, 3));
+        assertEquals(1, second.join().size());
+        assertEquals(2, requests.size());
+        assertNotNull(requests.get(1).getStartTuple());
+        assertFalse(cursor.hasNext());
+        assertThrows(TarantoolClientException.class, cursor::nextBatch);
+    }
+
+    @Test
+    public void test_subscribe_shouldRequestBatches_onlyForSubscriberDemand() {
+        List<Conditions> requests = new ArrayList<>();
+        List<CompletableFuture<List<TarantoolTuple>>> futures = new ArrayList<>();
+        TarantoolCursorPublisher<TarantoolTuple> publisher = new TarantoolCursorPublisher<>(
+            () -> new AsyncBatchCursor<>(selector(requests, futures), Conditions.any(), 3, mapper, false));
+
+        List<Long> received = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        TarantoolCursorSubscription subscription = publisher.subscribe(
+            tuple -> received.add(tuple.getLong(0)), error::set, () -> completed.set(true));
+        assertEquals(0, requests.size());
+
+        subscription.request(2);
+        assertEquals(1, requests.size());
+        futures.get(0).complete(tuples(0, 3));
+        assertEquals(Arrays.asList(0L, 1L), received);
+
+        // the rest of the current batch satisfies the demand without a request
+        subscription.request(1);
+        assertEquals(1, requests.size());
+        assertEquals(3, received.size());
+
+        subscription.request(Long.MAX_VALUE);
+        assertEquals(2, requests.size());
+        assertEquals(3, requests.get(1).getOffset());
+        futures.get(1).complete(tuples(3, 6));
+        assertEquals(3, requests.size());
+        assertFalse(completed.get());
+        futures.get(2).complete(tuples(6, 7));
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L), received);
+        assertNull(error.get());
+        assertTrue(completed.get());
+    }
+
+    @Test
+    public void test_subscribe_shouldSignalError_ifBatchRequestFails() {
+        List<Conditions> requests = new ArrayList<>();
+        List<CompletableFuture<List<TarantoolTuple>>> futures = new ArrayList<>();
+        TarantoolCursorPublisher<TarantoolTuple> publisher = new TarantoolCursorPublisher<>(
+            () -> new AsyncBatchCursor<>(selector(requests, futures), Conditions.any(), 3, mapper, false));
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        TarantoolCursorSubscription subscription = publisher.subscribe(
+            tuple -> { }, error::set, () -> completed.set(true));
+        subscription.request(10);
+        RuntimeException failure = new RuntimeException("failed");
+        futures.get(0).completeExceptionally(failure);
+
+        assertEquals(failure, error.get());
+        assertFalse(completed.get());
+        subscription.request(10);
+        assertEquals(1, requests.size());
+    }
+}
@@ -0,0 +1,162 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.exceptions.TarantoolTupleConversionException;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolResultDecoderTest {
+
+    private static ArrayValue packedTuples(int count) throws IOException {
+        List<Value> tuples = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tuples.add(ValueFactory.newArray(ValueFactory.newInteger(i), ValueFactory.newString("name" + i)));
+        }
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packValue(ValueFactory.newArray(tuples));
+            return LazyArrayValue.of(packer.toByteArray());
+        }
+    }
+
+    @Test
+    public void test_convertTuples_shouldKeepTupleOrder_ifRunByParallelDecoder() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ArrayValue tuples = packedTuples(10_000);
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            TarantoolResultDecoder decoder = TarantoolResultDecoder.parallel(1000, pool);
+            List<Long> result = decoder.decode(CompletableFuture.completedFuture(tuples),
+                v -> TarantoolResultDecoder.convertTuples(v.asArrayValue(), tuple -> {
+                    threads.add(Thread.currentThread());
+                    return tuple.get(0).asIntegerValue().toLong();
+                })).get();
+
+            assertEquals(10_000, result.size());
+            for (int i = 0; i < result.size(); i++) {
+                assertEquals(i, result.get(i));
+            }
+            assertTrue(threads.size() > 1);
+            assertTrue(threads.stream().noneMatch(t -> t == Thread.currentThread()));
+            result.add(10_000L);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_convertTuples_shouldUseCurrentThread_ifRunInForeignForkJoinPool() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ArrayValue tuples = packedTuples(10_000);
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            Thread poolThread = pool.submit(() -> {
+                TarantoolResultDecoder.convertTuples(tuples, v -> threads.add(Thread.currentThread()));
+                return Thread.currentThread();
+            }).get();
+
+            assertEquals(Collections.singleton(poolThread), threads);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_convertTuples_shouldUseCurrentThread_ifBelowParallelThreshold() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Value response = ValueFactory.newArray(packedTuples(10_000), packedTuples(1000));
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            TarantoolResultDecoder decoder = TarantoolResultDecoder.parallel(10_000, pool);
+            Thread decoderThread = decoder.decode(CompletableFuture.completedFuture(response), v -> {
+                // the second array is smaller than the threshold of the decoder
+                TarantoolResultDecoder.convertTuples(
+                    v.asArrayValue().get(1).asArrayValue(), tuple -> threads.add(Thread.currentThread()));
+                return Thread.currentThread();
+            }).get();
+
+            assertEquals(Collections.singleton(decoderThread), threads);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_convertTuples_shouldUseCurrentThread_ifNotRunInForkJoinPool() throws IOException {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<Long> result = TarantoolResultDecoder.convertTuples(packedTuples(10_000), v -> {
+            threads.add(Thread.currentThread());
+            return v.get(0).asIntegerValue().toLong();
+        });
+
+        assertEquals(10_000, result.size());
+        assertEquals(Collections.singleton(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void test_decode_shouldConvertInPool_ifResponseIsAboveThreshold() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            TarantoolResultDecoder decoder = TarantoolResultDecoder.parallel(100, pool);
+            Value large = ValueFactory.newArray(packedTuples(100));
+            Value small = ValueFactory.newArray(packedTuples(99));
+
+            Thread largeThread = decoder.decode(CompletableFuture.completedFuture(large),
+                v -> Thread.currentThread()).join();
+            Thread smallThread = decoder.decode(CompletableFuture.completedFuture(small),
+                v -> Thread.currentThread()).join();
+
+            assertTrue(largeThread instanceof ForkJoinWorkerThread);
+            assertEquals(pool, ((ForkJoinWorkerThread) largeThread).getPool());
+            assertEquals(Thread.currentThread(), smallThread);
+            assertEquals(Thread.currentThread(), TarantoolResultDecoder.sequential()
+                .decode(CompletableFuture.completedFuture(large), v -> Thread.currentThread()).join());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_decode_shouldConvertAllResponsesInExecutor_ifDecoderIsAsync() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Thread executorThread = executor.submit(Thread::currentThread).get();
+            TarantoolResultDecoder decoder = TarantoolResultDecoder.async(executor);
+
+            Thread thread = decoder.decode(CompletableFuture.completedFuture(ValueFactory.newArray()),
+                v -> Thread.currentThread()).join();
+
+            assertEquals(executorThread, thread);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_convertTuples_shouldThrowConversionException_ifTupleIsNotArray() {
+        ArrayValue tuples = ValueFactory.newArray(
+            ValueFactory.newArray(ValueFactory.newInteger(1)), ValueFactory.newInteger(2));
+
+        assertThrows(TarantoolTupleConversionException.class,
+            () -> TarantoolResultDecoder.convertTuples(tuples, v -> v.size()));
+    }
+}
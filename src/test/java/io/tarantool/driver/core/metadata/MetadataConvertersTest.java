@@ -3,11 +3,15 @@ package io.tarantool.driver.core.metadata;
 import io.tarantool.driver.api.metadata.TarantoolFieldMetadata;
 import io.tarantool.driver.api.metadata.TarantoolMetadataContainer;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.protocol.LazyArrayValue;
 import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -15,7 +19,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -191,4 +197,42 @@ public class MetadataConvertersTest {
             assertEquals(field.get(is_nullable), fieldMetadata.getIsNullable());
         }
     }
+
+    @Test
+    public void testCRUDResponseConverter_shouldReuseMetadataForEqualFormat() {
+        CRUDResponseToTarantoolSpaceMetadataConverter converter =
+            CRUDResponseToTarantoolSpaceMetadataConverter.getInstance();
+        ArrayValue sameFormat = ValueFactory.newArray(format.list());
+        ArrayValue otherFormat = ValueFactory.newArray(format.get(0));
+
+        TarantoolSpaceMetadata metadata = converter.fromValue(format);
+
+        assertSame(metadata, converter.fromValue(sameFormat));
+        assertNotSame(metadata, converter.fromValue(otherFormat));
+        assertEquals(1, converter.fromValue(otherFormat).getSpaceFormatMetadata().size());
+    }
+
+    @Test
+    public void testCRUDResponseConverter_shouldReuseMetadata_ifLazyFormatIsInsideFrame() throws IOException {
+        CRUDResponseToTarantoolSpaceMetadataConverter converter =
+            CRUDResponseToTarantoolSpaceMetadataConverter.getInstance();
+        byte[] frame;
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packString("rows");
+            format.writeTo(packer);
+            packer.packString("rows");
+            frame = packer.toByteArray();
+        }
+        byte[] packedFormat;
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            format.writeTo(packer);
+            packedFormat = packer.toByteArray();
+        }
+        ArrayValue lazyFormat = new LazyArrayValue(frame, 5, packedFormat.length);
+
+        TarantoolSpaceMetadata metadata = converter.fromValue(format);
+
+        assertSame(metadata, converter.fromValue(lazyFormat));
+        assertSame(metadata, converter.fromValue(LazyArrayValue.of(packedFormat)));
+    }
 }
@@ -7,14 +7,19 @@ import io.tarantool.driver.api.space.options.crud.enums.Mode;
 import io.tarantool.driver.api.space.options.crud.enums.ProxyOption;
 import io.tarantool.driver.api.space.options.crud.enums.RollbackOnError;
 import io.tarantool.driver.api.space.options.crud.enums.StopOnError;
+import io.tarantool.driver.api.space.options.ProxyCountOptions;
 import io.tarantool.driver.api.space.options.ProxyDeleteOptions;
+import io.tarantool.driver.api.space.options.ProxyGetOptions;
 import io.tarantool.driver.api.space.options.ProxyInsertManyOptions;
 import io.tarantool.driver.api.space.options.ProxyInsertOptions;
+import io.tarantool.driver.api.space.options.ProxyLenOptions;
+import io.tarantool.driver.api.space.options.ProxyMinMaxOptions;
 import io.tarantool.driver.api.space.options.ProxyReplaceManyOptions;
 import io.tarantool.driver.api.space.options.ProxyReplaceOptions;
 import io.tarantool.driver.api.space.options.ProxySelectOptions;
 import io.tarantool.driver.api.space.options.ProxyTruncateOptions;
 import io.tarantool.driver.api.space.options.ProxyUpdateOptions;
+import io.tarantool.driver.api.space.options.ProxyUpsertManyOptions;
 import io.tarantool.driver.api.space.options.ProxyUpsertOptions;
 import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -89,6 +94,108 @@ public class ProxyOperationBuildersTest {
         assertEquals(defaultResultMapperSupplier, deleteProxyOperation.getResultMapperSupplier());
     }
 
+    @Test
+    public void getOperationBuilderTest() {
+        TarantoolIndexQuery indexQuery = new TarantoolIndexQuery();
+        indexQuery.withKeyValues(Collections.singletonList(42L));
+
+        GetProxyOperation<TarantoolResult<TarantoolTuple>> operation =
+            new GetProxyOperation.Builder<TarantoolResult<TarantoolTuple>>()
+                .withClient(client)
+                .withSpaceName("space1")
+                .withFunctionName("function1")
+                .withIndexQuery(indexQuery)
+                .withResultMapperSupplier(defaultResultMapperSupplier)
+                .withArgumentsMapperSupplier(defaultMapperSupplier)
+                .withOptions(ProxyGetOptions.create()
+                    .withTimeout(client.getConfig().getRequestTimeout())
+                    .withMode(Mode.WRITE)
+                )
+                .build();
+
+        Map<String, Object> options = new HashMap<>();
+        options.put(ProxyOption.TIMEOUT.toString(), client.getConfig().getRequestTimeout());
+        options.put(ProxyOption.MODE.toString(), Mode.WRITE.value());
+
+        assertEquals(client, operation.getClient());
+        assertEquals("function1", operation.getFunctionName());
+        assertIterableEquals(Arrays.asList("space1", Collections.singletonList(42L), options),
+            operation.getArguments());
+        assertEquals(defaultResultMapperSupplier, operation.getResultMapperSupplier());
+    }
+
+    @Test
+    public void countOperationBuilderTest() {
+        TarantoolMetadata testOperations = new TarantoolMetadata(new TestMetadataProvider());
+        Conditions conditions = Conditions.equals("second", 55);
+
+        CountProxyOperation operation =
+            new CountProxyOperation.Builder(testOperations, testOperations.getSpaceByName("test").get())
+                .withClient(client)
+                .withSpaceName("space1")
+                .withFunctionName("function1")
+                .withConditions(conditions)
+                .withOptions(ProxyCountOptions.create()
+                    .withTimeout(client.getConfig().getRequestTimeout())
+                    .withYieldEvery(100)
+                )
+                .build();
+
+        Map<String, Object> options = new HashMap<>();
+        options.put(ProxyOption.TIMEOUT.toString(), client.getConfig().getRequestTimeout());
+        options.put(ProxyOption.YIELD_EVERY.toString(), 100);
+
+        assertEquals(client, operation.getClient());
+        assertEquals("function1", operation.getFunctionName());
+        assertIterableEquals(Arrays.asList("space1",
+                Collections.singletonList(Arrays.asList("=", "second", 55)), options),
+            operation.getArguments());
+    }
+
+    @Test
+    public void lenOperationBuilderTest() {
+        LenProxyOperation operation = LenProxyOperation.builder()
+            .withClient(client)
+            .withSpaceName("space1")
+            .withFunctionName("function1")
+            .withOptions(ProxyLenOptions.create()
+                .withTimeout(client.getConfig().getRequestTimeout())
+            )
+            .build();
+
+        Map<String, Object> options = new HashMap<>();
+        options.put(ProxyOption.TIMEOUT.toString(), client.getConfig().getRequestTimeout());
+
+        assertEquals(client, operation.getClient());
+        assertEquals("function1", operation.getFunctionName());
+        assertIterableEquals(Arrays.asList("space1", options), operation.getArguments());
+    }
+
+    @Test
+    public void minMaxOperationBuilderTest() {
+        MinMaxProxyOperation<TarantoolResult<TarantoolTuple>> operation =
+            new MinMaxProxyOperation.Builder<TarantoolResult<TarantoolTuple>>()
+                .withClient(client)
+                .withSpaceName("space1")
+                .withFunctionName("function1")
+                .withIndexName("primary")
+                .withResultMapperSupplier(defaultResultMapperSupplier)
+                .withArgumentsMapperSupplier(defaultMapperSupplier)
+                .withOptions(ProxyMinMaxOptions.create()
+                    .withTimeout(client.getConfig().getRequestTimeout())
+                )
+                .build();
+
+        Map<String, Object> options = new HashMap<>();
+        options.put(ProxyOption.TIMEOUT.toString(), client.getConfig().getRequestTimeout());
+
+        assertEquals(client, operation.getClient());
+        assertEquals("function1", operation.getFunctionName());
+        assertIterableEquals(Arrays.asList("space1", "primary", options), operation.getArguments());
+        assertEquals(defaultMapperSupplier, operation.getArgumentsMapperSupplier());
+        assertEquals(defaultResultMapperSupplier, operation.getResultMapperSupplier());
+    }
+
     @Test
     public void insertOperationBuilderTest() {
         List<Object> values = Arrays.asList(4, "a4", "Nineteen Eighty-Four", "George Orwell", 1984);
@@ -323,6 +430,42 @@ public class ProxyOperationBuildersTest {
         assertEquals(defaultResultMapperSupplier, operation.getResultMapperSupplier());
     }
 
+    @Test
+    public void upsertManyOperationBuilderTest() {
+        List<TarantoolTuple> tarantoolTuples = Arrays.asList(
+            factory.create(Arrays.asList(4, "a4", "Nineteen Eighty-Four", "George Orwell", 1984)),
+            factory.create(Arrays.asList(44, "a44", "Silmarillion", "J. R. R. Tolkien", 1977))
+        );
+
+        UpsertManyProxyOperation<TarantoolTuple, TarantoolResult<TarantoolTuple>> operation =
+            new UpsertManyProxyOperation.Builder<TarantoolTuple, TarantoolResult<TarantoolTuple>>()
+                .withClient(client)
+                .withSpaceName("space1")
+                .withFunctionName("function1")
+                .withTuplesOperations(tarantoolTuples, tuple -> TupleOperations.add(4, tuple.getInteger(4)))
+                .withResultMapperSupplier(defaultResultMapperSupplier)
+                .withArgumentsMapperSupplier(defaultMapperSupplier)
+                .withOptions(ProxyUpsertManyOptions.create()
+                    .withTimeout(client.getConfig().getRequestTimeout())
+                    .withStopOnError(StopOnError.FALSE)
+                )
+                .build();
+
+        Map<String, Object> options = new HashMap<>();
+        options.put(ProxyOption.TIMEOUT.toString(), client.getConfig().getRequestTimeout());
+        options.put(ProxyOption.STOP_ON_ERROR.toString(), false);
+
+        assertEquals(client, operation.getClient());
+        assertEquals("function1", operation.getFunctionName());
+        assertIterableEquals(Arrays.asList("space1", Arrays.asList(
+                Arrays.asList(tarantoolTuples.get(0), TupleOperations.add(4, 1984).asProxyOperationList()),
+                Arrays.asList(tarantoolTuples.get(1), TupleOperations.add(4, 1977).asProxyOperationList())),
+                options),
+            operation.getArguments());
+        assertEquals(defaultMapperSupplier, operation.getArgumentsMapperSupplier());
+        assertEquals(defaultResultMapperSupplier, operation.getResultMapperSupplier());
+    }
+
     @Test
     public void test_truncateOperationBuilder_shouldReturnTruncateOperationObjectsWithAllProperties() {
         // build truncateOperation
@@ -0,0 +1,252 @@
+package io.tarantool.driver.core.proxy;
+
+import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.RawMessagePack;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProxyWriteBatcherTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static final int[] KEY_FIELDS = {0};
+
+    private static TarantoolTuple tuple(long id) {
+        return new TarantoolTupleImpl(Arrays.asList(id, "name" + id), mapper);
+    }
+
+    private static Value row(long id) {
+        return ValueFactory.newArray(ValueFactory.newInteger(id), ValueFactory.newString("name" + id),
+            ValueFactory.newInteger(id * 10));
+    }
+
+    private static Value error(long id, String message) {
+        return ValueFactory.newMap(
+            ValueFactory.newString("class_name"), ValueFactory.newString("InsertManyError"),
+            ValueFactory.newString("err"), ValueFactory.newString(message),
+            ValueFactory.newString("operation_data"), ValueFactory.newArray(
+                ValueFactory.newInteger(id), ValueFactory.newString("name" + id)));
+    }
+
+    private static ArrayValue response(List<Value> rows, List<Value> errors) {
+        Value result = rows.isEmpty() ? ValueFactory.newNil() : ValueFactory.newMap(
+            ValueFactory.newString("metadata"), ValueFactory.newArray(),
+            ValueFactory.newString("rows"), ValueFactory.newArray(rows));
+        return ValueFactory.newArray(result,
+            errors.isEmpty() ? ValueFactory.newNil() : ValueFactory.newArray(errors));
+    }
+
+    private static CompletableFuture<Value> insert(ProxyWriteBatcher batcher, long id) {
+        return batcher.insert("test", tuple(id), KEY_FIELDS, ProxyWriteBatcherTest::singleRow);
+    }
+
+    private static CompletableFuture<Value> replace(ProxyWriteBatcher batcher, long id) {
+        return batcher.replace("test", tuple(id), KEY_FIELDS, ProxyWriteBatcherTest::singleRow);
+    }
+
+    private static Value singleRow(Value result) {
+        Map<Value, Value> resultMap = result.asArrayValue().get(0).asMapValue().map();
+        ArrayValue rows = resultMap.get(ValueFactory.newString("rows")).asArrayValue();
+        assertEquals(1, rows.size());
+        return rows.get(0);
+    }
+
+    @Test
+    public void test_insert_shouldCompleteEachOperation_withItsOwnRowOrError() {
+        List<String> functions = new ArrayList<>();
+        List<Collection<?>> calls = new ArrayList<>();
+        CompletableFuture<ArrayValue> response = new CompletableFuture<>();
+        ProxyWriteBatcher batcher = new ProxyWriteBatcher((functionName, arguments) -> {
+            functions.add(functionName);
+            calls.add(arguments);
+            return response;
+        }, ProxyOperationsMappingConfig.builder().build(), () -> mapper, 3, 10_000);
+
+        CompletableFuture<Value> first = insert(batcher, 1);
+        CompletableFuture<Value> second = insert(batcher, 2);
+        assertTrue(calls.isEmpty());
+        CompletableFuture<Value> third = insert(batcher, 3);
+
+        assertEquals(Collections.singletonList(ProxyOperationsMappingConfig.INSERT_MANY_FUNCTION), functions);
+        List<?> arguments = new ArrayList<>(calls.get(0));
+        assertEquals("test", arguments.get(0));
+        assertEquals(3, ((Collection<?>) arguments.get(1)).size());
+        Map<?, ?> options = (Map<?, ?>) arguments.get(2);
+        assertEquals(false, options.get("stop_on_error"));
+        assertEquals(false, options.get("rollback_on_error"));
+        assertFalse(first.isDone());
+
+        // the rows of different storages may come in any order
+        response.complete(response(Arrays.asList(row(3), row(1)),
+            Collections.singletonList(error(2, "Duplicate key exists"))));
+
+        assertEquals(row(1), first.join());
+        assertEquals(row(3), third.join());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TarantoolException);
+        assertTrue(e.getCause().getMessage().contains("Duplicate key exists"));
+    }
+
+    @Test
+    public void test_replace_shouldSendBatch_afterDelay() throws Exception {
+        List<String> functions = new CopyOnWriteArrayList<>();
+        ProxyWriteBatcher batcher = new ProxyWriteBatcher((functionName, arguments) -> {
+            functions.add(functionName);
+            return CompletableFuture.completedFuture(response(Arrays.asList(row(1), row(2)), Collections.emptyList()));
+        }, ProxyOperationsMappingConfig.builder().build(), () -> mapper, 100, 10);
+
+        CompletableFuture<Value> first = replace(batcher, 1);
+        CompletableFuture<Value> second = replace(batcher, 2);
+
+        assertEquals(row(1), first.get(1, TimeUnit.SECONDS));
+        assertEquals(row(2), second.get(1, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(ProxyOperationsMappingConfig.REPLACE_MANY_FUNCTION), functions);
+    }
+
+    @Test
+    public void test_flush_shouldFailAllOperations_ifBatchCallFails() {
+        RuntimeException failure = new RuntimeException("Connection lost");
+        CompletableFuture<ArrayValue> response = new CompletableFuture<>();
+        ProxyWriteBatcher batcher = new ProxyWriteBatcher((functionName, arguments) -> response,
+            ProxyOperationsMappingConfig.builder().build(), () -> mapper, 100, 10_000);
+
+        CompletableFuture<Value> first = insert(batcher, 1);
+        CompletableFuture<Value> second = insert(batcher, 2);
+        batcher.flush();
+        response.completeExceptionally(failure);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+        assertEquals(failure, e.getCause());
+        e = assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS));
+        assertEquals(failure, e.getCause());
+    }
+
+    @Test
+    public void test_insert_shouldSendTupleAlone_ifPrimaryKeyIsNil() {
+        List<Collection<?>> calls = new ArrayList<>();
+        CompletableFuture<ArrayValue> response = new CompletableFuture<>();
+        ProxyWriteBatcher batcher = new ProxyWriteBatcher((functionName, arguments) -> {
+            calls.add(arguments);
+            return response;
+        }, ProxyOperationsMappingConfig.builder().build(), () -> mapper, 100, 10_000);
+
+        CompletableFuture<Value> first = insert(batcher, 1);
+        // the key is filled by a sequence on the server
+        CompletableFuture<Value> generated = batcher.insert("test",
+            new TarantoolTupleImpl(Arrays.asList(null, "name7"), mapper), KEY_FIELDS,
+            ProxyWriteBatcherTest::singleRow);
+
+        assertEquals(1, calls.size());
+        assertEquals(1, ((Collection<?>) new ArrayList<>(calls.get(0)).get(1)).size());
+        response.complete(response(Collections.singletonList(row(7)), Collections.emptyList()));
+
+        assertEquals(row(7), generated.join());
+        assertFalse(first.isDone());
+    }
+
+    @Test
+    public void test_insert_shouldStartNewBatch_ifPrimaryKeyRepeats() {
+        List<Collection<?>> calls = new ArrayList<>();
+        List<CompletableFuture<ArrayValue>> responses = new ArrayList<>();
+        ProxyWriteBatcher batcher = new ProxyWriteBatcher((functionName, arguments) -> {
+            calls.add(arguments);
+            CompletableFuture<ArrayValue> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        }, ProxyOperationsMappingConfig.builder().build(), () -> mapper, 100, 10_000);
+
+        CompletableFuture<Value> first = insert(batcher, 1);
+        CompletableFuture<Value> second = insert(batcher, 2);
+        CompletableFuture<Value> repeated = insert(batcher, 1);
+
+        assertEquals(1, calls.size());
+        assertEquals(2, ((Collection<?>) new ArrayList<>(calls.get(0)).get(1)).size());
+        batcher.flush();
+        assertEquals(2, calls.size());
+        assertEquals(1, ((Collection<?>) new ArrayList<>(calls.get(1)).get(1)).size());
+
+        responses.get(0).complete(response(Arrays.asList(row(2), row(1)), Collections.emptyList()));
+        responses.get(1).complete(response(Collections.emptyList(),
+            Collections.singletonList(error(1, "Duplicate key exists"))));
+
+        assertEquals(row(1), first.join());
+        assertEquals(row(2), second.join());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> repeated.get(1, TimeUnit.SECONDS));
+        assertTrue(e.getCause().getMessage().contains("Duplicate key exists"));
+    }
+
+    @Test
+    public void test_flush_shouldCompleteFuture_afterBatchCallsComplete() {
+        CompletableFuture<ArrayValue> response = new CompletableFuture<>();
+        ProxyWriteBatcher batcher = new ProxyWriteBatcher((functionName, arguments) -> response,
+            ProxyOperationsMappingConfig.builder().build(), () -> mapper, 100, 10_000);
+
+        CompletableFuture<Value> first = insert(batcher, 1);
+        CompletableFuture<Void> flushed = batcher.flush();
+        assertFalse(flushed.isDone());
+
+        response.completeExceptionally(new RuntimeException("Connection lost"));
+        flushed.join();
+        assertTrue(first.isCompletedExceptionally());
+    }
+
+    @Test
+    public void test_insert_shouldSendPackedTuples() {
+        List<Collection<?>> calls = new ArrayList<>();
+        ProxyWriteBatcher batcher = new ProxyWriteBatcher((functionName, arguments) -> {
+            calls.add(arguments);
+            return new CompletableFuture<>();
+        }, ProxyOperationsMappingConfig.builder().build(), () -> mapper, 2, 10_000);
+
+        insert(batcher, 1);
+        insert(batcher, 2);
+
+        List<?> tuples = new ArrayList<>((Collection<?>) new ArrayList<>(calls.get(0)).get(1));
+        assertEquals(2, tuples.size());
+        assertTrue(tuples.get(0) instanceof RawMessagePack);
+        assertEquals(tuple(1).toMessagePackValue(mapper), ((RawMessagePack) tuples.get(0)).toMessagePackValue(mapper));
+        assertEquals(tuple(2).toMessagePackValue(mapper), ((RawMessagePack) tuples.get(1)).toMessagePackValue(mapper));
+    }
+
+    @Test
+    public void test_close_shouldSendCollectedOperations_andNotWaitForDelayAfterwards() {
+        List<Collection<?>> calls = new CopyOnWriteArrayList<>();
+        ProxyWriteBatcher batcher = new ProxyWriteBatcher((functionName, arguments) -> {
+            calls.add(arguments);
+            return CompletableFuture.completedFuture(response(Collections.singletonList(row(1)),
+                Collections.emptyList()));
+        }, ProxyOperationsMappingConfig.builder().build(), () -> mapper, 100, 10_000);
+
+        CompletableFuture<Value> first = insert(batcher, 1);
+        batcher.close();
+
+        assertEquals(1, calls.size());
+        assertEquals(row(1), first.join());
+        insert(batcher, 1);
+        assertEquals(2, calls.size());
+    }
+}
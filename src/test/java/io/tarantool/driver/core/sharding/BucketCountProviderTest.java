@@ -0,0 +1,50 @@
+package io.tarantool.driver.core.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BucketCountProviderTest {
+
+    @Test
+    public void test_getBucketCount_shouldLoadOnce_ifLoadingSucceeds() {
+        AtomicInteger loads = new AtomicInteger();
+        BucketCountProvider provider = new BucketCountProvider(() -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(30000);
+        });
+
+        assertEquals(30000, provider.getBucketCount().join());
+        assertEquals(30000, provider.getBucketCount().join());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void test_getBucketCount_shouldNotReload_untilRetryIntervalPasses() {
+        AtomicInteger loads = new AtomicInteger();
+        AtomicLong time = new AtomicLong();
+        BucketCountProvider provider = new BucketCountProvider(() -> {
+            CompletableFuture<Integer> result = new CompletableFuture<>();
+            if (loads.incrementAndGet() == 1) {
+                result.completeExceptionally(new RuntimeException("No connection"));
+            } else {
+                result.complete(30000);
+            }
+            return result;
+        }, 1000, time::get);
+
+        assertTrue(provider.getBucketCount().isCompletedExceptionally());
+        time.set(999);
+        assertTrue(provider.getBucketCount().isCompletedExceptionally());
+        assertEquals(1, loads.get());
+
+        time.set(1000);
+        assertEquals(30000, provider.getBucketCount().join());
+        assertEquals(2, loads.get());
+    }
+}
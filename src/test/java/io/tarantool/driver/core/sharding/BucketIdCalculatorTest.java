@@ -0,0 +1,106 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolMetadataContainer;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.metadata.DDLTarantoolSpaceMetadataConverter;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class BucketIdCalculatorTest {
+
+    private static final String SPACE_NAME = "test_space";
+
+    private static Value field(String name, String type) {
+        return ValueFactory.newMap(
+            ValueFactory.newString("name"), ValueFactory.newString(name),
+            ValueFactory.newString("is_nullable"), ValueFactory.newBoolean(false),
+            ValueFactory.newString("type"), ValueFactory.newString(type));
+    }
+
+    private static Value indexPart(String path, String type) {
+        return ValueFactory.newMap(
+            ValueFactory.newString("path"), ValueFactory.newString(path),
+            ValueFactory.newString("type"), ValueFactory.newString(type));
+    }
+
+    private static Optional<BucketIdCalculator> calculator(List<String> shardingKey, String shardingFunction) {
+        List<Value> space = new ArrayList<>(Arrays.asList(
+            ValueFactory.newString("engine"), ValueFactory.newString("memtx"),
+            ValueFactory.newString("is_local"), ValueFactory.newBoolean(false),
+            ValueFactory.newString("temporary"), ValueFactory.newBoolean(false),
+            ValueFactory.newString("format"), ValueFactory.newArray(
+                field("id", "unsigned"), field("region", "string"), field("name", "string")),
+            ValueFactory.newString("indexes"), ValueFactory.newArray(ValueFactory.newMap(
+                ValueFactory.newString("name"), ValueFactory.newString("primary"),
+                ValueFactory.newString("type"), ValueFactory.newString("TREE"),
+                ValueFactory.newString("unique"), ValueFactory.newBoolean(true),
+                ValueFactory.newString("parts"), ValueFactory.newArray(
+                    indexPart("id", "unsigned"), indexPart("region", "string"))))));
+        if (!shardingKey.isEmpty()) {
+            List<Value> keyFields = new ArrayList<>();
+            shardingKey.forEach(name -> keyFields.add(ValueFactory.newString(name)));
+            space.add(ValueFactory.newString("sharding_key"));
+            space.add(ValueFactory.newArray(keyFields));
+        }
+        if (shardingFunction != null) {
+            space.add(ValueFactory.newString("sharding_func"));
+            space.add(ValueFactory.newString(shardingFunction));
+        }
+        TarantoolMetadataContainer container = DDLTarantoolSpaceMetadataConverter.getInstance().fromValue(
+            ValueFactory.newMap(ValueFactory.newString("spaces"), ValueFactory.newMap(
+                ValueFactory.newString(SPACE_NAME), ValueFactory.newMap(space.toArray(new Value[0])))));
+        TarantoolSpaceMetadata spaceMetadata = container.getSpaceMetadataByName().get(SPACE_NAME);
+        TarantoolIndexMetadata primaryIndex = container.getIndexMetadataBySpaceName().get(SPACE_NAME).get("primary");
+        return BucketIdCalculator.of(spaceMetadata, primaryIndex);
+    }
+
+    @Test
+    public void test_fromTuple_shouldUseShardingKey_ifSpecified() {
+        BucketIdCalculator calculator = calculator(Arrays.asList("region"), null).get();
+
+        assertEquals(OptionalInt.of(18541), calculator.fromTuple(ValueFactory.newArray(
+            ValueFactory.newInteger(1), ValueFactory.newString("123456789"), ValueFactory.newString("a")), 30000));
+        assertEquals(OptionalInt.of(18541), calculator.fromPrimaryKey(ValueFactory.newArray(
+            ValueFactory.newInteger(1), ValueFactory.newString("123456789")), 30000));
+    }
+
+    @Test
+    public void test_fromTuple_shouldUsePrimaryKey_ifShardingKeyIsNotSpecified() {
+        BucketIdCalculator calculator = calculator(new ArrayList<>(), null).get();
+
+        assertEquals(OptionalInt.of(18541), calculator.fromTuple(ValueFactory.newArray(
+            ValueFactory.newInteger(1234), ValueFactory.newString("56789"), ValueFactory.newString("a")), 30000));
+        assertEquals(OptionalInt.of(18541), calculator.fromPrimaryKey(ValueFactory.newArray(
+            ValueFactory.newInteger(1234), ValueFactory.newString("56789")), 30000));
+        // incomplete keys are left to the router
+        assertEquals(OptionalInt.empty(), calculator.fromPrimaryKey(ValueFactory.newArray(
+            ValueFactory.newInteger(1234)), 30000));
+    }
+
+    @Test
+    public void test_fromPrimaryKey_shouldBeEmpty_ifShardingKeyIsNotInPrimaryKey() {
+        BucketIdCalculator calculator = calculator(Arrays.asList("name"), "vshard.router.bucket_id_mpcrc32").get();
+
+        assertEquals(OptionalInt.of(18541), calculator.fromTuple(ValueFactory.newArray(
+            ValueFactory.newInteger(1), ValueFactory.newString("a"), ValueFactory.newString("123456789")), 30000));
+        assertEquals(OptionalInt.empty(), calculator.fromPrimaryKey(ValueFactory.newArray(
+            ValueFactory.newInteger(1), ValueFactory.newString("a")), 30000));
+    }
+
+    @Test
+    public void test_of_shouldBeEmpty_ifShardingFunctionIsCustom() {
+        assertFalse(calculator(new ArrayList<>(), "customers.sharding_func").isPresent());
+        assertFalse(calculator(Arrays.asList("unknown"), null).isPresent());
+    }
+}
@@ -0,0 +1,205 @@
+package io.tarantool.driver.core.sharding;
+
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.exceptions.TarantoolConnectionException;
+import io.tarantool.driver.exceptions.TarantoolException;
+import io.tarantool.driver.exceptions.TarantoolInternalException;
+import io.tarantool.driver.exceptions.TarantoolNoSuchProcedureException;
+import io.tarantool.driver.exceptions.errors.TarantoolErrorsParser;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DirectStorageRouterTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static final TarantoolServerAddress FIRST = new TarantoolServerAddress("localhost", 3302);
+    private static final TarantoolServerAddress SECOND = new TarantoolServerAddress("localhost", 3303);
+
+    private static byte[] pack(Value value) {
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packValue(value);
+            return packer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ArrayValue unpack(byte[] packed) {
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packed)) {
+            return unpacker.unpackValue().asArrayValue();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Value rowsResult(long id) {
+        return ValueFactory.newArray(ValueFactory.newMap(
+            ValueFactory.newString("metadata"), ValueFactory.newArray(),
+            ValueFactory.newString("rows"), ValueFactory.newArray(ValueFactory.newArray(ValueFactory.newInteger(id)))));
+    }
+
+    private static Value wrongBucket() {
+        return ValueFactory.newArray(ValueFactory.newNil(), ValueFactory.newNil(), ValueFactory.newMap(
+            ValueFactory.newString("name"), ValueFactory.newString("WRONG_BUCKET")));
+    }
+
+    private static BucketRouteTable routeTable(
+        AtomicInteger loads, Map<TarantoolServerAddress, Collection<Integer>> routes) {
+        return new BucketRouteTable(() -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(routes);
+        }, 0);
+    }
+
+    @Test
+    public void test_write_shouldCallMasterOwningBucket() {
+        AtomicInteger loads = new AtomicInteger();
+        Map<TarantoolServerAddress, Collection<Integer>> routes = new HashMap<>();
+        routes.put(FIRST, Arrays.asList(1, 2));
+        routes.put(SECOND, Collections.singletonList(3));
+        Map<TarantoolServerAddress, List<Value>> calls = new HashMap<>();
+        DirectStorageRouter router = new DirectStorageRouter(routeTable(loads, routes), (address, arguments) -> {
+            calls.put(address, unpack(arguments).list());
+            return CompletableFuture.completedFuture(pack(rowsResult(1)));
+        }, () -> mapper);
+
+        // the routes are not loaded yet
+        assertEquals(Optional.empty(), router.write(3, "test", "insert", Collections.emptyList()).join());
+        assertEquals(1, loads.get());
+
+        Optional<ArrayValue> result =
+            router.write(3, "test", "insert", Collections.singletonList(Arrays.asList(1, "a"))).join();
+
+        assertEquals(Optional.of(rowsResult(1)), result);
+        List<Value> arguments = calls.get(SECOND);
+        assertEquals(ValueFactory.newInteger(3), arguments.get(0));
+        assertEquals(ValueFactory.newString("write"), arguments.get(1));
+        assertEquals(ValueFactory.newString("test"), arguments.get(2));
+        assertEquals(ValueFactory.newString("insert"), arguments.get(3));
+        assertFalse(calls.containsKey(FIRST));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void test_write_shouldFallBackAndReloadRoutes_ifBucketIsMoved() {
+        AtomicInteger loads = new AtomicInteger();
+        Map<TarantoolServerAddress, Collection<Integer>> routes = new HashMap<>();
+        routes.put(FIRST, Collections.singletonList(1));
+        DirectStorageRouter router = new DirectStorageRouter(routeTable(loads, routes),
+            (address, arguments) -> CompletableFuture.completedFuture(pack(wrongBucket())), () -> mapper);
+        router.write(1, "test", "insert", Collections.emptyList()).join();
+
+        Optional<ArrayValue> result = router.write(1, "test", "insert", Collections.emptyList()).join();
+
+        assertEquals(Optional.empty(), result);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void test_write_shouldFallBack_ifStorageIsNotConnected() {
+        AtomicInteger loads = new AtomicInteger();
+        Map<TarantoolServerAddress, Collection<Integer>> routes = new HashMap<>();
+        routes.put(FIRST, Collections.singletonList(1));
+        CompletableFuture<byte[]> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new TarantoolConnectionException(new RuntimeException("Connection refused")));
+        DirectStorageRouter router = new DirectStorageRouter(routeTable(loads, routes),
+            (address, arguments) -> failure, () -> mapper);
+        router.write(1, "test", "insert", Collections.emptyList()).join();
+
+        assertEquals(Optional.empty(), router.write(1, "test", "insert", Collections.emptyList()).join());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void test_write_shouldFail_ifOperationFailsOnStorage() {
+        Map<TarantoolServerAddress, Collection<Integer>> routes = new HashMap<>();
+        routes.put(FIRST, Collections.singletonList(1));
+        CompletableFuture<byte[]> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new TarantoolInternalException("Duplicate key exists"));
+        DirectStorageRouter router = new DirectStorageRouter(routeTable(new AtomicInteger(), routes),
+            (address, arguments) -> failure, () -> mapper);
+        router.write(1, "test", "insert", Collections.emptyList()).join();
+
+        CompletionException e = assertThrows(CompletionException.class,
+            () -> router.write(1, "test", "insert", Collections.emptyList()).join());
+        assertTrue(e.getCause() instanceof TarantoolInternalException);
+    }
+
+    @Test
+    public void test_write_shouldReturnCrudLikeError_ifOperationFailsOnStorage() {
+        Map<TarantoolServerAddress, Collection<Integer>> routes = new HashMap<>();
+        routes.put(FIRST, Collections.singletonList(1));
+        Value error = ValueFactory.newArray(ValueFactory.newNil(), ValueFactory.newMap(
+            ValueFactory.newString("class_name"), ValueFactory.newString("InsertError"),
+            ValueFactory.newString("err"), ValueFactory.newString("Failed to insert: Duplicate key exists"),
+            ValueFactory.newString("str"),
+            ValueFactory.newString("InsertError: Failed to insert: Duplicate key exists")));
+        AtomicInteger loads = new AtomicInteger();
+        DirectStorageRouter router = new DirectStorageRouter(routeTable(loads, routes),
+            (address, arguments) -> CompletableFuture.completedFuture(pack(error)), () -> mapper);
+        router.write(1, "test", "insert", Collections.emptyList()).join();
+
+        Optional<ArrayValue> result = router.write(1, "test", "insert", Collections.emptyList()).join();
+
+        // the error is converted by the result mapper of the space as the errors returned by crud
+        assertTrue(result.isPresent());
+        TarantoolException exception = TarantoolErrorsParser.parse(result.get().get(1));
+        assertTrue(exception instanceof TarantoolInternalException);
+        assertTrue(exception.getMessage().contains("Duplicate key exists"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void test_write_shouldFallBack_ifStorageFunctionIsNotDefined() {
+        AtomicInteger loads = new AtomicInteger();
+        Map<TarantoolServerAddress, Collection<Integer>> routes = new HashMap<>();
+        routes.put(FIRST, Collections.singletonList(1));
+        CompletableFuture<byte[]> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new TarantoolNoSuchProcedureException(
+            "Procedure 'direct_storage_operation' is not defined"));
+        DirectStorageRouter router = new DirectStorageRouter(routeTable(loads, routes),
+            (address, arguments) -> failure, () -> mapper);
+        router.write(1, "test", "insert", Collections.emptyList()).join();
+
+        assertEquals(Optional.empty(), router.write(1, "test", "insert", Collections.emptyList()).join());
+    }
+
+    @Test
+    public void test_parseRoutes_shouldSkipUnsupportedAddresses() {
+        List<?> result = Collections.singletonList(Arrays.asList(
+            Arrays.asList("admin:secret@localhost:3302", Arrays.asList(1, 2)),
+            Arrays.asList("unix/:/var/run/storage.sock", Collections.singletonList(3))));
+
+        Map<TarantoolServerAddress, Collection<Integer>> routes = DirectStorageRouter.parseRoutes(result);
+
+        assertEquals(1, routes.size());
+        assertEquals(Arrays.asList(1, 2), routes.get(FIRST));
+    }
+}
@@ -0,0 +1,71 @@
+package io.tarantool.driver.core.sharding;
+
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class VshardShardingFunctionTest {
+
+    private static List<Value> key(Value... values) {
+        return Arrays.asList(values);
+    }
+
+    @Test
+    public void test_update_shouldMatchCrc32c_withoutFinalInversion() {
+        byte[] data = "123456789".getBytes(StandardCharsets.US_ASCII);
+        // the standard CRC-32C check value is 0xE3069283
+        assertEquals(0xE3069283 ^ 0xFFFFFFFF, TarantoolCrc32.update(TarantoolCrc32.INITIAL_VALUE, data));
+    }
+
+    @Test
+    public void test_strcrc32_shouldComputeBucketId_forStringsAndNumbers() {
+        assertEquals(OptionalInt.of(18541),
+            VshardShardingFunction.STRCRC32.bucketId(key(ValueFactory.newString("123456789")), 30000));
+        assertEquals(OptionalInt.of(18541),
+            VshardShardingFunction.STRCRC32.bucketId(key(ValueFactory.newInteger(123456789)), 30000));
+        // the multipart keys are hashed as the concatenation of the parts
+        assertEquals(OptionalInt.of(18541), VshardShardingFunction.STRCRC32.bucketId(
+            key(ValueFactory.newString("1234"), ValueFactory.newString("56789")), 30000));
+        assertEquals(OptionalInt.of(25683),
+            VshardShardingFunction.STRCRC32.bucketId(key(ValueFactory.newBoolean(true)), 30000));
+    }
+
+    @Test
+    public void test_mpcrc32_shouldHashMessagePack_exceptStrings() {
+        assertEquals(OptionalInt.of(18541),
+            VshardShardingFunction.MPCRC32.bucketId(key(ValueFactory.newString("123456789")), 30000));
+        assertEquals(OptionalInt.of(2769),
+            VshardShardingFunction.MPCRC32.bucketId(key(ValueFactory.newInteger(42)), 3000));
+        assertEquals(OptionalInt.of(2074), VshardShardingFunction.MPCRC32.bucketId(
+            key(ValueFactory.newInteger(42), ValueFactory.newString("abc")), 3000));
+        assertEquals(OptionalInt.of(541),
+            VshardShardingFunction.STRCRC32.bucketId(key(ValueFactory.newInteger(42)), 3000));
+    }
+
+    @Test
+    public void test_bucketId_shouldBeEmpty_ifValueIsNotSupported() {
+        assertEquals(OptionalInt.empty(),
+            VshardShardingFunction.STRCRC32.bucketId(key(ValueFactory.newFloat(1.5)), 30000));
+        assertEquals(OptionalInt.empty(),
+            VshardShardingFunction.STRCRC32.bucketId(key(ValueFactory.newInteger(1_000_000_000_000_000L)), 30000));
+        assertEquals(OptionalInt.empty(),
+            VshardShardingFunction.MPCRC32.bucketId(key(ValueFactory.newArray(Collections.emptyList())), 30000));
+    }
+
+    @Test
+    public void test_of_shouldFindVshardFunctions() {
+        assertEquals(Optional.of(VshardShardingFunction.STRCRC32), VshardShardingFunction.of(null));
+        assertEquals(Optional.of(VshardShardingFunction.MPCRC32),
+            VshardShardingFunction.of("vshard.router.bucket_id_mpcrc32"));
+        assertEquals(Optional.empty(), VshardShardingFunction.of("customers.sharding_func"));
+    }
+}
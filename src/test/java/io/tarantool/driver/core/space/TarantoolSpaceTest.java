@@ -0,0 +1,81 @@
+package io.tarantool.driver.core.space;
+
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.metadata.CRUDResponseToTarantoolSpaceMetadataConverter;
+import io.tarantool.driver.core.metadata.TarantoolIndexMetadataConverter;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolSpaceTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static MapValue field(String name, String type, boolean isNullable) {
+        return ValueFactory.newMap(
+            ValueFactory.newString("name"), ValueFactory.newString(name),
+            ValueFactory.newString("type"), ValueFactory.newString(type),
+            ValueFactory.newString("is_nullable"), ValueFactory.newBoolean(isNullable));
+    }
+
+    private static TarantoolSpaceMetadata spaceMetadata() {
+        return CRUDResponseToTarantoolSpaceMetadataConverter.getInstance().fromValue(ValueFactory.newArray(
+            field("id", "unsigned", false),
+            field("email", "string", true),
+            field("code", "string", false)));
+    }
+
+    private static TarantoolIndexMetadata index(String type, boolean unique, Value... parts) {
+        ArrayValue vindexTuple = ValueFactory.newArray(
+            ValueFactory.newInteger(512), ValueFactory.newInteger(1), ValueFactory.newString("index"),
+            ValueFactory.newString(type),
+            ValueFactory.newMap(ValueFactory.newString("unique"), ValueFactory.newBoolean(unique)),
+            ValueFactory.newArray(parts));
+        return new TarantoolIndexMetadataConverter(mapper).fromValue(vindexTuple);
+    }
+
+    private static MapValue part(int field, String type, boolean isNullable) {
+        return ValueFactory.newMap(
+            ValueFactory.newString("field"), ValueFactory.newInteger(field),
+            ValueFactory.newString("type"), ValueFactory.newString(type),
+            ValueFactory.newString("is_nullable"), ValueFactory.newBoolean(isNullable));
+    }
+
+    @Test
+    public void test_isKeyCursorIndex_shouldAcceptUniqueTreeIndex() {
+        assertTrue(TarantoolSpace.isKeyCursorIndex(
+            index("tree", true, part(0, "unsigned", false)), spaceMetadata()));
+        assertTrue(TarantoolSpace.isKeyCursorIndex(
+            index("tree", true, part(2, "string", false), part(0, "unsigned", false)), spaceMetadata()));
+    }
+
+    @Test
+    public void test_isKeyCursorIndex_shouldRejectIndex_ifKeysMayRepeat() {
+        assertFalse(TarantoolSpace.isKeyCursorIndex(
+            index("tree", false, part(0, "unsigned", false)), spaceMetadata()));
+        assertFalse(TarantoolSpace.isKeyCursorIndex(
+            index("hash", true, part(0, "unsigned", false)), spaceMetadata()));
+    }
+
+    @Test
+    public void test_isKeyCursorIndex_shouldRejectUniqueIndex_ifPartIsNullable() {
+        // many tuples with nil email have the same key in a unique index
+        assertFalse(TarantoolSpace.isKeyCursorIndex(
+            index("tree", true, part(1, "string", true)), spaceMetadata()));
+        // the field is nullable in the format only
+        assertFalse(TarantoolSpace.isKeyCursorIndex(
+            index("tree", true, part(0, "unsigned", false), part(1, "string", false)), spaceMetadata()));
+        // the part is nullable, the field is beyond the format
+        assertFalse(TarantoolSpace.isKeyCursorIndex(
+            index("tree", true, part(0, "unsigned", false), part(5, "string", true)), spaceMetadata()));
+    }
+}
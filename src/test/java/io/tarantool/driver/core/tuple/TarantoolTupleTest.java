@@ -1,14 +1,19 @@
 package io.tarantool.driver.core.tuple;
 
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.StringDictionary;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.core.metadata.TarantoolMetadata;
 import io.tarantool.driver.core.metadata.TestMetadataProvider;
 import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.MessagePackObjectMapperException;
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
 import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.LazyArrayValue;
 import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
 import org.msgpack.value.ImmutableArrayValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
@@ -19,19 +24,27 @@ import org.msgpack.value.impl.ImmutableLongValueImpl;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -210,4 +223,182 @@ public class TarantoolTupleTest {
         assertEquals(testList.get(1), serializedTuple.getInteger("second"));
         assertEquals(testList.get(2), serializedTuple.getList(2));
     }
+
+    @Test
+    void test_toMessagePack_shouldWriteSameBytesAsToMessagePackValue() throws IOException {
+        MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        List<Object> testList = new ArrayList<>();
+        testList.add("Apple");
+        testList.add(123456);
+        testList.add(1234567890123L);
+        testList.add(1.5D);
+        testList.add(2.5F);
+        testList.add(true);
+        testList.add(null);
+        testList.add(new byte[]{1, 2, 3});
+        testList.add(UUID.randomUUID());
+        testList.add(new BigDecimal("-123.456"));
+        testList.add(Arrays.asList("lol", Collections.singletonMap("key", 1)));
+        TarantoolTuple tarantoolTuple = new TarantoolTupleImpl(testList, mapper);
+
+        MessageBufferPacker expected = MessagePack.newDefaultBufferPacker();
+        expected.packValue(tarantoolTuple.toMessagePackValue(mapper));
+        MessageBufferPacker actual = MessagePack.newDefaultBufferPacker();
+        tarantoolTuple.toMessagePack(actual, mapper);
+
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    @Test
+    void test_lazyTuple_shouldDecodeFieldsOnAccess() throws IOException {
+        MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolTuple eagerTuple = new TarantoolTupleImpl(
+            Arrays.asList("Apple", 123456, null, Arrays.asList(1, 2), 1.5D), mapper);
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        eagerTuple.toMessagePack(packer, mapper);
+        byte[] packed = packer.toByteArray();
+
+        TarantoolTuple lazyTuple = new TarantoolTupleImpl(LazyArrayValue.of(packed), mapper);
+
+        assertEquals(5, lazyTuple.size());
+        assertEquals(123456, lazyTuple.getInteger(1));
+        assertFalse(lazyTuple.getObject(2).isPresent());
+        MessageBufferPacker lazyPacker = MessagePack.newDefaultBufferPacker();
+        lazyTuple.toMessagePack(lazyPacker, mapper);
+        assertArrayEquals(packed, lazyPacker.toByteArray());
+        assertEquals("Apple", lazyTuple.getString(0));
+        assertEquals(Arrays.asList(1, 2), lazyTuple.getList(3));
+        assertEquals(new TarantoolTupleImpl(
+            MessagePack.newDefaultUnpacker(packed).unpackValue().asArrayValue(), mapper), lazyTuple);
+
+        lazyTuple.putObject(1, 42);
+        assertEquals(42, lazyTuple.getInteger(1));
+        assertEquals(1.5D, lazyTuple.getDouble(4));
+    }
+
+    @Test
+    void test_primitiveAccessors_shouldReturnValues_forLazyAndDecodedFields() throws IOException {
+        MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolSpaceMetadata spaceMetadata =
+            new TarantoolMetadata(new TestMetadataProvider()).getSpaceByName("test").get();
+        List<Object> testList = Arrays.asList(1234567890123L, 42, null, 2.5D, true, 7.0F);
+        TarantoolTuple objectTuple = new TarantoolTupleImpl(testList, mapper, spaceMetadata);
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        objectTuple.toMessagePack(packer, mapper);
+        byte[] packed = packer.toByteArray();
+        TarantoolTuple lazyTuple = new TarantoolTupleImpl(LazyArrayValue.of(packed), mapper, spaceMetadata);
+        TarantoolTuple valueTuple = new TarantoolTupleImpl(
+            MessagePack.newDefaultUnpacker(packed).unpackValue().asArrayValue(), mapper, spaceMetadata);
+
+        for (TarantoolTuple tuple : Arrays.asList(lazyTuple, valueTuple, objectTuple)) {
+            assertEquals(1234567890123L, tuple.getLong(0, -1));
+            assertEquals(42, tuple.getInt(1, -1));
+            assertEquals(42, tuple.getInt("second", -1));
+            assertEquals(42L, tuple.getLong("second", -1));
+            assertEquals(-1, tuple.getInt(2, -1));
+            assertEquals(2.5D, tuple.getDouble(3, 0));
+            assertTrue(tuple.getBoolean(4, false));
+            assertEquals(7.0D, tuple.getDouble(5, 0));
+            assertEquals(-1, tuple.getLong(10, -1));
+            assertEquals(-1, tuple.getInt("unknown", -1));
+            assertTrue(tuple.isNull(2));
+            assertTrue(tuple.isNull(10));
+            assertTrue(tuple.isNull("unknown"));
+            assertFalse(tuple.isNull(0));
+            assertFalse(tuple.isNull("second"));
+        }
+        // converted by the mapper
+        assertEquals(7L, lazyTuple.getLong(5, -1));
+        assertEquals(7L, valueTuple.getLong(5, -1));
+        assertThrows(MessagePackValueMapperException.class, () -> lazyTuple.getInt(0, -1));
+
+        lazyTuple.putObject(1, null);
+        assertTrue(lazyTuple.isNull(1));
+        assertEquals(-1, lazyTuple.getInt(1, -1));
+    }
+
+    @Test
+    public void test_getString_shouldReturnSharedStrings_ifFieldHasDictionary() throws IOException {
+        MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolSpaceMetadata spaceMetadata =
+            new TarantoolMetadata(new TestMetadataProvider()).getSpaceByName("test").get();
+        StringDictionary dictionary = new StringDictionary(2);
+        TupleStringDictionaries dictionaries =
+            TupleStringDictionaries.of(spaceMetadata, Collections.singletonMap("first", dictionary));
+
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        for (String code : Arrays.asList("active", "blocked", "active", "deleted", "deleted")) {
+            MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+            packer.packValue(ValueFactory.newArray(ValueFactory.newString(code), ValueFactory.newString(code)));
+            tuples.add(new TarantoolTupleImpl(LazyArrayValue.of(packer.toByteArray()), mapper, spaceMetadata,
+                dictionaries));
+        }
+
+        assertEquals("active", tuples.get(0).getString("first"));
+        assertSame(tuples.get(0).getString(0), tuples.get(2).getString("first"));
+        assertNotSame(tuples.get(0).getString(1), tuples.get(2).getString(1));
+        assertEquals("blocked", tuples.get(1).getString(0));
+        assertEquals("deleted", tuples.get(3).getString(0));
+        assertEquals("deleted", tuples.get(4).getString(0));
+        // the dictionary is full, the values are decoded as usual
+        assertEquals(2, dictionary.size());
+        assertNotSame(tuples.get(3).getString(0), tuples.get(4).getString(0));
+        assertArrayEquals("blocked".getBytes(StandardCharsets.UTF_8), tuples.get(1).getObject(0, byte[].class).get());
+    }
+
+    @Test
+    public void test_getByteBuffer_shouldReturnFieldContentsWithoutCopying_ifTupleIsLazy() throws IOException {
+        MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        byte[] payload = new byte[100_000];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) i;
+        }
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(ValueFactory.newArray(
+            ValueFactory.newInteger(1), ValueFactory.newBinary(payload), ValueFactory.newNil()));
+        byte[] packed = packer.toByteArray();
+        TarantoolTuple lazyTuple = new TarantoolTupleImpl(LazyArrayValue.of(packed), mapper);
+        TarantoolTuple objectTuple = new TarantoolTupleImpl(Arrays.asList(1, payload, null), mapper);
+
+        ByteBuffer buffer = lazyTuple.getByteBuffer(1);
+        assertTrue(buffer.isReadOnly());
+        assertEquals(payload.length, buffer.remaining());
+        assertEquals(packed[packed.length - 2], buffer.get(payload.length - 1));
+        for (TarantoolTuple tuple : Arrays.asList(lazyTuple, objectTuple)) {
+            byte[] bytes = new byte[payload.length];
+            tuple.getByteBuffer(1).get(bytes);
+            assertArrayEquals(payload, bytes);
+            try (InputStream stream = tuple.getInputStream(1)) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] chunk = new byte[4096];
+                int read;
+                while ((read = stream.read(chunk)) > 0) {
+                    out.write(chunk, 0, read);
+                }
+                assertArrayEquals(payload, out.toByteArray());
+            }
+            assertNull(tuple.getByteBuffer(2));
+            assertNull(tuple.getInputStream(2));
+            assertNull(tuple.getByteBuffer(3));
+        }
+    }
+
+    @Test
+    public void test_compact_shouldCopyFieldsOutOfResponseData_ifTupleIsLazy() throws IOException {
+        MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newString("abc")));
+        byte[] packed = packer.toByteArray();
+        TarantoolTuple lazyTuple = new TarantoolTupleImpl(LazyArrayValue.of(packed), mapper);
+        lazyTuple.putObject(0, 2);
+        TarantoolTuple objectTuple = new TarantoolTupleImpl(Arrays.asList(1, "abc"), mapper);
+
+        TarantoolTuple compactTuple = lazyTuple.compact();
+        Arrays.fill(packed, (byte) 0xc0);
+
+        assertNotSame(lazyTuple, compactTuple);
+        assertEquals(2, compactTuple.getInteger(0));
+        assertEquals("abc", compactTuple.getString(1));
+        assertSame(objectTuple, objectTuple.compact());
+    }
 }
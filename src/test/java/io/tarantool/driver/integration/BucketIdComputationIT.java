@@ -0,0 +1,195 @@
+package io.tarantool.driver.integration;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClusterAddressProvider;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.retry.TarantoolRequestRetryPolicies;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
+import io.tarantool.driver.auth.SimpleTarantoolCredentials;
+import io.tarantool.driver.auth.TarantoolCredentials;
+import io.tarantool.driver.cluster.BinaryClusterDiscoveryEndpoint;
+import io.tarantool.driver.cluster.BinaryDiscoveryClusterAddressProvider;
+import io.tarantool.driver.cluster.TarantoolClusterDiscoveryConfig;
+import io.tarantool.driver.cluster.TestWrappedClusterAddressProvider;
+import io.tarantool.driver.core.ClusterTarantoolTupleClient;
+import io.tarantool.driver.core.ProxyTarantoolTupleClient;
+import io.tarantool.driver.core.RetryingTarantoolTupleClient;
+import io.tarantool.driver.core.sharding.VshardShardingFunction;
+import io.tarantool.driver.exceptions.TarantoolNoSuchProcedureException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the bucket ids computed on the client side match the ones computed by vshard on the router
+ */
+public class BucketIdComputationIT extends SharedCartridgeContainer {
+
+    private static final int DEFAULT_TIMEOUT = 5 * 1000;
+    private static final String PROFILE_SPACE_NAME = "test__profile";
+    private static final String MULTI_PART_KEY_SPACE_NAME = "cursor_test_space_multi_part_key";
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private static final TarantoolTupleFactory tupleFactory = new DefaultTarantoolTupleFactory(mapper);
+
+    private static TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
+    private static int bucketCount;
+
+    public static String USER_NAME;
+    public static String PASSWORD;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        startCluster();
+        USER_NAME = container.getUsername();
+        PASSWORD = container.getPassword();
+        initClient();
+        bucketCount = ((Number) client.eval("return vshard.router.bucket_count()").get().get(0)).intValue();
+    }
+
+    @BeforeEach
+    public void truncateSpaces() {
+        client.space(PROFILE_SPACE_NAME).truncate().join();
+        client.space(MULTI_PART_KEY_SPACE_NAME).truncate().join();
+    }
+
+    private static TarantoolClusterAddressProvider getClusterAddressProvider() {
+        TarantoolCredentials credentials = new SimpleTarantoolCredentials(USER_NAME, PASSWORD);
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withCredentials(credentials)
+            .withReadTimeout(DEFAULT_TIMEOUT)
+            .withConnectTimeout(DEFAULT_TIMEOUT)
+            .build();
+
+        BinaryClusterDiscoveryEndpoint endpoint = new BinaryClusterDiscoveryEndpoint.Builder()
+            .withClientConfig(config)
+            .withEntryFunction("get_routers")
+            .withEndpointProvider(() -> Collections.singletonList(
+                new TarantoolServerAddress(container.getRouterHost(), container.getRouterPort())))
+            .build();
+
+        TarantoolClusterDiscoveryConfig clusterDiscoveryConfig = new TarantoolClusterDiscoveryConfig.Builder()
+            .withEndpoint(endpoint)
+            .withDelay(1)
+            .build();
+
+        return new TestWrappedClusterAddressProvider(
+            new BinaryDiscoveryClusterAddressProvider(clusterDiscoveryConfig),
+            container);
+    }
+
+    private static void initClient() {
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withCredentials(new SimpleTarantoolCredentials(USER_NAME, PASSWORD))
+            .withConnectTimeout(DEFAULT_TIMEOUT)
+            .withReadTimeout(DEFAULT_TIMEOUT)
+            .withRequestTimeout(DEFAULT_TIMEOUT)
+            .withBucketIdComputation(true)
+            .build();
+
+        ClusterTarantoolTupleClient clusterClient = new ClusterTarantoolTupleClient(
+            config, getClusterAddressProvider());
+        client = new RetryingTarantoolTupleClient(new ProxyTarantoolTupleClient(clusterClient),
+            TarantoolRequestRetryPolicies.AttemptsBoundRetryPolicyFactory
+                .builder(10, thr -> thr instanceof TarantoolNoSuchProcedureException)
+                .withDelay(100)
+                .build());
+    }
+
+    private static int routerBucketId(VshardShardingFunction function, List<?> key) throws Exception {
+        List<?> result = client.eval("return " + function.getFunctionName() + "(...)",
+            Collections.singletonList(key)).get();
+        return ((Number) result.get(0)).intValue();
+    }
+
+    private static OptionalInt clientBucketId(VshardShardingFunction function, List<?> key) {
+        List<Value> values = key.stream()
+            .map(v -> v == null ? ValueFactory.newNil() : mapper.<Value, Object>toValue(v))
+            .collect(Collectors.toList());
+        return function.bucketId(values, bucketCount);
+    }
+
+    @Test
+    public void test_bucketId_shouldMatchRouter_forSupportedKeys() throws Exception {
+        List<List<?>> keys = Arrays.asList(
+            Collections.singletonList("abc"),
+            Collections.singletonList(""),
+            Collections.singletonList(0),
+            Collections.singletonList(123456789),
+            Collections.singletonList(-42),
+            Collections.singletonList(Long.MAX_VALUE / 1_000_000),
+            Arrays.asList(1, "name"),
+            Arrays.asList("name", 1, true)
+        );
+
+        for (VshardShardingFunction function : VshardShardingFunction.values()) {
+            for (List<?> key : keys) {
+                OptionalInt bucketId = clientBucketId(function, key);
+                assertTrue(bucketId.isPresent(), function + " " + key);
+                assertEquals(routerBucketId(function, key), bucketId.getAsInt(), function + " " + key);
+            }
+        }
+    }
+
+    @Test
+    public void test_bucketId_shouldBeLeftToRouter_forNullableKeys() {
+        for (VshardShardingFunction function : VshardShardingFunction.values()) {
+            assertFalse(clientBucketId(function, Collections.singletonList(null)).isPresent());
+            assertFalse(clientBucketId(function, Arrays.asList(1, null)).isPresent());
+        }
+    }
+
+    @Test
+    public void test_insert_shouldStoreRouterBucketId_forIntegerKey() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(PROFILE_SPACE_NAME);
+
+        for (int id = 1; id <= 10; id++) {
+            space.insert(tupleFactory.create(id, null, "FIO", 50, null)).get();
+        }
+
+        for (TarantoolTuple tuple : space.select(Conditions.any()).get()) {
+            int id = tuple.getInteger(0);
+            assertEquals(routerBucketId(VshardShardingFunction.STRCRC32, Collections.singletonList(id)),
+                tuple.getInteger(1));
+        }
+    }
+
+    @Test
+    public void test_insert_shouldStoreRouterBucketId_forMultipartKey() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(MULTI_PART_KEY_SPACE_NAME);
+
+        for (int id = 1; id <= 10; id++) {
+            space.replace(tupleFactory.create(id, "name" + id, 2000 + id, null)).get();
+        }
+
+        TarantoolResult<TarantoolTuple> tuples = space.select(Conditions.any()).get();
+        assertEquals(10, tuples.size());
+        for (TarantoolTuple tuple : tuples) {
+            List<?> key = Arrays.asList(tuple.getInteger(0), tuple.getString(1));
+            assertEquals(routerBucketId(VshardShardingFunction.STRCRC32, key), tuple.getInteger(3));
+        }
+    }
+}
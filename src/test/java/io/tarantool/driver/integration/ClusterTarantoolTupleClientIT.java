@@ -2,6 +2,9 @@ package io.tarantool.driver.integration;
 
 
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.columnar.LongColumn;
+import io.tarantool.driver.api.columnar.StringColumn;
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
 import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
@@ -60,6 +63,27 @@ public class ClusterTarantoolTupleClientIT extends SharedTarantoolContainer {
         assertThrows(TarantoolClientException.class, () -> client.metadata().getSpaceByName("_space"));
     }
 
+    @Test
+    public void selectColumnar_shouldReturnColumnsOfSpaceFields() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+            client.space(TEST_SPACE_NAME);
+
+        TarantoolColumnarResult result = testSpace
+            .selectColumnar(Conditions.indexLessOrEquals("primary", Collections.singletonList(3))).join();
+
+        assertEquals(3, result.size());
+        LongColumn ids = result.getColumn("id", LongColumn.class);
+        StringColumn authors = result.getColumn("author", StringColumn.class);
+        LongColumn years = result.getColumn("year", LongColumn.class);
+        // the index is scanned in descending order
+        assertEquals(3, ids.get(0));
+        assertEquals("Leo Tolstoy", authors.get(0));
+        assertEquals(1869, years.get(0));
+        assertEquals(1, ids.get(2));
+        assertEquals("Miguel de Cervantes", authors.get(2));
+        assertEquals(1605, years.get(2));
+    }
+
     @Test
     public void insertAndSelectRequests() throws Exception {
         TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
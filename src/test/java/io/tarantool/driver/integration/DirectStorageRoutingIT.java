@@ -0,0 +1,187 @@
+package io.tarantool.driver.integration;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClusterAddressProvider;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.options.ProxyInsertOptions;
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
+import io.tarantool.driver.auth.SimpleTarantoolCredentials;
+import io.tarantool.driver.auth.TarantoolCredentials;
+import io.tarantool.driver.cluster.BinaryClusterDiscoveryEndpoint;
+import io.tarantool.driver.cluster.BinaryDiscoveryClusterAddressProvider;
+import io.tarantool.driver.cluster.TarantoolClusterDiscoveryConfig;
+import io.tarantool.driver.cluster.TestWrappedClusterAddressProvider;
+import io.tarantool.driver.core.ClusterTarantoolTupleClient;
+import io.tarantool.driver.core.ProxyTarantoolTupleClient;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the proxy operations sent directly to the storages with the storage function defined by the application
+ */
+public class DirectStorageRoutingIT extends SharedCartridgeContainer {
+
+    private static final int DEFAULT_TIMEOUT = 5 * 1000;
+    private static final String TEST_SPACE_NAME = "test__profile";
+    private static final String OPERATIONS_COUNT_EXPRESSION =
+        "local count = 0 " +
+        "for _, replicaset in pairs(vshard.router.routeall()) do " +
+        "    count = count + replicaset:callrw('get_direct_storage_operations_count', {}) " +
+        "end " +
+        "return count";
+
+    private static final TarantoolTupleFactory tupleFactory =
+        new DefaultTarantoolTupleFactory(DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
+    private static final Set<TarantoolServerAddress> storageAddresses = ConcurrentHashMap.newKeySet();
+
+    private static TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
+
+    public static String USER_NAME;
+    public static String PASSWORD;
+
+    @BeforeAll
+    public static void setUp() {
+        startCluster();
+        USER_NAME = container.getUsername();
+        PASSWORD = container.getPassword();
+        initClient();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        client.close();
+    }
+
+    @BeforeEach
+    public void truncateSpace() {
+        client.space(TEST_SPACE_NAME).truncate().join();
+    }
+
+    private static TarantoolClusterAddressProvider getClusterAddressProvider() {
+        TarantoolCredentials credentials = new SimpleTarantoolCredentials(USER_NAME, PASSWORD);
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withCredentials(credentials)
+            .withReadTimeout(DEFAULT_TIMEOUT)
+            .withConnectTimeout(DEFAULT_TIMEOUT)
+            .build();
+
+        BinaryClusterDiscoveryEndpoint endpoint = new BinaryClusterDiscoveryEndpoint.Builder()
+            .withClientConfig(config)
+            .withEntryFunction("get_routers")
+            .withEndpointProvider(() -> Collections.singletonList(
+                new TarantoolServerAddress(container.getRouterHost(), container.getRouterPort())))
+            .build();
+
+        TarantoolClusterDiscoveryConfig clusterDiscoveryConfig = new TarantoolClusterDiscoveryConfig.Builder()
+            .withEndpoint(endpoint)
+            .withDelay(1)
+            .build();
+
+        return new TestWrappedClusterAddressProvider(
+            new BinaryDiscoveryClusterAddressProvider(clusterDiscoveryConfig),
+            container);
+    }
+
+    private static void initClient() {
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withCredentials(new SimpleTarantoolCredentials(USER_NAME, PASSWORD))
+            .withConnectTimeout(DEFAULT_TIMEOUT)
+            .withReadTimeout(DEFAULT_TIMEOUT)
+            .withRequestTimeout(DEFAULT_TIMEOUT)
+            .withDirectStorageRouting(true)
+            .build();
+
+        ClusterTarantoolTupleClient clusterClient = new ClusterTarantoolTupleClient(
+            config, getClusterAddressProvider());
+        client = new ProxyTarantoolTupleClient(clusterClient) {
+            @Override
+            protected TarantoolClient<?, ?> createStorageClient(TarantoolServerAddress address) {
+                // the storages advertise the addresses inside the container
+                storageAddresses.add(address);
+                return super.createStorageClient(
+                    new TarantoolServerAddress(container.getRouterHost(), container.getMappedPort(address.getPort())));
+            }
+        };
+    }
+
+    private static int operationsCount() {
+        List<?> result = client.eval(OPERATIONS_COUNT_EXPRESSION).join();
+        return ((Number) result.get(0)).intValue();
+    }
+
+    @Test
+    public void test_singleTupleOperations_shouldBeExecutedOnStorages() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        int initialCount = operationsCount();
+
+        for (int id = 1; id <= 10; id++) {
+            TarantoolResult<TarantoolTuple> inserted =
+                space.insert(tupleFactory.create(id, null, "FIO", 50, 100)).join();
+            assertEquals(1, inserted.size());
+            assertEquals(id, inserted.get(0).getInteger(0));
+        }
+        TarantoolResult<TarantoolTuple> replaced = space.replace(tupleFactory.create(1, null, "FIO", 51, 100)).join();
+        assertEquals(51, replaced.get(0).getInteger(3));
+
+        TarantoolResult<TarantoolTuple> found =
+            space.get(Conditions.indexEquals(0, Collections.singletonList(1))).join();
+        assertEquals(1, found.size());
+        assertEquals(51, found.get(0).getInteger(3));
+
+        TarantoolResult<TarantoolTuple> deleted =
+            space.delete(Conditions.indexEquals(0, Collections.singletonList(2))).join();
+        assertEquals(1, deleted.size());
+        assertEquals(9, space.select(Conditions.any()).join().size());
+
+        assertFalse(storageAddresses.isEmpty());
+        assertEquals(initialCount + 13, operationsCount());
+    }
+
+    @Test
+    public void test_insert_shouldReturnStorageError_ifTupleExists() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        space.insert(tupleFactory.create(1, null, "FIO", 50, 100)).join();
+        int initialCount = operationsCount();
+
+        CompletionException error = assertThrows(CompletionException.class,
+            () -> space.insert(tupleFactory.create(1, null, "FIO", 50, 100)).join());
+
+        assertTrue(error.getCause().getMessage().contains("Duplicate key exists"), error.getCause().getMessage());
+        assertEquals(initialCount + 1, operationsCount());
+    }
+
+    @Test
+    public void test_insert_shouldBeSentToRouter_ifTimeoutIsSpecified() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        int initialCount = operationsCount();
+
+        space.insert(tupleFactory.create(1, null, "FIO", 50, 100), ProxyInsertOptions.create().withTimeout(1000))
+            .join();
+
+        assertEquals(1, space.select(Conditions.any()).join().size());
+        assertEquals(initialCount, operationsCount());
+    }
+}
@@ -1,7 +1,9 @@
 package io.tarantool.driver.integration;
 
 
+import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.cursor.PartitionedScan;
 import io.tarantool.driver.api.cursor.TarantoolCursor;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -17,7 +19,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -246,4 +254,37 @@ public class OffsetCursorIT extends SharedTarantoolContainer {
         assertEquals(10, countTotal);
         assertThrows(TarantoolSpaceOperationException.class, cursor::get);
     }
+
+    @Test
+    public void partitionedScan_shouldCheckUpperBoundsOnClient_forBoxSpace() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> testSpace =
+            client.space(TEST_SPACE_NAME);
+        PartitionedScan<TarantoolTuple> scan =
+            testSpace.partitionedScan(PartitionedScan.fieldRanges("id", 1, 101, 4));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (Stream<TarantoolTuple> tuples = scan.stream(executor)) {
+            List<Integer> ids = tuples.map(t -> t.getInteger(0)).sorted().collect(Collectors.toList());
+
+            assertEquals(100, ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(i + 1, ids.get(i));
+            }
+
+            Map<Integer, List<Integer>> partitions = new ConcurrentHashMap<>();
+            long count = scan.forEachPartition(partition -> {
+                List<Integer> partitionIds = new ArrayList<>();
+                partitions.put(partition, partitionIds);
+                return t -> partitionIds.add(t.getInteger(0));
+            }, executor).join();
+
+            assertEquals(100, count);
+            for (int partition = 0; partition < 4; partition++) {
+                assertEquals(25, partitions.get(partition).size());
+                assertEquals(partition * 25 + 1, partitions.get(partition).get(0));
+                assertEquals(partition * 25 + 25, partitions.get(partition).get(24));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
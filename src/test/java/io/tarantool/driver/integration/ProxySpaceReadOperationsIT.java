@@ -0,0 +1,172 @@
+package io.tarantool.driver.integration;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.options.ProxyCountOptions;
+import io.tarantool.driver.api.space.options.ProxyGetOptions;
+import io.tarantool.driver.api.space.options.ProxyLenOptions;
+import io.tarantool.driver.api.space.options.ProxyMinMaxOptions;
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
+import io.tarantool.driver.auth.SimpleTarantoolCredentials;
+import io.tarantool.driver.core.ClusterTarantoolTupleClient;
+import io.tarantool.driver.core.ProxyTarantoolTupleClient;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the get, count, len, min and max operations of the proxy spaces against the crud module of the test
+ * application
+ */
+public class ProxySpaceReadOperationsIT extends SharedCartridgeContainer {
+
+    private static final int DEFAULT_TIMEOUT = 5 * 1000;
+    private static final String TEST_SPACE_NAME = "test__profile";
+    private static final String PK_INDEX_NAME = "profile_id";
+
+    private static final TarantoolTupleFactory tupleFactory =
+        new DefaultTarantoolTupleFactory(DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
+
+    private static TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
+
+    public static String USER_NAME;
+    public static String PASSWORD;
+
+    @BeforeAll
+    public static void setUp() {
+        startCluster();
+        USER_NAME = container.getUsername();
+        PASSWORD = container.getPassword();
+        initClient();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        client.close();
+    }
+
+    private static void initClient() {
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withCredentials(new SimpleTarantoolCredentials(USER_NAME, PASSWORD))
+            .withConnectTimeout(DEFAULT_TIMEOUT)
+            .withReadTimeout(DEFAULT_TIMEOUT)
+            .build();
+
+        ClusterTarantoolTupleClient clusterClient = new ClusterTarantoolTupleClient(
+            config, container.getRouterHost(), container.getRouterPort());
+        client = new ProxyTarantoolTupleClient(clusterClient);
+    }
+
+    @BeforeEach
+    public void truncateSpace() {
+        client.space(TEST_SPACE_NAME).truncate().join();
+    }
+
+    private static void insertTuples(TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space) {
+        for (int id = 1; id <= 10; id++) {
+            space.insert(tupleFactory.create(id, null, "FIO" + id, 20 + id, 100)).join();
+        }
+    }
+
+    private static Map<?, ?> crudOptions(String operation) {
+        List<?> result = client.eval("return crud_" + operation + "_opts").join();
+        return (Map<?, ?>) result.get(0);
+    }
+
+    @Test
+    public void test_get_shouldReturnTupleByPrimaryKey() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        insertTuples(space);
+
+        TarantoolResult<TarantoolTuple> found =
+            space.get(Conditions.indexEquals(PK_INDEX_NAME, Collections.singletonList(3))).join();
+        assertEquals(1, found.size());
+        assertEquals("FIO3", found.get(0).getString("fio"));
+        assertEquals(23, found.get(0).getInteger("age"));
+
+        assertTrue(space.get(Conditions.indexEquals(PK_INDEX_NAME, Collections.singletonList(11))).join().isEmpty());
+    }
+
+    @Test
+    public void test_get_shouldPassOptionsToCrud() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        insertTuples(space);
+
+        TarantoolResult<TarantoolTuple> found = space.get(
+            Conditions.indexEquals(PK_INDEX_NAME, Collections.singletonList(3)),
+            ProxyGetOptions.create().withFields(Arrays.asList("profile_id", "fio")).withTimeout(2000)).join();
+
+        assertEquals(1, found.size());
+        assertEquals(2, found.get(0).size());
+        assertEquals(3, found.get(0).getInteger(0));
+        assertEquals("FIO3", found.get(0).getString(1));
+        assertEquals(2000, crudOptions("get").get("timeout"));
+    }
+
+    @Test
+    public void test_count_shouldCountTuplesOnStorages() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        assertEquals(0, space.count(Conditions.any()).join());
+        insertTuples(space);
+
+        assertEquals(10, space.count(Conditions.any()).join());
+        assertEquals(3, space.count(Conditions.indexGreaterThan(PK_INDEX_NAME, Collections.singletonList(7))).join());
+        assertEquals(2, space.count(Conditions.indexGreaterThan(PK_INDEX_NAME, Collections.singletonList(7))
+            .andLessOrEquals("age", 29)).join());
+        assertEquals(10, space.count(Conditions.any(), ProxyCountOptions.create().withTimeout(2000)).join());
+        assertEquals(2000, crudOptions("count").get("timeout"));
+    }
+
+    @Test
+    public void test_len_shouldReturnNumberOfTuples() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        assertEquals(0, space.len().join());
+        insertTuples(space);
+
+        assertEquals(10, space.len().join());
+        assertEquals(10, space.len(ProxyLenOptions.create().withTimeout(2000)).join());
+        assertEquals(2000, crudOptions("len").get("timeout"));
+    }
+
+    @Test
+    public void test_minMax_shouldReturnTuplesWithBoundaryIndexKeys() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        assertTrue(space.min(PK_INDEX_NAME).join().isEmpty());
+        assertTrue(space.max(PK_INDEX_NAME).join().isEmpty());
+        insertTuples(space);
+
+        TarantoolResult<TarantoolTuple> min = space.min(PK_INDEX_NAME).join();
+        assertEquals(1, min.size());
+        assertEquals(1, min.get(0).getInteger("profile_id"));
+        TarantoolResult<TarantoolTuple> max = space.max(PK_INDEX_NAME).join();
+        assertEquals(1, max.size());
+        assertEquals(10, max.get(0).getInteger("profile_id"));
+
+        max = space.max(PK_INDEX_NAME,
+            ProxyMinMaxOptions.create().withFields(Arrays.asList("profile_id", "age")).withTimeout(2000)).join();
+        assertEquals(1, max.size());
+        assertEquals(2, max.get(0).size());
+        assertEquals(30, max.get(0).getInteger(1));
+        assertEquals(2000, crudOptions("max").get("timeout"));
+    }
+}
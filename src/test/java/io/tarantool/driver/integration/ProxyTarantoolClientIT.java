@@ -28,6 +28,9 @@ import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolClusterAddressProvider;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.columnar.LongColumn;
+import io.tarantool.driver.api.columnar.StringColumn;
+import io.tarantool.driver.api.columnar.TarantoolColumnarResult;
 import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.api.connection.TarantoolConnection;
 import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
@@ -279,6 +282,31 @@ public class ProxyTarantoolClientIT extends SharedCartridgeContainer {
         assertEquals(tuple.getInteger(4), 100);
     }
 
+    @Test
+    public void test_selectColumnar_shouldReturnColumnsOfSpaceFields() {
+        truncateSpace(TEST_SPACE_NAME);
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+            client.space(TEST_SPACE_NAME);
+        for (int i = 1; i <= 10; i++) {
+            profileSpace.insert(tupleFactory.create(i, null, "FIO" + i % 3, 50 + i, i % 2 == 0 ? null : i)).join();
+        }
+
+        TarantoolColumnarResult result = profileSpace
+            .selectColumnar(Conditions.greaterThan("profile_id", 5)).join();
+
+        assertEquals(5, result.size());
+        LongColumn ids = result.getColumn("profile_id", LongColumn.class);
+        StringColumn names = result.getColumn("fio", StringColumn.class);
+        LongColumn balances = result.getColumn("balance", LongColumn.class);
+        for (int row = 0; row < result.size(); row++) {
+            long id = ids.get(row);
+            assertTrue(id > 5);
+            assertEquals("FIO" + id % 3, names.get(row));
+            assertEquals(id % 2 == 0, balances.isNull(row));
+        }
+        assertEquals(3, names.getDictionary().length);
+    }
+
     @Test
     public void test_insertMany_replaceMany() throws ExecutionException, InterruptedException {
         truncateSpace(TEST_SPACE_NAME);
@@ -0,0 +1,164 @@
+package io.tarantool.driver.integration;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClusterAddressProvider;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
+import io.tarantool.driver.auth.SimpleTarantoolCredentials;
+import io.tarantool.driver.auth.TarantoolCredentials;
+import io.tarantool.driver.cluster.BinaryClusterDiscoveryEndpoint;
+import io.tarantool.driver.cluster.BinaryDiscoveryClusterAddressProvider;
+import io.tarantool.driver.cluster.TarantoolClusterDiscoveryConfig;
+import io.tarantool.driver.cluster.TestWrappedClusterAddressProvider;
+import io.tarantool.driver.core.ClusterTarantoolTupleClient;
+import io.tarantool.driver.core.ProxyTarantoolTupleClient;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the single tuple writes collected into the batch proxy calls by the client
+ */
+public class ProxyWriteBatchingIT extends SharedCartridgeContainer {
+
+    private static final int DEFAULT_TIMEOUT = 5 * 1000;
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final int MAX_BATCH_DELAY = 100;
+    private static final String TEST_SPACE_NAME = "test__profile";
+
+    private static final TarantoolTupleFactory tupleFactory =
+        new DefaultTarantoolTupleFactory(DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
+
+    private static TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
+
+    public static String USER_NAME;
+    public static String PASSWORD;
+
+    @BeforeAll
+    public static void setUp() {
+        startCluster();
+        USER_NAME = container.getUsername();
+        PASSWORD = container.getPassword();
+        initClient();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        client.close();
+    }
+
+    @BeforeEach
+    public void truncateSpace() {
+        client.space(TEST_SPACE_NAME).truncate().join();
+    }
+
+    private static TarantoolClusterAddressProvider getClusterAddressProvider() {
+        TarantoolCredentials credentials = new SimpleTarantoolCredentials(USER_NAME, PASSWORD);
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withCredentials(credentials)
+            .withReadTimeout(DEFAULT_TIMEOUT)
+            .withConnectTimeout(DEFAULT_TIMEOUT)
+            .build();
+
+        BinaryClusterDiscoveryEndpoint endpoint = new BinaryClusterDiscoveryEndpoint.Builder()
+            .withClientConfig(config)
+            .withEntryFunction("get_routers")
+            .withEndpointProvider(() -> Collections.singletonList(
+                new TarantoolServerAddress(container.getRouterHost(), container.getRouterPort())))
+            .build();
+
+        TarantoolClusterDiscoveryConfig clusterDiscoveryConfig = new TarantoolClusterDiscoveryConfig.Builder()
+            .withEndpoint(endpoint)
+            .withDelay(1)
+            .build();
+
+        return new TestWrappedClusterAddressProvider(
+            new BinaryDiscoveryClusterAddressProvider(clusterDiscoveryConfig),
+            container);
+    }
+
+    private static void initClient() {
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+            .withCredentials(new SimpleTarantoolCredentials(USER_NAME, PASSWORD))
+            .withConnectTimeout(DEFAULT_TIMEOUT)
+            .withReadTimeout(DEFAULT_TIMEOUT)
+            .withRequestTimeout(DEFAULT_TIMEOUT)
+            .withAutoBatching(MAX_BATCH_SIZE, MAX_BATCH_DELAY)
+            .build();
+
+        client = new ProxyTarantoolTupleClient(new ClusterTarantoolTupleClient(config, getClusterAddressProvider()));
+    }
+
+    @Test
+    public void test_insert_shouldReturnOwnResultOrError_forEachTupleOfFlushedBatch() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        for (int id = 1; id <= MAX_BATCH_SIZE; id++) {
+            space.insert(tupleFactory.create(id, null, "FIO", 50, 100)).get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+
+        // the batch size is reached, so the batch is sent without waiting for the delay,
+        // and the first half of the tuples already exists
+        List<CompletableFuture<TarantoolResult<TarantoolTuple>>> results = new ArrayList<>();
+        for (int id = MAX_BATCH_SIZE / 2 + 1; id < MAX_BATCH_SIZE / 2 + 1 + MAX_BATCH_SIZE; id++) {
+            results.add(space.insert(tupleFactory.create(id, null, "FIO" + id, id, 100)));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            int id = MAX_BATCH_SIZE / 2 + 1 + i;
+            if (id <= MAX_BATCH_SIZE) {
+                CompletableFuture<TarantoolResult<TarantoolTuple>> result = results.get(i);
+                ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> result.get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+                assertTrue(e.getCause().getMessage().contains("Duplicate key exists"), e.getCause().getMessage());
+            } else {
+                TarantoolResult<TarantoolTuple> inserted =
+                    results.get(i).get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+                assertEquals(1, inserted.size());
+                assertEquals(id, inserted.get(0).getInteger(0));
+                assertEquals("FIO" + id, inserted.get(0).getString(2));
+                assertEquals(id, inserted.get(0).getInteger(3));
+            }
+        }
+        assertEquals(MAX_BATCH_SIZE + MAX_BATCH_SIZE / 2, space.select(Conditions.any()).join().size());
+    }
+
+    @Test
+    public void test_replace_shouldReturnOwnResultOrError_forEachTupleOfDelayedBatch() throws Exception {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        space.insert(tupleFactory.create(1, null, "FIO", 50, 100)).join();
+
+        CompletableFuture<TarantoolResult<TarantoolTuple>> replaced =
+            space.replace(tupleFactory.create(1, null, "FIO", 51, 100));
+        CompletableFuture<TarantoolResult<TarantoolTuple>> inserted =
+            space.replace(tupleFactory.create(2, null, "FIO", 52, 100));
+        // the field type doesn't match the space format
+        CompletableFuture<TarantoolResult<TarantoolTuple>> invalid =
+            space.replace(tupleFactory.create(3, null, "FIO", "invalid", 100));
+
+        assertEquals(51, replaced.get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS).get(0).getInteger(3));
+        assertEquals(52, inserted.get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS).get(0).getInteger(3));
+        assertThrows(ExecutionException.class, () -> invalid.get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+        assertEquals(2, space.select(Conditions.any()).join().size());
+    }
+}
@@ -0,0 +1,105 @@
+package io.tarantool.driver.integration;
+
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the get, count, len, min and max operations of the standalone server spaces
+ */
+@Testcontainers
+public class SpaceReadOperationsIT extends SharedTarantoolContainer {
+
+    private static final String TEST_SPACE_NAME = "read_operations_test_space";
+
+    private static final DefaultMessagePackMapperFactory mapperFactory = DefaultMessagePackMapperFactory.getInstance();
+
+    @BeforeAll
+    public static void setUp() {
+        startContainer();
+        initClient();
+    }
+
+    @BeforeEach
+    public void truncateSpace() {
+        client.space(TEST_SPACE_NAME).truncate().join();
+    }
+
+    private static void insertTuples(TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space) {
+        for (int id = 1; id <= 10; id++) {
+            // the years go in reverse order of the ids
+            space.insert(new TarantoolTupleImpl(Arrays.asList(id, "name" + id, 2010 - id),
+                mapperFactory.defaultComplexTypesMapper())).join();
+        }
+    }
+
+    @Test
+    public void test_get_shouldReturnTupleByPrimaryKey() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        insertTuples(space);
+
+        TarantoolResult<TarantoolTuple> found =
+            space.get(Conditions.indexEquals("primary", Collections.singletonList(3))).join();
+        assertEquals(1, found.size());
+        assertEquals("name3", found.get(0).getString("name"));
+        assertEquals(2007, found.get(0).getInteger("year"));
+
+        assertTrue(space.get(Conditions.indexEquals("primary", Collections.singletonList(11))).join().isEmpty());
+    }
+
+    @Test
+    public void test_count_shouldCountTuplesOnServer() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        assertEquals(0, space.count(Conditions.any()).join());
+        insertTuples(space);
+
+        assertEquals(10, space.count(Conditions.any()).join());
+        assertEquals(3, space.count(Conditions.indexGreaterThan("primary", Collections.singletonList(7))).join());
+        assertEquals(1, space.count(Conditions.indexEquals("primary", Collections.singletonList(7))).join());
+        assertEquals(4, space.count(Conditions.indexLessOrEquals("year", Collections.singletonList(2003))).join());
+    }
+
+    @Test
+    public void test_len_shouldReturnNumberOfTuples() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        assertEquals(0, space.len().join());
+        insertTuples(space);
+
+        assertEquals(10, space.len().join());
+    }
+
+    @Test
+    public void test_minMax_shouldReturnTuplesWithBoundaryIndexKeys() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+            client.space(TEST_SPACE_NAME);
+        assertTrue(space.min("primary").join().isEmpty());
+        assertTrue(space.max("primary").join().isEmpty());
+        insertTuples(space);
+
+        TarantoolResult<TarantoolTuple> min = space.min("primary").join();
+        assertEquals(1, min.size());
+        assertEquals(1, min.get(0).getInteger("id"));
+        TarantoolResult<TarantoolTuple> max = space.max("primary").join();
+        assertEquals(1, max.size());
+        assertEquals(10, max.get(0).getInteger("id"));
+
+        assertEquals(10, space.min("year").join().get(0).getInteger("id"));
+        assertEquals(1, space.max("year").join().get(0).getInteger("id"));
+    }
+}
@@ -0,0 +1,159 @@
+package io.tarantool.driver.integration.proxy.options;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.options.ProxyUpsertManyOptions;
+import io.tarantool.driver.api.space.options.crud.enums.RollbackOnError;
+import io.tarantool.driver.api.space.options.crud.enums.StopOnError;
+import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
+import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.auth.SimpleTarantoolCredentials;
+import io.tarantool.driver.core.ClusterTarantoolTupleClient;
+import io.tarantool.driver.core.ProxyTarantoolTupleClient;
+import io.tarantool.driver.integration.SharedCartridgeContainer;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ProxySpaceUpsertManyOptionsIT extends SharedCartridgeContainer {
+
+    private static final DefaultMessagePackMapperFactory mapperFactory = DefaultMessagePackMapperFactory.getInstance();
+    private static final TarantoolTupleFactory tupleFactory =
+        new DefaultTarantoolTupleFactory(mapperFactory.defaultComplexTypesMapper());
+    private static final String TEST_SPACE_NAME = "test__profile";
+    public static String USER_NAME;
+    public static String PASSWORD;
+    private static TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        startCluster();
+        USER_NAME = container.getUsername();
+        PASSWORD = container.getPassword();
+        initClient();
+    }
+
+    private static void initClient() {
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withCredentials(new SimpleTarantoolCredentials(USER_NAME, PASSWORD))
+            .withConnectTimeout(1000)
+            .withReadTimeout(1000)
+            .build();
+
+        ClusterTarantoolTupleClient clusterClient = new ClusterTarantoolTupleClient(
+            config, container.getRouterHost(), container.getRouterPort());
+        client = new ProxyTarantoolTupleClient(clusterClient);
+    }
+
+    private static void truncateSpace(String spaceName) {
+        client.space(spaceName).truncate().join();
+    }
+
+    @BeforeEach
+    public void truncateSpace() {
+        truncateSpace(TEST_SPACE_NAME);
+    }
+
+    @Test
+    public void upsertMany_shouldInsertNewTuplesAndUpdateExisting() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+            client.space(TEST_SPACE_NAME);
+        profileSpace.insert(tupleFactory.create(1, null, "FIO", 50, 100)).get();
+
+        List<TarantoolTuple> tarantoolTuples = Arrays.asList(
+            tupleFactory.create(1, null, "FIO", 10, 100),
+            tupleFactory.create(2, null, "KEK", 75, 125)
+        );
+        profileSpace.upsertMany(tarantoolTuples, tuple -> TupleOperations.add("age", 1)).get();
+
+        TarantoolResult<TarantoolTuple> tuples = profileSpace.select(Conditions.any()).get();
+        tuples.sort(Comparator.comparing(tuple -> tuple.getInteger(0)));
+        assertEquals(2, tuples.size());
+        // the existing tuple is updated, the new one is inserted as is
+        assertEquals(51, tuples.get(0).getInteger("age"));
+        assertEquals(75, tuples.get(1).getInteger("age"));
+        assertEquals("KEK", tuples.get(1).getString("fio"));
+    }
+
+    @Test
+    public void withStopOnError_withRollbackOnError() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+            client.space(TEST_SPACE_NAME);
+
+        List<TarantoolTuple> tarantoolTuples = Arrays.asList(
+            tupleFactory.create(1, null, "FIO", 50, 100),
+            tupleFactory.create(2, null, "KEK", 75, 125)
+        );
+
+        // with default values, which differ from the crud defaults
+        profileSpace.upsertMany(tarantoolTuples, tuple -> TupleOperations.add("age", 1)).get();
+        List<?> crudUpsertManyOpts = client.eval("return crud_upsert_many_opts").get();
+        assertEquals(true, ((HashMap<?, ?>) crudUpsertManyOpts.get(0)).get("rollback_on_error"));
+        assertEquals(true, ((HashMap<?, ?>) crudUpsertManyOpts.get(0)).get("stop_on_error"));
+
+        // with custom values
+        profileSpace.upsertMany(
+            tarantoolTuples,
+            tuple -> TupleOperations.add("age", 1),
+            ProxyUpsertManyOptions.create()
+                .withRollbackOnError(RollbackOnError.FALSE)
+                .withStopOnError(StopOnError.FALSE)
+        ).get();
+        crudUpsertManyOpts = client.eval("return crud_upsert_many_opts").get();
+        assertEquals(false, ((HashMap<?, ?>) crudUpsertManyOpts.get(0)).get("rollback_on_error"));
+        assertEquals(false, ((HashMap<?, ?>) crudUpsertManyOpts.get(0)).get("stop_on_error"));
+    }
+
+    @Test
+    public void withTimeout() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+            client.space(TEST_SPACE_NAME);
+
+        int customRequestTimeout = client.getConfig().getRequestTimeout() * 2;
+        List<TarantoolTuple> tarantoolTuples = Arrays.asList(
+            tupleFactory.create(1, null, "FIO", 50, 100),
+            tupleFactory.create(2, null, "KEK", 75, 125)
+        );
+
+        // with config timeout
+        profileSpace.upsertMany(tarantoolTuples, tuple -> TupleOperations.add("age", 1)).get();
+        List<?> crudUpsertManyOpts = client.eval("return crud_upsert_many_opts").get();
+        assertNull(((HashMap<?, ?>) crudUpsertManyOpts.get(0)).get("timeout"));
+
+        // with option timeout
+        profileSpace.upsertMany(tarantoolTuples, tuple -> TupleOperations.add("age", 1),
+            ProxyUpsertManyOptions.create().withTimeout(customRequestTimeout)).get();
+        crudUpsertManyOpts = client.eval("return crud_upsert_many_opts").get();
+        assertEquals(customRequestTimeout, ((HashMap<?, ?>) crudUpsertManyOpts.get(0)).get("timeout"));
+    }
+
+    @Test
+    public void upsertMany_shouldFail_ifTupleDoesNotMatchFormat() {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> profileSpace =
+            client.space(TEST_SPACE_NAME);
+
+        List<TarantoolTuple> tarantoolTuples = Arrays.asList(
+            tupleFactory.create(1, null, "FIO", 50, 100),
+            tupleFactory.create(2, null, "KEK", "invalid", 125)
+        );
+
+        assertThrows(ExecutionException.class,
+            () -> profileSpace.upsertMany(tarantoolTuples, tuple -> TupleOperations.add("age", 1)).get());
+    }
+}
@@ -1,5 +1,6 @@
 package io.tarantool.driver.mappers;
 
+import io.tarantool.driver.mappers.converters.DecimalCodec;
 import io.tarantool.driver.mappers.converters.object.DefaultBigDecimalToExtensionValueConverter;
 import io.tarantool.driver.mappers.converters.value.defaults.DefaultExtensionValueToBigDecimalConverter;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import java.util.Base64;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultBigDecimalConverterTest {
@@ -97,6 +99,51 @@ class DefaultBigDecimalConverterTest {
         assertEquals(new BigDecimal("-111111111111.1111111111111"), converter.fromValue(value));
     }
 
+    @Test
+    void test_toValue_shouldRoundTrip_forLongAndBigIntegerValues() {
+        DefaultBigDecimalToExtensionValueConverter toConverter = new DefaultBigDecimalToExtensionValueConverter();
+        DefaultExtensionValueToBigDecimalConverter fromConverter = new DefaultExtensionValueToBigDecimalConverter();
+        String[] numbers = {
+            "7", "-7", "10", "123456789012345678", "-999999999999999999", "1000000000000000000",
+            "9223372036854775807", "-9223372036854775808", "100000000000000000000000000000000000",
+            "12345678901234567890123456789012345678", "-99999999999999999999999999999999999999",
+            "0.000000000000000000000000000000000001", "-1234.5678", "1E+10", "-5E-38"
+        };
+        for (String number : numbers) {
+            BigDecimal decimal = new BigDecimal(number);
+            ExtensionValue value = toConverter.toValue(decimal);
+            assertEquals(decimal, fromConverter.fromValue(value), number);
+            assertEquals(
+                decimal.unscaledValue().abs().toString().length() / 2 + (decimal.scale() < -32 ? 3 : 2),
+                value.getData().length, number);
+        }
+    }
+
+    @Test
+    void test_toValue_shouldRoundTripZero_withScale() throws IOException {
+        DefaultBigDecimalToExtensionValueConverter toConverter = new DefaultBigDecimalToExtensionValueConverter();
+        DefaultExtensionValueToBigDecimalConverter fromConverter = new DefaultExtensionValueToBigDecimalConverter();
+        String[] numbers = {"0", "0.00", "0E-9", "0E-38", "0E+12", "0E+38"};
+        for (String number : numbers) {
+            BigDecimal decimal = new BigDecimal(number);
+            BigDecimal result = fromConverter.fromValue(toConverter.toValue(decimal));
+            assertEquals(decimal, result, number);
+            assertEquals(decimal.scale(), result.scale(), number);
+            byte[] payload = DecimalCodec.encode(decimal);
+            assertEquals(decimal, DecimalCodec.decode(payload, 0, payload.length), number);
+        }
+    }
+
+    @Test
+    void test_decode_shouldReadPayload_withOffset() throws IOException {
+        byte[] payload = DecimalCodec.encode(new BigDecimal("-123456789012345678901.5"));
+        byte[] data = new byte[payload.length + 4];
+        System.arraycopy(payload, 0, data, 2, payload.length);
+        assertEquals(new BigDecimal("-123456789012345678901.5"), DecimalCodec.decode(data, 2, payload.length));
+        assertThrows(IOException.class, () -> DecimalCodec.decode(new byte[]{0x00, (byte) 0xAC}, 0, 2));
+        assertThrows(IOException.class, () -> DecimalCodec.decode(new byte[]{0x00}, 0, 1));
+    }
+
     @Test
     void canConvertValue() {
         DefaultExtensionValueToBigDecimalConverter converter = new DefaultExtensionValueToBigDecimalConverter();
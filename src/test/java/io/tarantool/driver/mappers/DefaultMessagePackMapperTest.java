@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.msgpack.core.MessageTypeCastException;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.MapValue;
+import org.msgpack.value.StringValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 import org.msgpack.value.ValueType;
@@ -227,6 +228,26 @@ class DefaultMessagePackMapperTest {
         assertEquals(testValue, mapper.toValue(testTuple).asMapValue().map());
     }
 
+    @Test
+    void test_registerConverters_shouldInvalidateResolvedConverters() {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        List<Integer> list = Arrays.asList(1, 2);
+        ArrayValue expectedList = ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newInteger(2));
+        assertEquals(expectedList, mapper.toValue(list));
+        assertEquals(expectedList, mapper.toValue(list));
+        assertThrows(MessagePackValueMapperException.class,
+            () -> mapper.fromValue(ValueFactory.newString("1"), Integer.class));
+
+        StringValue customValue = ValueFactory.newString("custom");
+        mapper.registerObjectConverter(list.getClass(), StringValue.class, l -> customValue);
+        mapper.registerValueConverter(ValueType.STRING, Integer.class,
+            (ValueConverter<StringValue, Integer>) v -> Integer.valueOf(v.asString()));
+
+        assertEquals(customValue, mapper.toValue(list));
+        assertEquals(1, mapper.fromValue(ValueFactory.newString("1"), Integer.class));
+        assertEquals("1", mapper.fromValue(ValueFactory.newString("1"), String.class));
+    }
+
     @Test
     void test_defaultMessagePackMapperCopy_shouldWorkFine() throws MessagePackValueMapperException,
         NoSuchFieldException, IllegalAccessException {
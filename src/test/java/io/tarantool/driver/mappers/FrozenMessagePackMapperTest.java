@@ -0,0 +1,125 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.CustomTuple;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.StringValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrozenMessagePackMapperTest {
+
+    private static final DefaultMessagePackMapperFactory mapperFactory = DefaultMessagePackMapperFactory.getInstance();
+
+    @Test
+    void test_frozenMapper_shouldConvertLikeSourceMapper() {
+        DefaultMessagePackMapper source = mapperFactory.defaultComplexTypesMapper();
+        FrozenMessagePackMapper mapper = source.freeze();
+
+        assertEquals(ValueFactory.newInteger(111), mapper.toValue(111));
+        assertEquals(ValueFactory.newString("hello"), mapper.toValue("hello"));
+        assertEquals(ValueFactory.newNil(), mapper.toValue(null));
+        Value expectedList = source.toValue(Arrays.asList(1, "a"));
+        assertEquals(expectedList, mapper.toValue(Arrays.asList(1, "a")));
+        Value expectedMap = source.toValue(Collections.singletonMap("a", 1));
+        assertEquals(expectedMap, mapper.toValue(Collections.singletonMap("a", 1)));
+        assertEquals(BigDecimal.ONE, mapper.fromValue(mapper.toValue(BigDecimal.ONE)));
+
+        assertEquals(Integer.valueOf(111), mapper.fromValue(ValueFactory.newInteger(111)));
+        assertEquals(Long.valueOf(111L), mapper.fromValue(ValueFactory.newInteger(111), Long.class));
+        assertEquals(Double.valueOf(111.0D), mapper.fromValue(ValueFactory.newInteger(111L), Double.class));
+        assertNull(mapper.fromValue(ValueFactory.newNil()));
+        List<Object> list = mapper.fromValue(ValueFactory.newArray(ValueFactory.newInteger(1)));
+        assertEquals(Collections.singletonList(1), list);
+        assertTrue(mapper.getValueConverter(ValueType.STRING, String.class).isPresent());
+        assertTrue(mapper.getObjectConverter(String.class, StringValue.class).isPresent());
+
+        assertThrows(MessagePackValueMapperException.class,
+            () -> mapper.fromValue(ValueFactory.newString("1"), CustomTuple.class));
+        assertThrows(MessagePackObjectMapperException.class, () -> mapper.toValue(new CustomTuple(1, "a")));
+    }
+
+    @Test
+    void test_frozenMapper_shouldNotBeAffectedBySourceMapperChanges() {
+        DefaultMessagePackMapper source = mapperFactory.defaultSimpleTypeMapper();
+        FrozenMessagePackMapper mapper = source.freeze();
+        CustomTuple tuple = new CustomTuple(1, "a");
+
+        source.registerObjectConverter(CustomTuple.class, MapValue.class, t -> ValueFactory.emptyMap());
+
+        assertEquals(ValueFactory.emptyMap(), source.toValue(tuple));
+        assertThrows(MessagePackObjectMapperException.class, () -> mapper.toValue(tuple));
+    }
+
+    @Test
+    void test_frozenMapper_shouldConvertNestedValues_withFrozenConverters() {
+        DefaultMessagePackMapper source = mapperFactory.defaultComplexTypesMapper();
+        FrozenMessagePackMapper mapper = source.freeze();
+
+        source.registerObjectConverter(Integer.class, StringValue.class, i -> ValueFactory.newString("changed"));
+        source.registerValueConverter(ValueType.INTEGER, String.class, (ValueConverter<Value, String>) v -> "changed");
+
+        assertEquals(ValueFactory.newArray(ValueFactory.newString("changed")), source.toValue(Arrays.asList(1)));
+        assertEquals(ValueFactory.newArray(ValueFactory.newInteger(1)), mapper.toValue(Arrays.asList(1)));
+        assertEquals(ValueFactory.newMap(ValueFactory.newString("a"), ValueFactory.newInteger(1)),
+            mapper.toValue(Collections.singletonMap("a", 1)));
+        List<Object> list = mapper.fromValue(ValueFactory.newArray(ValueFactory.newInteger(1)));
+        assertEquals(Collections.singletonList(1), list);
+        Map<Object, Object> map = mapper.fromValue(
+            ValueFactory.newMap(ValueFactory.newString("a"), ValueFactory.newInteger(1)));
+        assertEquals(Collections.singletonMap("a", 1), map);
+    }
+
+    @Test
+    void test_frozenMapper_shouldNotAllowRegistration() {
+        FrozenMessagePackMapper mapper = mapperFactory.defaultFrozenMapper();
+
+        assertThrows(UnsupportedOperationException.class, () -> mapper.registerValueConverter(
+            ValueType.MAP, CustomTuple.class, (ValueConverter<MapValue, CustomTuple>) v -> null));
+        assertThrows(UnsupportedOperationException.class, () -> mapper.registerObjectConverter(
+            CustomTuple.class, MapValue.class, t -> ValueFactory.emptyMap()));
+    }
+
+    @Test
+    void test_frozenMapperCopy_shouldBeModifiable() {
+        FrozenMessagePackMapper mapper = mapperFactory.defaultFrozenMapper();
+        assertSame(mapper, mapperFactory.defaultFrozenMapper());
+
+        MessagePackMapper copy = mapper.copy();
+        CustomTuple tuple = new CustomTuple(1, "a");
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", 1);
+        copy.registerObjectConverter(CustomTuple.class, MapValue.class, t -> copy.toValue(map));
+
+        Value expected = mapper.toValue(map);
+        assertEquals(expected, copy.toValue(tuple));
+        assertThrows(MessagePackObjectMapperException.class, () -> mapper.toValue(tuple));
+    }
+
+    @Test
+    void test_builder_shouldBuildFrozenMapper() {
+        FrozenMessagePackMapper mapper = new DefaultMessagePackMapper.Builder()
+            .withDefaultListObjectConverter()
+            .withDefaultArrayValueConverter()
+            .buildFrozen();
+
+        assertEquals(ValueFactory.emptyArray(), mapper.toValue(Collections.emptyList()));
+        assertEquals(Collections.emptyList(), mapper.fromValue(ValueFactory.emptyArray()));
+    }
+}
@@ -9,12 +9,14 @@ import io.tarantool.driver.exceptions.TarantoolFunctionCallException;
 import io.tarantool.driver.exceptions.TarantoolInternalException;
 import io.tarantool.driver.exceptions.TarantoolTupleConversionException;
 import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactoryImpl;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.ValueFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -185,4 +187,34 @@ public class TarantoolCallResultMapperTest {
         assertEquals(5678, tuples.get(1).getInteger(1));
         assertEquals(nestedList2, tuples.get(1).getList(2));
     }
+
+    @Test
+    void test_rowConsumerResultMapper_shouldPassTuplesToConsumer() {
+        CallResultMapper<Long, SingleValueCallResult<Long>> mapper = new ResultMapperFactoryFactoryImpl()
+            .rowConsumerResultMapper(defaultMapper, TarantoolTuple.class, (TarantoolTuple tuple) -> { });
+        ArrayValue testTuples = ValueFactory.newArray(
+            tupleOne.toMessagePackValue(defaultMapper), tupleTwo.toMessagePackValue(defaultMapper));
+
+        SingleValueCallResult<Long> result = mapper.fromValue(ValueFactory.newArray(testTuples));
+        assertEquals(2L, result.value());
+
+        //[{metadata: [...], rows: [...]}]
+        List<TarantoolTuple> consumed = new ArrayList<>();
+        mapper = new ResultMapperFactoryFactoryImpl()
+            .rowConsumerResultMapper(defaultMapper, TarantoolTuple.class, consumed::add);
+        MapValue crudResult = ValueFactory.newMap(
+            ValueFactory.newString("metadata"), ValueFactory.newArray(
+                ValueFactory.newMap(ValueFactory.newString("name"), ValueFactory.newString("name"),
+                    ValueFactory.newString("type"), ValueFactory.newString("string")),
+                ValueFactory.newMap(ValueFactory.newString("name"), ValueFactory.newString("number"),
+                    ValueFactory.newString("type"), ValueFactory.newString("unsigned"))),
+            ValueFactory.newString("rows"), testTuples);
+
+        result = mapper.fromValue(ValueFactory.newArray(crudResult));
+        assertEquals(2L, result.value());
+        assertEquals(2, consumed.size());
+        assertEquals("abc", consumed.get(0).getString("name"));
+        assertEquals(5678, consumed.get(1).getInteger("number"));
+        assertEquals(nestedList2, consumed.get(1).getList(2));
+    }
 }
@@ -0,0 +1,198 @@
+package io.tarantool.driver.mappers.pojo;
+
+import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.core.metadata.CRUDResponseToTarantoolSpaceMetadataConverter;
+import io.tarantool.driver.mappers.CallResultMapper;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactoryImpl;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PojoConverterTest {
+
+    private static final MessagePackMapper mapper =
+        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private static final UUID uuid = UUID.randomUUID();
+
+    public static class BaseBook {
+        private long id;
+    }
+
+    public static class Book extends BaseBook {
+        private static final String IGNORED = "ignored";
+        private String name;
+        private Integer year;
+        private double rating;
+        private boolean available;
+        private byte[] cover;
+        private UUID uuid;
+        private transient String cached;
+    }
+
+    public static class BookWithFinalField {
+        private final long id = 0;
+    }
+
+    private static MapValue field(String name, String type) {
+        return ValueFactory.newMap(
+            ValueFactory.newString("name"), ValueFactory.newString(name),
+            ValueFactory.newString("type"), ValueFactory.newString(type),
+            ValueFactory.newString("is_nullable"), ValueFactory.newBoolean(true));
+    }
+
+    private static ArrayValue bookTuple() {
+        return ValueFactory.newArray(
+            ValueFactory.newInteger(1),
+            ValueFactory.newString("Book 1"),
+            ValueFactory.newInteger(1984),
+            ValueFactory.newFloat(4.5),
+            ValueFactory.newBoolean(true),
+            ValueFactory.newBinary(new byte[]{1, 2, 3}),
+            mapper.toValue(uuid)
+        );
+    }
+
+    private static void assertBook(Book book) {
+        assertEquals(1, ((BaseBook) book).id);
+        assertEquals("Book 1", book.name);
+        assertEquals(1984, book.year);
+        assertEquals(4.5, book.rating);
+        assertEquals(true, book.available);
+        assertArrayEquals(new byte[]{1, 2, 3}, book.cover);
+        assertEquals(uuid, book.uuid);
+        assertNull(book.cached);
+    }
+
+    @Test
+    public void test_fromValue_shouldMapFieldsByPosition() {
+        PojoConverter<Book> converter = PojoConverter.of(Book.class, mapper);
+
+        assertBook(converter.fromValue(bookTuple()));
+    }
+
+    @Test
+    public void test_fromValue_shouldKeepDefaults_ifFieldIsNilOrMissing() {
+        PojoConverter<Book> converter = PojoConverter.of(Book.class, mapper);
+
+        Book book = converter.fromValue(ValueFactory.newArray(ValueFactory.newNil(), ValueFactory.newNil()));
+
+        assertEquals(0, ((BaseBook) book).id);
+        assertNull(book.name);
+        assertNull(book.year);
+    }
+
+    @Test
+    public void test_fromMessagePack_shouldReadFieldsFromUnpacker() throws IOException {
+        PojoConverter<Book> converter = PojoConverter.of(Book.class, mapper);
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(bookTuple());
+
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packer.toByteArray());
+
+        assertBook(converter.fromMessagePack(unpacker));
+    }
+
+    @Test
+    public void test_fromValue_shouldReadRawBytes_ifTupleIsLazy() throws IOException {
+        PojoConverter<Book> converter = PojoConverter.of(Book.class, mapper);
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(bookTuple());
+
+        assertBook(converter.fromValue(LazyArrayValue.of(packer.toByteArray())));
+    }
+
+    @Test
+    public void test_toMessagePack_shouldWriteSameTupleAsToValue() throws IOException {
+        PojoConverter<Book> converter = PojoConverter.of(Book.class, mapper);
+        Book book = converter.fromValue(bookTuple());
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+
+        converter.toMessagePack(book, packer);
+
+        ArrayValue packed = MessagePack.newDefaultUnpacker(packer.toByteArray()).unpackValue().asArrayValue();
+        assertEquals(bookTuple(), packed);
+        assertEquals(bookTuple(), converter.toValue(book));
+    }
+
+    @Test
+    public void test_of_shouldMapFieldsByName_ifSpaceMetadataIsPassed() throws IOException {
+        TarantoolSpaceMetadata spaceMetadata = CRUDResponseToTarantoolSpaceMetadataConverter.getInstance()
+            .fromValue(ValueFactory.newArray(
+                field("id", "unsigned"),
+                field("bucket_id", "unsigned"),
+                field("year", "unsigned"),
+                field("name", "string")
+            ));
+        PojoConverter<Book> converter = PojoConverter.of(Book.class, mapper, spaceMetadata);
+        ArrayValue tuple = ValueFactory.newArray(
+            ValueFactory.newInteger(1),
+            ValueFactory.newInteger(100),
+            ValueFactory.newInteger(1984),
+            ValueFactory.newString("Book 1"));
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(tuple);
+
+        Book book = converter.fromMessagePack(MessagePack.newDefaultUnpacker(packer.toByteArray()));
+
+        assertEquals(1, ((BaseBook) book).id);
+        assertEquals(1984, book.year);
+        assertEquals("Book 1", book.name);
+        assertEquals(ValueFactory.newArray(
+            ValueFactory.newInteger(1),
+            ValueFactory.newNil(),
+            ValueFactory.newInteger(1984),
+            ValueFactory.newString("Book 1")), converter.toValue(book));
+    }
+
+    @Test
+    public void test_of_shouldThrowException_ifClassHasFinalFields() {
+        assertThrows(IllegalArgumentException.class, () -> PojoConverter.of(BookWithFinalField.class, mapper));
+    }
+
+    @Test
+    public void test_pojoResultMapper_shouldMapCallResult() {
+        CallResultMapper<TarantoolResult<Book>, SingleValueCallResult<TarantoolResult<Book>>> resultMapper =
+            new ResultMapperFactoryFactoryImpl().pojoResultMapper(mapper, Book.class);
+
+        SingleValueCallResult<TarantoolResult<Book>> callResult = resultMapper.fromValue(
+            ValueFactory.newArray(ValueFactory.newArray(bookTuple(), bookTuple())));
+        TarantoolResult<Book> result = callResult.value();
+
+        assertEquals(2, result.size());
+        assertBook(result.get(0));
+        assertBook(result.get(1));
+    }
+
+    @Test
+    public void test_pojoResultMapper_shouldMapCallResult_ifResponseIsLazy() throws IOException {
+        CallResultMapper<TarantoolResult<Book>, SingleValueCallResult<TarantoolResult<Book>>> resultMapper =
+            new ResultMapperFactoryFactoryImpl().pojoResultMapper(mapper, Book.class);
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(ValueFactory.newArray(ValueFactory.newArray(bookTuple(), bookTuple())));
+
+        SingleValueCallResult<TarantoolResult<Book>> callResult =
+            resultMapper.fromValue(LazyArrayValue.of(packer.toByteArray()));
+        TarantoolResult<Book> result = callResult.value();
+
+        assertEquals(2, result.size());
+        assertBook(result.get(0));
+        assertBook(result.get(1));
+    }
+}
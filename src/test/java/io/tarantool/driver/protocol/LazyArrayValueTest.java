@@ -0,0 +1,165 @@
+package io.tarantool.driver.protocol;
+
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessageInsufficientBufferException;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageTypeCastException;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LazyArrayValueTest {
+
+    private static ArrayValue testArray() {
+        List<Value> longArray = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            longArray.add(ValueFactory.newInteger(i * 1000));
+        }
+        StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            longString.append('a');
+        }
+        return ValueFactory.newArray(
+            ValueFactory.newNil(),
+            ValueFactory.newBoolean(true),
+            ValueFactory.newBoolean(false),
+            ValueFactory.newInteger(5),
+            ValueFactory.newInteger(-5),
+            ValueFactory.newInteger(200),
+            ValueFactory.newInteger(-100),
+            ValueFactory.newInteger(60000),
+            ValueFactory.newInteger(-30000),
+            ValueFactory.newInteger(4000000000L),
+            ValueFactory.newInteger(-2000000000),
+            ValueFactory.newInteger(Long.MIN_VALUE),
+            ValueFactory.newInteger(new BigInteger("18446744073709551615")),
+            ValueFactory.newFloat(1.5F),
+            ValueFactory.newFloat(-2.25D),
+            ValueFactory.newString("short"),
+            ValueFactory.newString("string which is longer than thirty one bytes"),
+            ValueFactory.newString(longString.toString()),
+            ValueFactory.newBinary(new byte[]{1, 2, 3}),
+            ValueFactory.newExtension((byte) 1, new byte[]{1, 2, 3, 4, 5}),
+            ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newArray(ValueFactory.newString("x"))),
+            ValueFactory.newArray(longArray),
+            ValueFactory.newMap(
+                ValueFactory.newString("rows"), ValueFactory.newArray(ValueFactory.newInteger(1)),
+                ValueFactory.newInteger(2), ValueFactory.newNil())
+        );
+    }
+
+    private static byte[] pack(Value value) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(value);
+        return packer.toByteArray();
+    }
+
+    @Test
+    public void test_get_shouldDecodeAllFormats() throws IOException {
+        ArrayValue expected = testArray();
+
+        LazyArrayValue value = LazyArrayValue.of(pack(expected));
+
+        assertEquals(expected.size(), value.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), value.get(i));
+            assertEquals(expected.get(i).getValueType(), value.get(i).getValueType());
+        }
+        assertTrue(value.get(20) instanceof LazyArrayValue);
+        assertTrue(value.get(22).asMapValue().map().get(ValueFactory.newString("rows")) instanceof LazyArrayValue);
+    }
+
+    @Test
+    public void test_equals_shouldBeSymmetric_withEagerArrayValue() throws IOException {
+        ArrayValue expected = testArray();
+
+        LazyArrayValue value = LazyArrayValue.of(pack(expected));
+
+        assertEquals(expected, value);
+        assertEquals(value, expected);
+        assertEquals(expected.hashCode(), value.hashCode());
+        assertEquals(expected.toJson(), value.toJson());
+        assertEquals(value, value.compact());
+        assertFalse(value.equals(ValueFactory.newArray(ValueFactory.newNil())));
+    }
+
+    @Test
+    public void test_writeTo_shouldWriteOriginalBytes() throws IOException {
+        ArrayValue expected = testArray();
+        byte[] packed = pack(ValueFactory.newArray(ValueFactory.newInteger(1), expected));
+
+        ArrayValue value = LazyArrayValue.of(packed).get(1).asArrayValue();
+        value.get(3);
+
+        assertArrayEquals(pack(expected), pack(value));
+        assertArrayEquals(pack(expected), pack(((LazyArrayValue) value).compact()));
+    }
+
+    @Test
+    public void test_arrayElement_shouldCopyElementBytes() throws IOException {
+        ArrayValue expected = testArray();
+        LazyArrayValue rows = LazyArrayValue.of(pack(ValueFactory.newArray(expected, expected)));
+
+        LazyArrayValue element = (LazyArrayValue) LazyArrayValue.arrayElement(rows, 1);
+        assertEquals(expected, element);
+        assertEquals(element.getLength(), element.getBuffer().length);
+
+        LazyArrayValue view = (LazyArrayValue) LazyArrayValue.arrayElementView(rows, 1);
+        assertEquals(expected, view);
+        assertSame(rows.getBuffer(), view.getBuffer());
+    }
+
+    @Test
+    public void test_isNil_shouldCheckElementsWithoutDecoding() throws IOException {
+        LazyArrayValue value = LazyArrayValue.of(pack(testArray()));
+
+        assertTrue(value.isNil(0));
+        assertFalse(value.isNil(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> value.isNil(100));
+    }
+
+    @Test
+    public void test_asMapValue_shouldThrowException() throws IOException {
+        LazyArrayValue value = LazyArrayValue.of(pack(testArray()));
+
+        assertTrue(value.isArrayValue());
+        assertFalse(value.isMapValue());
+        assertThrows(MessageTypeCastException.class, value::asMapValue);
+        assertThrows(MessageTypeCastException.class, () -> LazyArrayValue.of(pack(ValueFactory.newNil())));
+    }
+
+    @Test
+    public void test_get_shouldThrowMessagePackException_ifDataIsTruncated() throws IOException {
+        byte[] packed = pack(testArray());
+        byte[] frame = Arrays.copyOf(packed, packed.length + 16);
+        // the array length is reduced, so the last element exceeds it while the buffer is long enough
+        LazyArrayValue truncated = new LazyArrayValue(frame, 0, packed.length - 3);
+
+        assertThrows(MessageInsufficientBufferException.class, () -> truncated.get(0));
+        assertThrows(MessageInsufficientBufferException.class,
+            () -> LazyArrayValue.of(Arrays.copyOf(packed, packed.length - 3)).getLong(3));
+        // array header of 0xffff elements without the elements
+        assertThrows(MessageInsufficientBufferException.class,
+            () -> LazyArrayValue.of(new byte[]{(byte) 0xdc, (byte) 0xff, (byte) 0xff, 0x01}));
+        assertThrows(MessageInsufficientBufferException.class,
+            () -> LazyArrayValue.of(new byte[]{(byte) 0xdd, 0x00}));
+        assertThrows(MessageInsufficientBufferException.class, () -> new LazyArrayValue(packed, 1, packed.length));
+        // string length which exceeds the data
+        assertThrows(MessageInsufficientBufferException.class,
+            () -> LazyArrayValue.of(new byte[]{(byte) 0x91, (byte) 0xdb, 0x7f, 0x00, 0x00, 0x00}).get(0));
+    }
+}
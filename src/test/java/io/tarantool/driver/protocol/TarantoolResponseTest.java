@@ -0,0 +1,56 @@
+package io.tarantool.driver.protocol;
+
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolResponseTest {
+
+    private static byte[] frame(Value... values) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        for (Value value : values) {
+            packer.packValue(value);
+        }
+        return packer.toByteArray();
+    }
+
+    @Test
+    public void test_fromMessagePack_shouldDecodeBodyLazily() throws IOException, TarantoolProtocolException {
+        Value data = ValueFactory.newArray(
+            ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newString("a")));
+        byte[] frame = frame(
+            ValueFactory.newMap(
+                ValueFactory.newInteger(0), ValueFactory.newInteger(0),
+                ValueFactory.newInteger(1), ValueFactory.newInteger(42)),
+            ValueFactory.newMap(ValueFactory.newInteger(0x30), data));
+
+        TarantoolResponse response = TarantoolResponse.fromMessagePack(frame);
+
+        assertEquals(42L, response.getSyncId());
+        assertEquals(TarantoolResponseType.IPROTO_OK, response.getResponseType());
+        assertEquals(TarantoolResponseBodyType.IPROTO_DATA, response.getBody().getResponseBodyType());
+        assertTrue(response.getBody().getData() instanceof LazyArrayValue);
+        assertEquals(data, response.getBody().getData());
+        assertEquals(TarantoolResponse.fromMessagePack(MessagePack.newDefaultUnpacker(frame)).getBody().getData(),
+            response.getBody().getData());
+    }
+
+    @Test
+    public void test_fromMessagePack_shouldThrowException_ifBodyIsNotMap() throws IOException {
+        byte[] frame = frame(
+            ValueFactory.newMap(
+                ValueFactory.newInteger(0), ValueFactory.newInteger(0),
+                ValueFactory.newInteger(1), ValueFactory.newInteger(42)),
+            ValueFactory.newArray());
+
+        assertThrows(TarantoolProtocolException.class, () -> TarantoolResponse.fromMessagePack(frame));
+    }
+}
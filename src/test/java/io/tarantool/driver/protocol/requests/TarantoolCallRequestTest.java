@@ -0,0 +1,77 @@
+package io.tarantool.driver.protocol.requests;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.LazyArrayValue;
+import io.tarantool.driver.protocol.RawMessagePack;
+import io.tarantool.driver.protocol.TarantoolHeader;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TarantoolCallRequestTest {
+
+    @Test
+    void createAndSerializeWithRawArguments() throws Exception {
+        Value arguments = ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newString("abc"));
+        MessageBufferPacker argumentsPacker = MessagePack.newDefaultBufferPacker();
+        argumentsPacker.packValue(arguments);
+        byte[] packedArguments = argumentsPacker.toByteArray();
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeByte(0xc0);
+        buffer.writeBytes(packedArguments);
+        buffer.readByte();
+
+        RawMessagePack rawArguments = RawMessagePack.of(buffer);
+        assertTrue(rawArguments.isArray());
+        assertFalse(RawMessagePack.of(new byte[]{(byte) 0xc0}).isArray());
+        assertFalse(RawMessagePack.of(new byte[]{(byte) 0x92, 0x01}).isArray());
+        assertFalse(RawMessagePack.of(new byte[]{(byte) 0x91, 0x01, 0x02}).isArray());
+        TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+            .withFunctionName("func")
+            .withArguments(rawArguments)
+            .build(DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
+        assertEquals(1, buffer.readerIndex());
+        buffer.setByte(1, 0xc0);
+
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        request.toMessagePack(packer, DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper());
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packer.toByteArray());
+        TarantoolHeader header = TarantoolHeader.fromMessagePackValue(unpacker.unpackValue());
+        assertEquals(TarantoolRequestType.IPROTO_CALL.getCode(), header.getCode());
+        Map<Value, Value> body = unpacker.unpackValue().asMapValue().map();
+        assertEquals("func", body.get(ValueFactory.newInteger(0x22)).asStringValue().asString());
+        assertEquals(arguments, body.get(ValueFactory.newInteger(0x21)));
+
+        byte[] frame = new byte[packedArguments.length + 2];
+        System.arraycopy(packedArguments, 0, frame, 1, packedArguments.length);
+        LazyArrayValue lazyValue = new LazyArrayValue(frame, 1, packedArguments.length);
+        assertArrayEquals(packedArguments, RawMessagePack.toByteArray(lazyValue));
+        assertArrayEquals(packedArguments, RawMessagePack.toByteArray(arguments));
+    }
+
+    @Test
+    void build_shouldFailWithProtocolException_ifArgumentCannotBeConverted() {
+        TarantoolCallRequest.Builder builder = new TarantoolCallRequest.Builder()
+            .withFunctionName("func")
+            .withArguments(Collections.singletonList(new Object()));
+
+        assertThrows(TarantoolProtocolException.class, () ->
+            builder.build(DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper()));
+    }
+}
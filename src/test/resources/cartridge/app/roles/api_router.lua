@@ -26,6 +26,12 @@ local crud_methods_to_patch = {
     'replace_many',
     'update',
     'upsert',
+    'upsert_many',
+    'get',
+    'count',
+    'len',
+    'min',
+    'max',
 }
 local function patch_crud_methods_for_tests()
     for _, name in ipairs(crud_methods_to_patch) do
@@ -259,12 +259,47 @@ function get_field_type_by_version()
     return 'number'
 end
 
+local direct_storage_operations_count = 0
+
+-- executes the operations sent by the java client directly to the storage, skipping the router
+local function direct_storage_operation(bucket_id, mode, space_name, operation, arguments)
+    direct_storage_operations_count = direct_storage_operations_count + 1
+    local vshard = require('vshard')
+    local ok, err = vshard.storage.bucket_ref(bucket_id, mode)
+    if not ok then
+        return nil, nil, err
+    end
+    local space = box.space[space_name]
+    local ok, result = pcall(function()
+        if space == nil then
+            error(string.format('Space %s does not exist', space_name))
+        end
+        if operation == 'insert' or operation == 'replace' then
+            for fieldno, field in ipairs(space:format()) do
+                if field.name == 'bucket_id' then
+                    arguments[1][fieldno] = bucket_id
+                end
+            end
+        end
+        return space[operation](space, unpack(arguments))
+    end)
+    vshard.storage.bucket_unref(bucket_id, mode)
+    if not ok then
+        local class_name = operation:sub(1, 1):upper() .. operation:sub(2) .. 'Error'
+        local err = string.format('Failed to %s: %s', operation, tostring(result))
+        return nil, { class_name = class_name, err = err, str = class_name .. ': ' .. err }
+    end
+    return { metadata = space:format(), rows = { result } }
+end
+
 local function init(opts)
     if opts.is_master then
         init_space()
     end
 
     rawset(_G, 'get_composite_data', get_composite_data)
+    rawset(_G, 'direct_storage_operation', direct_storage_operation)
+    rawset(_G, 'get_direct_storage_operations_count', function() return direct_storage_operations_count end)
 
     return true
 end
@@ -67,6 +67,24 @@ m:create_index('primary', {
     parts = { 'id', 'name' }
 })
 
+-- test space for get, count, len, min and max
+r = box.schema.space.create('read_operations_test_space')
+r:format({
+    { name = 'id', type = 'unsigned' },
+    { name = 'name', type = 'string' },
+    { name = 'year', type = 'unsigned' },
+});
+
+r:create_index('primary', {
+    type = 'tree',
+    parts = { 'id' }
+})
+r:create_index('year', {
+    type = 'tree',
+    unique = false,
+    parts = { 'year' }
+})
+
 local function tarantool_version()
     local major_minor_patch = _G._TARANTOOL:split('-', 1)[1]
     local major_minor_patch_parts = major_minor_patch:split('.', 2)